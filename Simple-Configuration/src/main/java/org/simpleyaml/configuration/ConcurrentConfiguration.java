@@ -0,0 +1,22 @@
+package org.simpleyaml.configuration;
+
+/**
+ * Represents a {@link Configuration} that can be safely read and written by many threads at the same time.
+ * <p>
+ * The {@link MemorySection} sections of a concurrent configuration do not lock on reads,
+ * and writes only lock the section and key being modified, so there is no need to guard it with a global lock.
+ * Iterating the keys and values of a section, including {@link ConfigurationSection#getKeys(boolean)}
+ * and {@link ConfigurationSection#getValues(boolean)}, never fails because of concurrent writes,
+ * but the result may or may not reflect the writes done while iterating.
+ * <p>
+ * Single reads and writes are atomic, but sequences of them are not: the values themselves (for example lists)
+ * are not made thread-safe, and loading a configuration replaces its values while other threads may be reading them.
+ * <p>
+ * Any {@link MemoryConfiguration} can be made concurrent by implementing this interface,
+ * which must be done by the class of the root section before any value is set.
+ *
+ * @see ConcurrentMemoryConfiguration
+ */
+public interface ConcurrentConfiguration extends Configuration {
+
+}
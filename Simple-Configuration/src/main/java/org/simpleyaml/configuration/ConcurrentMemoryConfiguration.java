@@ -0,0 +1,39 @@
+package org.simpleyaml.configuration;
+
+/**
+ * A {@link MemoryConfiguration} that can be safely read and written by many threads at the same time.
+ *
+ * @see ConcurrentConfiguration
+ */
+public class ConcurrentMemoryConfiguration extends MemoryConfiguration implements ConcurrentConfiguration {
+
+    /**
+     * Creates an empty {@link ConcurrentMemoryConfiguration} with no default values.
+     */
+    public ConcurrentMemoryConfiguration() {
+        this.options(); // created before this configuration is shared
+    }
+
+    /**
+     * Creates an empty {@link ConcurrentMemoryConfiguration} using the specified
+     * {@link Configuration} as a source for all default values.
+     *
+     * @param defaults Default value provider
+     */
+    public ConcurrentMemoryConfiguration(final Configuration defaults) {
+        super(defaults);
+        this.options(); // created before this configuration is shared
+    }
+
+    @Override
+    public void addDefault(final String path, final Object value) {
+        synchronized (this) {
+            if (this.defaults == null) {
+                this.defaults = new ConcurrentMemoryConfiguration();
+                this.modified();
+            }
+        }
+        super.addDefault(path, value);
+    }
+
+}
@@ -0,0 +1,216 @@
+package org.simpleyaml.configuration;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An insertion-ordered map for the children of a {@link MemorySection} of a {@link ConcurrentConfiguration}.
+ * <p>
+ * Entries are stored in a {@link ConcurrentHashMap}, so lookups never lock and writes only lock the bin of their key.
+ * The insertion order is kept by a sequence number per entry, and entries are iterated in that order
+ * from a concurrent sorted set. Iterators are weakly consistent: they never throw {@link ConcurrentModificationException}
+ * and they may or may not reflect the modifications done while iterating.
+ * <p>
+ * This map does not allow null keys or values.
+ */
+final class ConcurrentSectionMap extends AbstractMap<String, Object> {
+
+    private final ConcurrentHashMap<String, Node> nodes = new ConcurrentHashMap<>();
+
+    private final ConcurrentSkipListSet<Node> order = new ConcurrentSkipListSet<>(Comparator.comparingLong(node -> node.position));
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private Set<Entry<String, Object>> entrySetView;
+
+    @Override
+    public int size() {
+        return this.nodes.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.nodes.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key != null && this.nodes.containsKey(key);
+    }
+
+    @Override
+    public Object get(final Object key) {
+        return this.getOrDefault(key, null);
+    }
+
+    @Override
+    public Object getOrDefault(final Object key, final Object defaultValue) {
+        final Node node = key != null ? this.nodes.get(key) : null;
+        return node != null ? node.value : defaultValue;
+    }
+
+    @Override
+    public Object put(final String key, final Object value) {
+        Objects.requireNonNull(value);
+
+        final Object[] previous = new Object[1];
+
+        this.nodes.compute(key, (k, node) -> {
+            if (node != null) {
+                // keep the insertion order when the value is replaced
+                previous[0] = node.value;
+                node.value = value;
+                return node;
+            }
+            final Node added = new Node(k, value, this.sequence.incrementAndGet());
+            this.order.add(added);
+            return added;
+        });
+
+        return previous[0];
+    }
+
+    @Override
+    public Object remove(final Object key) {
+        if (key == null) {
+            return null;
+        }
+
+        final Node removed = this.nodes.remove(key);
+
+        if (removed == null) {
+            return null;
+        }
+
+        this.order.remove(removed);
+        return removed.value;
+    }
+
+    @Override
+    public void clear() {
+        for (final Node node : this.order) {
+            this.removeNode(node);
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (this.entrySetView == null) {
+            this.entrySetView = new EntrySet();
+        }
+        return this.entrySetView;
+    }
+
+    private void removeNode(final Node node) {
+        // only if it was not replaced by another node of the same key
+        this.nodes.computeIfPresent(node.key, (key, current) -> {
+            if (current != node) {
+                return current;
+            }
+            this.order.remove(node);
+            return null;
+        });
+    }
+
+    private static final class Node implements Entry<String, Object> {
+
+        private final String key;
+
+        private final long position;
+
+        private volatile Object value;
+
+        private Node(final String key, final Object value, final long position) {
+            this.key = key;
+            this.value = value;
+            this.position = position;
+        }
+
+        @Override
+        public String getKey() {
+            return this.key;
+        }
+
+        @Override
+        public Object getValue() {
+            return this.value;
+        }
+
+        @Override
+        public Object setValue(final Object value) {
+            Objects.requireNonNull(value);
+            final Object previous = this.value;
+            this.value = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Entry)) return false;
+            final Entry<?, ?> e = (Entry<?, ?>) o;
+            return this.key.equals(e.getKey()) && Objects.equals(this.value, e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return this.key.hashCode() ^ Objects.hashCode(this.value);
+        }
+
+        @Override
+        public String toString() {
+            return this.key + "=" + this.value;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            final Iterator<Node> it = ConcurrentSectionMap.this.order.iterator();
+
+            return new Iterator<Entry<String, Object>>() {
+                private Node last;
+
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public Entry<String, Object> next() {
+                    this.last = it.next();
+                    return this.last;
+                }
+
+                @Override
+                public void remove() {
+                    if (this.last == null) {
+                        throw new IllegalStateException();
+                    }
+                    ConcurrentSectionMap.this.removeNode(this.last);
+                    this.last = null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return ConcurrentSectionMap.this.size();
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            if (!(o instanceof Entry)) return false;
+            final Entry<?, ?> e = (Entry<?, ?>) o;
+            final Node node = e.getKey() != null ? ConcurrentSectionMap.this.nodes.get(e.getKey()) : null;
+            return node != null && Objects.equals(node.value, e.getValue());
+        }
+
+        @Override
+        public void clear() {
+            ConcurrentSectionMap.this.clear();
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package org.simpleyaml.configuration;
+
+import org.simpleyaml.utils.Validate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A typed handle of a value of a {@link ConfigurationSection}, with a {@link ConfigPath compiled path},
+ * a conversion to the type of the value and a default value.
+ * <p>
+ * Keys are meant to be stored as constants and read frequently:
+ * <pre>{@code
+ * private static final ConfigKey<Integer> PORT = ConfigKey.ofInt("server.port", 8080);
+ * ...
+ * int port = PORT.get(config);
+ * }</pre>
+ * <p>
+ * The last resolved value is cached along with the {@link MemoryConfiguration#getModificationCount() modification count}
+ * of its root configuration and of its defaults, so it is only resolved again after the configuration is changed
+ * through the {@link ConfigurationSection} methods, like a <code>set</code> or a <code>load</code>.
+ * Otherwise reading a key is a few volatile reads, without looking up the path nor converting the value.
+ * Changes that are not counted, like modifying a list returned by the configuration, are not seen until the next change.
+ * Values are not cached for sections whose root is not a {@link MemoryConfiguration}.
+ * <p>
+ * Keys can be used from many threads and with several configurations,
+ * but only the value of the last configuration is cached.
+ * Lists are cached as unmodifiable lists.
+ */
+public final class ConfigKey<T> {
+
+    private final ConfigPath path;
+
+    private final BiFunction<ConfigurationSection, ConfigPath, T> getter;
+
+    private volatile Resolved<T> resolved;
+
+    private ConfigKey(final ConfigPath path, final BiFunction<ConfigurationSection, ConfigPath, T> getter) {
+        this.path = path;
+        this.getter = getter;
+    }
+
+    /**
+     * Creates a key of a value converted from the object at the given path.
+     * <p>
+     * The converter is not called if the path is not set and there is no default value for it,
+     * and the default value of the key is used if the converter returns null.
+     *
+     * @param path      the path of the value
+     * @param converter the conversion of the object at the path to the type of the key
+     * @param def       the value of the key if the path is not set or it cannot be converted
+     * @param <T>       the type of the value
+     * @return the key
+     */
+    public static <T> ConfigKey<T> of(final ConfigPath path, final Function<Object, ? extends T> converter, final T def) {
+        Validate.notNull(path, "Path cannot be null");
+        Validate.notNull(converter, "Converter cannot be null");
+        return new ConfigKey<>(path, (section, p) -> {
+            final Object value = section.get(p);
+            if (value == null) {
+                return def;
+            }
+            final T converted = converter.apply(value);
+            return converted != null ? converted : def;
+        });
+    }
+
+    /**
+     * Creates a key of a value converted from the object at the given path.
+     *
+     * @param path      the path of the value, with the {@link ConfigPath#DEFAULT_SEPARATOR default separator}
+     * @param converter the conversion of the object at the path to the type of the key
+     * @param def       the value of the key if the path is not set or it cannot be converted
+     * @param <T>       the type of the value
+     * @return the key
+     * @see #of(ConfigPath, Function, Object)
+     */
+    public static <T> ConfigKey<T> of(final String path, final Function<Object, ? extends T> converter, final T def) {
+        return of(ConfigPath.of(path), converter, def);
+    }
+
+    /**
+     * Creates a key of a String, as read by {@link ConfigurationSection#getString(ConfigPath)}.
+     *
+     * @param path the path of the value
+     * @return the key
+     */
+    public static ConfigKey<String> ofString(final String path) {
+        return new ConfigKey<>(ConfigPath.of(path), ConfigurationSection::getString);
+    }
+
+    /**
+     * Creates a key of a String, as read by {@link ConfigurationSection#getString(ConfigPath, String)}.
+     *
+     * @param path the path of the value
+     * @param def  the default value
+     * @return the key
+     */
+    public static ConfigKey<String> ofString(final String path, final String def) {
+        return new ConfigKey<>(ConfigPath.of(path), (section, p) -> section.getString(p, def));
+    }
+
+    /**
+     * Creates a key of an int, as read by {@link ConfigurationSection#getInt(ConfigPath)}.
+     *
+     * @param path the path of the value
+     * @return the key
+     */
+    public static ConfigKey<Integer> ofInt(final String path) {
+        return new ConfigKey<>(ConfigPath.of(path), ConfigurationSection::getInt);
+    }
+
+    /**
+     * Creates a key of an int, as read by {@link ConfigurationSection#getInt(ConfigPath, int)}.
+     *
+     * @param path the path of the value
+     * @param def  the default value
+     * @return the key
+     */
+    public static ConfigKey<Integer> ofInt(final String path, final int def) {
+        return new ConfigKey<>(ConfigPath.of(path), (section, p) -> section.getInt(p, def));
+    }
+
+    /**
+     * Creates a key of a long, as read by {@link ConfigurationSection#getLong(ConfigPath)}.
+     *
+     * @param path the path of the value
+     * @return the key
+     */
+    public static ConfigKey<Long> ofLong(final String path) {
+        return new ConfigKey<>(ConfigPath.of(path), ConfigurationSection::getLong);
+    }
+
+    /**
+     * Creates a key of a long, as read by {@link ConfigurationSection#getLong(ConfigPath, long)}.
+     *
+     * @param path the path of the value
+     * @param def  the default value
+     * @return the key
+     */
+    public static ConfigKey<Long> ofLong(final String path, final long def) {
+        return new ConfigKey<>(ConfigPath.of(path), (section, p) -> section.getLong(p, def));
+    }
+
+    /**
+     * Creates a key of a double, as read by {@link ConfigurationSection#getDouble(ConfigPath)}.
+     *
+     * @param path the path of the value
+     * @return the key
+     */
+    public static ConfigKey<Double> ofDouble(final String path) {
+        return new ConfigKey<>(ConfigPath.of(path), ConfigurationSection::getDouble);
+    }
+
+    /**
+     * Creates a key of a double, as read by {@link ConfigurationSection#getDouble(ConfigPath, double)}.
+     *
+     * @param path the path of the value
+     * @param def  the default value
+     * @return the key
+     */
+    public static ConfigKey<Double> ofDouble(final String path, final double def) {
+        return new ConfigKey<>(ConfigPath.of(path), (section, p) -> section.getDouble(p, def));
+    }
+
+    /**
+     * Creates a key of a boolean, as read by {@link ConfigurationSection#getBoolean(ConfigPath)}.
+     *
+     * @param path the path of the value
+     * @return the key
+     */
+    public static ConfigKey<Boolean> ofBoolean(final String path) {
+        return new ConfigKey<>(ConfigPath.of(path), ConfigurationSection::getBoolean);
+    }
+
+    /**
+     * Creates a key of a boolean, as read by {@link ConfigurationSection#getBoolean(ConfigPath, boolean)}.
+     *
+     * @param path the path of the value
+     * @param def  the default value
+     * @return the key
+     */
+    public static ConfigKey<Boolean> ofBoolean(final String path, final boolean def) {
+        return new ConfigKey<>(ConfigPath.of(path), (section, p) -> section.getBoolean(p, def));
+    }
+
+    /**
+     * Creates a key of an unmodifiable list of strings, as read by {@link ConfigurationSection#getStringList(ConfigPath)}.
+     *
+     * @param path the path of the value
+     * @return the key
+     */
+    public static ConfigKey<List<String>> ofStringList(final String path) {
+        return new ConfigKey<>(ConfigPath.of(path), (section, p) -> Collections.unmodifiableList(section.getStringList(p)));
+    }
+
+    /**
+     * Gets the path of this key.
+     *
+     * @return the compiled path
+     */
+    public ConfigPath getPath() {
+        return this.path;
+    }
+
+    /**
+     * Gets the value of this key, relative to the given section.
+     * <p>
+     * The value is resolved only if this key was last resolved with another section or the root configuration
+     * of the section has changed since then.
+     *
+     * @param section the section to read the value from
+     * @return the value of this key
+     * @throws IllegalArgumentException if section is null
+     */
+    public T get(final ConfigurationSection section) {
+        Validate.notNull(section, "Section cannot be null");
+
+        final Configuration root = section.getRoot();
+        if (!(root instanceof MemoryConfiguration)) {
+            return this.getter.apply(section, this.path);
+        }
+
+        final MemoryConfiguration configuration = (MemoryConfiguration) root;
+
+        // read the counters before resolving, so a concurrent change invalidates the value
+        final long version = configuration.getModificationCount();
+        final long defaultsVersion = getModificationCount(configuration.getDefaults());
+
+        final Resolved<T> resolved = this.resolved;
+        if (resolved != null && resolved.section == section
+                && resolved.version == version && resolved.defaultsVersion == defaultsVersion) {
+            return resolved.value;
+        }
+
+        final T value = this.getter.apply(section, this.path);
+        this.resolved = new Resolved<>(section, version, defaultsVersion, value);
+        return value;
+    }
+
+    private static long getModificationCount(final Configuration defaults) {
+        return defaults instanceof MemoryConfiguration ? ((MemoryConfiguration) defaults).getModificationCount() : 0;
+    }
+
+    @Override
+    public String toString() {
+        return this.path.toString();
+    }
+
+    private static final class Resolved<T> {
+
+        private final ConfigurationSection section;
+
+        private final long version;
+
+        private final long defaultsVersion;
+
+        private final T value;
+
+        private Resolved(final ConfigurationSection section, final long version, final long defaultsVersion, final T value) {
+            this.section = section;
+            this.version = version;
+            this.defaultsVersion = defaultsVersion;
+            this.value = value;
+        }
+    }
+
+}
@@ -0,0 +1,217 @@
+package org.simpleyaml.configuration;
+
+import org.simpleyaml.utils.StringUtils;
+import org.simpleyaml.utils.Validate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A path of a {@link ConfigurationSection} that has been parsed only once.
+ * <p>
+ * Every {@link ConfigurationSection} accessor that takes a String path has an overload taking a ConfigPath,
+ * which avoids splitting the path and checking list indexes on each call.
+ * This is useful for paths that are accessed frequently, so they can be compiled once and stored as constants:
+ * <pre>{@code
+ * private static final ConfigPath PORT = ConfigPath.of("server.port");
+ * ...
+ * int port = config.getInt(PORT);
+ * }</pre>
+ * <p>
+ * Escaped separators (like <code>a\.b</code>) are not split and are kept as part of the node name,
+ * because that is how keys are stored within a section.
+ * List indexes (like <code>list[0]</code>) are parsed for every node.
+ */
+public final class ConfigPath {
+
+    /**
+     * The default path separator.
+     */
+    public static final char DEFAULT_SEPARATOR = '.';
+
+    private final String path;
+
+    private final char separator;
+
+    private final String[] nodes;
+
+    private final String[] keys;
+
+    private final int[] indexes;
+
+    private final boolean[] indexed;
+
+    private final boolean listIndex;
+
+    private ConfigPath(final String path, final char separator) {
+        this.path = path;
+        this.separator = separator;
+
+        final List<String> nodes = new ArrayList<>();
+
+        // i1 is the leading (higher) index
+        // i2 is the trailing (lower) index
+        int i1 = -1, i2;
+        while ((i1 = StringUtils.firstSeparatorIndex(path, separator, i2 = i1 + 1)) != -1) {
+            nodes.add(path.substring(i2, i1));
+        }
+        nodes.add(path.substring(i2));
+
+        final int size = nodes.size();
+
+        this.nodes = nodes.toArray(new String[0]);
+        this.keys = new String[size];
+        this.indexes = new int[size];
+        this.indexed = new boolean[size];
+
+        boolean hasListIndex = false;
+
+        for (int i = 0; i < size; i++) {
+            final String node = this.nodes[i];
+            final int listIndex = StringUtils.listIndexStart(node);
+
+            if (listIndex >= 0) {
+                this.keys[i] = node.substring(0, listIndex);
+                this.indexes[i] = StringUtils.parseListIndex(node, listIndex);
+                this.indexed[i] = true;
+                hasListIndex = true;
+            } else {
+                this.keys[i] = node;
+            }
+        }
+
+        this.listIndex = hasListIndex;
+    }
+
+    /**
+     * Compiles a path using the {@link #DEFAULT_SEPARATOR default separator}.
+     *
+     * @param path the path to compile
+     * @return the compiled path
+     * @throws IllegalArgumentException if path is null
+     */
+    public static ConfigPath of(final String path) {
+        return ConfigPath.of(path, DEFAULT_SEPARATOR);
+    }
+
+    /**
+     * Compiles a path using the provided separator.
+     *
+     * @param path the path to compile
+     * @param separator the path separator, see {@link ConfigurationOptions#pathSeparator()}
+     * @return the compiled path
+     * @throws IllegalArgumentException if path is null
+     */
+    public static ConfigPath of(final String path, final char separator) {
+        Validate.notNull(path, "Path cannot be null");
+        return new ConfigPath(path, separator);
+    }
+
+    /**
+     * Gets the path as a string, as it was provided when compiling it.
+     *
+     * @return the path string
+     */
+    public String getPath() {
+        return this.path;
+    }
+
+    /**
+     * Gets the separator used to split the nodes of this path.
+     *
+     * @return the path separator
+     */
+    public char separator() {
+        return this.separator;
+    }
+
+    /**
+     * Gets if this is the empty path, which refers to the section itself.
+     *
+     * @return true if the path string is empty
+     */
+    public boolean isEmpty() {
+        return this.path.isEmpty();
+    }
+
+    /**
+     * Gets the number of nodes of this path.
+     *
+     * @return the number of nodes, at least 1
+     */
+    public int size() {
+        return this.nodes.length;
+    }
+
+    /**
+     * Gets the full node at the provided position, including the list index if any.
+     *
+     * @param i the position of the node, from 0 to {@link #size()} - 1
+     * @return the node at position i
+     */
+    public String node(final int i) {
+        return this.nodes[i];
+    }
+
+    /**
+     * Gets the node at the provided position without the list index.
+     * <p>
+     * For nodes without a list index this is the same as {@link #node(int)}.
+     * For nodes like <code>[0]</code> this is an empty string.
+     *
+     * @param i the position of the node, from 0 to {@link #size()} - 1
+     * @return the key of the node at position i
+     */
+    public String key(final int i) {
+        return this.keys[i];
+    }
+
+    /**
+     * Gets if the node at the provided position has a list index, like <code>list[0]</code>.
+     *
+     * @param i the position of the node, from 0 to {@link #size()} - 1
+     * @return true if the node at position i is indexed
+     */
+    public boolean isIndexed(final int i) {
+        return this.indexed[i];
+    }
+
+    /**
+     * Gets the list index of the node at the provided position.
+     * <p>
+     * Negative indexes refer to positions starting from the end of the list.
+     *
+     * @param i the position of the node, from 0 to {@link #size()} - 1
+     * @return the list index of the node at position i, only meaningful if {@link #isIndexed(int)}
+     */
+    public int index(final int i) {
+        return this.indexes[i];
+    }
+
+    /**
+     * Gets if any node of this path has a list index.
+     *
+     * @return true if some node is {@link #isIndexed(int) indexed}
+     */
+    public boolean hasListIndex() {
+        return this.listIndex;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ConfigPath)) return false;
+        final ConfigPath that = (ConfigPath) o;
+        return separator == that.separator && path.equals(that.path);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * path.hashCode() + separator;
+    }
+
+    @Override
+    public String toString() {
+        return this.path;
+    }
+}
@@ -0,0 +1,58 @@
+package org.simpleyaml.configuration;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A bounded cache of compiled {@link ConfigPath}s by their path string.
+ * <p>
+ * When the capacity is reached the cache is cleared, so the most used paths are compiled again on their next access.
+ * This is safe to use from different threads.
+ */
+final class ConfigPathCache {
+
+    static final int DEFAULT_CAPACITY = 1024;
+
+    private final Map<String, ConfigPath> paths = new ConcurrentHashMap<>();
+
+    private final int capacity;
+
+    ConfigPathCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    ConfigPathCache(final int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Gets the compiled path of a path string, compiling it if it is not cached yet.
+     *
+     * @param path the path to compile
+     * @param separator the path separator
+     * @return the compiled path
+     */
+    ConfigPath get(final String path, final char separator) {
+        ConfigPath compiled = this.paths.get(path);
+
+        if (compiled == null || compiled.separator() != separator) {
+            compiled = ConfigPath.of(path, separator);
+
+            if (this.paths.size() >= this.capacity) {
+                this.paths.clear();
+            }
+
+            this.paths.put(path, compiled);
+        }
+
+        return compiled;
+    }
+
+    void clear() {
+        this.paths.clear();
+    }
+
+    int size() {
+        return this.paths.size();
+    }
+}
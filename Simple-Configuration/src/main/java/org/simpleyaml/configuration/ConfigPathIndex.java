@@ -0,0 +1,37 @@
+package org.simpleyaml.configuration;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An index of the values of a root {@link Configuration} by their full path.
+ * <p>
+ * Only values that are stored within sections are indexed, never defaults nor values reached through list indexes.
+ * Entries are added when a path is read from the root and removed when the path or any of its parents is changed.
+ *
+ * @see ConfigurationOptions#indexPaths(boolean)
+ */
+final class ConfigPathIndex {
+
+    private final Map<String, Object> values = new ConcurrentHashMap<>();
+
+    Object get(final String path) {
+        return this.values.get(path);
+    }
+
+    void put(final String path, final Object value) {
+        this.values.put(path, value);
+    }
+
+    void remove(final String path) {
+        this.values.remove(path);
+    }
+
+    void clear() {
+        this.values.clear();
+    }
+
+    int size() {
+        return this.values.size();
+    }
+}
@@ -0,0 +1,178 @@
+package org.simpleyaml.configuration;
+
+import org.simpleyaml.utils.StringUtils;
+import org.simpleyaml.utils.Validate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The paths changed by {@link #update(MemorySection, MemorySection) updating} a section with the values of another one,
+ * like when a configuration is reloaded.
+ * <p>
+ * Paths are relative to the updated section and use the path separator of its root configuration,
+ * escaping the separators within keys, so they can be used to get the values.
+ * Only the topmost path of an added or removed section is reported, not the paths below it.
+ */
+public final class ConfigurationChanges {
+
+    private final Set<String> changed;
+
+    private final Set<String> added;
+
+    private final Set<String> removed;
+
+    private ConfigurationChanges(final Set<String> changed, final Set<String> added, final Set<String> removed) {
+        this.changed = changed;
+        this.added = added;
+        this.removed = removed;
+    }
+
+    /**
+     * Updates a section to have the same values as another one, keeping the child sections and values that are equal.
+     * <p>
+     * Child sections present in both sections are updated recursively instead of replaced,
+     * so references to them are still valid and only the values that differ are set.
+     * Values that are not sections are compared with {@link Objects#deepEquals(Object, Object)}.
+     * Keys are reordered like in the source section, which is not reported as a change.
+     * <p>
+     * Sections of the source are copied, so the source section should not be used after the update
+     * because values that are not sections, like lists, are shared.
+     *
+     * @param section the section to update
+     * @param source  the section with the new values
+     * @return the paths changed, added and removed
+     * @throws IllegalArgumentException if section or source are null
+     */
+    public static ConfigurationChanges update(final MemorySection section, final MemorySection source) {
+        Validate.notNull(section, "Section cannot be null");
+        Validate.notNull(source, "Source cannot be null");
+
+        final Configuration root = section.getRoot();
+        final char separator = root != null ? root.options().pathSeparator() : ConfigPath.DEFAULT_SEPARATOR;
+
+        final ConfigurationChanges changes = new ConfigurationChanges(new LinkedHashSet<>(), new LinkedHashSet<>(), new LinkedHashSet<>());
+        changes.update(section, source, "", separator);
+        return changes;
+    }
+
+    private void update(final MemorySection section, final MemorySection source, final String prefix, final char separator) {
+        for (final String key : new ArrayList<>(section.map.keySet())) {
+            if (!source.map.containsKey(key)) {
+                section.setChild(key, null);
+                this.removed.add(path(prefix, key, separator));
+            }
+        }
+
+        for (final Map.Entry<String, Object> entry : source.map.entrySet()) {
+            final String key = entry.getKey();
+            final Object value = entry.getValue();
+            final Object previous = section.map.get(key);
+
+            if (previous == null) {
+                copy(section, key, value);
+                this.added.add(path(prefix, key, separator));
+            } else if (previous instanceof MemorySection && value instanceof MemorySection) {
+                this.update((MemorySection) previous, (MemorySection) value, path(prefix, key, separator) + separator, separator);
+            } else if (previous instanceof ConfigurationSection || value instanceof ConfigurationSection || !Objects.deepEquals(previous, value)) {
+                copy(section, key, value);
+                this.changed.add(path(prefix, key, separator));
+            }
+        }
+
+        reorder(section, source);
+    }
+
+    private static void copy(final MemorySection section, final String key, final Object value) {
+        if (value instanceof MemorySection) {
+            final MemorySection source = (MemorySection) value;
+            final MemorySection child = section.createChildSection(key, source.map.size());
+            for (final Map.Entry<String, Object> entry : source.map.entrySet()) {
+                copy(child, entry.getKey(), entry.getValue());
+            }
+        } else {
+            section.setChild(key, value);
+        }
+    }
+
+    /**
+     * Moves the children of a section to the order of the children of the source, without changing them.
+     * <p>
+     * Children are moved through {@link MemorySection#setChild(String, Object)}, so the configuration is modified
+     * and the path index is updated.
+     */
+    private static void reorder(final MemorySection section, final MemorySection source) {
+        final List<String> keys = new ArrayList<>(source.map.keySet());
+
+        if (!keys.equals(new ArrayList<>(section.map.keySet()))) {
+            for (final String key : keys) {
+                final Object child = section.getChild(key);
+                section.setChild(key, null);
+                section.setChild(key, child);
+            }
+        }
+    }
+
+    private static String path(final String prefix, final String key, final char separator) {
+        return prefix + key.replace(String.valueOf(separator), String.valueOf(StringUtils.ESCAPE_CHAR) + separator);
+    }
+
+    /**
+     * Gets the paths whose values have changed.
+     *
+     * @return the changed paths
+     */
+    public Set<String> getChanged() {
+        return Collections.unmodifiableSet(this.changed);
+    }
+
+    /**
+     * Gets the paths that have been added.
+     *
+     * @return the added paths
+     */
+    public Set<String> getAdded() {
+        return Collections.unmodifiableSet(this.added);
+    }
+
+    /**
+     * Gets the paths that have been removed.
+     *
+     * @return the removed paths
+     */
+    public Set<String> getRemoved() {
+        return Collections.unmodifiableSet(this.removed);
+    }
+
+    /**
+     * Gets every changed, added and removed path.
+     *
+     * @return the changed, added and removed paths
+     */
+    public Set<String> getPaths() {
+        final Set<String> paths = new LinkedHashSet<>(this.changed);
+        paths.addAll(this.added);
+        paths.addAll(this.removed);
+        return Collections.unmodifiableSet(paths);
+    }
+
+    /**
+     * Checks if nothing has changed.
+     *
+     * @return true if no path has changed, been added or removed
+     */
+    public boolean isEmpty() {
+        return this.changed.isEmpty() && this.added.isEmpty() && this.removed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigurationChanges{changed=" + this.changed + ", added=" + this.added + ", removed=" + this.removed + '}';
+    }
+
+}
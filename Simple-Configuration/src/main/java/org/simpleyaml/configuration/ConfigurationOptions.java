@@ -21,6 +21,10 @@ public class ConfigurationOptions {
 
     private int indent = 2;
 
+    private final ConfigPathCache pathCache = new ConfigPathCache();
+
+    private ConfigPathIndex pathIndex;
+
     protected ConfigurationOptions(final Configuration configuration) {
         this.configuration = configuration;
     }
@@ -62,9 +66,68 @@ public class ConfigurationOptions {
         Validate.isTrue(value != '[' && value != ']', value + " is used for indexing and cannot be a path separator");
         this.pathSeparator = value;
         StringUtils.setSeparator(value);
+        this.pathCache.clear();
+        if (this.pathIndex != null) {
+            this.pathIndex.clear();
+        }
         return this;
     }
 
+    /**
+     * Gets the compiled path of a path string using the current {@link #pathSeparator()}.
+     * <p>
+     * Compiled paths are cached, so frequently accessed paths are only parsed once.
+     *
+     * @param path Path to compile
+     * @return Compiled path
+     */
+    ConfigPath compilePath(final String path) {
+        return this.pathCache.get(path, this.pathSeparator);
+    }
+
+    /**
+     * Checks if the {@link Configuration} keeps an index of its values by their full path.
+     *
+     * @return Whether or not full paths are indexed
+     * @see #indexPaths(boolean)
+     */
+    public boolean indexPaths() {
+        return this.pathIndex != null;
+    }
+
+    /**
+     * Sets if the {@link Configuration} should keep an index of its values by their full path.
+     * <p>
+     * If this is true, reading a path from the root {@link Configuration} is a single lookup
+     * once it has been read before, instead of walking every section of the path.
+     * The index is updated when values are set or removed and when sections are created,
+     * so it is meant for configurations that are read much more often than changed.
+     * Paths with list indexes and default values are always looked up through the sections.
+     * <p>
+     * The index only tracks changes made through the {@link ConfigurationSection} methods.
+     * The default value is false.
+     *
+     * @param value Whether or not full paths are indexed
+     * @return This object, for chaining
+     */
+    public ConfigurationOptions indexPaths(final boolean value) {
+        if (!value) {
+            this.pathIndex = null;
+        } else if (this.pathIndex == null) {
+            this.pathIndex = new ConfigPathIndex();
+        }
+        return this;
+    }
+
+    /**
+     * Gets the full path index of the {@link Configuration}.
+     *
+     * @return The path index, or null if paths are not indexed
+     */
+    ConfigPathIndex pathIndex() {
+        return this.pathIndex;
+    }
+
     /**
      * Checks if the {@link Configuration} should copy values from its default
      * {@link Configuration} directly.
@@ -131,11 +194,12 @@ public class ConfigurationOptions {
         return indent == that.indent &&
                 pathSeparator == that.pathSeparator &&
                 copyDefaults == that.copyDefaults &&
+                indexPaths() == that.indexPaths() &&
                 Objects.equals(configuration, that.configuration);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(indent, pathSeparator, copyDefaults, configuration);
+        return Objects.hash(indent, pathSeparator, copyDefaults, indexPaths(), configuration);
     }
 }
@@ -73,6 +73,17 @@ public interface ConfigurationSection {
      */
     boolean contains(String path);
 
+    /**
+     * Checks if this {@link ConfigurationSection} contains the given compiled path.
+     *
+     * @param path Compiled path to check for existence.
+     * @return True if this section contains the requested path, either via default or being set.
+     * @see #contains(String)
+     */
+    default boolean contains(final ConfigPath path) {
+        return this.contains(path.getPath());
+    }
+
     /**
      * Checks if this {@link ConfigurationSection} has a value set for the
      * given path.
@@ -87,6 +98,17 @@ public interface ConfigurationSection {
      */
     boolean isSet(String path);
 
+    /**
+     * Checks if this {@link ConfigurationSection} has a value set for the given compiled path.
+     *
+     * @param path Compiled path to check for existence.
+     * @return True if this section contains the requested path, regardless of having a default.
+     * @see #isSet(String)
+     */
+    default boolean isSet(final ConfigPath path) {
+        return this.isSet(path.getPath());
+    }
+
     /**
      * Gets the size of this configuration section.
      * @return number of keys in this configuration section
@@ -166,6 +188,17 @@ public interface ConfigurationSection {
      */
     Object get(String path);
 
+    /**
+     * Gets the requested Object by compiled path.
+     *
+     * @param path Compiled path of the Object to get.
+     * @return Requested Object.
+     * @see #get(String)
+     */
+    default Object get(final ConfigPath path) {
+        return this.get(path.getPath());
+    }
+
     /**
      * Gets the requested Object by path, returning a default value if not
      * found.
@@ -180,6 +213,18 @@ public interface ConfigurationSection {
      */
     Object get(String path, Object def);
 
+    /**
+     * Gets the requested Object by compiled path, returning a default value if not found.
+     *
+     * @param path Compiled path of the Object to get.
+     * @param def  The default value to return if the path is not found.
+     * @return Requested Object.
+     * @see #get(String, Object)
+     */
+    default Object get(final ConfigPath path, final Object def) {
+        return this.get(path.getPath(), def);
+    }
+
     /**
      * Sets the specified path to the given value.
      * <p>
@@ -196,6 +241,17 @@ public interface ConfigurationSection {
      */
     void set(String path, Object value);
 
+    /**
+     * Sets the specified compiled path to the given value.
+     *
+     * @param path  Compiled path of the object to set.
+     * @param value New value to set the path to.
+     * @see #set(String, Object)
+     */
+    default void set(final ConfigPath path, final Object value) {
+        this.set(path.getPath(), value);
+    }
+
     /**
      * Removes the specified path if it exists.
      * The entry will be removed, either a value or an entire section.
@@ -206,6 +262,16 @@ public interface ConfigurationSection {
         this.set(path, null);
     }
 
+    /**
+     * Removes the specified compiled path if it exists.
+     *
+     * @param path Compiled path of the object to remove.
+     * @see #remove(String)
+     */
+    default void remove(final ConfigPath path) {
+        this.set(path, null);
+    }
+
     /**
      * Creates an empty {@link ConfigurationSection} at the specified path.
      * <p>
@@ -218,6 +284,17 @@ public interface ConfigurationSection {
      */
     ConfigurationSection createSection(String path);
 
+    /**
+     * Creates an empty {@link ConfigurationSection} at the specified compiled path.
+     *
+     * @param path Compiled path to create the section at.
+     * @return Newly created section
+     * @see #createSection(String)
+     */
+    default ConfigurationSection createSection(final ConfigPath path) {
+        return this.createSection(path.getPath());
+    }
+
     /**
      * Creates a {@link ConfigurationSection} at the specified path, with
      * specified values.
@@ -232,6 +309,18 @@ public interface ConfigurationSection {
      */
     ConfigurationSection createSection(String path, Map<?, ?> map);
 
+    /**
+     * Creates a {@link ConfigurationSection} at the specified compiled path, with specified values.
+     *
+     * @param path Compiled path to create the section at.
+     * @param map  The values to used.
+     * @return Newly created section
+     * @see #createSection(String, Map)
+     */
+    default ConfigurationSection createSection(final ConfigPath path, final Map<?, ?> map) {
+        return this.createSection(path.getPath(), map);
+    }
+
     // Primitives
 
     /**
@@ -246,6 +335,17 @@ public interface ConfigurationSection {
      */
     String getString(String path);
 
+    /**
+     * Gets the requested String by compiled path.
+     *
+     * @param path Compiled path of the String to get.
+     * @return Requested String.
+     * @see #getString(String)
+     */
+    default String getString(final ConfigPath path) {
+        return this.getString(path.getPath());
+    }
+
     /**
      * Gets the requested String by path, returning a default value if not
      * found.
@@ -261,6 +361,18 @@ public interface ConfigurationSection {
      */
     String getString(String path, String def);
 
+    /**
+     * Gets the requested String by compiled path, returning a default value if not found.
+     *
+     * @param path Compiled path of the String to get.
+     * @param def  The default value to return if the path is not found or is not a String.
+     * @return Requested String.
+     * @see #getString(String, String)
+     */
+    default String getString(final ConfigPath path, final String def) {
+        return this.getString(path.getPath(), def);
+    }
+
     /**
      * Checks if the specified path is a String.
      * <p>
@@ -274,6 +386,17 @@ public interface ConfigurationSection {
      */
     boolean isString(String path);
 
+    /**
+     * Checks if the specified compiled path is a String.
+     *
+     * @param path Compiled path of the String to check.
+     * @return Whether or not the specified path is a String.
+     * @see #isString(String)
+     */
+    default boolean isString(final ConfigPath path) {
+        return this.isString(path.getPath());
+    }
+
     /**
      * Gets the requested int by path.
      * <p>
@@ -286,6 +409,17 @@ public interface ConfigurationSection {
      */
     int getInt(String path);
 
+    /**
+     * Gets the requested int by compiled path.
+     *
+     * @param path Compiled path of the int to get.
+     * @return Requested int.
+     * @see #getInt(String)
+     */
+    default int getInt(final ConfigPath path) {
+        return this.getInt(path.getPath());
+    }
+
     /**
      * Gets the requested int by path, returning a default value if not found.
      * <p>
@@ -300,6 +434,18 @@ public interface ConfigurationSection {
      */
     int getInt(String path, int def);
 
+    /**
+     * Gets the requested int by compiled path, returning a default value if not found.
+     *
+     * @param path Compiled path of the int to get.
+     * @param def  The default value to return if the path is not found or is not an int.
+     * @return Requested int.
+     * @see #getInt(String, int)
+     */
+    default int getInt(final ConfigPath path, final int def) {
+        return this.getInt(path.getPath(), def);
+    }
+
     /**
      * Checks if the specified path is an int.
      * <p>
@@ -313,6 +459,17 @@ public interface ConfigurationSection {
      */
     boolean isInt(String path);
 
+    /**
+     * Checks if the specified compiled path is an int.
+     *
+     * @param path Compiled path of the int to check.
+     * @return Whether or not the specified path is an int.
+     * @see #isInt(String)
+     */
+    default boolean isInt(final ConfigPath path) {
+        return this.isInt(path.getPath());
+    }
+
     /**
      * Gets the requested boolean by path.
      * <p>
@@ -325,6 +482,17 @@ public interface ConfigurationSection {
      */
     boolean getBoolean(String path);
 
+    /**
+     * Gets the requested boolean by compiled path.
+     *
+     * @param path Compiled path of the boolean to get.
+     * @return Requested boolean.
+     * @see #getBoolean(String)
+     */
+    default boolean getBoolean(final ConfigPath path) {
+        return this.getBoolean(path.getPath());
+    }
+
     /**
      * Gets the requested boolean by path, returning a default value if not
      * found.
@@ -340,6 +508,18 @@ public interface ConfigurationSection {
      */
     boolean getBoolean(String path, boolean def);
 
+    /**
+     * Gets the requested boolean by compiled path, returning a default value if not found.
+     *
+     * @param path Compiled path of the boolean to get.
+     * @param def  The default value to return if the path is not found or is not a boolean.
+     * @return Requested boolean.
+     * @see #getBoolean(String, boolean)
+     */
+    default boolean getBoolean(final ConfigPath path, final boolean def) {
+        return this.getBoolean(path.getPath(), def);
+    }
+
     /**
      * Checks if the specified path is a boolean.
      * <p>
@@ -353,6 +533,17 @@ public interface ConfigurationSection {
      */
     boolean isBoolean(String path);
 
+    /**
+     * Checks if the specified compiled path is a boolean.
+     *
+     * @param path Compiled path of the boolean to check.
+     * @return Whether or not the specified path is a boolean.
+     * @see #isBoolean(String)
+     */
+    default boolean isBoolean(final ConfigPath path) {
+        return this.isBoolean(path.getPath());
+    }
+
     /**
      * Gets the requested byte by path.
      * <p>
@@ -365,6 +556,17 @@ public interface ConfigurationSection {
      */
     byte getByte(String path);
 
+    /**
+     * Gets the requested byte by compiled path.
+     *
+     * @param path Compiled path of the byte to get.
+     * @return Requested byte.
+     * @see #getByte(String)
+     */
+    default byte getByte(final ConfigPath path) {
+        return this.getByte(path.getPath());
+    }
+
     /**
      * Gets the requested byte by path, returning a default value if not
      * found.
@@ -380,6 +582,18 @@ public interface ConfigurationSection {
      */
     byte getByte(String path, byte def);
 
+    /**
+     * Gets the requested byte by compiled path, returning a default value if not found.
+     *
+     * @param path Compiled path of the byte to get.
+     * @param def  The default value to return if the path is not found or is not a byte.
+     * @return Requested byte.
+     * @see #getByte(String, byte)
+     */
+    default byte getByte(final ConfigPath path, final byte def) {
+        return this.getByte(path.getPath(), def);
+    }
+
     /**
      * Checks if the specified path is a byte.
      * <p>
@@ -399,6 +613,17 @@ public interface ConfigurationSection {
      */
     boolean isByte(String path);
 
+    /**
+     * Checks if the specified compiled path is a byte.
+     *
+     * @param path Compiled path of the byte to check.
+     * @return Whether or not the specified path is a byte.
+     * @see #isByte(String)
+     */
+    default boolean isByte(final ConfigPath path) {
+        return this.isByte(path.getPath());
+    }
+
     /**
      * Gets the requested char by path.
      * <p>
@@ -411,6 +636,17 @@ public interface ConfigurationSection {
      */
     char getCharacter(String path);
 
+    /**
+     * Gets the requested char by compiled path.
+     *
+     * @param path Compiled path of the char to get.
+     * @return Requested char.
+     * @see #getCharacter(String)
+     */
+    default char getCharacter(final ConfigPath path) {
+        return this.getCharacter(path.getPath());
+    }
+
     /**
      * Gets the requested char by path, returning a default value if not
      * found.
@@ -426,6 +662,18 @@ public interface ConfigurationSection {
      */
     char getCharacter(String path, char def);
 
+    /**
+     * Gets the requested char by compiled path, returning a default value if not found.
+     *
+     * @param path Compiled path of the char to get.
+     * @param def  The default value to return if the path is not found or is not a char.
+     * @return Requested char.
+     * @see #getCharacter(String, char)
+     */
+    default char getCharacter(final ConfigPath path, final char def) {
+        return this.getCharacter(path.getPath(), def);
+    }
+
     /**
      * Checks if the specified path is a char.
      * <p>
@@ -445,6 +693,17 @@ public interface ConfigurationSection {
      */
     boolean isCharacter(String path);
 
+    /**
+     * Checks if the specified compiled path is a char.
+     *
+     * @param path Compiled path of the char to check.
+     * @return Whether or not the specified path is a char.
+     * @see #isCharacter(String)
+     */
+    default boolean isCharacter(final ConfigPath path) {
+        return this.isCharacter(path.getPath());
+    }
+
     /**
      * Gets the requested double by path.
      * <p>
@@ -457,6 +716,17 @@ public interface ConfigurationSection {
      */
     double getDouble(String path);
 
+    /**
+     * Gets the requested double by compiled path.
+     *
+     * @param path Compiled path of the double to get.
+     * @return Requested double.
+     * @see #getDouble(String)
+     */
+    default double getDouble(final ConfigPath path) {
+        return this.getDouble(path.getPath());
+    }
+
     /**
      * Gets the requested double by path, returning a default value if not
      * found.
@@ -472,6 +742,18 @@ public interface ConfigurationSection {
      */
     double getDouble(String path, double def);
 
+    /**
+     * Gets the requested double by compiled path, returning a default value if not found.
+     *
+     * @param path Compiled path of the double to get.
+     * @param def  The default value to return if the path is not found or is not a double.
+     * @return Requested double.
+     * @see #getDouble(String, double)
+     */
+    default double getDouble(final ConfigPath path, final double def) {
+        return this.getDouble(path.getPath(), def);
+    }
+
     /**
      * Checks if the specified path is a double.
      * <p>
@@ -485,6 +767,17 @@ public interface ConfigurationSection {
      */
     boolean isDouble(String path);
 
+    /**
+     * Checks if the specified compiled path is a double.
+     *
+     * @param path Compiled path of the double to check.
+     * @return Whether or not the specified path is a double.
+     * @see #isDouble(String)
+     */
+    default boolean isDouble(final ConfigPath path) {
+        return this.isDouble(path.getPath());
+    }
+
     /**
      * Gets the requested float by path.
      * <p>
@@ -497,6 +790,17 @@ public interface ConfigurationSection {
      */
     float getFloat(String path);
 
+    /**
+     * Gets the requested float by compiled path.
+     *
+     * @param path Compiled path of the float to get.
+     * @return Requested float.
+     * @see #getFloat(String)
+     */
+    default float getFloat(final ConfigPath path) {
+        return this.getFloat(path.getPath());
+    }
+
     /**
      * Gets the requested float by path, returning a default value if not
      * found.
@@ -512,6 +816,18 @@ public interface ConfigurationSection {
      */
     float getFloat(String path, float def);
 
+    /**
+     * Gets the requested float by compiled path, returning a default value if not found.
+     *
+     * @param path Compiled path of the float to get.
+     * @param def  The default value to return if the path is not found or is not a float.
+     * @return Requested float.
+     * @see #getFloat(String, float)
+     */
+    default float getFloat(final ConfigPath path, final float def) {
+        return this.getFloat(path.getPath(), def);
+    }
+
     /**
      * Checks if the specified path is a float.
      * <p>
@@ -531,6 +847,17 @@ public interface ConfigurationSection {
      */
     boolean isFloat(String path);
 
+    /**
+     * Checks if the specified compiled path is a float.
+     *
+     * @param path Compiled path of the float to check.
+     * @return Whether or not the specified path is a float.
+     * @see #isFloat(String)
+     */
+    default boolean isFloat(final ConfigPath path) {
+        return this.isFloat(path.getPath());
+    }
+
     /**
      * Gets the requested long by path.
      * <p>
@@ -543,6 +870,17 @@ public interface ConfigurationSection {
      */
     long getLong(String path);
 
+    /**
+     * Gets the requested long by compiled path.
+     *
+     * @param path Compiled path of the long to get.
+     * @return Requested long.
+     * @see #getLong(String)
+     */
+    default long getLong(final ConfigPath path) {
+        return this.getLong(path.getPath());
+    }
+
     /**
      * Gets the requested long by path, returning a default value if not
      * found.
@@ -558,6 +896,18 @@ public interface ConfigurationSection {
      */
     long getLong(String path, long def);
 
+    /**
+     * Gets the requested long by compiled path, returning a default value if not found.
+     *
+     * @param path Compiled path of the long to get.
+     * @param def  The default value to return if the path is not found or is not a long.
+     * @return Requested long.
+     * @see #getLong(String, long)
+     */
+    default long getLong(final ConfigPath path, final long def) {
+        return this.getLong(path.getPath(), def);
+    }
+
     /**
      * Checks if the specified path is a long.
      * <p>
@@ -571,6 +921,17 @@ public interface ConfigurationSection {
      */
     boolean isLong(String path);
 
+    /**
+     * Checks if the specified compiled path is a long.
+     *
+     * @param path Compiled path of the long to check.
+     * @return Whether or not the specified path is a long.
+     * @see #isLong(String)
+     */
+    default boolean isLong(final ConfigPath path) {
+        return this.isLong(path.getPath());
+    }
+
     /**
      * Gets the requested short by path.
      * <p>
@@ -583,6 +944,17 @@ public interface ConfigurationSection {
      */
     short getShort(String path);
 
+    /**
+     * Gets the requested short by compiled path.
+     *
+     * @param path Compiled path of the short to get.
+     * @return Requested short.
+     * @see #getShort(String)
+     */
+    default short getShort(final ConfigPath path) {
+        return this.getShort(path.getPath());
+    }
+
     /**
      * Gets the requested short by path, returning a default value if not
      * found.
@@ -598,6 +970,18 @@ public interface ConfigurationSection {
      */
     short getShort(String path, short def);
 
+    /**
+     * Gets the requested short by compiled path, returning a default value if not found.
+     *
+     * @param path Compiled path of the short to get.
+     * @param def  The default value to return if the path is not found or is not a short.
+     * @return Requested short.
+     * @see #getShort(String, short)
+     */
+    default short getShort(final ConfigPath path, final short def) {
+        return this.getShort(path.getPath(), def);
+    }
+
     /**
      * Checks if the specified path is a short.
      * <p>
@@ -617,6 +1001,17 @@ public interface ConfigurationSection {
      */
     boolean isShort(String path);
 
+    /**
+     * Checks if the specified compiled path is a short.
+     *
+     * @param path Compiled path of the short to check.
+     * @return Whether or not the specified path is a short.
+     * @see #isShort(String)
+     */
+    default boolean isShort(final ConfigPath path) {
+        return this.isShort(path.getPath());
+    }
+
     // Java
 
     /**
@@ -631,6 +1026,17 @@ public interface ConfigurationSection {
      */
     List<?> getList(String path);
 
+    /**
+     * Gets the requested List by compiled path.
+     *
+     * @param path Compiled path of the List to get.
+     * @return Requested List.
+     * @see #getList(String)
+     */
+    default List<?> getList(final ConfigPath path) {
+        return this.getList(path.getPath());
+    }
+
     /**
      * Gets the requested List by path, returning a default value if not
      * found.
@@ -646,6 +1052,18 @@ public interface ConfigurationSection {
      */
     List<?> getList(String path, List<?> def);
 
+    /**
+     * Gets the requested List by compiled path, returning a default value if not found.
+     *
+     * @param path Compiled path of the List to get.
+     * @param def  The default value to return if the path is not found or is not a List.
+     * @return Requested List.
+     * @see #getList(String, List)
+     */
+    default List<?> getList(final ConfigPath path, final List<?> def) {
+        return this.getList(path.getPath(), def);
+    }
+
     /**
      * Checks if the specified path is a List.
      * <p>
@@ -659,6 +1077,17 @@ public interface ConfigurationSection {
      */
     boolean isList(String path);
 
+    /**
+     * Checks if the specified compiled path is a List.
+     *
+     * @param path Compiled path of the List to check.
+     * @return Whether or not the specified path is a List.
+     * @see #isList(String)
+     */
+    default boolean isList(final ConfigPath path) {
+        return this.isList(path.getPath());
+    }
+
     /**
      * Gets the requested List of String by path.
      * <p>
@@ -674,6 +1103,17 @@ public interface ConfigurationSection {
      */
     List<String> getStringList(String path);
 
+    /**
+     * Gets the requested List of String by compiled path.
+     *
+     * @param path Compiled path of the List to get.
+     * @return Requested List of String.
+     * @see #getStringList(String)
+     */
+    default List<String> getStringList(final ConfigPath path) {
+        return this.getStringList(path.getPath());
+    }
+
     /**
      * Gets the requested List of Integer by path.
      * <p>
@@ -689,6 +1129,17 @@ public interface ConfigurationSection {
      */
     List<Integer> getIntegerList(String path);
 
+    /**
+     * Gets the requested List of Integer by compiled path.
+     *
+     * @param path Compiled path of the List to get.
+     * @return Requested List of Integer.
+     * @see #getIntegerList(String)
+     */
+    default List<Integer> getIntegerList(final ConfigPath path) {
+        return this.getIntegerList(path.getPath());
+    }
+
     /**
      * Gets the requested List of Boolean by path.
      * <p>
@@ -704,6 +1155,17 @@ public interface ConfigurationSection {
      */
     List<Boolean> getBooleanList(String path);
 
+    /**
+     * Gets the requested List of Boolean by compiled path.
+     *
+     * @param path Compiled path of the List to get.
+     * @return Requested List of Boolean.
+     * @see #getBooleanList(String)
+     */
+    default List<Boolean> getBooleanList(final ConfigPath path) {
+        return this.getBooleanList(path.getPath());
+    }
+
     /**
      * Gets the requested List of Double by path.
      * <p>
@@ -719,6 +1181,17 @@ public interface ConfigurationSection {
      */
     List<Double> getDoubleList(String path);
 
+    /**
+     * Gets the requested List of Double by compiled path.
+     *
+     * @param path Compiled path of the List to get.
+     * @return Requested List of Double.
+     * @see #getDoubleList(String)
+     */
+    default List<Double> getDoubleList(final ConfigPath path) {
+        return this.getDoubleList(path.getPath());
+    }
+
     /**
      * Gets the requested List of Float by path.
      * <p>
@@ -734,6 +1207,17 @@ public interface ConfigurationSection {
      */
     List<Float> getFloatList(String path);
 
+    /**
+     * Gets the requested List of Float by compiled path.
+     *
+     * @param path Compiled path of the List to get.
+     * @return Requested List of Float.
+     * @see #getFloatList(String)
+     */
+    default List<Float> getFloatList(final ConfigPath path) {
+        return this.getFloatList(path.getPath());
+    }
+
     /**
      * Gets the requested List of Long by path.
      * <p>
@@ -749,6 +1233,17 @@ public interface ConfigurationSection {
      */
     List<Long> getLongList(String path);
 
+    /**
+     * Gets the requested List of Long by compiled path.
+     *
+     * @param path Compiled path of the List to get.
+     * @return Requested List of Long.
+     * @see #getLongList(String)
+     */
+    default List<Long> getLongList(final ConfigPath path) {
+        return this.getLongList(path.getPath());
+    }
+
     /**
      * Gets the requested List of Byte by path.
      * <p>
@@ -764,6 +1259,17 @@ public interface ConfigurationSection {
      */
     List<Byte> getByteList(String path);
 
+    /**
+     * Gets the requested List of Byte by compiled path.
+     *
+     * @param path Compiled path of the List to get.
+     * @return Requested List of Byte.
+     * @see #getByteList(String)
+     */
+    default List<Byte> getByteList(final ConfigPath path) {
+        return this.getByteList(path.getPath());
+    }
+
     /**
      * Gets the requested List of Character by path.
      * <p>
@@ -779,6 +1285,17 @@ public interface ConfigurationSection {
      */
     List<Character> getCharacterList(String path);
 
+    /**
+     * Gets the requested List of Character by compiled path.
+     *
+     * @param path Compiled path of the List to get.
+     * @return Requested List of Character.
+     * @see #getCharacterList(String)
+     */
+    default List<Character> getCharacterList(final ConfigPath path) {
+        return this.getCharacterList(path.getPath());
+    }
+
     /**
      * Gets the requested List of Short by path.
      * <p>
@@ -794,6 +1311,92 @@ public interface ConfigurationSection {
      */
     List<Short> getShortList(String path);
 
+    /**
+     * Gets the requested List of Short by compiled path.
+     *
+     * @param path Compiled path of the List to get.
+     * @return Requested List of Short.
+     * @see #getShortList(String)
+     */
+    default List<Short> getShortList(final ConfigPath path) {
+        return this.getShortList(path.getPath());
+    }
+
+    /**
+     * Gets the requested array of int by path.
+     * <p>
+     * This is the same as {@link #getIntegerList(String)} but without boxing the elements,
+     * so it is cheaper for large lists of numbers.
+     * If the List does not exist this will return an empty array.
+     *
+     * @param path Path of the List to get.
+     * @return Requested array of int.
+     */
+    default int[] getIntArray(final String path) {
+        return this.getIntegerList(path).stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Gets the requested array of int by compiled path.
+     *
+     * @param path Compiled path of the List to get.
+     * @return Requested array of int.
+     * @see #getIntArray(String)
+     */
+    default int[] getIntArray(final ConfigPath path) {
+        return this.getIntArray(path.getPath());
+    }
+
+    /**
+     * Gets the requested array of long by path.
+     * <p>
+     * This is the same as {@link #getLongList(String)} but without boxing the elements,
+     * so it is cheaper for large lists of numbers.
+     * If the List does not exist this will return an empty array.
+     *
+     * @param path Path of the List to get.
+     * @return Requested array of long.
+     */
+    default long[] getLongArray(final String path) {
+        return this.getLongList(path).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Gets the requested array of long by compiled path.
+     *
+     * @param path Compiled path of the List to get.
+     * @return Requested array of long.
+     * @see #getLongArray(String)
+     */
+    default long[] getLongArray(final ConfigPath path) {
+        return this.getLongArray(path.getPath());
+    }
+
+    /**
+     * Gets the requested array of double by path.
+     * <p>
+     * This is the same as {@link #getDoubleList(String)} but without boxing the elements,
+     * so it is cheaper for large lists of numbers.
+     * If the List does not exist this will return an empty array.
+     *
+     * @param path Path of the List to get.
+     * @return Requested array of double.
+     */
+    default double[] getDoubleArray(final String path) {
+        return this.getDoubleList(path).stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    /**
+     * Gets the requested array of double by compiled path.
+     *
+     * @param path Compiled path of the List to get.
+     * @return Requested array of double.
+     * @see #getDoubleArray(String)
+     */
+    default double[] getDoubleArray(final ConfigPath path) {
+        return this.getDoubleArray(path.getPath());
+    }
+
     /**
      * Gets the requested List of Maps by path.
      * <p>
@@ -809,6 +1412,17 @@ public interface ConfigurationSection {
      */
     List<Map<?, ?>> getMapList(String path);
 
+    /**
+     * Gets the requested List of Maps by compiled path.
+     *
+     * @param path Compiled path of the List to get.
+     * @return Requested List of Maps.
+     * @see #getMapList(String)
+     */
+    default List<Map<?, ?>> getMapList(final ConfigPath path) {
+        return this.getMapList(path.getPath());
+    }
+
     /**
      * Gets the requested ConfigurationSection by path.
      * <p>
@@ -822,6 +1436,17 @@ public interface ConfigurationSection {
      */
     ConfigurationSection getConfigurationSection(String path);
 
+    /**
+     * Gets the requested ConfigurationSection by compiled path.
+     *
+     * @param path Compiled path of the ConfigurationSection to get.
+     * @return Requested ConfigurationSection.
+     * @see #getConfigurationSection(String)
+     */
+    default ConfigurationSection getConfigurationSection(final ConfigPath path) {
+        return this.getConfigurationSection(path.getPath());
+    }
+
     /**
      * Checks if the specified path is a ConfigurationSection.
      * <p>
@@ -836,6 +1461,17 @@ public interface ConfigurationSection {
      */
     boolean isConfigurationSection(String path);
 
+    /**
+     * Checks if the specified compiled path is a ConfigurationSection.
+     *
+     * @param path Compiled path of the ConfigurationSection to check.
+     * @return Whether or not the specified path is a ConfigurationSection.
+     * @see #isConfigurationSection(String)
+     */
+    default boolean isConfigurationSection(final ConfigPath path) {
+        return this.isConfigurationSection(path.getPath());
+    }
+
     /**
      * Gets the equivalent {@link ConfigurationSection} from the default
      * {@link Configuration} defined in {@link #getRoot()}.
@@ -868,4 +1504,16 @@ public interface ConfigurationSection {
      */
     void addDefault(String path, Object value);
 
+    /**
+     * Sets the default value in the root at the given compiled path as provided.
+     *
+     * @param path  Compiled path of the value to set.
+     * @param value Value to set the default to.
+     * @throws IllegalArgumentException Thrown if path is null.
+     * @see #addDefault(String, Object)
+     */
+    default void addDefault(final ConfigPath path, final Object value) {
+        this.addDefault(path.getPath(), value);
+    }
+
 }
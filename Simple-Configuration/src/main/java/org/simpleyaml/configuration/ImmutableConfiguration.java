@@ -0,0 +1,207 @@
+package org.simpleyaml.configuration;
+
+import org.simpleyaml.utils.PrimitiveList;
+import org.simpleyaml.utils.Validate;
+
+import java.util.*;
+import java.util.function.UnaryOperator;
+
+/**
+ * A deeply immutable copy of a {@link Configuration}, as returned by {@link MemoryConfiguration#snapshot()}.
+ * <p>
+ * Sections are stored in compact arrays trimmed to their size and keys are interned,
+ * so a snapshot uses less memory than the configuration it was copied from.
+ * Lists, sets and maps are copied into unmodifiable collections and the defaults are copied as another snapshot.
+ * Any attempt to modify the snapshot, its sections, its values or its options
+ * throws an {@link UnsupportedOperationException}.
+ * <p>
+ * All the state is written in the constructor and never changes afterwards,
+ * so a snapshot can be shared between threads without any lock.
+ * Values that are not collections, like serializable objects, are not copied.
+ */
+public final class ImmutableConfiguration extends MemoryConfiguration {
+
+    private final MemoryConfigurationOptions frozenOptions;
+
+    private ImmutableConfiguration(final Configuration configuration, final UnaryOperator<Object> valueMapper) {
+        super(configuration.getDefaults() != null ? copyOf(configuration.getDefaults()) : null);
+
+        this.frozenOptions = new FrozenOptions(this, configuration.options());
+
+        new Copier(valueMapper).copySection(configuration, this);
+    }
+
+    /**
+     * Creates an immutable snapshot of a configuration.
+     *
+     * @param configuration the configuration to copy
+     * @return the snapshot, or the same configuration if it is already immutable
+     */
+    public static ImmutableConfiguration copyOf(final Configuration configuration) {
+        Validate.notNull(configuration, "Configuration cannot be null");
+
+        if (configuration instanceof ImmutableConfiguration) {
+            return (ImmutableConfiguration) configuration;
+        }
+
+        final UnaryOperator<Object> valueMapper = configuration instanceof MemoryConfiguration
+            ? ((MemoryConfiguration) configuration)::snapshotValue
+            : UnaryOperator.identity();
+
+        return new ImmutableConfiguration(configuration, valueMapper);
+    }
+
+    @Override
+    public ImmutableConfiguration snapshot() {
+        return this;
+    }
+
+    @Override
+    public MemoryConfigurationOptions options() {
+        return this.frozenOptions;
+    }
+
+    @Override
+    public void addDefault(final String path, final Object value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void addDefaults(final Map<String, Object> defaults) {
+        throw unsupported();
+    }
+
+    @Override
+    public void addDefaults(final Configuration defaults) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setDefaults(final Configuration defaults) {
+        throw unsupported();
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("Cannot modify an immutable configuration");
+    }
+
+    private static final class Copier {
+
+        private final UnaryOperator<Object> valueMapper;
+
+        // Copied sections, so sections referenced from several paths are copied once
+        private final Map<ConfigurationSection, MemorySection> sections = new IdentityHashMap<>();
+
+        private Copier(final UnaryOperator<Object> valueMapper) {
+            this.valueMapper = valueMapper;
+        }
+
+        private void copySection(final ConfigurationSection source, final MemorySection target) {
+            this.sections.put(source, target);
+
+            final Map<String, Object> values = source instanceof MemorySection
+                ? ((MemorySection) source).map
+                : source.getValues(false);
+
+            final SectionMap map = (SectionMap) target.map;
+
+            for (final Map.Entry<String, Object> entry : values.entrySet()) {
+                final String key = entry.getKey().intern();
+                final Object value = entry.getValue();
+
+                if (value instanceof ConfigurationSection) {
+                    MemorySection section = this.sections.get(value);
+                    if (section == null) {
+                        section = new MemorySection(target, key);
+                        this.copySection((ConfigurationSection) value, section);
+                    }
+                    map.put(key, section);
+                } else {
+                    map.put(key, this.copyValue(value));
+                }
+            }
+
+            map.freeze();
+        }
+
+        private Object copyValue(Object value) {
+            value = this.valueMapper.apply(value);
+
+            if (value instanceof PrimitiveList && ((PrimitiveList) value).isPrimitive()) {
+                return Collections.unmodifiableList(copyPrimitiveList((PrimitiveList) value));
+            }
+            if (value instanceof List) {
+                return Collections.unmodifiableList(Arrays.asList(this.copyValues((Collection<?>) value)));
+            }
+            if (value instanceof Set) {
+                return Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(this.copyValues((Collection<?>) value))));
+            }
+            if (value instanceof Collection) {
+                return Collections.unmodifiableCollection(Arrays.asList(this.copyValues((Collection<?>) value)));
+            }
+            if (value instanceof Map) {
+                final Map<?, ?> source = (Map<?, ?>) value;
+                final Map<Object, Object> copy = new LinkedHashMap<>(source.size() * 4 / 3 + 1);
+                for (final Map.Entry<?, ?> entry : source.entrySet()) {
+                    final Object key = entry.getKey() instanceof String ? ((String) entry.getKey()).intern() : entry.getKey();
+                    copy.put(key, this.copyValue(entry.getValue()));
+                }
+                return Collections.unmodifiableMap(copy);
+            }
+            return value;
+        }
+
+        private Object[] copyValues(final Collection<?> collection) {
+            final Object[] copy = collection.toArray();
+            for (int i = 0; i < copy.length; i++) {
+                copy[i] = this.copyValue(copy[i]);
+            }
+            return copy;
+        }
+
+        private static PrimitiveList copyPrimitiveList(final PrimitiveList list) {
+            if (list instanceof PrimitiveList.OfInt) {
+                return new PrimitiveList.OfInt(((PrimitiveList.OfInt) list).toIntArray());
+            }
+            if (list instanceof PrimitiveList.OfLong) {
+                return new PrimitiveList.OfLong(((PrimitiveList.OfLong) list).toLongArray());
+            }
+            return new PrimitiveList.OfDouble(((PrimitiveList.OfDouble) list).toDoubleArray());
+        }
+    }
+
+    private static final class FrozenOptions extends MemoryConfigurationOptions {
+
+        private FrozenOptions(final ImmutableConfiguration configuration, final ConfigurationOptions options) {
+            super(configuration);
+
+            if (options.pathSeparator() != this.pathSeparator()) {
+                super.pathSeparator(options.pathSeparator());
+            }
+            super.copyDefaults(options.copyDefaults());
+            super.indexPaths(options.indexPaths());
+            super.indent(options.indent());
+        }
+
+        @Override
+        public MemoryConfigurationOptions pathSeparator(final char value) {
+            throw unsupported();
+        }
+
+        @Override
+        public MemoryConfigurationOptions copyDefaults(final boolean value) {
+            throw unsupported();
+        }
+
+        @Override
+        public MemoryConfigurationOptions indexPaths(final boolean value) {
+            throw unsupported();
+        }
+
+        @Override
+        public ConfigurationOptions indent(final int value) {
+            throw unsupported();
+        }
+    }
+
+}
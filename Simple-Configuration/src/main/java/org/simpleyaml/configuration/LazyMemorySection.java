@@ -0,0 +1,234 @@
+package org.simpleyaml.configuration;
+
+import org.simpleyaml.exceptions.InvalidConfigurationException;
+import org.simpleyaml.utils.Validate;
+
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link MemorySection} whose children are loaded from a source the first time they are accessed.
+ * <p>
+ * The source is kept as is, for instance an unconstructed node of a parser, until any method of this section
+ * reads or changes its children, like {@link #get(String)}, {@link #getKeys(boolean)} or {@link #set(String, Object)}.
+ * Then the {@link Loader} fills this section from the source and the source is released.
+ * Loading the children is not counted as a modification of the root configuration.
+ * <p>
+ * If the source cannot be loaded, for instance because a value cannot be constructed, the access throws
+ * an {@link UncheckedIOException} caused by an {@link InvalidConfigurationException}.
+ * The section is left empty and not loaded, keeping its source, so it is loaded again on the next access
+ * and saved from its source meanwhile.
+ * <p>
+ * While a section is not loaded its {@link #getSource() source} can be used to save it without loading it.
+ */
+public class LazyMemorySection extends MemorySection {
+
+    /**
+     * Fills a lazy section from its source.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        /**
+         * Fills a section with the children of a source.
+         *
+         * @param section the section to fill, which does not load again while it is filled
+         * @param source  the source of the children
+         */
+        void load(LazyMemorySection section, Object source);
+    }
+
+    protected LazyMemorySection(final ConfigurationSection parent, final String path, final Object source, final Loader loader) {
+        super(parent, path, new LazySectionMap(createMap(parent.getRoot()), source, loader));
+        ((LazySectionMap) this.map).section = this;
+    }
+
+    /**
+     * Creates a lazy child section of a section, using the key as is instead of parsing it as a path.
+     * <p>
+     * Any previous value of the key is replaced.
+     *
+     * @param parent the parent section
+     * @param key    the key of the child section
+     * @param source the source of the children
+     * @param loader the function to fill the section from the source the first time it is accessed
+     * @return the new lazy section
+     * @throws IllegalArgumentException if key is null or empty, or source or loader are null
+     * @see MemorySection#createChildSection(String, int)
+     */
+    public static LazyMemorySection create(final MemorySection parent, final String key, final Object source, final Loader loader) {
+        Validate.notNull(source, "Source cannot be null");
+        Validate.notNull(loader, "Loader cannot be null");
+
+        final LazyMemorySection section = new LazyMemorySection(parent, key, source, loader);
+        parent.setChild(key, section);
+        return section;
+    }
+
+    /**
+     * Checks if the children of this section have been loaded from its source.
+     *
+     * @return true if this section is loaded
+     */
+    public boolean isLoaded() {
+        return ((LazySectionMap) this.map).loaded;
+    }
+
+    /**
+     * Gets the source of the children of this section, without loading them.
+     *
+     * @return the source, or null if this section is already loaded
+     */
+    public Object getSource() {
+        return ((LazySectionMap) this.map).source;
+    }
+
+    /**
+     * Creates a lazy copy of this section as a child of another section, without loading this section.
+     * <p>
+     * The copy is loaded from the same source with the same loader the first time it is accessed.
+     *
+     * @param parent the parent section of the copy
+     * @param key    the key of the copy
+     * @return the lazy copy, or null if this section is already loaded so its children must be copied instead
+     */
+    public LazyMemorySection copyTo(final MemorySection parent, final String key) {
+        final LazySectionMap map = (LazySectionMap) this.map;
+        synchronized (map) {
+            if (map.loaded || map.loading) {
+                return null;
+            }
+            return create(parent, key, map.source, map.loader);
+        }
+    }
+
+    @Override
+    boolean isLoading() {
+        return ((LazySectionMap) this.map).loading || super.isLoading();
+    }
+
+    /**
+     * A map that loads the children of its section before any access.
+     */
+    private static final class LazySectionMap implements Map<String, Object> {
+
+        private final Map<String, Object> map;
+
+        private volatile Object source;
+
+        private Loader loader;
+
+        private LazyMemorySection section;
+
+        private volatile boolean loaded;
+
+        private boolean loading;
+
+        private LazySectionMap(final Map<String, Object> map, final Object source, final Loader loader) {
+            this.map = map;
+            this.source = source;
+            this.loader = loader;
+        }
+
+        private Map<String, Object> loaded() {
+            if (!this.loaded) {
+                synchronized (this) {
+                    if (!this.loaded && !this.loading) {
+                        this.loading = true;
+                        try {
+                            this.loader.load(this.section, this.source);
+                        } catch (final RuntimeException e) {
+                            // discard the children loaded so far, the source is kept
+                            this.map.clear();
+                            throw new UncheckedIOException(new InvalidConfigurationException(
+                                    "Could not load section " + this.section.getCurrentPath(), e));
+                        } finally {
+                            this.loading = false;
+                        }
+                        this.loaded = true;
+                        this.source = null;
+                        this.loader = null;
+                    }
+                }
+            }
+            return this.map;
+        }
+
+        @Override
+        public int size() {
+            return this.loaded().size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return this.loaded().isEmpty();
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return this.loaded().containsKey(key);
+        }
+
+        @Override
+        public boolean containsValue(final Object value) {
+            return this.loaded().containsValue(value);
+        }
+
+        @Override
+        public Object get(final Object key) {
+            return this.loaded().get(key);
+        }
+
+        @Override
+        public Object put(final String key, final Object value) {
+            return this.loaded().put(key, value);
+        }
+
+        @Override
+        public Object remove(final Object key) {
+            return this.loaded().remove(key);
+        }
+
+        @Override
+        public void putAll(final Map<? extends String, ?> values) {
+            this.loaded().putAll(values);
+        }
+
+        @Override
+        public void clear() {
+            this.loaded().clear();
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return this.loaded().keySet();
+        }
+
+        @Override
+        public Collection<Object> values() {
+            return this.loaded().values();
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return this.loaded().entrySet();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o == this || this.loaded().equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.loaded().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return this.loaded ? this.map.toString() : "{...}";
+        }
+    }
+
+}
@@ -3,6 +3,7 @@ package org.simpleyaml.configuration;
 import org.simpleyaml.utils.Validate;
 
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * This is a {@link Configuration} implementation that does not save or load
@@ -18,6 +19,9 @@ public class MemoryConfiguration extends MemorySection implements Configuration
 
     protected MemoryConfigurationOptions options;
 
+    // striped, so concurrent writes to different keys do not contend on a single counter
+    private final LongAdder modifications = new LongAdder();
+
     /**
      * Creates an empty {@link MemoryConfiguration} with no default values.
      */
@@ -64,6 +68,7 @@ public class MemoryConfiguration extends MemorySection implements Configuration
         Validate.notNull(defaults, "Defaults may not be null");
 
         this.defaults = defaults;
+        this.modified();
     }
 
     @Override
@@ -79,12 +84,62 @@ public class MemoryConfiguration extends MemorySection implements Configuration
         return null;
     }
 
+    /**
+     * Gets a counter of the changes done to this configuration.
+     * <p>
+     * The counter is increased every time a value is set or removed through the {@link ConfigurationSection} methods,
+     * including loads, and when the defaults or the options affecting how paths are read are changed.
+     * Changes done to the default {@link Configuration} are counted by its own counter.
+     * <p>
+     * This allows caching values read from this configuration, like {@link ConfigKey} does,
+     * which are valid while the counter does not change.
+     *
+     * @return the number of changes done to this configuration
+     */
+    public long getModificationCount() {
+        return this.modifications.sum();
+    }
+
+    /**
+     * Increases the {@link #getModificationCount() modification counter} of this configuration.
+     */
+    protected void modified() {
+        this.modifications.increment();
+    }
+
+    /**
+     * Creates a deeply immutable copy of this configuration and its defaults, with a compact storage.
+     * <p>
+     * The snapshot can be shared between threads without any lock,
+     * and it does not reflect the changes done to this configuration afterwards.
+     *
+     * @return an immutable snapshot of this configuration
+     * @see ImmutableConfiguration
+     */
+    public ImmutableConfiguration snapshot() {
+        return ImmutableConfiguration.copyOf(this);
+    }
+
+    /**
+     * Gets the value to store in a {@link #snapshot()} for a value of this configuration.
+     * <p>
+     * Implementations storing values wrapped with additional information should return the value as read by
+     * {@link #get(String)}.
+     *
+     * @param value a value of this configuration, which is not a {@link ConfigurationSection}
+     * @return the value to store in the snapshot
+     */
+    protected Object snapshotValue(final Object value) {
+        return value;
+    }
+
     @Override
     public void addDefault(final String path, final Object value) {
         Validate.notNull(path, "Path may not be null");
 
         if (this.defaults == null) {
             this.defaults = new MemoryConfiguration();
+            this.modified();
         }
 
         this.defaults.set(path, value);
@@ -20,12 +20,20 @@ public class MemoryConfigurationOptions extends ConfigurationOptions {
     @Override
     public MemoryConfigurationOptions pathSeparator(final char value) {
         super.pathSeparator(value);
+        this.configuration().modified();
         return this;
     }
 
     @Override
     public MemoryConfigurationOptions copyDefaults(final boolean value) {
         super.copyDefaults(value);
+        this.configuration().modified();
+        return this;
+    }
+
+    @Override
+    public MemoryConfigurationOptions indexPaths(final boolean value) {
+        super.indexPaths(value);
         return this;
     }
 
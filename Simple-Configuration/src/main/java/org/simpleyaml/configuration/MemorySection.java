@@ -3,11 +3,11 @@ package org.simpleyaml.configuration;
 import org.simpleyaml.configuration.serialization.ConfigurationSerializable;
 import org.simpleyaml.utils.CharacterConversions;
 import org.simpleyaml.utils.NumberConversions;
+import org.simpleyaml.utils.PrimitiveList;
 import org.simpleyaml.utils.StringUtils;
 import org.simpleyaml.utils.Validate;
 
 import java.util.*;
-import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
 /**
@@ -19,7 +19,7 @@ import java.util.stream.Collectors;
  */
 public class MemorySection implements ConfigurationSection {
 
-    protected final Map<String, Object> map = new LinkedHashMap<>();
+    protected final Map<String, Object> map;
 
     private final Configuration root;
 
@@ -48,6 +48,7 @@ public class MemorySection implements ConfigurationSection {
         this.fullPath = "";
         this.parent = null;
         this.root = (Configuration) this;
+        this.map = createMap(this.root);
     }
 
     /**
@@ -70,6 +71,36 @@ public class MemorySection implements ConfigurationSection {
         Validate.notNull(this.root, "Path cannot be orphaned");
 
         this.fullPath = MemorySection.createPath(parent, path);
+        this.map = createMap(this.root);
+    }
+
+    /**
+     * Creates a MemorySection with the specified parent and path, storing its children in the given map.
+     *
+     * @param parent Parent section that contains this own section.
+     * @param path   Path that you may access this section from via the root
+     *               {@link Configuration}.
+     * @param map    Map to store the children of this section.
+     * @throws IllegalArgumentException Thrown is parent, path or map is null, or
+     *                                  if parent contains no root Configuration.
+     */
+    protected MemorySection(final ConfigurationSection parent, final String path, final Map<String, Object> map) {
+        Validate.notNull(parent, "Parent cannot be null");
+        Validate.notNull(path, "Path cannot be null");
+        Validate.notNull(map, "Map cannot be null");
+
+        this.path = path;
+        this.parent = parent;
+        this.root = parent.getRoot();
+
+        Validate.notNull(this.root, "Path cannot be orphaned");
+
+        this.fullPath = MemorySection.createPath(parent, path);
+        this.map = map;
+    }
+
+    static Map<String, Object> createMap(final Configuration root) {
+        return root instanceof ConcurrentConfiguration ? new ConcurrentSectionMap() : new SectionMap();
     }
 
     /**
@@ -194,6 +225,23 @@ public class MemorySection implements ConfigurationSection {
         return this.get(path, null) != null;
     }
 
+    @Override
+    public boolean contains(final ConfigPath path) {
+        return this.get(path) != null;
+    }
+
+    @Override
+    public boolean isSet(final ConfigPath path) {
+        final Configuration root = this.getRoot();
+        if (root == null) {
+            return false;
+        }
+        if (root.options().copyDefaults()) {
+            return this.contains(path);
+        }
+        return this.get(path, null) != null;
+    }
+
     @Override
     public int size() {
         return this.map.size();
@@ -229,6 +277,18 @@ public class MemorySection implements ConfigurationSection {
         return this.get(path, this.getDefault(path));
     }
 
+    @Override
+    public Object get(final ConfigPath path) {
+        if (this.getPathIndex() != null) {
+            // resolve the default value only if the path is not set
+            final Object value = this.get(path, null);
+            if (value != null) {
+                return value;
+            }
+        }
+        return this.get(path, this.getDefault(path));
+    }
+
     @Override
     public Object get(final String path, final Object def) {
         Validate.notNull(path, "Path cannot be null");
@@ -237,94 +297,103 @@ public class MemorySection implements ConfigurationSection {
             return this;
         }
 
-        final Configuration root = this.getRoot();
-        if (root == null) {
-            throw new IllegalStateException("Cannot access section without a root");
+        return this.get(this.compilePath(path), def);
+    }
+
+    @Override
+    public Object get(final ConfigPath path, final Object def) {
+        Validate.notNull(path, "Path cannot be null");
+
+        if (path.isEmpty()) {
+            return this;
         }
 
-        final char separator = root.options().pathSeparator();
-        // i1 is the leading (higher) index
-        // i2 is the trailing (lower) index
-        int i1 = -1, i2;
+        final ConfigPath compiled = this.compilePath(path);
+
+        final ConfigPathIndex index = this.getPathIndex();
+        if (index != null && !compiled.hasListIndex()) {
+            Object value = index.get(compiled.getPath());
+            if (value == null) {
+                value = this.getStored(compiled);
+                if (value != null) {
+                    index.put(compiled.getPath(), value);
+                    if (this.getStored(compiled) != value) {
+                        index.remove(compiled.getPath()); // replaced while it was being indexed
+                    }
+                }
+            }
+            if (value != null) {
+                return value;
+            }
+        }
+
+        final int last = compiled.size() - 1;
         Object section = this;
-        while ((i1 = StringUtils.firstSeparatorIndex(path, separator, i2 = i1 + 1)) != -1) {
-            final String node = path.substring(i2, i1);
-            section = this.getSection(section, node);
+        for (int i = 0; i < last; i++) {
+            section = this.getSection(section, compiled, i);
             if (section == null) {
                 return def;
             }
         }
 
-        final String key = path.substring(i2);
-
-        return this.getObject(section, key, def);
+        return this.getObject(section, compiled, last, def);
     }
 
     @Override
     public void set(final String path, final Object value) {
         Validate.notNull(path, "Path cannot be null");
+        this.set(this.compilePath(path), value);
+    }
 
-        final Configuration root = this.getRoot();
-        if (root == null) {
-            throw new IllegalStateException("Cannot use section without a root");
-        }
+    @Override
+    public void set(final ConfigPath path, final Object value) {
+        Validate.notNull(path, "Path cannot be null");
 
-        final char separator = root.options().pathSeparator();
-        // i1 is the leading (higher) index
-        // i2 is the trailing (lower) index
-        int i1 = -1, i2;
+        final ConfigPath compiled = this.compilePath(path);
+
+        final int last = compiled.size() - 1;
         Object section = this;
-        while ((i1 = StringUtils.firstSeparatorIndex(path, separator, i2 = i1 + 1)) != -1) {
-            final String node = path.substring(i2, i1);
-            final Object subSection = this.getSection(section, node);
-            if (subSection == null) {
-                if (section instanceof ConfigurationSection) {
-                    section = ((ConfigurationSection) section).createSection(node);
-                } else {
-                    return;
-                }
-            } else {
-                section = subSection;
+        for (int i = 0; i < last; i++) {
+            section = this.getOrCreateSection(section, compiled, i);
+            if (section == null) {
+                return;
             }
         }
 
-        final String key = path.substring(i2);
+        this.setObject(section, compiled, last, value);
 
-        this.setObject(section, key, value);
+        // values within lists and maps are changed without putChild, which counts the changes of sections
+        if (compiled.isIndexed(last) || !(section instanceof MemorySection)) {
+            this.modified();
+        }
     }
 
     @Override
     public ConfigurationSection createSection(final String path) {
         Validate.notEmpty(path, "Cannot create section at empty path");
-        final Configuration root = this.getRoot();
-        if (root == null) {
-            throw new IllegalStateException("Cannot create section without a root");
-        }
+        return this.createSection(this.compilePath(path));
+    }
 
-        final char separator = root.options().pathSeparator();
-        // i1 is the leading (higher) index
-        // i2 is the trailing (lower) index
-        int i1 = -1, i2;
+    @Override
+    public ConfigurationSection createSection(final ConfigPath path) {
+        Validate.isTrue(path != null && !path.isEmpty(), "Cannot create section at empty path");
+
+        final ConfigPath compiled = this.compilePath(path);
+
+        final int last = compiled.size() - 1;
         Object section = this;
-        while ((i1 = StringUtils.firstSeparatorIndex(path, separator, i2 = i1 + 1)) != -1) {
-            final String node = path.substring(i2, i1);
-            final Object subSection = this.getSection(section, node);
-            if (subSection == null) {
-                if (section instanceof ConfigurationSection) {
-                    section = ((ConfigurationSection) section).createSection(node);
-                } else {
-                    return null;
-                }
-            } else {
-                section = subSection;
+        for (int i = 0; i < last; i++) {
+            section = this.getOrCreateSection(section, compiled, i);
+            if (section == null) {
+                return null;
             }
         }
 
-        final String key = path.substring(i2);
+        final String key = compiled.node(last);
 
         if (section == this) {
             final ConfigurationSection result = new MemorySection(this, key);
-            this.map.put(key, result);
+            this.putChild(key, result);
             return result;
         }
         if (section instanceof ConfigurationSection) {
@@ -333,24 +402,242 @@ public class MemorySection implements ConfigurationSection {
         return null;
     }
 
-    private Object getObject(final Object section, final String node, final Object def) {
-        Matcher listIndex = StringUtils.LIST_INDEX.matcher(node);
+    /**
+     * Sets a direct child of this section, using the key as is instead of parsing it as a path.
+     * <p>
+     * This is meant for loaders that build sections from keys that are already split,
+     * as it avoids compiling a path for every key and the overrides of {@link #set(ConfigPath, Object)}.
+     * The key is never split, so keys with the path separator or a list index should be set with {@link #set(String, Object)}
+     * if they must be read as paths.
+     *
+     * @param key   Key of the child.
+     * @param value Value to set, or null to remove the child.
+     * @throws IllegalArgumentException Thrown if key is null or empty.
+     */
+    public void setChild(final String key, final Object value) {
+        Validate.notEmpty(key, "Key cannot be empty");
+        this.putChild(key, value);
+    }
+
+    /**
+     * Gets a direct child of this section, using the key as is instead of parsing it as a path.
+     * <p>
+     * Defaults are not used.
+     *
+     * @param key Key of the child.
+     * @return The child value or section, or null if this section has no child with that key.
+     * @see #setChild(String, Object)
+     */
+    public Object getChild(final String key) {
+        return this.map.get(key);
+    }
+
+    /**
+     * Gets the direct children of this section, with their keys as is, without copying them like {@link #getValues(boolean)}.
+     * <p>
+     * Defaults are not used.
+     *
+     * @return Unmodifiable view of the child values and sections of this section, in order.
+     * @see #getChild(String)
+     */
+    public Map<String, Object> getChildren() {
+        return Collections.unmodifiableMap(this.map);
+    }
+
+    /**
+     * Creates a direct child section of this section, using the key as is instead of parsing it as a path.
+     * <p>
+     * Any previous value of the key is replaced.
+     * The new section is sized to hold the expected number of children, so it does not grow while it is filled.
+     *
+     * @param key          Key of the child section.
+     * @param expectedSize Expected number of children of the new section.
+     * @return Newly created section.
+     * @throws IllegalArgumentException Thrown if key is null or empty.
+     * @see #setChild(String, Object)
+     */
+    public MemorySection createChildSection(final String key, final int expectedSize) {
+        Validate.notEmpty(key, "Key cannot be empty");
+
+        final MemorySection section = new MemorySection(this, key);
+        if (section.map instanceof SectionMap) {
+            ((SectionMap) section.map).ensureCapacity(expectedSize);
+        }
+
+        this.putChild(key, section);
+        return section;
+    }
+
+    /**
+     * Gets the compiled path of a path string, using the cache of the root {@link ConfigurationOptions}.
+     *
+     * @param path Path to compile.
+     * @return Compiled path.
+     * @throws IllegalStateException Thrown if this section has no root.
+     */
+    protected ConfigPath compilePath(final String path) {
+        final Configuration root = this.getRoot();
+        if (root == null) {
+            throw new IllegalStateException("Cannot access section without a root");
+        }
+        return root.options().compilePath(path);
+    }
+
+    /**
+     * Gets a compiled path that uses the path separator of the root {@link ConfigurationOptions}.
+     * <p>
+     * If the provided path was compiled with another separator then it is compiled again from its path string.
+     *
+     * @param path Compiled path.
+     * @return Compiled path with the current path separator.
+     * @throws IllegalStateException Thrown if this section has no root.
+     */
+    protected ConfigPath compilePath(final ConfigPath path) {
+        final Configuration root = this.getRoot();
+        if (root == null) {
+            throw new IllegalStateException("Cannot access section without a root");
+        }
+        final ConfigurationOptions options = root.options();
+        if (path.separator() == options.pathSeparator()) {
+            return path;
+        }
+        return options.compilePath(path.getPath());
+    }
+
+    /**
+     * Gets the full path index to use for lookups from this section.
+     *
+     * @return The path index of the root, or null if paths are not indexed or this is not the root section.
+     */
+    private ConfigPathIndex getPathIndex() {
+        final Configuration root = this.getRoot();
+        return root == this ? root.options().pathIndex() : null;
+    }
+
+    /**
+     * Gets the value stored at a path without list indexes, walking only through the child sections of this section.
+     * <p>
+     * Values found this way can be indexed, because they are updated only through {@link #putChild(String, Object)}.
+     *
+     * @param path Compiled path.
+     * @return The stored value or null if the path is not set or it is reached through other kind of values.
+     */
+    private Object getStored(final ConfigPath path) {
+        final int last = path.size() - 1;
+        MemorySection section = this;
+        for (int i = 0; i < last; i++) {
+            final String node = path.node(i);
+            if (node.isEmpty()) {
+                return null; // refers to the same section
+            }
+            final Object child = section.map.get(node);
+            if (!(child instanceof MemorySection)) {
+                return null;
+            }
+            final MemorySection childSection = (MemorySection) child;
+            if (childSection.parent != section || !childSection.path.equals(node)) {
+                return null; // section moved or shared with another path
+            }
+            section = childSection;
+        }
+        final String key = path.node(last);
+        return last > 0 && key.isEmpty() ? null : section.map.get(key);
+    }
+
+    /**
+     * Sets or removes a child of this section, updating the full path index of the root if any.
+     *
+     * @param key   Key of the child.
+     * @param value Value to set, or null to remove the child.
+     */
+    private void putChild(final String key, final Object value) {
+        final Object previous = value == null ? this.map.remove(key) : this.map.put(key, value);
+
+        final Configuration root = this.getRoot();
+        final ConfigPathIndex index = root == null ? null : root.options().pathIndex();
+
+        this.modified();
+
+        if (index != null) {
+            final char separator = root.options().pathSeparator();
+            unindex(index, indexPath(this, key, separator), previous, separator);
+        }
+    }
+
+    /**
+     * Increases the modification counter of the root configuration, if any.
+     */
+    void modified() {
+        if (this.isLoading()) {
+            return;
+        }
+        final Configuration root = this.getRoot();
+        if (root instanceof MemoryConfiguration) {
+            ((MemoryConfiguration) root).modified();
+        }
+    }
+
+    /**
+     * Checks if this section is being filled while a {@link LazyMemorySection} is loaded,
+     * so its changes are not modifications of the root configuration.
+     *
+     * @return true if this section or some parent section is loading its children
+     */
+    boolean isLoading() {
+        return this.parent instanceof MemorySection && ((MemorySection) this.parent).isLoading();
+    }
+
+    /**
+     * Checks if this section cannot be modified, so missing sections with defaults are read from the defaults
+     * instead of being created.
+     *
+     * @return true if the children of this section are frozen
+     */
+    private boolean isFrozen() {
+        return this.map instanceof SectionMap && ((SectionMap) this.map).isFrozen();
+    }
 
-        if (!listIndex.matches()) {
+    private static String indexPath(final ConfigurationSection section, final String key, final char separator) {
+        final ConfigurationSection parent = section.getParent();
+        if (parent == null) {
+            return key;
+        }
+        return indexPath(parent, section.getName(), separator) + separator + key;
+    }
+
+    private static void unindex(final ConfigPathIndex index, final String path, final Object previous, final char separator) {
+        index.remove(path);
+
+        if (previous instanceof LazyMemorySection && !((LazyMemorySection) previous).isLoaded()) {
+            return; // children of a section not loaded yet cannot be indexed
+        }
+
+        if (previous instanceof MemorySection) {
+            for (final Map.Entry<String, Object> entry : ((MemorySection) previous).map.entrySet()) {
+                unindex(index, path + separator + entry.getKey(), entry.getValue(), separator);
+            }
+        }
+    }
+
+    private Object getObject(final Object section, final ConfigPath path, final int i, final Object def) {
+        if (!path.isIndexed(i)) {
             // Not indexed
-            return this.getObjectRaw(section, node, def);
+            return this.getObjectRaw(section, path.node(i), def);
         }
 
         // Indexed
-        Object object = findIndexed(section, listIndex.group(1), Integer.parseInt(listIndex.group(2)));
+        Object object = findIndexed(section, path.key(i), path.index(i));
 
         return object != null ? object : def;
     }
 
     @SuppressWarnings("unchecked")
     private Object getObjectRaw(Object section, final String node, final Object def) {
-        if (section == this) {
-            section = this.map;
+        if (section instanceof MemorySection) {
+            if (section != this && node.isEmpty()) {
+                return section; // an empty node refers to the section itself
+            }
+            section = ((MemorySection) section).map;
         }
         if (section instanceof ConfigurationSection) {
             return ((ConfigurationSection) section).get(node, def);
@@ -365,16 +652,14 @@ public class MemorySection implements ConfigurationSection {
     }
 
     @SuppressWarnings("unchecked")
-    private <K, V> void setObject(final Object section, final K node, final V value) {
-        Matcher listIndex = StringUtils.LIST_INDEX.matcher((CharSequence) node);
-
-        if (!listIndex.matches()) {
+    private <K, V> void setObject(final Object section, final ConfigPath path, final int i, final V value) {
+        if (!path.isIndexed(i)) {
             // Not indexed
-            this.setObjectRaw(section, node, value);
+            this.setObjectRaw(section, path.node(i), value);
         } else {
             // Indexed
             Object it = null;
-            String iterableNode = listIndex.group(1);
+            String iterableNode = path.key(i);
 
             if (iterableNode != null && !iterableNode.isEmpty()) {
                 it = find(section, iterableNode);
@@ -387,7 +672,7 @@ public class MemorySection implements ConfigurationSection {
             }
 
             if (it != null) {
-                int index = Integer.parseInt(listIndex.group(2));
+                int index = path.index(i);
 
                 if (it instanceof Map) {
                     int len = ((Map<K, V>) it).size();
@@ -435,9 +720,8 @@ public class MemorySection implements ConfigurationSection {
     private <K, V> void setObjectRaw(Object section, final K key, final V value) {
         if (key != null) {
             if (section == this) {
-                section = this.map;
-            }
-            if (section instanceof ConfigurationSection) {
+                this.putChild(String.valueOf(key), value);
+            } else if (section instanceof ConfigurationSection) {
                 ((ConfigurationSection) section).set(String.valueOf(key), value);
             } else if (section instanceof Map) {
                 if (value == null) {
@@ -449,16 +733,29 @@ public class MemorySection implements ConfigurationSection {
         }
     }
 
-    private Object getSection(final Object parent, final String node) {
-        Matcher listIndex = StringUtils.LIST_INDEX.matcher(node);
+    private Object getOrCreateSection(final Object parent, final ConfigPath path, final int i) {
+        Object section = this.getSection(parent, path, i);
+        if (section != null || !(parent instanceof ConfigurationSection)) {
+            return section;
+        }
+        if (parent instanceof MemorySection && ((MemorySection) parent).map instanceof ConcurrentSectionMap) {
+            // check again while locked, so concurrent writes to the same missing section do not replace each other
+            synchronized (((MemorySection) parent).map) {
+                section = this.getSection(parent, path, i);
+                return section != null ? section : ((ConfigurationSection) parent).createSection(path.node(i));
+            }
+        }
+        return ((ConfigurationSection) parent).createSection(path.node(i));
+    }
 
-        if (!listIndex.matches()) {
+    private Object getSection(final Object parent, final ConfigPath path, final int i) {
+        if (!path.isIndexed(i)) {
             // Not indexed
-            return findSection(parent, node);
+            return findSection(parent, path.node(i));
         }
 
         // Indexed
-        final Object section = findIndexed(parent, listIndex.group(1), Integer.parseInt(listIndex.group(2)));
+        final Object section = findIndexed(parent, path.key(i), path.index(i));
 
         return isSection(section) ? section : null;
     }
@@ -468,15 +765,18 @@ public class MemorySection implements ConfigurationSection {
     }
 
     private static Object findSection(Object section, final String node) {
-        if (section instanceof ConfigurationSection) {
-            final ConfigurationSection configurationSection = (ConfigurationSection) section;
-            section = configurationSection.get(node, null);
-            if (section == null && configurationSection instanceof MemorySection) {
-                section = ((MemorySection) configurationSection).getDefault(node);
-                if (section instanceof ConfigurationSection) {
-                    section = configurationSection.createSection(node);
+        if (section instanceof MemorySection) {
+            final MemorySection memorySection = (MemorySection) section;
+            // an empty node refers to the section itself
+            section = node.isEmpty() ? memorySection : memorySection.map.get(node);
+            if (section == null) {
+                section = memorySection.getDefault(node);
+                if (section instanceof ConfigurationSection && !memorySection.isFrozen()) {
+                    section = memorySection.createSection(node);
                 }
             }
+        } else if (section instanceof ConfigurationSection) {
+            section = ((ConfigurationSection) section).get(node, null);
         } else if (section instanceof Map) {
             section = ((Map<?, ?>) section).get(node);
         }
@@ -485,12 +785,14 @@ public class MemorySection implements ConfigurationSection {
 
     private static Object find(final Object section, final String node) {
         Object it = null;
-        if (section instanceof ConfigurationSection) {
-            final ConfigurationSection configurationSection = (ConfigurationSection) section;
-            it = configurationSection.get(node, null);
-            if (it == null && configurationSection instanceof MemorySection) {
-                it = ((MemorySection) configurationSection).getDefault(node);
+        if (section instanceof MemorySection) {
+            final MemorySection memorySection = (MemorySection) section;
+            it = memorySection.map.get(node);
+            if (it == null) {
+                it = memorySection.getDefault(node);
             }
+        } else if (section instanceof ConfigurationSection) {
+            it = ((ConfigurationSection) section).get(node, null);
         } else if (section instanceof Map) {
             it = ((Map<?, ?>) section).get(node);
         }
@@ -594,66 +896,132 @@ public class MemorySection implements ConfigurationSection {
         return this.getString(path, def != null ? def.toString() : null);
     }
 
+    @Override
+    public String getString(final ConfigPath path) {
+        final Object def = this.getDefault(path);
+        return this.getString(path, def != null ? def.toString() : null);
+    }
+
     @Override
     public String getString(final String path, final String def) {
         final Object val = this.get(path, def);
         return val != null ? val.toString() : def;
     }
 
+    @Override
+    public String getString(final ConfigPath path, final String def) {
+        final Object val = this.get(path, def);
+        return val != null ? val.toString() : def;
+    }
+
     @Override
     public boolean isString(final String path) {
         final Object val = this.get(path);
         return val instanceof String;
     }
 
+    @Override
+    public boolean isString(final ConfigPath path) {
+        final Object val = this.get(path);
+        return val instanceof String;
+    }
+
     @Override
     public int getInt(final String path) {
         final Object def = this.getDefault(path);
         return this.getInt(path, def instanceof Number ? NumberConversions.toInt(def) : 0);
     }
 
+    @Override
+    public int getInt(final ConfigPath path) {
+        final Object def = this.getDefault(path);
+        return this.getInt(path, def instanceof Number ? NumberConversions.toInt(def) : 0);
+    }
+
     @Override
     public int getInt(final String path, final int def) {
         final Object val = this.get(path, def);
         return val instanceof Number ? NumberConversions.toInt(val) : def;
     }
 
+    @Override
+    public int getInt(final ConfigPath path, final int def) {
+        final Object val = this.get(path, def);
+        return val instanceof Number ? NumberConversions.toInt(val) : def;
+    }
+
     @Override
     public boolean isInt(final String path) {
         final Object val = this.get(path);
         return val instanceof Integer;
     }
 
+    @Override
+    public boolean isInt(final ConfigPath path) {
+        final Object val = this.get(path);
+        return val instanceof Integer;
+    }
+
     @Override
     public boolean getBoolean(final String path) {
         final Object def = this.getDefault(path);
         return this.getBoolean(path, def instanceof Boolean ? (Boolean) def : false);
     }
 
+    @Override
+    public boolean getBoolean(final ConfigPath path) {
+        final Object def = this.getDefault(path);
+        return this.getBoolean(path, def instanceof Boolean ? (Boolean) def : false);
+    }
+
     @Override
     public boolean getBoolean(final String path, final boolean def) {
         final Object val = this.get(path, def);
         return val instanceof Boolean ? (Boolean) val : def;
     }
 
+    @Override
+    public boolean getBoolean(final ConfigPath path, final boolean def) {
+        final Object val = this.get(path, def);
+        return val instanceof Boolean ? (Boolean) val : def;
+    }
+
     @Override
     public boolean isBoolean(final String path) {
         final Object val = this.get(path);
         return val instanceof Boolean;
     }
 
+    @Override
+    public boolean isBoolean(final ConfigPath path) {
+        final Object val = this.get(path);
+        return val instanceof Boolean;
+    }
+
     @Override
     public byte getByte(final String path) {
         final Object def = this.getDefault(path);
         return this.getByte(path, def instanceof Number ? NumberConversions.toByte(def) : 0);
     }
 
+    @Override
+    public byte getByte(final ConfigPath path) {
+        final Object def = this.getDefault(path);
+        return this.getByte(path, def instanceof Number ? NumberConversions.toByte(def) : 0);
+    }
+
     @Override
     public byte getByte(final String path, final byte def) {
         final Object val = this.get(path, def);
         return val instanceof Number ? NumberConversions.toByte(val) : def;
     }
 
+    @Override
+    public byte getByte(final ConfigPath path, final byte def) {
+        final Object val = this.get(path, def);
+        return val instanceof Number ? NumberConversions.toByte(val) : def;
+    }
+
     @Override
     public boolean isByte(final String path) {
         final Object val = this.get(path);
@@ -661,7 +1029,19 @@ public class MemorySection implements ConfigurationSection {
     }
 
     @Override
-    public char getCharacter(final String path) {
+    public boolean isByte(final ConfigPath path) {
+        final Object val = this.get(path);
+        return val instanceof Byte;
+    }
+
+    @Override
+    public char getCharacter(final String path) {
+        final Object def = this.getDefault(path);
+        return this.getCharacter(path, def instanceof Character ? (Character) def : '\0');
+    }
+
+    @Override
+    public char getCharacter(final ConfigPath path) {
         final Object def = this.getDefault(path);
         return this.getCharacter(path, def instanceof Character ? (Character) def : '\0');
     }
@@ -672,84 +1052,168 @@ public class MemorySection implements ConfigurationSection {
         return CharacterConversions.canBeChar(val) ? CharacterConversions.toChar(val) : def;
     }
 
+    @Override
+    public char getCharacter(final ConfigPath path, final char def) {
+        final Object val = this.get(path, def);
+        return CharacterConversions.canBeChar(val) ? CharacterConversions.toChar(val) : def;
+    }
+
     @Override
     public boolean isCharacter(final String path) {
         final Object val = this.get(path);
         return val instanceof Character;
     }
 
+    @Override
+    public boolean isCharacter(final ConfigPath path) {
+        final Object val = this.get(path);
+        return val instanceof Character;
+    }
+
     @Override
     public double getDouble(final String path) {
         final Object def = this.getDefault(path);
         return this.getDouble(path, def instanceof Number ? NumberConversions.toDouble(def) : 0);
     }
 
+    @Override
+    public double getDouble(final ConfigPath path) {
+        final Object def = this.getDefault(path);
+        return this.getDouble(path, def instanceof Number ? NumberConversions.toDouble(def) : 0);
+    }
+
     @Override
     public double getDouble(final String path, final double def) {
         final Object val = this.get(path, def);
         return val instanceof Number ? NumberConversions.toDouble(val) : def;
     }
 
+    @Override
+    public double getDouble(final ConfigPath path, final double def) {
+        final Object val = this.get(path, def);
+        return val instanceof Number ? NumberConversions.toDouble(val) : def;
+    }
+
     @Override
     public boolean isDouble(final String path) {
         final Object val = this.get(path);
         return val instanceof Double;
     }
 
+    @Override
+    public boolean isDouble(final ConfigPath path) {
+        final Object val = this.get(path);
+        return val instanceof Double;
+    }
+
     @Override
     public float getFloat(final String path) {
         final Object def = this.getDefault(path);
         return this.getFloat(path, def instanceof Number ? NumberConversions.toFloat(def) : 0);
     }
 
+    @Override
+    public float getFloat(final ConfigPath path) {
+        final Object def = this.getDefault(path);
+        return this.getFloat(path, def instanceof Number ? NumberConversions.toFloat(def) : 0);
+    }
+
     @Override
     public float getFloat(final String path, final float def) {
         final Object val = this.get(path, def);
         return val instanceof Number ? NumberConversions.toFloat(val) : def;
     }
 
+    @Override
+    public float getFloat(final ConfigPath path, final float def) {
+        final Object val = this.get(path, def);
+        return val instanceof Number ? NumberConversions.toFloat(val) : def;
+    }
+
     @Override
     public boolean isFloat(final String path) {
         final Object val = this.get(path);
         return val instanceof Float;
     }
 
+    @Override
+    public boolean isFloat(final ConfigPath path) {
+        final Object val = this.get(path);
+        return val instanceof Float;
+    }
+
     @Override
     public long getLong(final String path) {
         final Object def = this.getDefault(path);
         return this.getLong(path, def instanceof Number ? NumberConversions.toLong(def) : 0);
     }
 
+    @Override
+    public long getLong(final ConfigPath path) {
+        final Object def = this.getDefault(path);
+        return this.getLong(path, def instanceof Number ? NumberConversions.toLong(def) : 0);
+    }
+
     @Override
     public long getLong(final String path, final long def) {
         final Object val = this.get(path, def);
         return val instanceof Number ? NumberConversions.toLong(val) : def;
     }
 
+    @Override
+    public long getLong(final ConfigPath path, final long def) {
+        final Object val = this.get(path, def);
+        return val instanceof Number ? NumberConversions.toLong(val) : def;
+    }
+
     @Override
     public boolean isLong(final String path) {
         final Object val = this.get(path);
         return val instanceof Long;
     }
 
+    @Override
+    public boolean isLong(final ConfigPath path) {
+        final Object val = this.get(path);
+        return val instanceof Long;
+    }
+
     @Override
     public short getShort(final String path) {
         final Object def = this.getDefault(path);
         return this.getShort(path, def instanceof Number ? NumberConversions.toShort(def) : 0);
     }
 
+    @Override
+    public short getShort(final ConfigPath path) {
+        final Object def = this.getDefault(path);
+        return this.getShort(path, def instanceof Number ? NumberConversions.toShort(def) : 0);
+    }
+
     @Override
     public short getShort(final String path, final short def) {
         final Object val = this.get(path, def);
         return val instanceof Number ? NumberConversions.toShort(val) : def;
     }
 
+    @Override
+    public short getShort(final ConfigPath path, final short def) {
+        final Object val = this.get(path, def);
+        return val instanceof Number ? NumberConversions.toShort(val) : def;
+    }
+
     @Override
     public boolean isShort(final String path) {
         final Object val = this.get(path);
         return val instanceof Short;
     }
 
+    @Override
+    public boolean isShort(final ConfigPath path) {
+        final Object val = this.get(path);
+        return val instanceof Short;
+    }
+
     // Java
     @Override
     public List<?> getList(final String path) {
@@ -757,16 +1221,272 @@ public class MemorySection implements ConfigurationSection {
         return this.getList(path, def instanceof List ? (List<?>) def : null);
     }
 
+    @Override
+    public List<?> getList(final ConfigPath path) {
+        final Object def = this.getDefault(path);
+        return this.getList(path, def instanceof List ? (List<?>) def : null);
+    }
+
     @Override
     public boolean isList(final String path) {
         final Object val = this.get(path);
         return val instanceof List;
     }
 
+    @Override
+    public boolean isList(final ConfigPath path) {
+        final Object val = this.get(path);
+        return val instanceof List;
+    }
+
     @Override
     public List<String> getStringList(final String path) {
-        final List<?> list = this.getList(path);
+        return this.toStringList(this.getList(path));
+    }
+
+    @Override
+    public List<String> getStringList(final ConfigPath path) {
+        return this.toStringList(this.getList(path));
+    }
+
+    @Override
+    public List<Integer> getIntegerList(final String path) {
+        return this.toIntegerList(this.getList(path));
+    }
+
+    @Override
+    public List<Integer> getIntegerList(final ConfigPath path) {
+        return this.toIntegerList(this.getList(path));
+    }
+
+    @Override
+    public List<Boolean> getBooleanList(final String path) {
+        return this.toBooleanList(this.getList(path));
+    }
+
+    @Override
+    public List<Boolean> getBooleanList(final ConfigPath path) {
+        return this.toBooleanList(this.getList(path));
+    }
 
+    @Override
+    public List<Double> getDoubleList(final String path) {
+        return this.toDoubleList(this.getList(path));
+    }
+
+    @Override
+    public List<Double> getDoubleList(final ConfigPath path) {
+        return this.toDoubleList(this.getList(path));
+    }
+
+    @Override
+    public List<Float> getFloatList(final String path) {
+        return this.toFloatList(this.getList(path));
+    }
+
+    @Override
+    public List<Float> getFloatList(final ConfigPath path) {
+        return this.toFloatList(this.getList(path));
+    }
+
+    @Override
+    public List<Long> getLongList(final String path) {
+        return this.toLongList(this.getList(path));
+    }
+
+    @Override
+    public List<Long> getLongList(final ConfigPath path) {
+        return this.toLongList(this.getList(path));
+    }
+
+    @Override
+    public List<Byte> getByteList(final String path) {
+        return this.toByteList(this.getList(path));
+    }
+
+    @Override
+    public List<Byte> getByteList(final ConfigPath path) {
+        return this.toByteList(this.getList(path));
+    }
+
+    @Override
+    public List<Character> getCharacterList(final String path) {
+        return this.toCharacterList(this.getList(path));
+    }
+
+    @Override
+    public List<Character> getCharacterList(final ConfigPath path) {
+        return this.toCharacterList(this.getList(path));
+    }
+
+    @Override
+    public List<Short> getShortList(final String path) {
+        return this.toShortList(this.getList(path));
+    }
+
+    @Override
+    public List<Short> getShortList(final ConfigPath path) {
+        return this.toShortList(this.getList(path));
+    }
+
+    @Override
+    public int[] getIntArray(final String path) {
+        return this.toIntArray(this.getList(path));
+    }
+
+    @Override
+    public int[] getIntArray(final ConfigPath path) {
+        return this.toIntArray(this.getList(path));
+    }
+
+    @Override
+    public long[] getLongArray(final String path) {
+        return this.toLongArray(this.getList(path));
+    }
+
+    @Override
+    public long[] getLongArray(final ConfigPath path) {
+        return this.toLongArray(this.getList(path));
+    }
+
+    @Override
+    public double[] getDoubleArray(final String path) {
+        return this.toDoubleArray(this.getList(path));
+    }
+
+    @Override
+    public double[] getDoubleArray(final ConfigPath path) {
+        return this.toDoubleArray(this.getList(path));
+    }
+
+    @Override
+    public List<Map<?, ?>> getMapList(final String path) {
+        return this.toMapList(this.getList(path));
+    }
+
+    @Override
+    public List<Map<?, ?>> getMapList(final ConfigPath path) {
+        return this.toMapList(this.getList(path));
+    }
+
+    @Override
+    public ConfigurationSection getConfigurationSection(final String path) {
+        Object val = this.get(path, null);
+        if (val != null) {
+            return val instanceof ConfigurationSection ? (ConfigurationSection) val : null;
+        }
+
+        val = this.get(path, this.getDefault(path));
+        if (val instanceof ConfigurationSection) {
+            return this.isFrozen() ? (ConfigurationSection) val : this.createSection(path);
+        }
+        return null;
+    }
+
+    @Override
+    public ConfigurationSection getConfigurationSection(final ConfigPath path) {
+        Object val = this.get(path, null);
+        if (val != null) {
+            return val instanceof ConfigurationSection ? (ConfigurationSection) val : null;
+        }
+
+        val = this.get(path, this.getDefault(path));
+        if (val instanceof ConfigurationSection) {
+            return this.isFrozen() ? (ConfigurationSection) val : this.createSection(path);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isConfigurationSection(final String path) {
+        final Object val = this.get(path);
+        return val instanceof ConfigurationSection;
+    }
+
+    @Override
+    public boolean isConfigurationSection(final ConfigPath path) {
+        final Object val = this.get(path);
+        return val instanceof ConfigurationSection;
+    }
+
+    @Override
+    public ConfigurationSection getDefaultSection() {
+        final Configuration root = this.getRoot();
+        final Configuration defaults = root == null ? null : root.getDefaults();
+
+        if (defaults != null) {
+            if (defaults.isConfigurationSection(this.getCurrentPath())) {
+                return defaults.getConfigurationSection(this.getCurrentPath());
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public void addDefault(final String path, final Object value) {
+        Validate.notNull(path, "Path cannot be null");
+
+        final Configuration root = this.getRoot();
+        if (root == null) {
+            throw new IllegalStateException("Cannot add default without root");
+        }
+        if (root == this) {
+            throw new UnsupportedOperationException("Unsupported addDefault(String, Object) implementation");
+        }
+        root.addDefault(MemorySection.createPath(this, path), value);
+    }
+
+    @Override
+    public void addDefault(final ConfigPath path, final Object value) {
+        Validate.notNull(path, "Path cannot be null");
+        this.addDefault(path.getPath(), value);
+    }
+
+    public ConfigurationSection createSection(final String path, final Map<?, ?> map) {
+        return this.fillSection(this.createSection(path), map);
+    }
+
+    @Override
+    public ConfigurationSection createSection(final ConfigPath path, final Map<?, ?> map) {
+        return this.fillSection(this.createSection(path), map);
+    }
+
+    private ConfigurationSection fillSection(final ConfigurationSection section, final Map<?, ?> map) {
+        for (final Map.Entry<?, ?> entry : map.entrySet()) {
+            if (entry.getValue() instanceof Map) {
+                section.createSection(entry.getKey().toString(), (Map<?, ?>) entry.getValue());
+            } else {
+                section.set(entry.getKey().toString(), entry.getValue());
+            }
+        }
+
+        return section;
+    }
+
+    public List<?> getList(final String path, final List<?> def) {
+        final Object val = this.get(path, def);
+        return (List<?>) (val instanceof List ? val : def);
+    }
+
+    @Override
+    public List<?> getList(final ConfigPath path, final List<?> def) {
+        final Object val = this.get(path, def);
+        return (List<?>) (val instanceof List ? val : def);
+    }
+
+    @Override
+    public String toString() {
+        final Configuration root = this.getRoot();
+        return this.getClass().getSimpleName() +
+                "[path='" +
+                this.getCurrentPath() +
+                "', root='" +
+                (root == null ? null : root.getClass().getSimpleName()) +
+                "']";
+    }
+
+    private List<String> toStringList(final List<?> list) {
         if (list == null) {
             return new ArrayList<>(0);
         }
@@ -782,10 +1502,7 @@ public class MemorySection implements ConfigurationSection {
         return result;
     }
 
-    @Override
-    public List<Integer> getIntegerList(final String path) {
-        final List<?> list = this.getList(path);
-
+    private List<Integer> toIntegerList(final List<?> list) {
         if (list == null) {
             return new ArrayList<>(0);
         }
@@ -810,10 +1527,7 @@ public class MemorySection implements ConfigurationSection {
         return result;
     }
 
-    @Override
-    public List<Boolean> getBooleanList(final String path) {
-        final List<?> list = this.getList(path);
-
+    private List<Boolean> toBooleanList(final List<?> list) {
         if (list == null) {
             return new ArrayList<>(0);
         }
@@ -835,10 +1549,7 @@ public class MemorySection implements ConfigurationSection {
         return result;
     }
 
-    @Override
-    public List<Double> getDoubleList(final String path) {
-        final List<?> list = this.getList(path);
-
+    private List<Double> toDoubleList(final List<?> list) {
         if (list == null) {
             return new ArrayList<>(0);
         }
@@ -863,10 +1574,7 @@ public class MemorySection implements ConfigurationSection {
         return result;
     }
 
-    @Override
-    public List<Float> getFloatList(final String path) {
-        final List<?> list = this.getList(path);
-
+    private List<Float> toFloatList(final List<?> list) {
         if (list == null) {
             return new ArrayList<>(0);
         }
@@ -891,10 +1599,7 @@ public class MemorySection implements ConfigurationSection {
         return result;
     }
 
-    @Override
-    public List<Long> getLongList(final String path) {
-        final List<?> list = this.getList(path);
-
+    private List<Long> toLongList(final List<?> list) {
         if (list == null) {
             return new ArrayList<>(0);
         }
@@ -919,10 +1624,7 @@ public class MemorySection implements ConfigurationSection {
         return result;
     }
 
-    @Override
-    public List<Byte> getByteList(final String path) {
-        final List<?> list = this.getList(path);
-
+    private List<Byte> toByteList(final List<?> list) {
         if (list == null) {
             return new ArrayList<>(0);
         }
@@ -947,10 +1649,7 @@ public class MemorySection implements ConfigurationSection {
         return result;
     }
 
-    @Override
-    public List<Character> getCharacterList(final String path) {
-        final List<?> list = this.getList(path);
-
+    private List<Character> toCharacterList(final List<?> list) {
         if (list == null) {
             return new ArrayList<>(0);
         }
@@ -974,10 +1673,7 @@ public class MemorySection implements ConfigurationSection {
         return result;
     }
 
-    @Override
-    public List<Short> getShortList(final String path) {
-        final List<?> list = this.getList(path);
-
+    private List<Short> toShortList(final List<?> list) {
         if (list == null) {
             return new ArrayList<>(0);
         }
@@ -1002,97 +1698,116 @@ public class MemorySection implements ConfigurationSection {
         return result;
     }
 
-    @Override
-    public List<Map<?, ?>> getMapList(final String path) {
-        final List<?> list = this.getList(path);
-        final List<Map<?, ?>> result = new ArrayList<>();
-
+    private int[] toIntArray(final List<?> list) {
         if (list == null) {
-            return result;
+            return new int[0];
+        }
+
+        if (list instanceof PrimitiveList.OfInt && ((PrimitiveList) list).isPrimitive()) {
+            return ((PrimitiveList.OfInt) list).toIntArray();
         }
 
+        // same conversions as toIntegerList
+        final int[] result = new int[list.size()];
+        int size = 0;
+
         for (final Object object : list) {
-            if (object instanceof Map) {
-                result.add((Map<?, ?>) object);
+            if (object instanceof Integer) {
+                result[size++] = (Integer) object;
+            } else if (object instanceof String) {
+                try {
+                    result[size] = Integer.parseInt((String) object);
+                    size++;
+                } catch (final Exception ignored) {
+                }
+            } else if (object instanceof Character) {
+                result[size++] = (Character) object;
+            } else if (object instanceof Number) {
+                result[size++] = ((Number) object).intValue();
             }
         }
 
-        return result;
+        return size == result.length ? result : Arrays.copyOf(result, size);
     }
 
-    @Override
-    public ConfigurationSection getConfigurationSection(final String path) {
-        Object val = this.get(path, null);
-        if (val != null) {
-            return val instanceof ConfigurationSection ? (ConfigurationSection) val : null;
+    private long[] toLongArray(final List<?> list) {
+        if (list == null) {
+            return new long[0];
         }
 
-        val = this.get(path, this.getDefault(path));
-        return val instanceof ConfigurationSection ? this.createSection(path) : null;
-    }
-
-    @Override
-    public boolean isConfigurationSection(final String path) {
-        final Object val = this.get(path);
-        return val instanceof ConfigurationSection;
-    }
+        if (list instanceof PrimitiveList.OfLong && ((PrimitiveList) list).isPrimitive()) {
+            return ((PrimitiveList.OfLong) list).toLongArray();
+        }
 
-    @Override
-    public ConfigurationSection getDefaultSection() {
-        final Configuration root = this.getRoot();
-        final Configuration defaults = root == null ? null : root.getDefaults();
+        // same conversions as toLongList
+        final long[] result = new long[list.size()];
+        int size = 0;
 
-        if (defaults != null) {
-            if (defaults.isConfigurationSection(this.getCurrentPath())) {
-                return defaults.getConfigurationSection(this.getCurrentPath());
+        for (final Object object : list) {
+            if (object instanceof Long) {
+                result[size++] = (Long) object;
+            } else if (object instanceof String) {
+                try {
+                    result[size] = Long.parseLong((String) object);
+                    size++;
+                } catch (final Exception ignored) {
+                }
+            } else if (object instanceof Character) {
+                result[size++] = (Character) object;
+            } else if (object instanceof Number) {
+                result[size++] = ((Number) object).longValue();
             }
         }
 
-        return null;
+        return size == result.length ? result : Arrays.copyOf(result, size);
     }
 
-    @Override
-    public void addDefault(final String path, final Object value) {
-        Validate.notNull(path, "Path cannot be null");
-
-        final Configuration root = this.getRoot();
-        if (root == null) {
-            throw new IllegalStateException("Cannot add default without root");
+    private double[] toDoubleArray(final List<?> list) {
+        if (list == null) {
+            return new double[0];
         }
-        if (root == this) {
-            throw new UnsupportedOperationException("Unsupported addDefault(String, Object) implementation");
+
+        if (list instanceof PrimitiveList.OfDouble && ((PrimitiveList) list).isPrimitive()) {
+            return ((PrimitiveList.OfDouble) list).toDoubleArray();
         }
-        root.addDefault(MemorySection.createPath(this, path), value);
-    }
 
-    public ConfigurationSection createSection(final String path, final Map<?, ?> map) {
-        final ConfigurationSection section = this.createSection(path);
+        // same conversions as toDoubleList
+        final double[] result = new double[list.size()];
+        int size = 0;
 
-        for (final Map.Entry<?, ?> entry : map.entrySet()) {
-            if (entry.getValue() instanceof Map) {
-                section.createSection(entry.getKey().toString(), (Map<?, ?>) entry.getValue());
-            } else {
-                section.set(entry.getKey().toString(), entry.getValue());
+        for (final Object object : list) {
+            if (object instanceof Double) {
+                result[size++] = (Double) object;
+            } else if (object instanceof String) {
+                try {
+                    result[size] = Double.parseDouble((String) object);
+                    size++;
+                } catch (final Exception ignored) {
+                }
+            } else if (object instanceof Character) {
+                result[size++] = (Character) object;
+            } else if (object instanceof Number) {
+                result[size++] = ((Number) object).doubleValue();
             }
         }
 
-        return section;
+        return size == result.length ? result : Arrays.copyOf(result, size);
     }
 
-    public List<?> getList(final String path, final List<?> def) {
-        final Object val = this.get(path, def);
-        return (List<?>) (val instanceof List ? val : def);
-    }
+    private List<Map<?, ?>> toMapList(final List<?> list) {
+        final List<Map<?, ?>> result = new ArrayList<>();
 
-    @Override
-    public String toString() {
-        final Configuration root = this.getRoot();
-        return this.getClass().getSimpleName() +
-                "[path='" +
-                this.getCurrentPath() +
-                "', root='" +
-                (root == null ? null : root.getClass().getSimpleName()) +
-                "']";
+        if (list == null) {
+            return result;
+        }
+
+        for (final Object object : list) {
+            if (object instanceof Map) {
+                result.add((Map<?, ?>) object);
+            }
+        }
+
+        return result;
     }
 
     protected boolean isPrimitiveWrapper(final Object input) {
@@ -1110,8 +1825,15 @@ public class MemorySection implements ConfigurationSection {
         return defaults == null ? null : defaults.get(MemorySection.createPath(this, path));
     }
 
+    protected Object getDefault(final ConfigPath path) {
+        Validate.notNull(path, "Path cannot be null");
+        return this.getDefault(path.getPath());
+    }
+
     protected void mapChildrenKeys(final Set<String> output, final ConfigurationSection section, final boolean deep) {
-        if (section instanceof MemorySection) {
+        if (section == this) {
+            this.mapChildrenKeys(output, this, new StringBuilder(), deep, this.getRoot().options().pathSeparator());
+        } else if (section instanceof MemorySection) {
             final MemorySection sec = (MemorySection) section;
 
             for (final Map.Entry<String, Object> entry : sec.map.entrySet()) {
@@ -1132,7 +1854,9 @@ public class MemorySection implements ConfigurationSection {
     }
 
     protected void mapChildrenValues(final Map<String, Object> output, final ConfigurationSection section, final boolean deep) {
-        if (section instanceof MemorySection) {
+        if (section == this) {
+            this.mapChildrenValues(output, this, new StringBuilder(), deep, this.getRoot().options().pathSeparator());
+        } else if (section instanceof MemorySection) {
             final MemorySection sec = (MemorySection) section;
 
             for (final Map.Entry<String, Object> entry : sec.map.entrySet()) {
@@ -1151,4 +1875,81 @@ public class MemorySection implements ConfigurationSection {
         }
     }
 
+    /**
+     * Maps the keys of a section descending from this one, reusing the path buffer of its parents,
+     * so that paths are built in linear time instead of climbing to this section for every key.
+     *
+     * @param output    Set of keys to add to.
+     * @param section   Section to map, this or a descendant.
+     * @param path      Path of the section relative to this section, restored when the method returns.
+     * @param deep      Whether to map the keys of the child sections.
+     * @param separator Path separator.
+     */
+    private void mapChildrenKeys(final Set<String> output, final MemorySection section, final StringBuilder path, final boolean deep, final char separator) {
+        final int length = path.length();
+
+        for (final Map.Entry<String, Object> entry : section.map.entrySet()) {
+            appendKey(path, entry.getKey(), separator);
+            output.add(path.toString());
+
+            if (deep && entry.getValue() instanceof ConfigurationSection) {
+                final ConfigurationSection subsection = (ConfigurationSection) entry.getValue();
+                if (isChild(section, entry.getKey(), subsection)) {
+                    this.mapChildrenKeys(output, (MemorySection) subsection, path, true, separator);
+                } else {
+                    this.mapChildrenKeys(output, subsection, true);
+                }
+            }
+
+            path.setLength(length);
+        }
+    }
+
+    /**
+     * Maps the values of a section descending from this one, reusing the path buffer of its parents.
+     *
+     * @param output    Map of values to add to.
+     * @param section   Section to map, this or a descendant.
+     * @param path      Path of the section relative to this section, restored when the method returns.
+     * @param deep      Whether to map the values of the child sections.
+     * @param separator Path separator.
+     * @see #mapChildrenKeys(Set, MemorySection, StringBuilder, boolean, char)
+     */
+    private void mapChildrenValues(final Map<String, Object> output, final MemorySection section, final StringBuilder path, final boolean deep, final char separator) {
+        final int length = path.length();
+
+        for (final Map.Entry<String, Object> entry : section.map.entrySet()) {
+            appendKey(path, entry.getKey(), separator);
+            output.put(path.toString(), entry.getValue());
+
+            if (deep && entry.getValue() instanceof ConfigurationSection) {
+                final ConfigurationSection subsection = (ConfigurationSection) entry.getValue();
+                if (isChild(section, entry.getKey(), subsection)) {
+                    this.mapChildrenValues(output, (MemorySection) subsection, path, true, separator);
+                } else {
+                    this.mapChildrenValues(output, subsection, true);
+                }
+            }
+
+            path.setLength(length);
+        }
+    }
+
+    private static void appendKey(final StringBuilder path, final String key, final char separator) {
+        // same as createPath
+        if (key != null && key.length() > 0) {
+            if (path.length() > 0) {
+                path.append(separator);
+            }
+            path.append(key);
+        }
+    }
+
+    /**
+     * Checks if a section is the child stored in its parent with its own name,
+     * so its path is the path of the parent followed by the key.
+     */
+    private static boolean isChild(final MemorySection parent, final String key, final ConfigurationSection section) {
+        return section instanceof MemorySection && section.getParent() == parent && !key.isEmpty() && key.equals(section.getName());
+    }
 }
@@ -0,0 +1,356 @@
+package org.simpleyaml.configuration;
+
+import org.simpleyaml.utils.StringUtils;
+import org.simpleyaml.utils.Validate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A filter of the paths of a configuration, to load only some of its subtrees.
+ * <p>
+ * A filter has include and exclude patterns. A path is included if it is not excluded and there are no include patterns
+ * or some include pattern matches it. A pattern matches a path if it matches the path or any of its parent paths,
+ * so including <code>server</code> includes <code>server.port</code> too.
+ * <p>
+ * Patterns are paths whose nodes may use the wildcards <code>*</code> for any characters of a key
+ * and <code>?</code> for a single character of a key, or a <code>**</code> node for any number of keys:
+ * <pre>{@code
+ * PathFilter.include("server", "services.*.port").andExclude("**.password")
+ * }</pre>
+ * Patterns are split with the {@link ConfigPath#DEFAULT_SEPARATOR default separator} unless another one is {@link #separator(char) set}.
+ * Escaped separators (like <code>a\.b</code>) are not split.
+ * List indexes are not supported, lists are included or excluded as a whole.
+ * <p>
+ * Filters are immutable, every method returns a new filter.
+ */
+public final class PathFilter {
+
+    private static final String ANY_KEYS = "**";
+
+    /**
+     * A filter that includes every path.
+     */
+    public static final PathFilter ALL = new PathFilter(Collections.emptyList(), Collections.emptyList(), ConfigPath.DEFAULT_SEPARATOR);
+
+    private final List<String> includes;
+
+    private final List<String> excludes;
+
+    private final char separator;
+
+    private final String[][] includeNodes;
+
+    private final String[][] excludeNodes;
+
+    private PathFilter(final List<String> includes, final List<String> excludes, final char separator) {
+        this.includes = Collections.unmodifiableList(includes);
+        this.excludes = Collections.unmodifiableList(excludes);
+        this.separator = separator;
+        this.includeNodes = split(includes, separator);
+        this.excludeNodes = split(excludes, separator);
+    }
+
+    /**
+     * Creates a filter that includes only the paths matching some pattern.
+     *
+     * @param patterns the patterns of the paths to include
+     * @return a new filter
+     * @throws IllegalArgumentException if some pattern is null or empty
+     */
+    public static PathFilter include(final String... patterns) {
+        return ALL.andInclude(patterns);
+    }
+
+    /**
+     * Creates a filter that includes every path but the ones matching some pattern.
+     *
+     * @param patterns the patterns of the paths to exclude
+     * @return a new filter
+     * @throws IllegalArgumentException if some pattern is null or empty
+     */
+    public static PathFilter exclude(final String... patterns) {
+        return ALL.andExclude(patterns);
+    }
+
+    /**
+     * Creates a filter that includes the paths matching some pattern of this filter or the provided ones.
+     *
+     * @param patterns the patterns of the paths to include
+     * @return a new filter
+     * @throws IllegalArgumentException if some pattern is null or empty
+     */
+    public PathFilter andInclude(final String... patterns) {
+        return new PathFilter(concat(this.includes, patterns), this.excludes, this.separator);
+    }
+
+    /**
+     * Creates a filter that also excludes the paths matching some of the provided patterns.
+     *
+     * @param patterns the patterns of the paths to exclude
+     * @return a new filter
+     * @throws IllegalArgumentException if some pattern is null or empty
+     */
+    public PathFilter andExclude(final String... patterns) {
+        return new PathFilter(this.includes, concat(this.excludes, patterns), this.separator);
+    }
+
+    /**
+     * Creates a filter with the same patterns split with another path separator.
+     *
+     * @param separator the path separator, see {@link ConfigurationOptions#pathSeparator()}
+     * @return a new filter
+     */
+    public PathFilter separator(final char separator) {
+        return new PathFilter(this.includes, this.excludes, separator);
+    }
+
+    /**
+     * Gets the path separator of the patterns.
+     *
+     * @return the path separator
+     */
+    public char separator() {
+        return this.separator;
+    }
+
+    /**
+     * Gets the patterns of the paths to include.
+     *
+     * @return the include patterns, empty if every path not excluded is included
+     */
+    public List<String> getIncludes() {
+        return this.includes;
+    }
+
+    /**
+     * Gets the patterns of the paths to exclude.
+     *
+     * @return the exclude patterns
+     */
+    public List<String> getExcludes() {
+        return this.excludes;
+    }
+
+    /**
+     * Checks if a path is included by this filter.
+     *
+     * @param path the path, using the {@link #separator() separator} of this filter
+     * @return true if the path is included
+     */
+    public boolean matches(final String path) {
+        return this.includes(split(path, this.separator));
+    }
+
+    /**
+     * Checks if a path is included by this filter.
+     *
+     * @param keys the keys of the path
+     * @return true if the path is included
+     */
+    public boolean includes(final List<String> keys) {
+        return !matchesPrefix(this.excludeNodes, keys) && (this.includeNodes.length == 0 || matchesPrefix(this.includeNodes, keys));
+    }
+
+    /**
+     * Checks if a path and every path below it are included by this filter,
+     * so the values of the path do not need to be filtered.
+     *
+     * @param keys the keys of the path
+     * @return true if the path is included with every path below it
+     */
+    public boolean includesAll(final List<String> keys) {
+        return this.includes(keys) && !matchesBelow(this.excludeNodes, keys);
+    }
+
+    /**
+     * Checks if a path or some path below it may be included by this filter,
+     * so the values of the path need to be filtered instead of being skipped.
+     *
+     * @param keys the keys of the path
+     * @return true if the path or some path below it may be included
+     */
+    public boolean includesBelow(final List<String> keys) {
+        return this.includes(keys) || !matchesPrefix(this.excludeNodes, keys) && matchesBelow(this.includeNodes, keys);
+    }
+
+    /**
+     * Removes the values of a section that are not included by this filter.
+     * <p>
+     * The paths of the values are relative to the section.
+     *
+     * @param section the section to filter
+     */
+    public void filter(final ConfigurationSection section) {
+        if (!this.includesAll(Collections.emptyList())) {
+            this.filter(section, new ArrayList<>());
+        }
+    }
+
+    private void filter(final ConfigurationSection section, final List<String> keys) {
+        for (final String key : new ArrayList<>(section.getKeys(false))) {
+            keys.add(key);
+
+            final Object value = section instanceof MemorySection ? ((MemorySection) section).getChild(key) : section.get(escape(section, key));
+
+            if (!this.includesBelow(keys)) {
+                remove(section, key);
+            } else if (!this.includesAll(keys)) {
+                if (value instanceof ConfigurationSection) {
+                    this.filter((ConfigurationSection) value, keys);
+                } else if (!this.includes(keys)) {
+                    remove(section, key);
+                }
+            }
+
+            keys.remove(keys.size() - 1);
+        }
+    }
+
+    private static void remove(final ConfigurationSection section, final String key) {
+        if (section instanceof MemorySection) {
+            ((MemorySection) section).setChild(key, null);
+        } else {
+            section.set(escape(section, key), null);
+        }
+    }
+
+    private static String escape(final ConfigurationSection section, final String key) {
+        final Configuration root = section.getRoot();
+        final char separator = root != null ? root.options().pathSeparator() : ConfigPath.DEFAULT_SEPARATOR;
+        return key.replace(String.valueOf(separator), String.valueOf(StringUtils.ESCAPE_CHAR) + separator);
+    }
+
+    private static boolean matchesPrefix(final String[][] patterns, final List<String> keys) {
+        for (final String[] pattern : patterns) {
+            if (matchesPrefix(pattern, 0, keys, 0)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesBelow(final String[][] patterns, final List<String> keys) {
+        for (final String[] pattern : patterns) {
+            if (matchesBelow(pattern, 0, keys, 0)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a pattern matches the path of some keys or any of its parent paths.
+     */
+    private static boolean matchesPrefix(final String[] pattern, final int i, final List<String> keys, final int j) {
+        if (i == pattern.length) {
+            return true;
+        }
+        if (ANY_KEYS.equals(pattern[i])) {
+            return matchesPrefix(pattern, i + 1, keys, j) || j < keys.size() && matchesPrefix(pattern, i, keys, j + 1);
+        }
+        return j < keys.size() && matches(pattern[i], keys.get(j)) && matchesPrefix(pattern, i + 1, keys, j + 1);
+    }
+
+    /**
+     * Checks if a pattern may match a path below the path of some keys.
+     */
+    private static boolean matchesBelow(final String[] pattern, final int i, final List<String> keys, final int j) {
+        if (j == keys.size()) {
+            return i < pattern.length;
+        }
+        if (i == pattern.length) {
+            return false;
+        }
+        if (ANY_KEYS.equals(pattern[i])) {
+            return matchesBelow(pattern, i + 1, keys, j) || matchesBelow(pattern, i, keys, j + 1);
+        }
+        return matches(pattern[i], keys.get(j)) && matchesBelow(pattern, i + 1, keys, j + 1);
+    }
+
+    /**
+     * Checks if a key matches a node pattern with <code>*</code> and <code>?</code> wildcards.
+     */
+    private static boolean matches(final String pattern, final String key) {
+        int p = 0, k = 0, star = -1, backtrack = 0;
+        while (k < key.length()) {
+            if (p < pattern.length() && (pattern.charAt(p) == '?' || pattern.charAt(p) == key.charAt(k))) {
+                p++;
+                k++;
+            } else if (p < pattern.length() && pattern.charAt(p) == '*') {
+                star = p++;
+                backtrack = k;
+            } else if (star >= 0) {
+                p = star + 1;
+                k = ++backtrack;
+            } else {
+                return false;
+            }
+        }
+        while (p < pattern.length() && pattern.charAt(p) == '*') {
+            p++;
+        }
+        return p == pattern.length();
+    }
+
+    private static List<String> concat(final List<String> patterns, final String... more) {
+        Validate.notNull(more, "Patterns cannot be null");
+        final List<String> all = new ArrayList<>(patterns);
+        for (final String pattern : more) {
+            Validate.notEmpty(pattern, "Pattern cannot be empty");
+            all.add(pattern);
+        }
+        return all;
+    }
+
+    private static String[][] split(final List<String> patterns, final char separator) {
+        final String[][] nodes = new String[patterns.size()][];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = split(patterns.get(i), separator).toArray(new String[0]);
+        }
+        return nodes;
+    }
+
+    private static List<String> split(final String path, final char separator) {
+        final List<String> nodes = new ArrayList<>();
+
+        // i1 is the leading (higher) index
+        // i2 is the trailing (lower) index
+        int i1 = -1, i2;
+        while ((i1 = StringUtils.firstSeparatorIndex(path, separator, i2 = i1 + 1)) != -1) {
+            nodes.add(unescape(path.substring(i2, i1), separator));
+        }
+        nodes.add(unescape(path.substring(i2), separator));
+
+        return nodes;
+    }
+
+    private static String unescape(final String node, final char separator) {
+        return node.replace(String.valueOf(StringUtils.ESCAPE_CHAR) + separator, String.valueOf(separator));
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PathFilter)) {
+            return false;
+        }
+        final PathFilter that = (PathFilter) o;
+        return this.separator == that.separator && this.includes.equals(that.includes) && this.excludes.equals(that.excludes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.asList(this.includes, this.excludes, this.separator).hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "PathFilter{includes=" + this.includes + ", excludes=" + this.excludes + '}';
+    }
+
+}
@@ -0,0 +1,569 @@
+package org.simpleyaml.configuration;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * An insertion-ordered map for the children of a {@link MemorySection}.
+ * <p>
+ * Keys and values are stored in plain arrays in insertion order, so small sections are looked up by a linear scan
+ * without any per-entry node. Once a section has more than {@link #HASH_THRESHOLD} keys,
+ * an open-addressing hash table of entry positions is built on top of the arrays to keep lookups constant.
+ * <p>
+ * Removed entries are shifted out of the arrays while the map is small,
+ * or marked as removed and compacted later when the map is hashed.
+ * Iterators are fail-fast, like the ones of {@link LinkedHashMap}.
+ * <p>
+ * Once {@link #freeze() frozen} the arrays are trimmed to the entries and any modification
+ * throws an {@link UnsupportedOperationException}.
+ */
+final class SectionMap extends AbstractMap<String, Object> {
+
+    static final int HASH_THRESHOLD = 8;
+
+    private static final int INITIAL_CAPACITY = 2;
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private static final Object REMOVED = new Object();
+
+    private Object[] keys = EMPTY;
+
+    private Object[] values = EMPTY;
+
+    // Only when hashed
+    private int[] hashes;
+
+    // Positions of the entries + 1, with 0 as empty slot, and a power of 2 length
+    private int[] table;
+
+    // Used positions of keys and values, including removed entries
+    private int end;
+
+    private int size;
+
+    private int modCount;
+
+    private boolean frozen;
+
+    private Set<Entry<String, Object>> entrySetView;
+
+    private Set<String> keySetView;
+
+    private Collection<Object> valuesView;
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(final Object key) {
+        final int i = this.indexOf(key);
+        return i >= 0 ? this.values[i] : null;
+    }
+
+    @Override
+    public Object getOrDefault(final Object key, final Object defaultValue) {
+        final int i = this.indexOf(key);
+        return i >= 0 ? this.values[i] : defaultValue;
+    }
+
+    @Override
+    public Object put(final String key, final Object value) {
+        this.checkMutable();
+
+        final int hash = hash(key);
+        final int i = this.indexOf(key, hash);
+
+        if (i >= 0) {
+            final Object previous = this.values[i];
+            this.values[i] = value;
+            return previous;
+        }
+
+        this.add(key, hash, value);
+        return null;
+    }
+
+    @Override
+    public Object remove(final Object key) {
+        this.checkMutable();
+
+        final int i = this.indexOf(key);
+
+        if (i < 0) {
+            return null;
+        }
+
+        final Object previous = this.values[i];
+        this.removeAt(i, true);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        this.checkMutable();
+
+        if (this.end > 0) {
+            Arrays.fill(this.keys, 0, this.end, null);
+            Arrays.fill(this.values, 0, this.end, null);
+            this.modCount++;
+        }
+        this.hashes = null;
+        this.table = null;
+        this.end = 0;
+        this.size = 0;
+    }
+
+    @Override
+    public void forEach(final BiConsumer<? super String, ? super Object> action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = this.modCount;
+        for (int i = 0; i < this.end; i++) {
+            final Object key = this.keys[i];
+            if (key != REMOVED) {
+                action.accept((String) key, this.values[i]);
+            }
+            if (this.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (this.entrySetView == null) {
+            this.entrySetView = new EntrySet();
+        }
+        return this.entrySetView;
+    }
+
+    @Override
+    public Set<String> keySet() {
+        if (this.keySetView == null) {
+            this.keySetView = new KeySet();
+        }
+        return this.keySetView;
+    }
+
+    @Override
+    public Collection<Object> values() {
+        if (this.valuesView == null) {
+            this.valuesView = new Values();
+        }
+        return this.valuesView;
+    }
+
+    /**
+     * Makes this map unmodifiable, releasing the unused capacity of its arrays.
+     */
+    void freeze() {
+        if (this.table != null && this.end > this.size) {
+            this.compact();
+        }
+        if (this.end < this.keys.length) {
+            this.keys = this.end == 0 ? EMPTY : Arrays.copyOf(this.keys, this.end);
+            this.values = this.end == 0 ? EMPTY : Arrays.copyOf(this.values, this.end);
+            if (this.hashes != null) {
+                this.hashes = Arrays.copyOf(this.hashes, this.end);
+            }
+        }
+        this.frozen = true;
+    }
+
+    /**
+     * Grows the arrays to hold at least the given number of entries without growing again.
+     *
+     * @param capacity the expected number of entries
+     */
+    void ensureCapacity(final int capacity) {
+        this.checkMutable();
+
+        if (capacity > this.keys.length) {
+            this.keys = Arrays.copyOf(this.keys, capacity);
+            this.values = Arrays.copyOf(this.values, capacity);
+            if (this.hashes != null) {
+                this.hashes = Arrays.copyOf(this.hashes, capacity);
+            }
+        }
+    }
+
+    boolean isFrozen() {
+        return this.frozen;
+    }
+
+    private void checkMutable() {
+        if (this.frozen) {
+            throw new UnsupportedOperationException("Cannot modify a frozen section");
+        }
+    }
+
+    private static int hash(final Object key) {
+        final int h = key == null ? 0 : key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private int indexOf(final Object key) {
+        return this.indexOf(key, this.table == null ? 0 : hash(key));
+    }
+
+    private int indexOf(final Object key, final int hash) {
+        if (this.table == null) {
+            for (int i = 0; i < this.end; i++) {
+                if (Objects.equals(this.keys[i], key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        final int mask = this.table.length - 1;
+        int slot = hash & mask;
+        int e;
+        while ((e = this.table[slot]) != 0) {
+            final int i = e - 1;
+            if (this.hashes[i] == hash && Objects.equals(this.keys[i], key)) {
+                return i;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void add(final String key, final int hash, final Object value) {
+        if (this.end == this.keys.length) {
+            if (this.table != null && this.end - this.size > this.size) {
+                this.compact();
+            } else {
+                this.grow();
+            }
+        }
+
+        final int i = this.end++;
+        this.keys[i] = key;
+        this.values[i] = value;
+        this.size++;
+        this.modCount++;
+
+        if (this.table != null) {
+            this.hashes[i] = hash;
+            if (this.size * 2 > this.table.length) {
+                this.rehash(this.table.length * 2);
+            } else {
+                this.insertSlot(i);
+            }
+        } else if (this.size > HASH_THRESHOLD) {
+            this.hashes = new int[this.keys.length];
+            for (int j = 0; j < this.end; j++) {
+                this.hashes[j] = hash(this.keys[j]);
+            }
+            this.rehash(tableSizeFor(this.size));
+        }
+    }
+
+    private void removeAt(final int i, final boolean compact) {
+        this.size--;
+        this.modCount++;
+
+        if (this.table == null) {
+            final int moved = this.end - i - 1;
+            if (moved > 0) {
+                System.arraycopy(this.keys, i + 1, this.keys, i, moved);
+                System.arraycopy(this.values, i + 1, this.values, i, moved);
+            }
+            this.end--;
+            this.keys[this.end] = null;
+            this.values[this.end] = null;
+            return;
+        }
+
+        this.deleteSlot(i);
+        this.keys[i] = REMOVED;
+        this.values[i] = null;
+
+        if (compact && this.end - this.size > this.size) {
+            this.compact();
+        }
+    }
+
+    private void grow() {
+        final int capacity = this.keys.length == 0 ? INITIAL_CAPACITY : this.keys.length + (this.keys.length >> 1) + 1;
+        this.keys = Arrays.copyOf(this.keys, capacity);
+        this.values = Arrays.copyOf(this.values, capacity);
+        if (this.hashes != null) {
+            this.hashes = Arrays.copyOf(this.hashes, capacity);
+        }
+    }
+
+    private void compact() {
+        int j = 0;
+        for (int i = 0; i < this.end; i++) {
+            if (this.keys[i] != REMOVED) {
+                this.keys[j] = this.keys[i];
+                this.values[j] = this.values[i];
+                this.hashes[j] = this.hashes[i];
+                j++;
+            }
+        }
+        Arrays.fill(this.keys, j, this.end, null);
+        Arrays.fill(this.values, j, this.end, null);
+        this.end = j;
+        this.rehash(this.table.length);
+    }
+
+    private void rehash(final int tableSize) {
+        this.table = new int[tableSize];
+        for (int i = 0; i < this.end; i++) {
+            if (this.keys[i] != REMOVED) {
+                this.insertSlot(i);
+            }
+        }
+    }
+
+    private void insertSlot(final int i) {
+        final int mask = this.table.length - 1;
+        int slot = this.hashes[i] & mask;
+        while (this.table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        this.table[slot] = i + 1;
+    }
+
+    private void deleteSlot(final int i) {
+        final int mask = this.table.length - 1;
+        int slot = this.hashes[i] & mask;
+        while (this.table[slot] != i + 1) {
+            slot = (slot + 1) & mask;
+        }
+
+        // Shift back the following entries of the probe sequence, so no tombstones are needed
+        int next = (slot + 1) & mask;
+        int e;
+        while ((e = this.table[next]) != 0) {
+            final int home = this.hashes[e - 1] & mask;
+            if (next > slot ? (home <= slot || home > next) : (home <= slot && home > next)) {
+                this.table[slot] = e;
+                slot = next;
+            }
+            next = (next + 1) & mask;
+        }
+        this.table[slot] = 0;
+    }
+
+    private static int tableSizeFor(final int size) {
+        int n = 16;
+        while (n < size * 2) {
+            n <<= 1;
+        }
+        return n;
+    }
+
+    private abstract class Iter<E> implements Iterator<E> {
+
+        private int next = this.advance(0);
+
+        private int last = -1;
+
+        private int expectedModCount = SectionMap.this.modCount;
+
+        private int advance(int i) {
+            while (i < SectionMap.this.end && SectionMap.this.keys[i] == REMOVED) {
+                i++;
+            }
+            return i;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next < SectionMap.this.end;
+        }
+
+        int nextIndex() {
+            if (SectionMap.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (this.next >= SectionMap.this.end) {
+                throw new NoSuchElementException();
+            }
+            this.last = this.next;
+            this.next = this.advance(this.next + 1);
+            return this.last;
+        }
+
+        @Override
+        public void remove() {
+            if (this.last < 0) {
+                throw new IllegalStateException();
+            }
+            if (SectionMap.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            SectionMap.this.checkMutable();
+            final boolean shifted = SectionMap.this.table == null;
+            SectionMap.this.removeAt(this.last, false);
+            if (shifted) {
+                this.next = this.last;
+            }
+            this.last = -1;
+            this.expectedModCount = SectionMap.this.modCount;
+        }
+    }
+
+    private final class Node implements Entry<String, Object> {
+
+        private final String key;
+
+        private final int index;
+
+        private final int expectedModCount = SectionMap.this.modCount;
+
+        private Node(final int index) {
+            this.key = (String) SectionMap.this.keys[index];
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return this.key;
+        }
+
+        @Override
+        public Object getValue() {
+            return SectionMap.this.values[this.position()];
+        }
+
+        @Override
+        public Object setValue(final Object value) {
+            SectionMap.this.checkMutable();
+            final int i = this.position();
+            final Object previous = SectionMap.this.values[i];
+            SectionMap.this.values[i] = value;
+            return previous;
+        }
+
+        private int position() {
+            // entries are kept in place unless the map is structurally modified
+            if (SectionMap.this.modCount == this.expectedModCount) {
+                return this.index;
+            }
+            final int i = SectionMap.this.indexOf(this.key);
+            if (i < 0) {
+                throw new IllegalStateException("Entry was removed");
+            }
+            return i;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Entry)) return false;
+            final Entry<?, ?> e = (Entry<?, ?>) o;
+            return Objects.equals(this.key, e.getKey()) && Objects.equals(this.getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(this.key) ^ Objects.hashCode(this.getValue());
+        }
+
+        @Override
+        public String toString() {
+            return this.key + "=" + this.getValue();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new Iter<Entry<String, Object>>() {
+                @Override
+                public Entry<String, Object> next() {
+                    return new Node(this.nextIndex());
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return SectionMap.this.size;
+        }
+
+        @Override
+        public void clear() {
+            SectionMap.this.clear();
+        }
+    }
+
+    private final class KeySet extends AbstractSet<String> {
+
+        @Override
+        public Iterator<String> iterator() {
+            return new Iter<String>() {
+                @Override
+                public String next() {
+                    return (String) SectionMap.this.keys[this.nextIndex()];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return SectionMap.this.size;
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return SectionMap.this.containsKey(o);
+        }
+
+        @Override
+        public boolean remove(final Object o) {
+            SectionMap.this.checkMutable();
+            final int i = SectionMap.this.indexOf(o);
+            if (i < 0) {
+                return false;
+            }
+            SectionMap.this.removeAt(i, true);
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            SectionMap.this.clear();
+        }
+    }
+
+    private final class Values extends AbstractCollection<Object> {
+
+        @Override
+        public Iterator<Object> iterator() {
+            return new Iter<Object>() {
+                @Override
+                public Object next() {
+                    return SectionMap.this.values[this.nextIndex()];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return SectionMap.this.size;
+        }
+
+        @Override
+        public void clear() {
+            SectionMap.this.clear();
+        }
+    }
+}
@@ -7,7 +7,6 @@ import org.simpleyaml.utils.Validate;
 
 import java.util.*;
 import java.util.function.Predicate;
-import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
 public class KeyTree implements Iterable<KeyTree.Node> {
@@ -96,6 +95,19 @@ public class KeyTree implements Iterable<KeyTree.Node> {
         return this.options;
     }
 
+    /**
+     * Replace the nodes of this tree with copies of the nodes of another tree, with their comments.
+     * <p>
+     * No node is shared with the other tree, so both trees can be changed independently after the copy.
+     *
+     * @param source the tree to copy
+     */
+    public void copyFrom(final KeyTree source) {
+        Validate.notNull(source, "Source cannot be null");
+        this.root.clearNode();
+        this.root.copyFrom(source.root);
+    }
+
     @Override
     public String toString() {
         return this.root.toString();
@@ -209,10 +221,10 @@ public class KeyTree implements Iterable<KeyTree.Node> {
                     }
                     return child.get(path.substring(i + 1), add, priority);
                 }
-                Matcher listIndex = StringUtils.LIST_INDEX.matcher(path);
-                if (listIndex.matches()) {
-                    final String child = listIndex.group(1);
-                    if (child != null && !child.isEmpty()) {
+                final int listIndex = StringUtils.listIndexStart(path);
+                if (listIndex >= 0) {
+                    final String child = path.substring(0, listIndex);
+                    if (!child.isEmpty()) {
                         node = this.get(child, add, priority);
                         if (node == null) {
                             return null;
@@ -220,7 +232,7 @@ public class KeyTree implements Iterable<KeyTree.Node> {
                     } else {
                         node = this;
                     }
-                    return node.getElement(Integer.parseInt(listIndex.group(2)), add);
+                    return node.getElement(StringUtils.parseListIndex(path, listIndex), add);
                 }
             }
             if (priority && this.isList) {
@@ -521,6 +533,53 @@ public class KeyTree implements Iterable<KeyTree.Node> {
             return i;
         }
 
+        /**
+         * Copy the comments, list state and children of a node of another tree to this node.
+         *
+         * @param source the node to copy
+         */
+        protected void copyFrom(final KeyTree.Node source) {
+            this.indent = source.indent;
+            this.comment = source.comment;
+            this.sideComment = source.sideComment;
+            this.isList = source.isList;
+            this.listSize = source.listSize;
+            this.elementIndex = source.elementIndex;
+
+            if (source.children == null) {
+                return;
+            }
+
+            final Map<KeyTree.Node, KeyTree.Node> copies = new IdentityHashMap<>();
+            this.children = new ArrayList<>(source.children.size());
+            for (final KeyTree.Node child : source.children) {
+                final KeyTree.Node copy = KeyTree.this.createNode(this, child.indent, child.name);
+                copy.copyFrom(child);
+                this.children.add(copy);
+                copies.put(child, copy);
+            }
+
+            if (source.indexByName != null) {
+                this.indexByName = new LinkedHashMap<>();
+                source.indexByName.forEach((key, child) -> putCopy(this.indexByName, key, child, copies));
+            }
+            if (source.priorityIndex != null) {
+                this.priorityIndex = new LinkedHashMap<>();
+                source.priorityIndex.forEach((key, child) -> putCopy(this.priorityIndex, key, child, copies));
+            }
+            if (source.indexByElementIndex != null) {
+                this.indexByElementIndex = new HashMap<>();
+                source.indexByElementIndex.forEach((index, child) -> putCopy(this.indexByElementIndex, index, child, copies));
+            }
+        }
+
+        private <K> void putCopy(final Map<K, KeyTree.Node> index, final K key, final KeyTree.Node child, final Map<KeyTree.Node, KeyTree.Node> copies) {
+            final KeyTree.Node copy = copies.get(child);
+            if (copy != null) {
+                index.put(key, copy);
+            }
+        }
+
         protected void clearNode() {
             if (this.children != null) {
                 this.children.clear();
@@ -5,10 +5,20 @@ import org.simpleyaml.configuration.LoadableConfiguration;
 import org.simpleyaml.configuration.MemoryConfiguration;
 import org.simpleyaml.configuration.comments.format.CommentFormatter;
 import org.simpleyaml.exceptions.InvalidConfigurationException;
+import org.simpleyaml.utils.FileChannelReader;
+import org.simpleyaml.utils.FileChannelWriter;
 import org.simpleyaml.utils.Validate;
 
 import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * This is a base class for all File based implementations of {@link Configuration}
@@ -43,6 +53,9 @@ public abstract class FileConfiguration extends MemoryConfiguration implements L
      * will be overwritten. If it cannot be overwritten or created, an
      * exception will be thrown.
      * <p>
+     * The file is written through a {@link java.nio.channels.FileChannel}, see {@link FileChannelWriter}.
+     * If {@link FileConfigurationOptions#atomicSave(boolean)} is enabled the file is replaced once it is fully written,
+     * and if the path is a symbolic link the file it links to is replaced instead of the link.
      * This method will use the {@link #options()} {@link FileConfigurationOptions#charset() charset} encoding,
      * which defaults to UTF8.
      *
@@ -59,7 +72,100 @@ public abstract class FileConfiguration extends MemoryConfiguration implements L
             throw new IOException("Cannot create successfully all needed parent directories!");
         }
 
-        this.save(new OutputStreamWriter(Files.newOutputStream(file.toPath()), this.options().charset()));
+        this.save(file.toPath());
+    }
+
+    /**
+     * Saves this {@link FileConfiguration} to the specified file path.
+     * <p>
+     * If the file does not exist, it will be created. If already exists, it
+     * will be overwritten. If it cannot be overwritten or created, an
+     * exception will be thrown. The parent directories must exist.
+     * <p>
+     * The file is written through a {@link java.nio.channels.FileChannel}, see {@link FileChannelWriter}.
+     * If {@link FileConfigurationOptions#atomicSave(boolean)} is enabled the file is replaced once it is fully written,
+     * and if the path is a symbolic link the file it links to is replaced instead of the link.
+     * This method will use the {@link #options()} {@link FileConfigurationOptions#charset() charset} encoding,
+     * which defaults to UTF8.
+     *
+     * @param path File path to save to.
+     * @throws IOException              Thrown when the given file cannot be written to for any reason.
+     * @throws IllegalArgumentException Thrown when path is null.
+     */
+    public void save(final Path path) throws IOException {
+        Validate.notNull(path, "Path cannot be null");
+
+        final FileConfigurationOptions options = this.options();
+
+        if (!options.atomicSave()) {
+            this.save(FileChannelWriter.open(path, options.charset(), options.saveBufferSize(), options.syncOnSave()));
+            return;
+        }
+
+        // the file linked by a symbolic link is replaced, not the link
+        final Path target = Files.exists(path) ? path.toRealPath() : path.toAbsolutePath();
+        final Path directory = target.getParent();
+        final Path temp = createTempFile(target);
+
+        try {
+            copyPermissions(target, temp);
+
+            this.save(FileChannelWriter.open(temp, options.charset(), options.saveBufferSize(), options.syncOnSave()));
+
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            if (options.syncOnSave()) {
+                syncDirectory(directory);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Creates an empty file with a unique name next to the saved file, to write it and then replace the saved file.
+     * <p>
+     * Unlike {@link Files#createTempFile(Path, String, String)} the file is created with the default permissions,
+     * like a new file saved directly.
+     */
+    private static Path createTempFile(final Path target) throws IOException {
+        final String prefix = "." + target.getFileName() + ".";
+        while (true) {
+            final Path temp = target.resolveSibling(prefix + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+            try {
+                return Files.createFile(temp);
+            } catch (final FileAlreadyExistsException e) {
+                // try another name
+            }
+        }
+    }
+
+    /**
+     * Copies the permissions of the saved file to the temporary file that replaces it,
+     * because the temporary file has the default permissions.
+     */
+    private static void copyPermissions(final Path target, final Path temp) throws IOException {
+        if (Files.exists(target)) {
+            final PosixFileAttributeView view = Files.getFileAttributeView(temp, PosixFileAttributeView.class);
+            if (view != null) {
+                view.setPermissions(Files.getPosixFilePermissions(target));
+            }
+        }
+    }
+
+    /**
+     * Forces the rename of a saved file to the storage device, if the system allows to open directories.
+     */
+    private static void syncDirectory(final Path directory) {
+        try (final FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (final IOException ignored) {
+            // Not supported, like on Windows
+        }
     }
 
     /**
@@ -136,7 +242,33 @@ public abstract class FileConfiguration extends MemoryConfiguration implements L
      */
     public void load(final File file) throws FileNotFoundException, IOException, InvalidConfigurationException {
         Validate.notNull(file, "File cannot be null");
-        load(Files.newInputStream(file.toPath()));
+        this.load(file.toPath());
+    }
+
+    /**
+     * Loads this configuration from the specified file path.
+     * <p>
+     * All the values contained within this configuration will be removed,
+     * leaving only settings and defaults, and the new values will be loaded
+     * from the given file.
+     * <p>
+     * If the file cannot be loaded for any reason, an exception will be
+     * thrown.
+     * <p>
+     * The file is decoded from a {@link java.nio.channels.FileChannel}, memory-mapped if it is large,
+     * see {@link FileChannelReader}.
+     * This method will use the {@link #options()} {@link FileConfigurationOptions#charset() charset} encoding,
+     * which defaults to UTF8.
+     *
+     * @param path File path to load from.
+     * @throws java.nio.file.NoSuchFileException Thrown when the given file does not exist.
+     * @throws IOException                       Thrown when the given file cannot be read.
+     * @throws InvalidConfigurationException     Thrown when the given file is not a valid Configuration.
+     * @throws IllegalArgumentException          Thrown when path is null.
+     */
+    public void load(final Path path) throws IOException, InvalidConfigurationException {
+        Validate.notNull(path, "Path cannot be null");
+        this.load(FileChannelReader.open(path, this.options().charset()));
     }
 
     /**
@@ -4,7 +4,10 @@ import org.simpleyaml.configuration.Configuration;
 import org.simpleyaml.configuration.MemoryConfiguration;
 import org.simpleyaml.configuration.MemoryConfigurationOptions;
 import org.simpleyaml.configuration.comments.format.CommentFormatter;
+import org.simpleyaml.utils.FileChannelWriter;
+import org.simpleyaml.utils.Validate;
 
+import java.io.File;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
@@ -24,6 +27,10 @@ public class FileConfigurationOptions extends MemoryConfigurationOptions {
     private boolean copyHeader = true;
     private CommentFormatter headerFormatter;
 
+    private boolean atomicSave = false;
+    private boolean syncOnSave = false;
+    private int saveBufferSize = FileChannelWriter.BUFFER_SIZE;
+
     protected FileConfigurationOptions(final MemoryConfiguration configuration) {
         super(configuration);
     }
@@ -45,6 +52,12 @@ public class FileConfigurationOptions extends MemoryConfigurationOptions {
         return this;
     }
 
+    @Override
+    public FileConfigurationOptions indexPaths(final boolean value) {
+        super.indexPaths(value);
+        return this;
+    }
+
     public Charset charset() {
         return this.charset;
     }
@@ -157,6 +170,89 @@ public class FileConfigurationOptions extends MemoryConfigurationOptions {
         return this;
     }
 
+    /**
+     * Gets if files are saved atomically.
+     *
+     * @return if files are saved atomically
+     * @see #atomicSave(boolean)
+     */
+    public boolean atomicSave() {
+        return this.atomicSave;
+    }
+
+    /**
+     * Sets if files should be saved atomically.
+     * <p>
+     * If true, {@link FileConfiguration#save(File)} writes the configuration to a temporary file in the same directory
+     * and then renames it to replace the file, so the file is never left half written if the save fails or the process dies while saving.
+     * The file is replaced atomically if the file system supports it.
+     * <p>
+     * If false, the file is truncated and written in place.
+     * <p>
+     * Default is false.
+     *
+     * @param atomicSave if files should be saved atomically
+     * @return This object, for chaining
+     */
+    public FileConfigurationOptions atomicSave(final boolean atomicSave) {
+        this.atomicSave = atomicSave;
+        return this;
+    }
+
+    /**
+     * Gets if saved files are forced to the storage device.
+     *
+     * @return if saved files are forced to the storage device
+     * @see #syncOnSave(boolean)
+     */
+    public boolean syncOnSave() {
+        return this.syncOnSave;
+    }
+
+    /**
+     * Sets if saved files should be forced to the storage device before {@link FileConfiguration#save(File)} returns,
+     * so they are not lost if the system crashes after saving.
+     * <p>
+     * This makes saving slower. If saving atomically, the file is forced before it replaces the previous one.
+     * <p>
+     * Default is false.
+     *
+     * @param syncOnSave if saved files should be forced to the storage device
+     * @return This object, for chaining
+     * @see #atomicSave(boolean)
+     */
+    public FileConfigurationOptions syncOnSave(final boolean syncOnSave) {
+        this.syncOnSave = syncOnSave;
+        return this;
+    }
+
+    /**
+     * Gets the size in bytes of the buffer used to write saved files.
+     *
+     * @return the size in bytes of the buffer used to write saved files
+     * @see #saveBufferSize(int)
+     */
+    public int saveBufferSize() {
+        return this.saveBufferSize;
+    }
+
+    /**
+     * Sets the size in bytes of the buffer used to write saved files.
+     * <p>
+     * The saved configuration is encoded into this buffer, which is written to the file every time it is full.
+     * <p>
+     * Default is {@link FileChannelWriter#BUFFER_SIZE}.
+     *
+     * @param saveBufferSize the size in bytes of the buffer, at least {@link FileChannelWriter#MIN_BUFFER_SIZE}
+     * @return This object, for chaining
+     */
+    public FileConfigurationOptions saveBufferSize(final int saveBufferSize) {
+        Validate.isTrue(saveBufferSize >= FileChannelWriter.MIN_BUFFER_SIZE,
+                "Buffer size must be at least " + FileChannelWriter.MIN_BUFFER_SIZE + " bytes");
+        this.saveBufferSize = saveBufferSize;
+        return this;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -164,6 +260,9 @@ public class FileConfigurationOptions extends MemoryConfigurationOptions {
         if (!super.equals(o)) return false;
         FileConfigurationOptions that = (FileConfigurationOptions) o;
         return copyHeader == that.copyHeader &&
+                atomicSave == that.atomicSave &&
+                syncOnSave == that.syncOnSave &&
+                saveBufferSize == that.saveBufferSize &&
                 Objects.equals(charset, that.charset) &&
                 Objects.equals(header, that.header) &&
                 Objects.equals(headerFormatter, that.headerFormatter);
@@ -171,6 +270,6 @@ public class FileConfigurationOptions extends MemoryConfigurationOptions {
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), charset, header, copyHeader, headerFormatter);
+        return Objects.hash(super.hashCode(), charset, header, copyHeader, headerFormatter, atomicSave, syncOnSave, saveBufferSize);
     }
 }
@@ -2,52 +2,125 @@ package org.simpleyaml.utils;
 
 import java.io.IOException;
 import java.io.Writer;
-import java.util.Optional;
+import java.util.ArrayDeque;
+import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 
 /**
- * Every line written to this writer will be enqueued on flush with a fixed capacity.
+ * Every line written to this writer will be enqueued on flush.
  * <p>Those lines can be awaited and consumed.</p>
- * <p>This is an asynchronous blocking implementation. Different threads can write and read on this writer.</p>
+ * <p>By default the source is dumped in the thread calling {@link #dump()}, before any line is consumed,
+ * so no thread is created and the lines are kept until they are consumed.
+ * To consume the lines without keeping them use {@link #dump(LineConsumer)}, which passes every line to a callback
+ * as soon as it is written.</p>
+ * <p>With an {@link Executor} the source is dumped in the background while the lines are consumed,
+ * through a queue with a fixed capacity. Then different threads write and read on this writer.</p>
  */
 public class DumperBus extends Writer {
 
-    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    /**
+     * Marks the end of the lines, compared by identity.
+     */
+    @SuppressWarnings("StringOperationCanBeSimplified")
+    private static final String END = new String();
 
-    private final BlockingQueue<Optional<String>> lineQueue;
+    private final Executor executor;
+
+    private final Queue<String> lineQueue;
 
     private final Dumper source;
 
-    private StringBuffer lineBuffer;
+    private StringBuilder lineBuffer;
 
-    public DumperBus(final Dumper source, int capacity) {
+    private LineConsumer consumer;
+
+    private volatile Throwable error;
+
+    /**
+     * Creates a bus to dump a source in the background with an executor, like a shared or a virtual thread executor.
+     *
+     * @param source   the source to dump
+     * @param executor the executor to dump the source while the lines are consumed,
+     *                 or null to dump the source in the thread calling {@link #dump()}
+     * @param capacity the maximum number of lines awaiting to be consumed when dumping with an executor
+     */
+    public DumperBus(final Dumper source, final Executor executor, final int capacity) {
         Validate.notNull(source, "Source not provided");
         this.source = source;
-        this.lineQueue = new ArrayBlockingQueue<>(capacity, true);
+        this.executor = executor;
+        this.lineQueue = executor != null ? new ArrayBlockingQueue<>(capacity) : new ArrayDeque<>();
+    }
+
+    /**
+     * Creates a bus to dump a source in the thread calling {@link #dump()}.
+     *
+     * @param source   the source to dump
+     * @param capacity not used, lines are kept until they are consumed
+     * @deprecated the capacity is only used by {@link #DumperBus(Dumper, Executor, int)}
+     */
+    @Deprecated
+    public DumperBus(final Dumper source, int capacity) {
+        this(source);
     }
 
+    /**
+     * Creates a bus to dump a source in the thread calling {@link #dump()}.
+     *
+     * @param source the source to dump
+     */
     public DumperBus(final Dumper source) {
-        this(source, 100);
+        this(source, null, 0);
     }
 
     /**
-     * Dump source values into this writer in a background thread.
+     * Dump source values into this writer, in the current thread or in the background if this bus has an executor.
      * @throws IOException if I/O error occurs
      */
     public void dump() throws IOException {
-        this.lineBuffer = new StringBuffer();
+        this.lineBuffer = new StringBuilder();
         this.runThread(() -> {
             try {
                 this.source.dump(this);
+            } catch (final Throwable e) {
+                this.error = e;
+                throw e;
             } finally {
                 this.close();
             }
         });
     }
 
+    /**
+     * Dump source values into this writer, passing every line to a consumer in the thread calling this method.
+     * <p>Without an executor the lines are passed while the source is dumped, so they are not enqueued.
+     * With an executor the lines are awaited until the source is dumped in the background.</p>
+     *
+     * @param consumer the consumer of the lines
+     * @throws IOException if I/O error occurs, or if the source could not be dumped
+     */
+    public void dump(final LineConsumer consumer) throws IOException {
+        Validate.notNull(consumer, "Consumer not provided");
+
+        if (this.executor == null) {
+            this.consumer = consumer;
+            try {
+                this.dump();
+            } finally {
+                this.consumer = null;
+            }
+            return;
+        }
+
+        this.dump();
+
+        String line;
+        while ((line = this.await()) != null) {
+            consumer.accept(line);
+        }
+    }
+
     /**
      * Append to line a portion of an array of characters.
      * <p>New lines are flushed.</p>
@@ -62,7 +135,6 @@ public class DumperBus extends Writer {
      * @throws IOException if I/O error occurs
      */
     @Override
-    @SuppressWarnings("SynchronizeOnNonFinalField")
     public void write(char[] str, int offset, int len) throws IOException {
         synchronized (lock) {
             // This only handles new lines at the end of the string to ensure good performance
@@ -96,13 +168,23 @@ public class DumperBus extends Writer {
     }
 
     /**
-     * Add a line to the queue.
+     * Add a line to the queue, or pass it to the consumer if the source is dumped by {@link #dump(LineConsumer)}.
      * @param line a new line to add
      * @throws IOException if I/O error occurs
      */
     private void append(final String line) throws IOException {
+        if (this.consumer != null) {
+            if (line != END) {
+                this.consumer.accept(line);
+            }
+            return;
+        }
+        if (this.executor == null) {
+            this.lineQueue.add(line);
+            return;
+        }
         try {
-            this.lineQueue.put(Optional.ofNullable(line));
+            ((BlockingQueue<String>) this.lineQueue).put(line);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         } catch (Exception e) {
@@ -111,21 +193,37 @@ public class DumperBus extends Writer {
     }
 
     /**
-     * Consume the queue, blocking and awaiting a new line if the queue is empty.
+     * Consume the queue, blocking and awaiting a new line if the queue is empty and the source is dumped in the background.
      * @return the next line in the queue, may be null for the end of the file
-     * @throws IOException if I/O error occurs
+     * @throws IOException if I/O error occurs, or if the source could not be dumped
      */
     public String await() throws IOException {
-        try {
-            if (this.lineQueue.isEmpty() && this.isClosed()) {
+        final String line;
+
+        if (this.executor == null) {
+            line = this.lineQueue.poll();
+        } else {
+            try {
+                if (this.lineQueue.isEmpty() && this.isClosed()) {
+                    line = null;
+                } else {
+                    line = ((BlockingQueue<String>) this.lineQueue).take();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
                 return null;
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+        }
+
+        if (line == null || line == END) {
+            if (this.executor != null && this.error != null) {
+                throw this.error instanceof IOException ? (IOException) this.error : new IOException(this.error);
             }
-            return this.lineQueue.take().orElse(null);
-        } catch (InterruptedException e) {
             return null;
-        } catch (Exception e) {
-            throw new IOException(e);
         }
+        return line;
     }
 
     /**
@@ -137,9 +235,8 @@ public class DumperBus extends Writer {
         if (!this.isClosed()) {
             this.flush();
             this.lineBuffer = null;
-            this.append(null);
+            this.append(END);
         }
-        this.executor.shutdown();
     }
 
     protected boolean isClosed() {
@@ -155,15 +252,36 @@ public class DumperBus extends Writer {
     }
 
     /**
-     * Start a new thread executing a task.
+     * Get the executor where the source is dumped.
+     * @return the executor, or null if the source is dumped in the thread calling {@link #dump()}
+     */
+    public Executor executor() {
+        return this.executor;
+    }
+
+    /**
+     * Run a task in the current thread, or in the executor of this bus if any.
      * @param task the task to run
      * @throws IOException if I/O error occurs
      */
     protected void runThread(final Task task) throws IOException {
-        try {
-            this.executor.submit(() -> {
+        if (this.executor == null) {
+            try {
                 task.run();
-                return null;
+            } catch (IOException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+            return;
+        }
+        try {
+            this.executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception ignored) {
+                    // reported to the consumer by await
+                }
             });
         } catch (Exception e) {
             throw new IOException(e);
@@ -178,6 +296,14 @@ public class DumperBus extends Writer {
         void dump(final Writer writer) throws IOException;
     }
 
+    /**
+     * Consumer of the lines dumped to this writer.
+     */
+    @FunctionalInterface
+    public interface LineConsumer {
+        void accept(final String line) throws IOException;
+    }
+
     /**
      * A runnable task that may throw an exception.
      */
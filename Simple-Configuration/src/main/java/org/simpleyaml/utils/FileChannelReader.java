@@ -0,0 +1,194 @@
+package org.simpleyaml.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A reader of a file that decodes its bytes from a {@link FileChannel} straight into the chars requested,
+ * without intermediate char buffers or line copies.
+ * <p>
+ * Files larger than a threshold are memory-mapped and decoded from the mapped buffer instead of being read in chunks.
+ * Note that some systems like Windows do not allow to overwrite or delete a file while it is mapped,
+ * and a mapping is only released when its buffer is garbage collected, so the threshold is large by default.
+ * <p>
+ * Line endings are read as they are, like {@link java.io.InputStreamReader}. Malformed input is replaced.
+ */
+public final class FileChannelReader extends Reader {
+
+    /**
+     * Default minimum size in bytes of the files that are memory-mapped.
+     */
+    public static final long MAPPED_THRESHOLD = 16 * 1024 * 1024;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final FileChannel channel;
+    private final ByteBuffer bytes;
+    private final CharsetDecoder decoder;
+
+    private boolean endOfInput;
+    private boolean flushed;
+
+    private final char[] pair = new char[2];
+    private int pending = -1;
+
+    private FileChannelReader(final FileChannel channel, final ByteBuffer bytes, final boolean endOfInput, final Charset charset) {
+        this.channel = channel;
+        this.bytes = bytes;
+        this.endOfInput = endOfInput;
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * Opens a reader of a file, memory-mapping it if its size is at least {@link #MAPPED_THRESHOLD}.
+     *
+     * @param path    the file to read
+     * @param charset the charset to decode the file
+     * @return a reader of the file
+     * @throws IOException if the file cannot be opened
+     */
+    public static FileChannelReader open(final Path path, final Charset charset) throws IOException {
+        return open(path, charset, MAPPED_THRESHOLD);
+    }
+
+    /**
+     * Opens a reader of a file.
+     *
+     * @param path            the file to read
+     * @param charset         the charset to decode the file
+     * @param mappedThreshold the minimum size in bytes to memory-map the file
+     * @return a reader of the file
+     * @throws IOException if the file cannot be opened
+     */
+    public static FileChannelReader open(final Path path, final Charset charset, final long mappedThreshold) throws IOException {
+        Validate.notNull(path, "Path cannot be null");
+        Validate.notNull(charset, "Charset cannot be null");
+
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+
+        try {
+            final long size = channel.size();
+
+            if (size >= mappedThreshold && size <= Integer.MAX_VALUE) {
+                // The mapping stays valid after closing the channel
+                final ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                channel.close();
+                return new FileChannelReader(null, mapped, true, charset);
+            }
+
+            final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            buffer.flip();
+            return new FileChannelReader(channel, buffer, false, charset);
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int read(final char[] chars, final int offset, final int length) throws IOException {
+        if (offset < 0 || length < 0 || length > chars.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (length == 0) {
+            return 0;
+        }
+
+        int read = 0;
+
+        if (this.pending >= 0) {
+            chars[offset] = (char) this.pending;
+            this.pending = -1;
+            read = 1;
+        }
+
+        if (read < length) {
+            if (length - read == 1) {
+                // A single char may not fit a surrogate pair, decode a pair and keep the second char for the next read
+                final int decoded = this.decode(CharBuffer.wrap(this.pair));
+                if (decoded > 0) {
+                    chars[offset + read++] = this.pair[0];
+                    if (decoded > 1) {
+                        this.pending = this.pair[1];
+                    }
+                }
+            } else {
+                read += Math.max(this.decode(CharBuffer.wrap(chars, offset + read, length - read)), 0);
+            }
+        }
+
+        return read > 0 ? read : -1;
+    }
+
+    private int decode(final CharBuffer out) throws IOException {
+        final int start = out.position();
+
+        while (!this.flushed) {
+            final CoderResult result = this.decoder.decode(this.bytes, out, this.endOfInput);
+
+            if (result.isError()) {
+                result.throwException();
+            }
+
+            if (result.isOverflow()) {
+                break;
+            }
+
+            if (this.endOfInput) {
+                if (this.decoder.flush(out).isOverflow()) {
+                    break;
+                }
+                this.flushed = true;
+            } else if (out.position() > start) {
+                // Return what is decoded so far instead of waiting for more bytes
+                break;
+            } else {
+                this.fill();
+            }
+        }
+
+        return out.position() - start;
+    }
+
+    private void fill() throws IOException {
+        this.ensureOpen();
+        this.bytes.compact();
+        try {
+            if (this.channel.read(this.bytes) < 0) {
+                this.endOfInput = true;
+            }
+        } finally {
+            this.bytes.flip();
+        }
+    }
+
+    @Override
+    public boolean ready() {
+        return this.pending >= 0 || this.bytes.hasRemaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.channel != null) {
+            this.channel.close();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (this.channel != null && !this.channel.isOpen()) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+}
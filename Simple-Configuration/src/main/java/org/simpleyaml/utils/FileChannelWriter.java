@@ -0,0 +1,210 @@
+package org.simpleyaml.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A writer of a file that encodes the chars written straight into a byte buffer of a given size,
+ * which is written to a {@link FileChannel} every time it is full.
+ * <p>
+ * If the file is synced, its content is forced to the storage device when the writer is closed,
+ * so it is not lost if the system crashes after closing it.
+ * <p>
+ * Line endings are written as they are, like {@link java.io.OutputStreamWriter}. Malformed input is replaced.
+ */
+public final class FileChannelWriter extends Writer {
+
+    /**
+     * Default size in bytes of the buffer of the encoded chars.
+     */
+    public static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Minimum size in bytes of the buffer of the encoded chars.
+     */
+    public static final int MIN_BUFFER_SIZE = 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer bytes;
+    private final CharsetEncoder encoder;
+    private final boolean sync;
+
+    private final char[] pair = new char[2];
+    private int pending = -1;
+
+    private boolean closed;
+
+    private FileChannelWriter(final FileChannel channel, final int bufferSize, final Charset charset, final boolean sync) {
+        this.channel = channel;
+        this.bytes = ByteBuffer.allocate(bufferSize);
+        this.sync = sync;
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * Opens a writer of a file with a buffer of {@link #BUFFER_SIZE} bytes, without syncing it.
+     * <p>The file is created if it does not exist or truncated if it exists.</p>
+     *
+     * @param path    the file to write
+     * @param charset the charset to encode the file
+     * @return a writer of the file
+     * @throws IOException if the file cannot be opened
+     */
+    public static FileChannelWriter open(final Path path, final Charset charset) throws IOException {
+        return open(path, charset, BUFFER_SIZE, false);
+    }
+
+    /**
+     * Opens a writer of a file.
+     * <p>The file is created if it does not exist or truncated if it exists.</p>
+     *
+     * @param path       the file to write
+     * @param charset    the charset to encode the file
+     * @param bufferSize the size in bytes of the buffer of the encoded chars, at least {@link #MIN_BUFFER_SIZE}
+     * @param sync       if the content of the file must be forced to the storage device when the writer is closed
+     * @return a writer of the file
+     * @throws IOException if the file cannot be opened
+     */
+    public static FileChannelWriter open(final Path path, final Charset charset, final int bufferSize, final boolean sync) throws IOException {
+        Validate.notNull(path, "Path cannot be null");
+        Validate.notNull(charset, "Charset cannot be null");
+        Validate.isTrue(bufferSize >= MIN_BUFFER_SIZE, "Buffer size must be at least " + MIN_BUFFER_SIZE + " bytes");
+
+        final FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+
+        return new FileChannelWriter(channel, bufferSize, charset, sync);
+    }
+
+    @Override
+    public void write(final char[] chars, final int offset, final int length) throws IOException {
+        if (offset < 0 || length < 0 || length > chars.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        this.write(CharBuffer.wrap(chars, offset, length));
+    }
+
+    @Override
+    public void write(final String str, final int offset, final int length) throws IOException {
+        if (offset < 0 || length < 0 || length > str.length() - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        this.write(CharBuffer.wrap(str, offset, offset + length));
+    }
+
+    @Override
+    public void write(final int c) throws IOException {
+        this.write(CharBuffer.wrap(new char[] { (char) c }));
+    }
+
+    private void write(final CharBuffer chars) throws IOException {
+        this.ensureOpen();
+
+        if (!chars.hasRemaining()) {
+            return;
+        }
+
+        if (this.pending >= 0) {
+            // The last write ended with the first char of a surrogate pair, encode it with the next char
+            this.pair[0] = (char) this.pending;
+            this.pair[1] = chars.get();
+            this.pending = -1;
+            this.encode(CharBuffer.wrap(this.pair), false);
+        }
+
+        this.encode(chars, false);
+    }
+
+    private void encode(final CharBuffer chars, final boolean endOfInput) throws IOException {
+        while (true) {
+            final CoderResult result = this.encoder.encode(chars, this.bytes, endOfInput);
+
+            if (result.isError()) {
+                result.throwException();
+            }
+
+            if (!result.isOverflow()) {
+                break;
+            }
+
+            this.writeBytes();
+        }
+
+        if (chars.hasRemaining()) {
+            // Only the first char of a surrogate pair is left, wait for the next char
+            this.pending = chars.get();
+        }
+    }
+
+    private void writeBytes() throws IOException {
+        this.bytes.flip();
+        try {
+            while (this.bytes.hasRemaining()) {
+                this.channel.write(this.bytes);
+            }
+        } finally {
+            this.bytes.clear();
+        }
+    }
+
+    /**
+     * Writes the encoded chars to the file.
+     * <p>This does not force them to the storage device, which is only done when the writer is closed if the file is synced.</p>
+     *
+     * @throws IOException if the chars cannot be written
+     */
+    @Override
+    public void flush() throws IOException {
+        this.ensureOpen();
+        this.writeBytes();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+
+        try {
+            if (this.pending >= 0) {
+                // A surrogate pair was never completed, it is malformed
+                this.pair[0] = (char) this.pending;
+                this.pending = -1;
+                this.encode(CharBuffer.wrap(this.pair, 0, 1), true);
+            } else {
+                this.encode(CharBuffer.allocate(0), true);
+            }
+
+            while (this.encoder.flush(this.bytes).isOverflow()) {
+                this.writeBytes();
+            }
+
+            this.writeBytes();
+
+            if (this.sync) {
+                this.channel.force(true);
+            }
+        } finally {
+            this.closed = true;
+            this.channel.close();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (this.closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+}
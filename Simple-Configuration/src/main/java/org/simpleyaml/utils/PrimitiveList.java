@@ -0,0 +1,356 @@
+package org.simpleyaml.utils;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A list of numbers backed by a primitive array, to avoid a boxed object per element.
+ * <p>
+ * Elements are boxed only when they are read as objects. If an element that is not of the primitive type
+ * of the list is added or set, then the list is converted to a boxed list that accepts any object.
+ * Use {@link #isPrimitive()} to check if the list is still backed by a primitive array.
+ */
+public abstract class PrimitiveList extends AbstractList<Object> implements RandomAccess {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    protected int size;
+
+    private List<Object> boxed;
+
+    /**
+     * Checks if this list is still backed by a primitive array.
+     *
+     * @return true if all the elements are of the primitive type of this list
+     */
+    public boolean isPrimitive() {
+        return this.boxed == null;
+    }
+
+    @Override
+    public int size() {
+        return this.boxed != null ? this.boxed.size() : this.size;
+    }
+
+    @Override
+    public Object get(final int index) {
+        if (this.boxed != null) {
+            return this.boxed.get(index);
+        }
+        this.checkIndex(index, this.size);
+        return this.box(index);
+    }
+
+    @Override
+    public Object set(final int index, final Object element) {
+        if (this.boxed == null) {
+            this.checkIndex(index, this.size);
+            if (this.accepts(element)) {
+                final Object previous = this.box(index);
+                this.store(index, element);
+                return previous;
+            }
+            this.toBoxed();
+        }
+        return this.boxed.set(index, element);
+    }
+
+    @Override
+    public void add(final int index, final Object element) {
+        if (this.boxed == null) {
+            this.checkIndex(index, this.size + 1);
+            if (this.accepts(element)) {
+                if (this.size == this.capacity()) {
+                    this.resize(Math.max(DEFAULT_CAPACITY, this.size + (this.size >> 1)));
+                }
+                this.move(index, index + 1, this.size - index);
+                this.store(index, element);
+                this.size++;
+                this.modCount++;
+                return;
+            }
+            this.toBoxed();
+        }
+        this.boxed.add(index, element);
+        this.modCount++;
+    }
+
+    @Override
+    public Object remove(final int index) {
+        if (this.boxed != null) {
+            this.modCount++;
+            return this.boxed.remove(index);
+        }
+        this.checkIndex(index, this.size);
+        final Object previous = this.box(index);
+        this.move(index + 1, index, this.size - index - 1);
+        this.size--;
+        this.modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        if (this.boxed != null) {
+            this.boxed.clear();
+        }
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /**
+     * Releases the unused capacity of the primitive array.
+     */
+    public void trimToSize() {
+        if (this.boxed == null && this.size < this.capacity()) {
+            this.resize(this.size);
+        }
+    }
+
+    protected abstract Object box(int index);
+
+    protected abstract boolean accepts(Object element);
+
+    protected abstract void store(int index, Object element);
+
+    protected abstract int capacity();
+
+    protected abstract void resize(int capacity);
+
+    protected abstract void move(int from, int to, int length);
+
+    private void toBoxed() {
+        final List<Object> list = new ArrayList<>(Math.max(DEFAULT_CAPACITY, this.size + 1));
+        for (int i = 0; i < this.size; i++) {
+            list.add(this.box(i));
+        }
+        this.resize(0);
+        this.size = 0;
+        this.boxed = list;
+    }
+
+    private void checkIndex(final int index, final int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+
+    /**
+     * A list of Integer backed by an int array.
+     */
+    public static final class OfInt extends PrimitiveList {
+
+        private int[] elements;
+
+        public OfInt(final int[] elements) {
+            this.elements = elements;
+            this.size = elements.length;
+        }
+
+        public OfInt() {
+            this(new int[0]);
+        }
+
+        /**
+         * Gets an element without boxing it.
+         *
+         * @param index index of the element, only if {@link #isPrimitive()}
+         * @return the element at the specified position
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        public int getInt(final int index) {
+            if (!this.isPrimitive()) {
+                return ((Number) this.get(index)).intValue();
+            }
+            // the array may be larger than the list
+            super.checkIndex(index, this.size);
+            return this.elements[index];
+        }
+
+        /**
+         * Copies the elements to a new array.
+         *
+         * @return the elements of this list, only if {@link #isPrimitive()}
+         */
+        public int[] toIntArray() {
+            return Arrays.copyOf(this.elements, this.size);
+        }
+
+        @Override
+        protected Object box(final int index) {
+            return this.elements[index];
+        }
+
+        @Override
+        protected boolean accepts(final Object element) {
+            return element instanceof Integer;
+        }
+
+        @Override
+        protected void store(final int index, final Object element) {
+            this.elements[index] = (Integer) element;
+        }
+
+        @Override
+        protected int capacity() {
+            return this.elements.length;
+        }
+
+        @Override
+        protected void resize(final int capacity) {
+            this.elements = Arrays.copyOf(this.elements, capacity);
+        }
+
+        @Override
+        protected void move(final int from, final int to, final int length) {
+            System.arraycopy(this.elements, from, this.elements, to, length);
+        }
+    }
+
+    /**
+     * A list of Long backed by a long array.
+     */
+    public static final class OfLong extends PrimitiveList {
+
+        private long[] elements;
+
+        public OfLong(final long[] elements) {
+            this.elements = elements;
+            this.size = elements.length;
+        }
+
+        public OfLong() {
+            this(new long[0]);
+        }
+
+        /**
+         * Gets an element without boxing it.
+         *
+         * @param index index of the element, only if {@link #isPrimitive()}
+         * @return the element at the specified position
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        public long getLong(final int index) {
+            if (!this.isPrimitive()) {
+                return ((Number) this.get(index)).longValue();
+            }
+            // the array may be larger than the list
+            super.checkIndex(index, this.size);
+            return this.elements[index];
+        }
+
+        /**
+         * Copies the elements to a new array.
+         *
+         * @return the elements of this list, only if {@link #isPrimitive()}
+         */
+        public long[] toLongArray() {
+            return Arrays.copyOf(this.elements, this.size);
+        }
+
+        @Override
+        protected Object box(final int index) {
+            return this.elements[index];
+        }
+
+        @Override
+        protected boolean accepts(final Object element) {
+            return element instanceof Long;
+        }
+
+        @Override
+        protected void store(final int index, final Object element) {
+            this.elements[index] = (Long) element;
+        }
+
+        @Override
+        protected int capacity() {
+            return this.elements.length;
+        }
+
+        @Override
+        protected void resize(final int capacity) {
+            this.elements = Arrays.copyOf(this.elements, capacity);
+        }
+
+        @Override
+        protected void move(final int from, final int to, final int length) {
+            System.arraycopy(this.elements, from, this.elements, to, length);
+        }
+    }
+
+    /**
+     * A list of Double backed by a double array.
+     */
+    public static final class OfDouble extends PrimitiveList {
+
+        private double[] elements;
+
+        public OfDouble(final double[] elements) {
+            this.elements = elements;
+            this.size = elements.length;
+        }
+
+        public OfDouble() {
+            this(new double[0]);
+        }
+
+        /**
+         * Gets an element without boxing it.
+         *
+         * @param index index of the element, only if {@link #isPrimitive()}
+         * @return the element at the specified position
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        public double getDouble(final int index) {
+            if (!this.isPrimitive()) {
+                return ((Number) this.get(index)).doubleValue();
+            }
+            // the array may be larger than the list
+            super.checkIndex(index, this.size);
+            return this.elements[index];
+        }
+
+        /**
+         * Copies the elements to a new array.
+         *
+         * @return the elements of this list, only if {@link #isPrimitive()}
+         */
+        public double[] toDoubleArray() {
+            return Arrays.copyOf(this.elements, this.size);
+        }
+
+        @Override
+        protected Object box(final int index) {
+            return this.elements[index];
+        }
+
+        @Override
+        protected boolean accepts(final Object element) {
+            return element instanceof Double;
+        }
+
+        @Override
+        protected void store(final int index, final Object element) {
+            this.elements[index] = (Double) element;
+        }
+
+        @Override
+        protected int capacity() {
+            return this.elements.length;
+        }
+
+        @Override
+        protected void resize(final int capacity) {
+            this.elements = Arrays.copyOf(this.elements, capacity);
+        }
+
+        @Override
+        protected void move(final int from, final int to, final int length) {
+            System.arraycopy(this.elements, from, this.elements, to, length);
+        }
+    }
+}
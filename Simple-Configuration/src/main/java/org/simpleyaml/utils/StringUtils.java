@@ -135,6 +135,65 @@ public final class StringUtils {
         return firstSeparatorIndex(path, sep, 0);
     }
 
+    /**
+     * Gets the position of the list index of a path node, like <code>list[0]</code> or <code>[-1]</code>.
+     * <p>
+     * This is the same as matching {@link #LIST_INDEX} but without allocating a matcher,
+     * returning immediately for nodes that do not end with <code>]</code>.
+     *
+     * @param node the path node
+     * @return the position of the opening <code>[</code> of the list index, or -1 if the node has no list index
+     */
+    public static int listIndexStart(final String node) {
+        final int end = node.length() - 1;
+        if (end < 2 || node.charAt(end) != ']') {
+            return -1;
+        }
+        int i = end - 1;
+        while (i >= 0 && isDigit(node.charAt(i))) {
+            i--;
+        }
+        if (i == end - 1) {
+            return -1; // no digits
+        }
+        if (i >= 0 && node.charAt(i) == '-') {
+            i--;
+        }
+        return i >= 0 && node.charAt(i) == '[' ? i : -1;
+    }
+
+    /**
+     * Parses the list index of a path node.
+     *
+     * @param node the path node
+     * @param start the position of the opening <code>[</code> as returned by {@link #listIndexStart(String)}
+     * @return the list index, negative indexes refer to positions starting from the end of the list
+     * @throws NumberFormatException if the index is out of the int range
+     */
+    public static int parseListIndex(final String node, final int start) {
+        final int end = node.length() - 1;
+        int i = start + 1;
+        final boolean negative = node.charAt(i) == '-';
+        if (negative) {
+            i++;
+        }
+        // accumulate negatively to reach Integer.MIN_VALUE, like Integer.parseInt
+        final int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        int index = 0;
+        for (; i < end; i++) {
+            final int digit = node.charAt(i) - '0';
+            if (index < limit / 10 || (index *= 10) < limit + digit) {
+                throw new NumberFormatException("For input string: \"" + node.substring(start + 1, end) + "\"");
+            }
+            index -= digit;
+        }
+        return negative ? index : -index;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
     public static boolean allLinesArePrefixed(final String comment, final String prefix) {
         return Arrays.stream(lines(comment, false)).allMatch(line -> line.trim().startsWith(prefix));
     }
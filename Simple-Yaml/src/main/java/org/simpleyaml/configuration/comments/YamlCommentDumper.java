@@ -7,6 +7,7 @@ import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.ArrayDeque;
 
 public class YamlCommentDumper extends YamlCommentReader {
 
@@ -19,11 +20,35 @@ public class YamlCommentDumper extends YamlCommentReader {
 
     protected KeyTree.Node commentNode, commentNodeFallback, firstListMapElement;
 
+    /**
+     * Dumped lines waiting to be merged with comments, until the lines they may read are dumped.
+     */
+    private final ArrayDeque<String> region = new ArrayDeque<>();
+
+    private ReadingQuoteStyle regionQuote = ReadingQuoteStyle.NONE;
+
+    private boolean regionEscaping;
+
+    private int regionBlockIndent = -1;
+
     public YamlCommentDumper(final YamlCommentMapper yamlCommentMapper, final DumperBus.Dumper source, final Writer writer) {
+        this(yamlCommentMapper, new DumperBus(source), writer);
+    }
+
+    /**
+     * Creates a dumper of the lines of a bus merged with comments,
+     * for instance a bus dumping in the background with a shared executor.
+     *
+     * @param yamlCommentMapper the comments to merge
+     * @param bus               the bus with the lines to merge, not dumped yet
+     * @param writer            the writer of the result
+     * @see DumperBus#DumperBus(DumperBus.Dumper, java.util.concurrent.Executor, int)
+     */
+    public YamlCommentDumper(final YamlCommentMapper yamlCommentMapper, final DumperBus bus, final Writer writer) {
         super(yamlCommentMapper.options());
         this.yamlCommentMapper = yamlCommentMapper;
         this.writer = writer instanceof BufferedWriter ? (BufferedWriter) writer : new BufferedWriter(writer);
-        this.bus = new DumperBus(source);
+        this.bus = bus;
     }
 
     /**
@@ -33,7 +58,7 @@ public class YamlCommentDumper extends YamlCommentReader {
      * @throws IOException if any problem arise while reading or writing
      */
     public void dump() throws IOException {
-        this.bus.dump();
+        this.bus.dump(this::line);
 
         while (this.nextLine()) {
             this.processLine();
@@ -48,9 +73,196 @@ public class YamlCommentDumper extends YamlCommentReader {
         this.close();
     }
 
+    /**
+     * Called with every dumped line, which is merged with comments once the lines it may read are dumped too.
+     */
+    private void line(final String line) throws IOException {
+        this.region.add(line);
+
+        if (!this.continues(line)) {
+            while (!this.region.isEmpty() && this.nextLine()) {
+                this.processLine();
+                this.writer.newLine();
+            }
+        }
+    }
+
     @Override
     protected String readLine() throws IOException {
-        return this.bus.await();
+        return this.region.poll();
+    }
+
+    /**
+     * Checks if the next lines may be read while a line is merged with comments: the continuation lines of a quoted key or value,
+     * and the lines of a block scalar and the line after it, which are read to append a side comment below the block scalar.
+     * <p>Like the reader, quotes are only opened at the start of a key or a value, and block scalars end when the indentation resets.</p>
+     *
+     * @param line the last dumped line
+     * @return true if the line cannot be merged until the next line is dumped
+     */
+    private boolean continues(final String line) {
+        final int length = line.length();
+        final int indent = indentation(line);
+
+        if (this.regionBlockIndent >= 0) {
+            if (indent > this.regionBlockIndent) {
+                return true;
+            }
+            this.regionBlockIndent = -1;
+        }
+
+        int position = indent;
+
+        if (this.regionQuote == ReadingQuoteStyle.NONE) {
+            position = skipIndicators(line, position);
+        }
+
+        while (position < length) {
+            if (this.regionQuote == ReadingQuoteStyle.NONE) {
+                final char c = line.charAt(position);
+
+                if (c == ReadingQuoteStyle.SINGLE.getChar()) {
+                    this.regionQuote = ReadingQuoteStyle.SINGLE;
+                } else if (c == ReadingQuoteStyle.DOUBLE.getChar()) {
+                    this.regionQuote = ReadingQuoteStyle.DOUBLE;
+                } else {
+                    final int separator = keySeparator(line, position);
+                    if (separator < 0) {
+                        // plain value
+                        if (isBlockIndicator(line, position)) {
+                            this.regionBlockIndent = indent;
+                            return true;
+                        }
+                        return false;
+                    }
+                    position = skipTag(line, skipSpaces(line, separator + 1));
+                    continue;
+                }
+                position++;
+            }
+
+            position = this.closeQuote(line, position);
+
+            if (this.regionQuote != ReadingQuoteStyle.NONE) {
+                return true;
+            }
+
+            position = skipSpaces(line, position);
+
+            if (position >= length || line.charAt(position) != ':') {
+                return false;
+            }
+
+            // quoted key
+            position = skipTag(line, skipSpaces(line, position + 1));
+        }
+
+        return false;
+    }
+
+    /**
+     * Skips the characters of a quoted key or value until its closing quote.
+     *
+     * @return the position after the closing quote, or the length of the line if the quote is not closed
+     */
+    private int closeQuote(final String line, int position) {
+        final int length = line.length();
+
+        if (this.regionEscaping) {
+            this.regionEscaping = false;
+            position++;
+        }
+
+        while (position < length) {
+            final char c = line.charAt(position++);
+
+            if (this.regionQuote == ReadingQuoteStyle.DOUBLE) {
+                if (c == '\\') {
+                    if (position < length) {
+                        position++;
+                    } else {
+                        this.regionEscaping = true;
+                    }
+                } else if (c == ReadingQuoteStyle.DOUBLE.getChar()) {
+                    this.regionQuote = ReadingQuoteStyle.NONE;
+                    return position;
+                }
+            } else if (c == ReadingQuoteStyle.SINGLE.getChar()) {
+                if (position < length && line.charAt(position) == ReadingQuoteStyle.SINGLE.getChar()) {
+                    position++; // escaped quote
+                } else {
+                    this.regionQuote = ReadingQuoteStyle.NONE;
+                    return position;
+                }
+            }
+        }
+
+        return length;
+    }
+
+    private static int keySeparator(final String line, final int position) {
+        int separator = line.indexOf(':', position);
+        while (separator >= 0 && separator + 1 < line.length() && !isSpace(line.charAt(separator + 1))) {
+            separator = line.indexOf(':', separator + 1);
+        }
+        return separator;
+    }
+
+    private static boolean isBlockIndicator(final String line, final int position) {
+        final int length = line.length();
+        if (position >= length || (line.charAt(position) != '|' && line.charAt(position) != '>')) {
+            return false;
+        }
+        for (int i = position + 1; i < length; i++) {
+            final char c = line.charAt(i);
+            if (c != '+' && c != '-' && !Character.isDigit(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipIndicators(final String line, int position) {
+        final int length = line.length();
+        while (position < length) {
+            final char c = line.charAt(position);
+            if ((c == '-' || c == ReadingExplicitStyle.KEY || c == ReadingExplicitStyle.VALUE)
+                    && (position + 1 == length || isSpace(line.charAt(position + 1)))) {
+                position = skipSpaces(line, position + 1);
+            } else {
+                break;
+            }
+        }
+        return position;
+    }
+
+    protected static int indentation(final String line) {
+        return skipSpaces(line, 0);
+    }
+
+    protected static int skipSpaces(final String line, int position) {
+        while (position < line.length() && isSpace(line.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    protected static int skipListIndicator(final String line, final int position) {
+        if (position + 1 < line.length() && line.charAt(position) == '-' && isSpace(line.charAt(position + 1))) {
+            return skipSpaces(line, position + 1);
+        }
+        return position;
+    }
+
+    protected static int skipTag(final String line, int position) {
+        if (line.startsWith("!!", position)) {
+            position += 2;
+            while (position < line.length() && !isSpace(line.charAt(position))) {
+                position++;
+            }
+            position = skipSpaces(line, position);
+        }
+        return position;
     }
 
     @Override
@@ -9,6 +9,8 @@ public class YamlCommentMapper implements Commentable {
 
     protected final KeyTree keyTree;
 
+    private long modifications;
+
     public YamlCommentMapper(final YamlConfigurationOptions options) {
         this(new YamlKeyTree(options));
     }
@@ -24,6 +26,7 @@ public class YamlCommentMapper implements Commentable {
         } else {
             this.setFormattedComment(this.getOrAddNode(path), comment, type);
         }
+        this.modified();
     }
 
     protected final void setFormattedComment(final KeyTree.Node node, final String comment, final CommentType type) {
@@ -75,6 +78,7 @@ public class YamlCommentMapper implements Commentable {
 
     public void removeComment(final String path, final CommentType type) {
         this.removeComment(this.getNode(path), type);
+        this.modified();
     }
 
     protected final void removeComment(final KeyTree.Node node, final CommentType type) {
@@ -87,6 +91,25 @@ public class YamlCommentMapper implements Commentable {
         }
     }
 
+    /**
+     * Gets a counter of the comments set or removed by path with {@link #setComment(String, String, CommentType)}
+     * and {@link #removeComment(String, CommentType)}.
+     * <p>
+     * Comments parsed while loading and changes done directly to the nodes of the {@link #getKeyTree() key tree} are not counted.
+     *
+     * @return the number of changes done to the comments
+     */
+    public long getModificationCount() {
+        return this.modifications;
+    }
+
+    /**
+     * Increases the {@link #getModificationCount() modification counter} of the comments.
+     */
+    protected void modified() {
+        this.modifications++;
+    }
+
     public KeyTree getKeyTree() {
         return this.keyTree;
     }
@@ -0,0 +1,89 @@
+package org.simpleyaml.configuration.file;
+
+import org.simpleyaml.utils.Validate;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * When a {@link YamlFileSaver} saves a {@link YamlFile} in the background after it is changed.
+ * <p>
+ * A save is scheduled after the first change and done when {@link #getMaxDelay() the max delay} has elapsed,
+ * or as soon as {@link #getMaxPendingMutations() the max pending mutations} have been done, whatever happens first.
+ * All the changes done meanwhile are coalesced into that single save.
+ *
+ * @see YamlFile#autosave(AutosavePolicy)
+ */
+public final class AutosavePolicy {
+
+    private final Duration maxDelay;
+
+    private final int maxPendingMutations;
+
+    /**
+     * Creates an autosave policy.
+     *
+     * @param maxDelay            the max time a change waits to be saved
+     * @param maxPendingMutations the max number of changes that wait to be saved
+     * @throws IllegalArgumentException if max delay is null or negative, or max pending mutations is not positive
+     */
+    public AutosavePolicy(final Duration maxDelay, final int maxPendingMutations) {
+        Validate.notNull(maxDelay, "Max delay cannot be null!");
+        Validate.isTrue(!maxDelay.isNegative(), "Max delay cannot be negative!");
+        Validate.isTrue(maxPendingMutations > 0, "Max pending mutations must be positive!");
+
+        this.maxDelay = maxDelay;
+        this.maxPendingMutations = maxPendingMutations;
+    }
+
+    /**
+     * Creates an autosave policy that only waits for a delay, whatever the number of changes.
+     *
+     * @param maxDelay the max time a change waits to be saved
+     * @return the autosave policy
+     * @throws IllegalArgumentException if max delay is null or negative
+     */
+    public static AutosavePolicy afterDelay(final Duration maxDelay) {
+        return new AutosavePolicy(maxDelay, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gets the max time a change waits to be saved, counted from the first change not saved yet.
+     *
+     * @return the max delay
+     */
+    public Duration getMaxDelay() {
+        return this.maxDelay;
+    }
+
+    /**
+     * Gets the max number of changes that wait to be saved before saving them without waiting for the delay.
+     *
+     * @return the max pending mutations
+     */
+    public int getMaxPendingMutations() {
+        return this.maxPendingMutations;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AutosavePolicy)) {
+            return false;
+        }
+        final AutosavePolicy that = (AutosavePolicy) o;
+        return this.maxPendingMutations == that.maxPendingMutations && this.maxDelay.equals(that.maxDelay);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.maxDelay, this.maxPendingMutations);
+    }
+
+    @Override
+    public String toString() {
+        return "AutosavePolicy{maxDelay=" + this.maxDelay + ", maxPendingMutations=" + this.maxPendingMutations + "}";
+    }
+}
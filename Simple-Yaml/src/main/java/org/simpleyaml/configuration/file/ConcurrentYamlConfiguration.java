@@ -0,0 +1,89 @@
+package org.simpleyaml.configuration.file;
+
+import org.simpleyaml.configuration.ConcurrentConfiguration;
+import org.simpleyaml.configuration.ConcurrentMemoryConfiguration;
+import org.simpleyaml.configuration.Configuration;
+import org.simpleyaml.configuration.PathFilter;
+import org.simpleyaml.configuration.implementation.api.YamlImplementation;
+import org.simpleyaml.exceptions.InvalidConfigurationException;
+import org.simpleyaml.utils.SupplierIO;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A {@link YamlConfiguration} that can be safely read and written by many threads at the same time.
+ * <p>
+ * Reads do not lock and writes only lock the section and key being modified.
+ * Loading and dumping are serialized, as they share the same {@link YamlImplementation},
+ * but they do not block the threads that only read or write values.
+ *
+ * @see ConcurrentConfiguration
+ */
+public class ConcurrentYamlConfiguration extends YamlConfiguration implements ConcurrentConfiguration {
+
+    /**
+     * Creates an empty {@link ConcurrentYamlConfiguration}.
+     */
+    public ConcurrentYamlConfiguration() {
+        super();
+    }
+
+    /**
+     * Creates an empty {@link ConcurrentYamlConfiguration} using the specified
+     * {@link Configuration} as a source for all default values.
+     *
+     * @param defaults default values
+     */
+    public ConcurrentYamlConfiguration(final Configuration defaults) {
+        super(defaults);
+    }
+
+    public ConcurrentYamlConfiguration(final YamlImplementation yamlImplementation) {
+        super(yamlImplementation);
+    }
+
+    public ConcurrentYamlConfiguration(final Configuration defaults, final YamlImplementation yamlImplementation) {
+        super(defaults, yamlImplementation);
+    }
+
+    @Override
+    public String dump() throws IOException {
+        synchronized (this.yamlImplementation) {
+            return super.dump();
+        }
+    }
+
+    @Override
+    public void dump(final Writer writer) throws IOException {
+        synchronized (this.yamlImplementation) {
+            super.dump(writer);
+        }
+    }
+
+    @Override
+    public void load(final SupplierIO.Reader readerSupplier) throws IOException, InvalidConfigurationException {
+        synchronized (this.yamlImplementation) {
+            super.load(readerSupplier);
+        }
+    }
+
+    @Override
+    public void load(final SupplierIO.Reader readerSupplier, final PathFilter filter) throws IOException, InvalidConfigurationException {
+        synchronized (this.yamlImplementation) {
+            super.load(readerSupplier, filter);
+        }
+    }
+
+    @Override
+    public void addDefault(final String path, final Object value) {
+        synchronized (this) {
+            if (this.defaults == null) {
+                this.defaults = new ConcurrentMemoryConfiguration();
+                this.modified();
+            }
+        }
+        super.addDefault(path, value);
+    }
+
+}
@@ -1,23 +1,26 @@
 package org.simpleyaml.configuration.file;
 
+import org.simpleyaml.configuration.ConfigPath;
 import org.simpleyaml.configuration.Configuration;
 import org.simpleyaml.configuration.ConfigurationSection;
+import org.simpleyaml.configuration.PathFilter;
 import org.simpleyaml.configuration.comments.format.YamlHeaderFormatter;
 import org.simpleyaml.configuration.implementation.api.QuoteStyle;
 import org.simpleyaml.configuration.implementation.api.QuoteValue;
 import org.simpleyaml.configuration.implementation.api.YamlImplementation;
 import org.simpleyaml.configuration.implementation.snakeyaml.SnakeYamlImplementation;
 import org.simpleyaml.exceptions.InvalidConfigurationException;
+import org.simpleyaml.utils.FileChannelReader;
 import org.simpleyaml.utils.StringUtils;
 import org.simpleyaml.utils.SupplierIO;
 import org.simpleyaml.utils.Validate;
 
 import java.io.*;
-import java.nio.file.Files;
+import java.nio.file.Path;
 
 /**
  * An implementation of {@link Configuration} which saves the configuration in Yaml.
- * Note that this implementation is not synchronized.
+ * Note that this implementation is not synchronized, see {@link ConcurrentYamlConfiguration} for a thread-safe one.
  *
  * @author Bukkit
  * @author Carleslc
@@ -130,9 +133,59 @@ public class YamlConfiguration extends FileConfiguration {
     public void load(final SupplierIO.Reader readerSupplier) throws IOException, InvalidConfigurationException {
         Validate.notNull(readerSupplier, "Reader supplier cannot be null");
 
-        this.loadHeader(readerSupplier.get());
+        final SupplierIO.Reader source = this.options().bufferedLoad() ? readOnce(readerSupplier) : readerSupplier;
 
-        this.yamlImplementation.load(readerSupplier, this);
+        this.loadHeader(source.get());
+
+        this.yamlImplementation.load(source, this);
+    }
+
+    /**
+     * Loads this {@link YamlConfiguration} from the specified reader, only with the values whose paths are included by a filter.
+     * <p>
+     * Like {@link #load(SupplierIO.Reader)}, but the subtrees not included by the filter are skipped,
+     * so loading a few sections of a large configuration does not construct the values of the other ones.
+     * How early the subtrees are skipped depends on the {@link #getImplementation() implementation},
+     * the snakeyaml implementations skip them while parsing.
+     *
+     * @param  readerSupplier                a function providing the reader to load from (new instance)
+     * @param  filter                        the filter of the paths to load
+     * @throws IOException                   Thrown when underlying reader throws an IOException.
+     * @throws InvalidConfigurationException Thrown when the reader does not represent a valid Configuration.
+     * @throws IllegalArgumentException      Thrown when reader or filter are null.
+     */
+    public void load(final SupplierIO.Reader readerSupplier, final PathFilter filter) throws IOException, InvalidConfigurationException {
+        Validate.notNull(readerSupplier, "Reader supplier cannot be null");
+        Validate.notNull(filter, "Filter cannot be null");
+
+        final SupplierIO.Reader source = this.options().bufferedLoad() ? readOnce(readerSupplier) : readerSupplier;
+
+        this.loadHeader(source.get());
+
+        this.yamlImplementation.load(source, this, filter);
+    }
+
+    /**
+     * Reads the contents of a reader supplier into memory, to load them without reading the source again.
+     *
+     * @param readerSupplier a function providing the reader to load from (new instance)
+     * @return a function providing readers of the contents read
+     * @throws IOException if the reader cannot be read
+     * @see YamlConfigurationOptions#bufferedLoad(boolean)
+     */
+    static SupplierIO.Reader readOnce(final SupplierIO.Reader readerSupplier) throws IOException {
+        final StringBuilder contents = new StringBuilder();
+
+        try (final Reader reader = readerSupplier.get()) {
+            final char[] buffer = new char[8192];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                contents.append(buffer, 0, read);
+            }
+        }
+
+        final String buffered = contents.toString();
+        return () -> new StringReader(buffered);
     }
 
     protected void loadHeader(final Reader reader) throws IOException {
@@ -197,7 +250,50 @@ public class YamlConfiguration extends FileConfiguration {
     @Override
     public void load(final File file) throws FileNotFoundException, IOException, InvalidConfigurationException {
         Validate.notNull(file, "File cannot be null");
-        load(() -> Files.newInputStream(file.toPath()));
+        this.load(file.toPath());
+    }
+
+    /**
+     * Loads this configuration from the specified file path.
+     * <p>
+     * All the values contained within this configuration will be removed,
+     * leaving only settings and defaults, and the new values will be loaded
+     * from the given file.
+     * <p>
+     * If the file cannot be loaded for any reason, an exception will be
+     * thrown.
+     * <p>
+     * The file is decoded straight into the parser from a {@link java.nio.channels.FileChannel},
+     * memory-mapped if it is large, see {@link FileChannelReader}.
+     * This method will use the {@link #options()} {@link FileConfigurationOptions#charset() charset} encoding,
+     * which defaults to UTF8.
+     *
+     * @param path File path to load from.
+     * @throws java.nio.file.NoSuchFileException Thrown when the given file does not exist.
+     * @throws IOException                       Thrown when the given file cannot be read.
+     * @throws InvalidConfigurationException     Thrown when the given file is not a valid Configuration.
+     * @throws IllegalArgumentException          Thrown when path is null.
+     */
+    @Override
+    public void load(final Path path) throws IOException, InvalidConfigurationException {
+        Validate.notNull(path, "Path cannot be null");
+        this.load(() -> FileChannelReader.open(path, this.options().charset()));
+    }
+
+    /**
+     * Loads this {@link YamlConfiguration} from the specified path, only with the values whose paths are included by a filter.
+     *
+     * @param path   File path to load from.
+     * @param filter the filter of the paths to load
+     * @throws java.nio.file.NoSuchFileException Thrown when the given file does not exist.
+     * @throws IOException                       Thrown when the given file cannot be read.
+     * @throws InvalidConfigurationException     Thrown when the given file is not a valid Configuration.
+     * @throws IllegalArgumentException          Thrown when path or filter are null.
+     * @see #load(SupplierIO.Reader, PathFilter)
+     */
+    public void load(final Path path, final PathFilter filter) throws IOException, InvalidConfigurationException {
+        Validate.notNull(path, "Path cannot be null");
+        this.load(() -> FileChannelReader.open(path, this.options().charset()), filter);
     }
 
     /**
@@ -329,7 +425,8 @@ public class YamlConfiguration extends FileConfiguration {
     @Deprecated
     @SuppressWarnings("DuplicateThrows")
     public void load(final Reader reader) throws IOException, InvalidConfigurationException {
-        super.load(reader);
+        Validate.notNull(reader, "Reader cannot be null");
+        this.load(readOnce(() -> reader));
     }
 
     /**
@@ -356,21 +453,34 @@ public class YamlConfiguration extends FileConfiguration {
     }
 
     /**
-     * Sets the specified path to the given value.
+     * Sets the specified compiled path to the given value.
+     * <p>
+     * The value will be represented with the specified quote style in the configuration file.
+     *
+     * @param path  Compiled path of the object to set.
+     * @param value New value to set the path to.
+     * @param quoteStyle The quote style to use.
+     * @see #set(String, Object, QuoteStyle)
+     */
+    public void set(final ConfigPath path, final Object value, final QuoteStyle quoteStyle) {
+        this.set(path, new QuoteValue<>(value, quoteStyle));
+    }
+
+    /**
+     * Sets the specified compiled path to the given value.
      * <p>
      * If value is null, the entry will be removed. Any existing entry will be
      * replaced, regardless of what the new value is.
      * <p>
-     * Some implementations may have limitations on what you may store. See
-     * their individual javadocs for details. No implementations should allow
-     * you to store {@link Configuration}s or {@link ConfigurationSection}s,
-     * please use {@link #createSection(String)} for that.
+     * The value will be represented with the quote style of its type
+     * if it is configured in {@link YamlConfigurationOptions#quoteStyleDefaults()}.
      *
-     * @param path  Path of the object to set.
+     * @param path  Compiled path of the object to set.
      * @param value New value to set the path to.
+     * @see #set(String, Object)
      */
     @Override
-    public void set(final String path, final Object value) {
+    public void set(final ConfigPath path, final Object value) {
         if (value != null && !(value instanceof QuoteValue)) {
             final QuoteStyle quoteStyle = this.options().quoteStyleDefaults().getExplicitQuoteStyleInstanceOf(value.getClass());
             if (quoteStyle != null) {
@@ -382,7 +492,7 @@ public class YamlConfiguration extends FileConfiguration {
     }
 
     @Override
-    public Object get(final String path, final Object def) {
+    public Object get(final ConfigPath path, final Object def) {
         Object object = super.get(path, def);
 
         if (object instanceof QuoteValue) {
@@ -392,6 +502,11 @@ public class YamlConfiguration extends FileConfiguration {
         return object;
     }
 
+    @Override
+    protected Object snapshotValue(final Object value) {
+        return value instanceof QuoteValue ? ((QuoteValue<?>) value).getValue() : value;
+    }
+
     @Override
     public YamlConfigurationOptions options() {
         if (this.options == null) {
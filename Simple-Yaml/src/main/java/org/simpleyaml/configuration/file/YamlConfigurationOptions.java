@@ -41,6 +41,26 @@ public class YamlConfigurationOptions extends FileConfigurationOptions {
      */
     private boolean useComments = false;
 
+    /**
+     * Store numeric lists backed by primitive arrays when loading.
+     */
+    private boolean primitiveLists = false;
+
+    /**
+     * Read the source only once when loading.
+     */
+    private boolean bufferedLoad = false;
+
+    private boolean lazyLoad = false;
+
+    private boolean compiledCache = false;
+
+    private boolean singlePassComments = false;
+
+    private boolean streamingDump = false;
+
+    private boolean skipUnchangedSave = false;
+
     protected YamlConfigurationOptions(final YamlConfiguration configuration) {
         super(configuration);
 
@@ -58,6 +78,12 @@ public class YamlConfigurationOptions extends FileConfigurationOptions {
         return this;
     }
 
+    @Override
+    public YamlConfigurationOptions indexPaths(final boolean value) {
+        super.indexPaths(value);
+        return this;
+    }
+
     @Override
     public YamlConfigurationOptions pathSeparator(final char value) {
         super.pathSeparator(value);
@@ -94,6 +120,24 @@ public class YamlConfigurationOptions extends FileConfigurationOptions {
         return (YamlHeaderFormatter) super.headerFormatter();
     }
 
+    @Override
+    public YamlConfigurationOptions atomicSave(final boolean atomicSave) {
+        super.atomicSave(atomicSave);
+        return this;
+    }
+
+    @Override
+    public YamlConfigurationOptions syncOnSave(final boolean syncOnSave) {
+        super.syncOnSave(syncOnSave);
+        return this;
+    }
+
+    @Override
+    public YamlConfigurationOptions saveBufferSize(final int saveBufferSize) {
+        super.saveBufferSize(saveBufferSize);
+        return this;
+    }
+
     /**
      * Sets how much spaces should be used to indent each line.
      * <p>
@@ -194,6 +238,222 @@ public class YamlConfigurationOptions extends FileConfigurationOptions {
         return this.useComments;
     }
 
+    /**
+     * Sets if lists made only of integers, longs or doubles should be stored backed by primitive arrays when loading.
+     * <p>These lists are instances of {@link org.simpleyaml.utils.PrimitiveList PrimitiveList},
+     * which avoid a boxed object per element while the list keeps numbers of the same type,
+     * and can be read without boxing with {@link org.simpleyaml.configuration.ConfigurationSection#getIntArray(String) getIntArray},
+     * {@link org.simpleyaml.configuration.ConfigurationSection#getLongArray(String) getLongArray}
+     * and {@link org.simpleyaml.configuration.ConfigurationSection#getDoubleArray(String) getDoubleArray}.</p>
+     * Default is false.
+     *
+     * @param primitiveLists if numeric lists should be backed by primitive arrays
+     * @return This object, for chaining
+     */
+    public YamlConfigurationOptions primitiveLists(final boolean primitiveLists) {
+        this.primitiveLists = primitiveLists;
+        return this;
+    }
+
+    /**
+     * Indicates if lists made only of integers, longs or doubles are stored backed by primitive arrays when loading.
+     * <p/>
+     * Default is false.
+     *
+     * @return if numeric lists are backed by primitive arrays
+     * @see #primitiveLists(boolean)
+     */
+    public boolean primitiveLists() {
+        return this.primitiveLists;
+    }
+
+    /**
+     * Sets if the source should be read only once when loading, keeping its contents in memory while it is loaded.
+     * <p>Loading from a {@link org.simpleyaml.utils.SupplierIO supplier} opens the source once for the header,
+     * once for the values and once more for the comments if {@link #useComments()} is enabled.
+     * With this option the source is opened and decoded only once and the following passes read it from memory,
+     * which is faster for files on slow disks, at the cost of holding the whole contents in memory while loading.</p>
+     * Default is false.
+     *
+     * @param bufferedLoad if the source should be read only once when loading
+     * @return This object, for chaining
+     */
+    public YamlConfigurationOptions bufferedLoad(final boolean bufferedLoad) {
+        this.bufferedLoad = bufferedLoad;
+        return this;
+    }
+
+    /**
+     * Indicates if the source is read only once when loading, keeping its contents in memory while it is loaded.
+     * <p/>
+     * Default is false.
+     *
+     * @return if the source is read only once when loading
+     * @see #bufferedLoad(boolean)
+     */
+    public boolean bufferedLoad() {
+        return this.bufferedLoad;
+    }
+
+    /**
+     * Sets if child sections should be loaded the first time they are accessed instead of when the source is loaded.
+     * <p>The whole source is still parsed when loading, but the child sections are kept as parsed nodes
+     * and their values are only constructed when any of their values or keys is accessed.
+     * Child sections not accessed are saved back from their parsed nodes without constructing them.
+     * This is faster and uses less memory for large files where only some sections are used,
+     * but values that cannot be constructed throw a {@link org.yaml.snakeyaml.error.YAMLException} when their section is accessed
+     * instead of when the source is loaded.
+     * The comments parsed by {@link org.simpleyaml.configuration.implementation.SimpleYamlImplementation} need the values,
+     * so loading with {@link #useComments()} enabled loads every section unless the implementation tracks comments from the nodes.</p>
+     * Default is false.
+     *
+     * @param lazyLoad if child sections should be loaded the first time they are accessed
+     * @return This object, for chaining
+     * @see org.simpleyaml.configuration.LazyMemorySection
+     */
+    public YamlConfigurationOptions lazyLoad(final boolean lazyLoad) {
+        this.lazyLoad = lazyLoad;
+        return this;
+    }
+
+    /**
+     * Indicates if child sections are loaded the first time they are accessed instead of when the source is loaded.
+     * <p/>
+     * Default is false.
+     *
+     * @return if child sections are loaded the first time they are accessed
+     * @see #lazyLoad(boolean)
+     */
+    public boolean lazyLoad() {
+        return this.lazyLoad;
+    }
+
+    /**
+     * Sets if {@link YamlFile#load()} should keep a compiled binary copy of the loaded values next to the configuration file.
+     * <p>After a successful load the values and the header are written to a sidecar file with the name of the configuration file
+     * followed by <code>.cache</code>, keyed by the size, modification time and SHA-256 hash of the configuration file
+     * and by the options that change the loaded values (implementation, charset, path separator, primitive lists and quote styles).
+     * The next load reads the values from the sidecar file instead of parsing the YAML if its key matches,
+     * which makes the startup of large configurations several times faster.
+     * Any stale, corrupted or unreadable sidecar file is ignored and replaced after parsing the YAML.</p>
+     * The cache is not used when loading with {@link #useComments()} or {@link #lazyLoad()},
+     * nor for configurations with values that are not plain YAML values, like serialized objects.
+     * <p/>
+     * Default is false.
+     *
+     * @param compiledCache if loaded values should be cached next to the configuration file
+     * @return This object, for chaining
+     */
+    public YamlConfigurationOptions compiledCache(final boolean compiledCache) {
+        this.compiledCache = compiledCache;
+        return this;
+    }
+
+    /**
+     * Indicates if {@link YamlFile#load()} keeps a compiled binary copy of the loaded values next to the configuration file.
+     * <p/>
+     * Default is false.
+     *
+     * @return if loaded values are cached next to the configuration file
+     * @see #compiledCache(boolean)
+     */
+    public boolean compiledCache() {
+        return this.compiledCache;
+    }
+
+    /**
+     * Sets if comments should be merged while the values are dumped, in a single pass over the values,
+     * instead of reading the dumped YAML again to find the key of every line.
+     * <p>The dumped YAML is the same, but saving is faster because the keys and list elements are known from the values
+     * and their comments are found navigating the comments along with the values.
+     * Values that cannot be dumped this way, like values with anchors, nested lists or flow collections,
+     * fall back to reading the dumped YAML again.</p>
+     * This is only used when saving with {@link #useComments()} enabled.
+     * <p/>
+     * Default is false.
+     *
+     * @param singlePassComments if comments should be merged while the values are dumped
+     * @return This object, for chaining
+     * @see org.simpleyaml.configuration.implementation.snakeyaml.SnakeYamlCommentDumper
+     */
+    public YamlConfigurationOptions singlePassComments(final boolean singlePassComments) {
+        this.singlePassComments = singlePassComments;
+        return this;
+    }
+
+    /**
+     * Indicates if comments are merged while the values are dumped, in a single pass over the values.
+     * <p/>
+     * Default is false.
+     *
+     * @return if comments are merged while the values are dumped
+     * @see #singlePassComments(boolean)
+     */
+    public boolean singlePassComments() {
+        return this.singlePassComments;
+    }
+
+    /**
+     * Sets if sections should be written while they are walked, instead of building the YAML nodes of the whole configuration before writing.
+     * <p>Every value is represented and written on its own, so only the nodes of the value being written are kept in memory
+     * and the YAML is written to the output as it is generated.
+     * This uses less memory when saving large configurations.
+     * The YAML is the same, except for values that are shared by several keys at the same time, like the same list
+     * or the anchored nodes of a lazy loaded configuration, which are written as copies instead of with an anchor and aliases.</p>
+     * This is not used when saving with {@link #singlePassComments()} nor when the dumper options dereference aliases.
+     * <p/>
+     * Default is false.
+     *
+     * @param streamingDump if sections should be written while they are walked
+     * @return This object, for chaining
+     * @see org.simpleyaml.configuration.implementation.snakeyaml.SnakeYamlStreamSerializer
+     */
+    public YamlConfigurationOptions streamingDump(final boolean streamingDump) {
+        this.streamingDump = streamingDump;
+        return this;
+    }
+
+    /**
+     * Indicates if sections are written while they are walked, instead of building the YAML nodes of the whole configuration before writing.
+     * <p/>
+     * Default is false.
+     *
+     * @return if sections are written while they are walked
+     * @see #streamingDump(boolean)
+     */
+    public boolean streamingDump() {
+        return this.streamingDump;
+    }
+
+    /**
+     * Sets if {@link YamlFile#save()} should not write the configuration file when the configuration is not {@link YamlFile#isDirty() dirty}
+     * and the file has not been modified or deleted since it was loaded or saved.
+     * <p>This avoids rewriting unchanged files when they are saved periodically,
+     * but changes that are not tracked, like changes to lists or maps got from the configuration, are not saved
+     * until something tracked changes too. Set them again to mark the configuration as dirty.</p>
+     * Default is false.
+     *
+     * @param skipUnchangedSave if saving a configuration that has not changed should not write the file
+     * @return This object, for chaining
+     * @see YamlFile#isDirty()
+     */
+    public YamlConfigurationOptions skipUnchangedSave(final boolean skipUnchangedSave) {
+        this.skipUnchangedSave = skipUnchangedSave;
+        return this;
+    }
+
+    /**
+     * Indicates if {@link YamlFile#save()} does not write the configuration file when the configuration has not changed.
+     * <p/>
+     * Default is false.
+     *
+     * @return if saving a configuration that has not changed does not write the file
+     * @see #skipUnchangedSave(boolean)
+     */
+    public boolean skipUnchangedSave() {
+        return this.skipUnchangedSave;
+    }
+
     /**
      * Get the quote style default options.
      * <p/>
@@ -213,12 +473,12 @@ public class YamlConfigurationOptions extends FileConfigurationOptions {
         if (!(o instanceof YamlConfigurationOptions)) return false;
         if (!super.equals(o)) return false;
         YamlConfigurationOptions that = (YamlConfigurationOptions) o;
-        return indentList == that.indentList && Objects.equals(commentFormatter, that.commentFormatter);
+        return indentList == that.indentList && primitiveLists == that.primitiveLists && bufferedLoad == that.bufferedLoad && lazyLoad == that.lazyLoad && compiledCache == that.compiledCache && singlePassComments == that.singlePassComments && streamingDump == that.streamingDump && skipUnchangedSave == that.skipUnchangedSave && Objects.equals(commentFormatter, that.commentFormatter);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), indentList, commentFormatter);
+        return Objects.hash(super.hashCode(), indentList, primitiveLists, bufferedLoad, lazyLoad, compiledCache, singlePassComments, streamingDump, skipUnchangedSave, commentFormatter);
     }
 
     /**
@@ -1,5 +1,8 @@
 package org.simpleyaml.configuration.file;
 
+import org.simpleyaml.configuration.ConfigPath;
+import org.simpleyaml.configuration.ConfigurationChanges;
+import org.simpleyaml.configuration.PathFilter;
 import org.simpleyaml.configuration.comments.CommentType;
 import org.simpleyaml.configuration.comments.Commentable;
 import org.simpleyaml.configuration.comments.KeyTree;
@@ -13,6 +16,7 @@ import org.simpleyaml.configuration.implementation.api.YamlImplementation;
 import org.simpleyaml.configuration.implementation.api.YamlImplementationCommentable;
 import org.simpleyaml.configuration.implementation.snakeyaml.SnakeYamlImplementation;
 import org.simpleyaml.exceptions.InvalidConfigurationException;
+import org.simpleyaml.utils.FileChannelReader;
 import org.simpleyaml.utils.SupplierIO;
 import org.simpleyaml.utils.Validate;
 
@@ -20,8 +24,22 @@ import java.io.*;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * An extension of {@link YamlConfiguration} which saves all data in Yaml to a configuration file
@@ -37,6 +55,26 @@ public class YamlFile extends YamlConfiguration implements Commentable {
      */
     private File configFile;
 
+    /**
+     * State of this configuration when it was last loaded from or saved to the configuration file, or null if it has not been
+     */
+    private volatile SavedState savedState;
+
+    /**
+     * Saver of this configuration in the background, or null if it has not been used
+     */
+    private volatile YamlFileSaver saver;
+
+    /**
+     * If this configuration is being loaded, so its changes are not counted by the saver
+     */
+    private volatile boolean loading;
+
+    /**
+     * Loads of the configuration file, to discard the saves of copies taken before the last load
+     */
+    private volatile long loads;
+
     /**
      * Builds this {@link YamlFile} without any configuration file.
      * <p>
@@ -129,15 +167,146 @@ public class YamlFile extends YamlConfiguration implements Commentable {
      * <p>
      * This method will use the {@link #options()} {@link FileConfigurationOptions#charset() charset} encoding,
      * which defaults to UTF8.
+     * <p>
+     * If {@link YamlConfigurationOptions#skipUnchangedSave(boolean)} is enabled nothing is written if this configuration
+     * is not {@link #isDirty() dirty} and the configuration file has not been modified or deleted since it was loaded or saved.
+     * Use {@link #save(File)} with the {@link #getConfigurationFile() configuration file} to write it anyway.
      *
      * @throws IOException if it hasn't been possible to save configuration file
      * @throws IllegalArgumentException if the configuration file is not set
      */
     public void save() throws IOException {
-        Validate.notNull(this.configFile, "The configuration file is not set!");
+        if (!this.needsSave()) {
+            return;
+        }
+
         this.save(this.configFile);
     }
 
+    /**
+     * Saves this {@link YamlFile} to the configuration file location in the background.
+     * <p>
+     * The values, comments and header of this configuration are copied on the calling thread,
+     * so it can be changed again as soon as this method returns, and the copy is written by the {@link #getSaver() saver}.
+     * Like {@link #save()}, if {@link YamlConfigurationOptions#skipUnchangedSave(boolean)} is enabled nothing is written
+     * if this configuration is not {@link #isDirty() dirty} and the configuration file has not been modified or deleted since it was loaded or saved.
+     *
+     * @return a future completed when the copy has been written, or exceptionally with the exception that prevented it to be written
+     * @throws IllegalArgumentException if the configuration file is not set
+     * @see YamlFileSaver#save()
+     */
+    public CompletableFuture<Void> saveAsync() {
+        return this.getSaver().save();
+    }
+
+    /**
+     * Sets when the changes done to this configuration are saved automatically in the background by the {@link #getSaver() saver}.
+     * <p>
+     * The copy to save is taken by the thread doing the change that reaches the max pending mutations,
+     * or by the saver when the max delay elapses, in which case it is taken again if this configuration is changed meanwhile.
+     *
+     * @param policy the autosave policy, or null to stop saving changes automatically
+     * @return the saver, to handle autosave errors with {@link YamlFileSaver#onError(java.util.function.Consumer)}
+     * @throws IllegalArgumentException if the configuration file is not set
+     * @see YamlFileSaver#autosave(AutosavePolicy)
+     */
+    public YamlFileSaver autosave(final AutosavePolicy policy) {
+        return this.getSaver().autosave(policy);
+    }
+
+    /**
+     * Gets the saver of this configuration in the background, creating it the first time.
+     * <p>
+     * By default the saver writes with a background thread and a {@link YamlFile} with the same implementation
+     * and options to write as this one. Use {@link #setSaver(YamlFileSaver)} to write with other executor or options.
+     *
+     * @return the saver of this configuration
+     * @throws IllegalArgumentException if the configuration file is not set
+     */
+    public YamlFileSaver getSaver() {
+        YamlFileSaver saver = this.saver;
+        if (saver == null) {
+            synchronized (this) {
+                saver = this.saver;
+                if (saver == null) {
+                    this.saver = saver = new YamlFileSaver(this);
+                }
+            }
+        }
+        return saver;
+    }
+
+    /**
+     * Sets the saver of this configuration in the background.
+     * <p>
+     * The previous saver, if any, is {@link YamlFileSaver#close() closed}.
+     *
+     * @param saver a saver of this configuration, or null to close the current one
+     * @throws IllegalArgumentException if the saver does not save this configuration
+     */
+    public void setSaver(final YamlFileSaver saver) {
+        Validate.isTrue(saver == null || saver.getYamlFile() == this, "The saver must save this configuration!");
+
+        final YamlFileSaver previous;
+        synchronized (this) {
+            previous = this.saver;
+            this.saver = saver;
+        }
+
+        if (previous != null && previous != saver) {
+            previous.close();
+        }
+    }
+
+    @Override
+    public void save(final Path path) throws IOException {
+        // changes done while saving may not be written, so the state is taken before
+        final SavedState state = new SavedState(this);
+
+        super.save(path);
+
+        if (this.isConfigurationFile(path)) {
+            this.saved(state);
+        }
+    }
+
+    /**
+     * Checks if this configuration has changed since it was last loaded from or saved to the configuration file.
+     * <p>
+     * This configuration is dirty if any value or section has been set or removed through the {@link org.simpleyaml.configuration.ConfigurationSection}
+     * methods, the defaults or the options affecting how paths are read have been changed, the header or the options
+     * changing how the file is written have been changed, or a comment has been set or removed through
+     * {@link #setComment(String, String, CommentType)} or the {@link #getCommentMapper() comment mapper}.
+     * It is also dirty if it has not been loaded from nor saved to the configuration file yet,
+     * or if it has been loaded from another source.
+     * <p>
+     * Changes done to lists or maps got from this configuration or to the nodes of the comment mapper are not tracked.
+     *
+     * @return true if this configuration has changed since it was last loaded or saved
+     * @see #save()
+     * @see #getModificationCount()
+     */
+    public boolean isDirty() {
+        final SavedState savedState = this.savedState;
+        return savedState == null || !savedState.matches(this);
+    }
+
+    @Override
+    protected void modified() {
+        super.modified();
+        this.notifySaver();
+    }
+
+    /**
+     * Notifies a change to the saver, to save it automatically.
+     */
+    private void notifySaver() {
+        final YamlFileSaver saver = this.saver;
+        if (saver != null && !this.loading) {
+            saver.modified();
+        }
+    }
+
     /**
      * Saves this {@link YamlFile} to a string and returns it.
      * <p>
@@ -166,6 +335,7 @@ public class YamlFile extends YamlConfiguration implements Commentable {
     public void setComment(final String path, final String comment, final CommentType type) {
         if (this.yamlImplementation instanceof YamlImplementationCommentable) {
             ((YamlImplementationCommentable) this.yamlImplementation).setComment(path, comment, type);
+            this.notifySaver();
         }
     }
 
@@ -424,6 +594,7 @@ public class YamlFile extends YamlConfiguration implements Commentable {
      */
     public void setHeader(final String header) {
         this.options().header(header);
+        this.notifySaver();
     }
 
     /**
@@ -496,13 +667,13 @@ public class YamlFile extends YamlConfiguration implements Commentable {
     }
 
     @Override
-    public void set(final String path, final Object value) {
+    public void set(final ConfigPath path, final Object value) {
         super.set(path, value);
 
         if (this.getCommentMapper() != null) {
             final Object innerValue = value instanceof QuoteValue ? ((QuoteValue<?>) value).getValue() : value;
             if (innerValue instanceof Collection) {
-                this.setListNode((Collection<?>) innerValue, this.getCommentMapper().getNode(path));
+                this.setListNode((Collection<?>) innerValue, this.getCommentMapper().getNode(path.getPath()));
             }
         }
     }
@@ -531,6 +702,9 @@ public class YamlFile extends YamlConfiguration implements Commentable {
      * <p>
      * Note that this method will not load comments of original configuration file,
      * if needed use {@link #loadWithComments()} instead.
+     * <p>
+     * If the {@link YamlConfigurationOptions#compiledCache(boolean) compiled cache} is enabled the values are read
+     * from the cache file instead of parsing the configuration file if it has not changed since it was cached.
      *
      * @throws IOException                   if it hasn't been possible to load file
      * @throws InvalidConfigurationException if there has been an error while parsing configuration file
@@ -539,7 +713,32 @@ public class YamlFile extends YamlConfiguration implements Commentable {
      */
     public void load() throws InvalidConfigurationException, IOException {
         Validate.notNull(this.configFile, "This configuration file is null!");
-        this.load(this.configFile);
+
+        final boolean loading = this.loading;
+        this.loading = true;
+        this.loads++;
+
+        try {
+            final SavedState state;
+
+            if (YamlFileCache.isEnabled(this.options())) {
+                final YamlFileCache cache = new YamlFileCache(this.configFile.toPath());
+                if (!cache.read(this)) {
+                    this.load(this.configFile);
+                    state = new SavedState(this);
+                    cache.write(this);
+                } else {
+                    state = new SavedState(this);
+                }
+            } else {
+                this.load(this.configFile);
+                state = new SavedState(this);
+            }
+
+            this.loaded(state);
+        } finally {
+            this.loading = loading;
+        }
     }
 
     /**
@@ -560,6 +759,85 @@ public class YamlFile extends YamlConfiguration implements Commentable {
         this.load();
     }
 
+    /**
+     * Reloads this configuration file, changing only the values that differ from the ones loaded.
+     * <p>
+     * The file is parsed apart and then compared with the current values: sections present in both are kept
+     * and updated in place, so references to them are still valid, values that are equal are not set again,
+     * and the values that differ are set, added or removed. Defaults are not reloaded.
+     * If {@link YamlConfigurationOptions#useComments()} is enabled the comments are reloaded too.
+     * <p>
+     * If the file cannot be loaded the current values are not changed.
+     *
+     * @return the paths changed, added and removed by the reload, see {@link ConfigurationChanges}
+     * @throws IOException                   if it hasn't been possible to load file
+     * @throws InvalidConfigurationException if there has been an error while parsing configuration file
+     * @throws FileNotFoundException         if configuration file is not found
+     * @see ConfigurationChanges#update(org.simpleyaml.configuration.MemorySection, org.simpleyaml.configuration.MemorySection)
+     */
+    public ConfigurationChanges reload() throws InvalidConfigurationException, IOException {
+        Validate.notNull(this.configFile, "This configuration file is null!");
+
+        final boolean loading = this.loading;
+        this.loading = true;
+        this.loads++;
+
+        try {
+            return this.reloadValues();
+        } finally {
+            this.loading = loading;
+        }
+    }
+
+    private ConfigurationChanges reloadValues() throws InvalidConfigurationException, IOException {
+        final YamlConfigurationOptions options = this.options();
+        final SupplierIO.Reader source = readOnce(() -> FileChannelReader.open(this.configFile.toPath(), options.charset()));
+
+        final YamlFile loaded = this.newLoadTarget();
+        loaded.loadHeader(source.get());
+
+        // comments are reloaded once the values are updated, as they are checked against the values of this configuration
+        if (this.yamlImplementation instanceof SnakeYamlImplementation) {
+            ((SnakeYamlImplementation) this.yamlImplementation).loadValues(source, loaded);
+        } else {
+            this.yamlImplementation.load(source, loaded);
+        }
+
+        final ConfigurationChanges changes = ConfigurationChanges.update(this, loaded);
+
+        options.header(loaded.options().header());
+
+        if (options.useComments()) {
+            if (this.yamlImplementation instanceof SimpleYamlImplementation) {
+                ((SimpleYamlImplementation) this.yamlImplementation).parseComments(source.get());
+            } else {
+                this.yamlImplementation.load(source, this.newLoadTarget());
+            }
+        }
+
+        this.loaded(new SavedState(this));
+
+        return changes;
+    }
+
+    /**
+     * Creates an empty configuration to load the values of this configuration file apart,
+     * with the options that change how the values are set.
+     */
+    private YamlFile newLoadTarget() {
+        final YamlFile yamlFile = new YamlFile();
+        final YamlConfigurationOptions options = this.options();
+
+        if (options.pathSeparator() != yamlFile.options().pathSeparator()) {
+            yamlFile.options().pathSeparator(options.pathSeparator());
+        }
+
+        yamlFile.options().quoteStyleDefaults().setDefaultQuoteStyle(options.quoteStyleDefaults().getDefaultQuoteStyle());
+        options.quoteStyleDefaults().getQuoteStyles().forEach(yamlFile.options().quoteStyleDefaults()::setQuoteStyle);
+
+        return yamlFile;
+    }
+
     /**
      * Loads this {@link YamlFile} from the specified reader.
      * <p>
@@ -576,7 +854,35 @@ public class YamlFile extends YamlConfiguration implements Commentable {
      */
     @Override
     public void load(final SupplierIO.Reader readerSupplier) throws IOException, InvalidConfigurationException {
-        super.load(readerSupplier);
+        final boolean loading = this.loading;
+        this.loading = true;
+
+        try {
+            super.load(readerSupplier);
+        } finally {
+            this.loading = loading;
+        }
+
+        // values loaded from another source are a single change to save
+        if (!loading) {
+            this.notifySaver();
+        }
+    }
+
+    @Override
+    public void load(final SupplierIO.Reader readerSupplier, final PathFilter filter) throws IOException, InvalidConfigurationException {
+        final boolean loading = this.loading;
+        this.loading = true;
+
+        try {
+            super.load(readerSupplier, filter);
+        } finally {
+            this.loading = loading;
+        }
+
+        if (!loading) {
+            this.notifySaver();
+        }
     }
 
     /**
@@ -615,6 +921,108 @@ public class YamlFile extends YamlConfiguration implements Commentable {
         this.loadWithComments();
     }
 
+    /**
+     * Starts reloading this configuration file in the background every time it changes.
+     * <p>
+     * Every reload loads a new {@link YamlFile} with the same configuration file, defaults and basic options
+     * (charset, indentation, path separator, comments, formatters, quote styles and list options) as this one,
+     * and an implementation of the same kind loading like this one (see {@link SnakeYamlImplementation#newInstance()}),
+     * and replaces the one returned by {@link YamlFileReloader#get()} at once.
+     * This {@link YamlFile} is returned until the first reload, and it is not modified by the reloader.
+     * <p>
+     * To reload with other options use {@link YamlFileReloader#YamlFileReloader(YamlFile, java.util.function.Supplier)}.
+     *
+     * @return the started reloader, which must be closed to stop watching the file
+     * @throws IOException if the directory of the configuration file cannot be watched
+     * @see YamlFileReloader
+     */
+    public YamlFileReloader watch() throws IOException {
+        Validate.notNull(this.configFile, "This configuration file is null!");
+        return new YamlFileReloader(this, this::newReloadFile).start();
+    }
+
+    private YamlFile newReloadFile() {
+        final YamlFile yamlFile = new YamlFile(this.newImplementation());
+        final YamlConfigurationOptions options = this.options();
+
+        yamlFile.setConfigurationFile(this.configFile);
+        yamlFile.options()
+            .charset(options.charset())
+            .copyHeader(options.copyHeader())
+            .headerFormatter(options.headerFormatter())
+            .commentFormatter(options.commentFormatter())
+            .indent(options.indent())
+            .indentList(options.indentList())
+            .useComments(options.useComments())
+            .primitiveLists(options.primitiveLists())
+            .bufferedLoad(options.bufferedLoad())
+            .lazyLoad(options.lazyLoad())
+            .compiledCache(options.compiledCache())
+            .singlePassComments(options.singlePassComments())
+            .streamingDump(options.streamingDump())
+            .atomicSave(options.atomicSave())
+            .syncOnSave(options.syncOnSave())
+            .saveBufferSize(options.saveBufferSize())
+            .copyDefaults(options.copyDefaults())
+            .indexPaths(options.indexPaths());
+
+        if (options.pathSeparator() != yamlFile.options().pathSeparator()) {
+            yamlFile.options().pathSeparator(options.pathSeparator());
+        }
+
+        yamlFile.options().quoteStyleDefaults().setDefaultQuoteStyle(options.quoteStyleDefaults().getDefaultQuoteStyle());
+        options.quoteStyleDefaults().getQuoteStyles().forEach(yamlFile.options().quoteStyleDefaults()::setQuoteStyle);
+
+        if (this.defaults != null) {
+            yamlFile.setDefaults(this.defaults);
+        }
+
+        return yamlFile;
+    }
+
+    /**
+     * Creates an empty configuration to save this configuration file apart,
+     * with the same implementation and the options that change how it is written.
+     */
+    YamlFile newSaveFile() {
+        final YamlFile yamlFile = new YamlFile(this.newImplementation());
+        final YamlConfigurationOptions options = this.options();
+
+        yamlFile.options()
+            .charset(options.charset())
+            .copyHeader(options.copyHeader())
+            .headerFormatter(options.headerFormatter())
+            .commentFormatter(options.commentFormatter())
+            .indent(options.indent())
+            .indentList(options.indentList())
+            .useComments(options.useComments())
+            .singlePassComments(options.singlePassComments())
+            .streamingDump(options.streamingDump())
+            .atomicSave(options.atomicSave())
+            .syncOnSave(options.syncOnSave())
+            .saveBufferSize(options.saveBufferSize())
+            .copyDefaults(options.copyDefaults());
+
+        if (options.pathSeparator() != yamlFile.options().pathSeparator()) {
+            yamlFile.options().pathSeparator(options.pathSeparator());
+        }
+
+        yamlFile.options().quoteStyleDefaults().setDefaultQuoteStyle(options.quoteStyleDefaults().getDefaultQuoteStyle());
+        options.quoteStyleDefaults().getQuoteStyles().forEach(yamlFile.options().quoteStyleDefaults()::setQuoteStyle);
+
+        return yamlFile;
+    }
+
+    /**
+     * Creates a new implementation of the same kind as the one of this configuration, loading like it.
+     *
+     * @see SnakeYamlImplementation#newInstance()
+     */
+    private YamlImplementation newImplementation() {
+        return this.yamlImplementation instanceof SnakeYamlImplementation
+                ? ((SnakeYamlImplementation) this.yamlImplementation).newInstance() : new SimpleYamlImplementation();
+    }
+
     /**
      * Tests whether this configuration file exists.
      *
@@ -747,6 +1155,64 @@ public class YamlFile extends YamlConfiguration implements Commentable {
             throw new IllegalArgumentException(file.getName() + " is a directory!");
         }
         this.configFile = file;
+        this.savedState = null;
+    }
+
+    private boolean isConfigurationFile(final Path path) {
+        return this.configFile != null
+                && this.configFile.toPath().toAbsolutePath().normalize().equals(path.toAbsolutePath().normalize());
+    }
+
+    /**
+     * Sets the state of this configuration when the configuration file was last loaded or saved, to check if it is dirty.
+     */
+    private void saved(final SavedState state) {
+        state.setFile(this.configFile);
+        this.savedState = state;
+    }
+
+    /**
+     * Sets the state of this configuration when the configuration file was loaded,
+     * discarding the changes waiting to be saved automatically as they have been replaced by the loaded ones.
+     */
+    private void loaded(final SavedState state) {
+        this.saved(state);
+
+        final YamlFileSaver saver = this.saver;
+        if (saver != null) {
+            saver.loaded();
+        }
+    }
+
+    /**
+     * Checks if this configuration is being loaded, so it must not be copied to be saved.
+     */
+    boolean isLoading() {
+        return this.loading;
+    }
+
+    /**
+     * Checks if {@link #save()} must write the configuration file.
+     */
+    boolean needsSave() {
+        Validate.notNull(this.configFile, "The configuration file is not set!");
+
+        if (!this.options().skipUnchangedSave()) {
+            return true;
+        }
+
+        final SavedState savedState = this.savedState;
+        return savedState == null || !savedState.matches(this) || !savedState.matchesFile(this.configFile);
+    }
+
+    /**
+     * Sets the state of this configuration when a copy of it was saved in the background, if the file is still the configuration file.
+     */
+    void savedTo(final SavedState state, final File file) {
+        // a copy taken before the configuration file was loaded again does not have the loaded values
+        if (file.equals(this.configFile) && state.loads == this.loads) {
+            this.saved(state);
+        }
     }
 
     /**
@@ -976,6 +1442,109 @@ public class YamlFile extends YamlConfiguration implements Commentable {
         return YamlFile.loadConfiguration(reader, false);
     }
 
+    /**
+     * Creates and loads a {@link YamlFile} for every path in parallel.
+     * <p>
+     * Every file is loaded in a task of the executor, like with {@link #loadConfiguration(File, boolean)}.
+     * A file that cannot be loaded does not stop the others, its error is collected in the result instead.
+     *
+     * @param paths        the configuration files to load
+     * @param executor     the executor to load the files, like a {@link java.util.concurrent.ForkJoinPool}
+     * @param withComments if comments should be parsed
+     * @return the files loaded and the errors, in the order of the paths
+     * @throws IllegalArgumentException if paths or executor are null
+     */
+    public static YamlFileBatch loadAll(final Collection<Path> paths, final Executor executor, boolean withComments) {
+        Validate.notNull(paths, "Paths cannot be null");
+        Validate.notNull(executor, "Executor cannot be null");
+
+        final List<Path> sources = new ArrayList<>(paths);
+        final List<CompletableFuture<YamlFile>> loads = new ArrayList<>(sources.size());
+
+        for (final Path path : sources) {
+            loads.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return YamlFile.loadConfiguration(path.toFile(), withComments);
+                } catch (final IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor));
+        }
+
+        final List<YamlFile> files = new ArrayList<>(sources.size());
+        final Map<Path, Exception> errors = new LinkedHashMap<>();
+
+        for (int i = 0; i < sources.size(); i++) {
+            try {
+                files.add(loads.get(i).join());
+            } catch (final CompletionException e) {
+                final Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                errors.put(sources.get(i), (Exception) cause);
+            }
+        }
+
+        return new YamlFileBatch(files, errors);
+    }
+
+    /**
+     * Creates and loads a {@link YamlFile} for every path in parallel (without comments).
+     *
+     * @param paths    the configuration files to load
+     * @param executor the executor to load the files, like a {@link java.util.concurrent.ForkJoinPool}
+     * @return the files loaded and the errors, in the order of the paths
+     * @throws IllegalArgumentException if paths or executor are null
+     * @see #loadAll(Collection, Executor, boolean)
+     */
+    public static YamlFileBatch loadAll(final Collection<Path> paths, final Executor executor) {
+        return YamlFile.loadAll(paths, executor, false);
+    }
+
+    /**
+     * Creates and loads a {@link YamlFile} for every path in parallel in the common {@link ForkJoinPool} (without comments).
+     *
+     * @param paths the configuration files to load
+     * @return the files loaded and the errors, in the order of the paths
+     * @throws IllegalArgumentException if paths is null
+     * @see #loadAll(Collection, Executor, boolean)
+     */
+    public static YamlFileBatch loadAll(final Collection<Path> paths) {
+        return YamlFile.loadAll(paths, ForkJoinPool.commonPool(), false);
+    }
+
+    /**
+     * Loads in parallel every <code>.yml</code> and <code>.yaml</code> file of a directory, like a <code>conf.d</code> directory (without comments).
+     * <p>
+     * Files are sorted by name in lexical order, so {@link YamlFileBatch#merge()} merges them in that order.
+     * Subdirectories are not loaded.
+     *
+     * @param directory the directory of the configuration files
+     * @param executor  the executor to load the files, like a {@link java.util.concurrent.ForkJoinPool}
+     * @return the files loaded and the errors, in lexical order
+     * @throws IOException if the directory cannot be read
+     * @throws IllegalArgumentException if directory or executor are null
+     * @see #loadAll(Collection, Executor, boolean)
+     */
+    public static YamlFileBatch loadDirectory(final Path directory, final Executor executor) throws IOException {
+        Validate.notNull(directory, "Directory cannot be null");
+
+        final List<Path> paths = new ArrayList<>();
+
+        try (final DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.{yml,yaml}")) {
+            for (final Path file : files) {
+                if (Files.isRegularFile(file)) {
+                    paths.add(file);
+                }
+            }
+        }
+
+        paths.sort(Comparator.comparing(path -> path.getFileName().toString()));
+
+        return YamlFile.loadAll(paths, executor, false);
+    }
+
     private static YamlFile load(final YamlFileLoader loader, boolean withComments) throws IOException {
         final YamlFile config = new YamlFile();
 
@@ -991,4 +1560,69 @@ public class YamlFile extends YamlConfiguration implements Commentable {
     private interface YamlFileLoader {
         void load(YamlFile config) throws IOException, InvalidConfigurationException;
     }
+
+    /**
+     * The changes counted when this configuration was loaded or saved, and the configuration file attributes afterwards.
+     */
+    static final class SavedState {
+
+        private final long loads;
+        private final long modifications;
+        private final YamlCommentMapper commentMapper;
+        private final long commentModifications;
+        private final String header;
+        private final List<Object> options;
+
+        private long fileModified;
+        private long fileSize;
+
+        SavedState(final YamlFile yamlFile) {
+            final YamlCommentMapper commentMapper = yamlFile.getCommentMapper();
+            this.loads = yamlFile.loads;
+            this.modifications = yamlFile.getModificationCount();
+            this.commentMapper = commentMapper;
+            this.commentModifications = commentMapper != null ? commentMapper.getModificationCount() : 0;
+            this.header = yamlFile.options().header();
+            this.options = writeOptions(yamlFile.options());
+        }
+
+        /**
+         * Gets the values of the options that change how the file is written.
+         * Formatters are mutable, so their hash code is kept instead.
+         */
+        private static List<Object> writeOptions(final YamlConfigurationOptions options) {
+            return Arrays.asList(
+                    options.charset(),
+                    options.indent(),
+                    options.indentList(),
+                    options.copyHeader(),
+                    options.copyDefaults(),
+                    options.useComments(),
+                    Objects.hashCode(options.headerFormatter()),
+                    Objects.hashCode(options.commentFormatter()),
+                    options.quoteStyleDefaults().getDefaultQuoteStyle(),
+                    new HashMap<>(options.quoteStyleDefaults().getQuoteStyles())
+            );
+        }
+
+        void setFile(final File file) {
+            this.fileModified = file.lastModified();
+            this.fileSize = file.length();
+        }
+
+        boolean matches(final YamlFile yamlFile) {
+            final YamlCommentMapper commentMapper = yamlFile.getCommentMapper();
+            return this.modifications == yamlFile.getModificationCount()
+                    && this.commentMapper == commentMapper
+                    && (commentMapper == null || this.commentModifications == commentMapper.getModificationCount())
+                    && Objects.equals(this.header, yamlFile.options().header())
+                    && this.options.equals(writeOptions(yamlFile.options()));
+        }
+
+        boolean matchesFile(final File file) {
+            // a missing file has no modification time
+            return this.fileModified != 0 && this.fileModified == file.lastModified() && this.fileSize == file.length();
+        }
+    }
+
 }
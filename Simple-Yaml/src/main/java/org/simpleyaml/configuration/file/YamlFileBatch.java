@@ -0,0 +1,88 @@
+package org.simpleyaml.configuration.file;
+
+import org.simpleyaml.configuration.MemorySection;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The result of loading several {@link YamlFile}s at once, with the files loaded and the errors of the ones that could not be loaded.
+ * <p>
+ * Files and errors keep the order of the paths given to load them.
+ *
+ * @see YamlFile#loadAll(java.util.Collection, java.util.concurrent.Executor)
+ * @see YamlFile#loadDirectory(Path, java.util.concurrent.Executor)
+ */
+public class YamlFileBatch {
+
+    private final List<YamlFile> files;
+
+    private final Map<Path, Exception> errors;
+
+    YamlFileBatch(final List<YamlFile> files, final Map<Path, Exception> errors) {
+        this.files = Collections.unmodifiableList(files);
+        this.errors = Collections.unmodifiableMap(errors);
+    }
+
+    /**
+     * Gets the files that have been loaded, in the order of their paths.
+     *
+     * @return the loaded files
+     */
+    public List<YamlFile> getFiles() {
+        return this.files;
+    }
+
+    /**
+     * Gets the errors of the files that could not be loaded, by path in the order of the paths.
+     *
+     * @return the errors by path
+     */
+    public Map<Path, Exception> getErrors() {
+        return this.errors;
+    }
+
+    /**
+     * Checks if some file could not be loaded.
+     *
+     * @return true if there are errors
+     */
+    public boolean hasErrors() {
+        return !this.errors.isEmpty();
+    }
+
+    /**
+     * Merges the loaded files into a single configuration, in the order of their paths.
+     * <p>
+     * Sections are merged recursively and other values of a file replace the ones of the previous files,
+     * like a <code>conf.d</code> directory where later files override earlier ones.
+     * Keys are copied as they are, without being parsed as paths. Comments are not merged.
+     *
+     * @return a new configuration with the values of every loaded file
+     */
+    public YamlConfiguration merge() {
+        final YamlConfiguration merged = new YamlConfiguration();
+        for (final YamlFile file : this.files) {
+            merge(file, merged);
+        }
+        return merged;
+    }
+
+    private static void merge(final MemorySection from, final MemorySection to) {
+        for (final Map.Entry<String, Object> entry : from.getValues(false).entrySet()) {
+            final String key = entry.getKey();
+            final Object value = entry.getValue();
+
+            if (value instanceof MemorySection) {
+                final MemorySection section = (MemorySection) value;
+                final Object current = to.getChild(key);
+                merge(section, current instanceof MemorySection ? (MemorySection) current : to.createChildSection(key, section.size()));
+            } else {
+                to.setChild(key, value);
+            }
+        }
+    }
+
+}
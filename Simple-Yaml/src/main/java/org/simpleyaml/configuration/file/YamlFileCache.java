@@ -0,0 +1,606 @@
+package org.simpleyaml.configuration.file;
+
+import org.simpleyaml.configuration.MemorySection;
+import org.simpleyaml.configuration.implementation.api.QuoteStyle;
+import org.simpleyaml.configuration.implementation.api.QuoteValue;
+import org.simpleyaml.configuration.implementation.api.YamlImplementation;
+import org.simpleyaml.configuration.implementation.snakeyaml.SnakeYamlImplementation;
+import org.simpleyaml.utils.PrimitiveList;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.inspector.TagInspector;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32;
+
+/**
+ * A compiled binary copy of the values of a {@link YamlFile}, kept in a sidecar file next to the configuration file
+ * to load it again without parsing the YAML while the configuration file does not change.
+ * <p>
+ * The sidecar file starts with a key of the configuration file (size, modification time and SHA-256 hash of its contents)
+ * and of the options that change the loaded values, including the snakeyaml loader options, constructor and resolver, followed by the header and the values of the sections,
+ * and a checksum of them.
+ *
+ * @see YamlConfigurationOptions#compiledCache(boolean)
+ */
+final class YamlFileCache {
+
+    static final String EXTENSION = ".cache";
+
+    private static final int MAGIC = 0x53594331; // SYC1
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final byte NULL = 0;
+    private static final byte SECTION = 1;
+    private static final byte STRING = 2;
+    private static final byte INT = 3;
+    private static final byte LONG = 4;
+    private static final byte DOUBLE = 5;
+    private static final byte FLOAT = 6;
+    private static final byte BOOLEAN = 7;
+    private static final byte BIG_INTEGER = 8;
+    private static final byte BIG_DECIMAL = 9;
+    private static final byte DATE = 10;
+    private static final byte BYTES = 11;
+    private static final byte LIST = 12;
+    private static final byte SET = 13;
+    private static final byte MAP = 14;
+    private static final byte INT_LIST = 15;
+    private static final byte LONG_LIST = 16;
+    private static final byte DOUBLE_LIST = 17;
+    private static final byte QUOTE = 18;
+
+    private static final QuoteStyle[] QUOTE_STYLES = QuoteStyle.values();
+
+    private final Path file;
+
+    private final Path cacheFile;
+
+    private long size = -1;
+
+    private long modified;
+
+    private byte[] hash;
+
+    /**
+     * Creates the cache of a configuration file.
+     *
+     * @param file the configuration file
+     */
+    YamlFileCache(final Path file) {
+        this.file = file;
+        this.cacheFile = cacheFile(file);
+    }
+
+    /**
+     * Gets the sidecar file with the cache of a configuration file.
+     *
+     * @param file the configuration file
+     * @return the cache file, next to the configuration file
+     */
+    static Path cacheFile(final Path file) {
+        return file.resolveSibling(file.getFileName() + EXTENSION);
+    }
+
+    /**
+     * Checks if the loaded values can be cached with some options.
+     *
+     * @param options the options of the configuration
+     * @return true if the compiled cache is enabled and comments are not loaded nor sections loaded lazily
+     */
+    static boolean isEnabled(final YamlConfigurationOptions options) {
+        return options.compiledCache() && !options.useComments() && !options.lazyLoad();
+    }
+
+    /**
+     * Loads the values of the cache file into a configuration, if it is a cache of the current configuration file.
+     * <p>
+     * Otherwise the configuration is not changed and the key of the configuration file is kept to {@link #write(YamlFile) write} the cache
+     * once the configuration file is loaded.
+     *
+     * @param config the configuration to load
+     * @return true if the values have been loaded from the cache, false if the configuration file must be parsed
+     */
+    boolean read(final YamlFile config) {
+        try {
+            this.stat();
+            this.hash = hash(this.file);
+        } catch (final IOException e) {
+            this.size = -1;
+            return false;
+        }
+
+        if (!Files.isRegularFile(this.cacheFile)) {
+            return false;
+        }
+
+        try {
+            final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(this.cacheFile));
+
+            if (buffer.getInt() != MAGIC || !fingerprint(config.options()).equals(readString(buffer))
+                    || buffer.getLong() != this.size || buffer.getLong() != this.modified) {
+                return false;
+            }
+
+            final byte[] cachedHash = new byte[this.hash.length];
+            buffer.get(cachedHash);
+
+            if (!Arrays.equals(cachedHash, this.hash)) {
+                return false;
+            }
+
+            final int body = buffer.position();
+            final int end = buffer.limit() - Long.BYTES;
+
+            final CRC32 crc = new CRC32();
+            crc.update(buffer.array(), body, end - body);
+
+            if (crc.getValue() != buffer.getLong(end)) {
+                return false;
+            }
+
+            buffer.limit(end);
+
+            return new Reader(buffer).readInto(config);
+        } catch (final IOException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes the loaded values of a configuration to the cache file, replacing it atomically.
+     * <p>
+     * The cache is not written if the configuration file has changed since it was {@link #read(YamlFile) read},
+     * if some value is not supported or if the cache file cannot be written.
+     *
+     * @param config the configuration loaded from the configuration file
+     */
+    void write(final YamlFile config) {
+        if (this.size < 0) {
+            return;
+        }
+
+        final long size = this.size;
+        final long modified = this.modified;
+
+        try {
+            this.stat();
+
+            if (this.size != size || this.modified != modified) {
+                return; // changed while it was loaded
+            }
+
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream(BUFFER_SIZE);
+            final DataOutputStream out = new DataOutputStream(bytes);
+
+            out.writeInt(MAGIC);
+            writeString(out, fingerprint(config.options()));
+            out.writeLong(this.size);
+            out.writeLong(this.modified);
+            out.write(this.hash);
+
+            final int body = bytes.size();
+
+            writeString(out, config.options().header());
+
+            if (!writeSection(out, config)) {
+                return;
+            }
+
+            out.flush();
+
+            final byte[] contents = bytes.toByteArray();
+
+            final CRC32 crc = new CRC32();
+            crc.update(contents, body, contents.length - body);
+
+            out.writeLong(crc.getValue());
+            out.flush();
+
+            this.replace(bytes.toByteArray());
+        } catch (final IOException e) {
+            // the cache is optional, the configuration is parsed the next time
+        }
+    }
+
+    private void replace(final byte[] contents) throws IOException {
+        final Path temp = this.createTempFile();
+        try {
+            Files.write(temp, contents);
+            try {
+                Files.move(temp, this.cacheFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temp, this.cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Creates an empty file with a unique name next to the cache file, so concurrent loads do not write the same one.
+     */
+    private Path createTempFile() throws IOException {
+        final String prefix = this.cacheFile.getFileName() + ".";
+        while (true) {
+            final Path temp = this.cacheFile.resolveSibling(prefix + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+            try {
+                return Files.createFile(temp);
+            } catch (final FileAlreadyExistsException e) {
+                // try another name
+            }
+        }
+    }
+
+    private void stat() throws IOException {
+        final BasicFileAttributes attributes = Files.readAttributes(this.file, BasicFileAttributes.class);
+        this.size = attributes.size();
+        this.modified = attributes.lastModifiedTime().toMillis();
+    }
+
+    private static byte[] hash(final Path file) throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+
+        return digest.digest();
+    }
+
+    /**
+     * Gets the options that change the loaded values, so a cache is not read with other options.
+     * <p>
+     * For a snakeyaml implementation they include the classes of its constructor and resolver,
+     * and the loader options that reject or change the loaded values.
+     */
+    private static String fingerprint(final YamlConfigurationOptions options) {
+        final Map<String, QuoteStyle> quoteStyles = new TreeMap<>();
+        for (final Map.Entry<Class<?>, QuoteStyle> entry : options.quoteStyleDefaults().getQuoteStyles().entrySet()) {
+            quoteStyles.put(entry.getKey().getName(), entry.getValue());
+        }
+
+        final YamlImplementation implementation = options.configuration().getImplementation();
+        final StringBuilder loader = new StringBuilder();
+
+        if (implementation instanceof SnakeYamlImplementation) {
+            final SnakeYamlImplementation snakeYaml = (SnakeYamlImplementation) implementation;
+            final LoaderOptions loaderOptions = snakeYaml.getLoaderOptions();
+            final TagInspector tagInspector = loaderOptions.getTagInspector();
+
+            loader.append('|').append(snakeYaml.getConstructor().getClass().getName())
+                    .append('|').append(snakeYaml.getResolver().getClass().getName())
+                    .append('|').append(loaderOptions.isAllowDuplicateKeys())
+                    .append('|').append(loaderOptions.getMaxAliasesForCollections())
+                    .append('|').append(loaderOptions.getAllowRecursiveKeys())
+                    .append('|').append(loaderOptions.isEnumCaseSensitive())
+                    .append('|').append(loaderOptions.getNestingDepthLimit())
+                    .append('|').append(loaderOptions.getCodePointLimit())
+                    .append('|').append(loaderOptions.isMergeOnCompose())
+                    .append('|').append(tagInspector != null ? tagInspector.getClass().getName() : null);
+        }
+
+        return implementation.getClass().getName()
+                + loader
+                + '|' + options.charset().name()
+                + '|' + options.pathSeparator()
+                + '|' + options.primitiveLists()
+                + '|' + quoteStyles;
+    }
+
+    private static boolean writeSection(final DataOutputStream out, final MemorySection section) throws IOException {
+        final Set<String> keys = section.getKeys(false);
+
+        out.writeInt(keys.size());
+
+        for (final String key : keys) {
+            if (key.isEmpty()) {
+                return false;
+            }
+            writeString(out, key);
+            if (!writeValue(out, section.getChild(key))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Writes a value with its type.
+     *
+     * @return false if the type of the value is not supported
+     */
+    private static boolean writeValue(final DataOutputStream out, final Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof BigInteger) {
+            out.writeByte(BIG_INTEGER);
+            writeString(out, value.toString());
+        } else if (value instanceof BigDecimal) {
+            out.writeByte(BIG_DECIMAL);
+            writeString(out, value.toString());
+        } else if (value.getClass() == Date.class) {
+            out.writeByte(DATE);
+            out.writeLong(((Date) value).getTime());
+        } else if (value instanceof byte[]) {
+            out.writeByte(BYTES);
+            out.writeInt(((byte[]) value).length);
+            out.write((byte[]) value);
+        } else if (value.getClass() == MemorySection.class) {
+            out.writeByte(SECTION);
+            return writeSection(out, (MemorySection) value);
+        } else if (value instanceof PrimitiveList.OfInt && ((PrimitiveList) value).isPrimitive()) {
+            out.writeByte(INT_LIST);
+            final int[] elements = ((PrimitiveList.OfInt) value).toIntArray();
+            out.writeInt(elements.length);
+            for (final int element : elements) {
+                out.writeInt(element);
+            }
+        } else if (value instanceof PrimitiveList.OfLong && ((PrimitiveList) value).isPrimitive()) {
+            out.writeByte(LONG_LIST);
+            final long[] elements = ((PrimitiveList.OfLong) value).toLongArray();
+            out.writeInt(elements.length);
+            for (final long element : elements) {
+                out.writeLong(element);
+            }
+        } else if (value instanceof PrimitiveList.OfDouble && ((PrimitiveList) value).isPrimitive()) {
+            out.writeByte(DOUBLE_LIST);
+            final double[] elements = ((PrimitiveList.OfDouble) value).toDoubleArray();
+            out.writeInt(elements.length);
+            for (final double element : elements) {
+                out.writeDouble(element);
+            }
+        } else if (value instanceof List || value instanceof Set) {
+            out.writeByte(value instanceof List ? LIST : SET);
+            out.writeInt(((Collection<?>) value).size());
+            for (final Object element : (Collection<?>) value) {
+                if (!writeValue(out, element)) {
+                    return false;
+                }
+            }
+        } else if (value instanceof Map) {
+            out.writeByte(MAP);
+            out.writeInt(((Map<?, ?>) value).size());
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!writeValue(out, entry.getKey()) || !writeValue(out, entry.getValue())) {
+                    return false;
+                }
+            }
+        } else if (value.getClass() == QuoteValue.class) {
+            out.writeByte(QUOTE);
+            out.writeByte(((QuoteValue<?>) value).getQuoteStyle().ordinal());
+            return writeValue(out, ((QuoteValue<?>) value).getValue());
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        final String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    /**
+     * Reads the header and values of a cache into a configuration.
+     */
+    private static final class Reader {
+
+        private final ByteBuffer buffer;
+
+        private Reader(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Reads the values into a configuration, restoring its previous values if the cache cannot be read.
+         */
+        private boolean readInto(final YamlFile config) {
+            final String header = readString(this.buffer);
+
+            final Map<String, Object> previous = new LinkedHashMap<>();
+
+            try {
+                final int size = this.readSize();
+                for (int i = 0; i < size; i++) {
+                    final String key = readString(this.buffer);
+                    if (!previous.containsKey(key)) {
+                        previous.put(key, config.getChild(key));
+                    }
+                    this.readEntry(config, key);
+                }
+
+                if (this.buffer.hasRemaining()) {
+                    throw new IllegalStateException("Unexpected contents at the end of the cache");
+                }
+            } catch (final RuntimeException e) {
+                for (final Map.Entry<String, Object> entry : previous.entrySet()) {
+                    if (entry.getKey() != null && !entry.getKey().isEmpty()) {
+                        config.setChild(entry.getKey(), entry.getValue());
+                    }
+                }
+                return false;
+            }
+
+            config.options().header(header);
+
+            return true;
+        }
+
+        private void readSection(final MemorySection section, final int size) {
+            for (int i = 0; i < size; i++) {
+                this.readEntry(section, readString(this.buffer));
+            }
+        }
+
+        private void readEntry(final MemorySection section, final String key) {
+            if (this.buffer.get(this.buffer.position()) == SECTION) {
+                this.buffer.get();
+                final int size = this.readSize();
+                this.readSection(section.createChildSection(key, size), size);
+            } else {
+                section.setChild(key, this.readValue());
+            }
+        }
+
+        private Object readValue() {
+            final byte type = this.buffer.get();
+            switch (type) {
+                case NULL:
+                    return null;
+                case STRING:
+                    return readString(this.buffer);
+                case INT:
+                    return this.buffer.getInt();
+                case LONG:
+                    return this.buffer.getLong();
+                case DOUBLE:
+                    return this.buffer.getDouble();
+                case FLOAT:
+                    return this.buffer.getFloat();
+                case BOOLEAN:
+                    return this.buffer.get() != 0;
+                case BIG_INTEGER:
+                    return new BigInteger(readString(this.buffer));
+                case BIG_DECIMAL:
+                    return new BigDecimal(readString(this.buffer));
+                case DATE:
+                    return new Date(this.buffer.getLong());
+                case BYTES: {
+                    final byte[] bytes = new byte[this.readSize()];
+                    this.buffer.get(bytes);
+                    return bytes;
+                }
+                case LIST:
+                case SET: {
+                    final int size = this.readSize();
+                    final Collection<Object> collection = type == LIST ? new ArrayList<>(size) : new LinkedHashSet<>(size * 2);
+                    for (int i = 0; i < size; i++) {
+                        collection.add(this.readValue());
+                    }
+                    return collection;
+                }
+                case MAP: {
+                    final int size = this.readSize();
+                    final Map<Object, Object> map = new LinkedHashMap<>(size * 2);
+                    for (int i = 0; i < size; i++) {
+                        map.put(this.readValue(), this.readValue());
+                    }
+                    return map;
+                }
+                case INT_LIST: {
+                    final int[] elements = new int[this.readSize()];
+                    this.buffer.asIntBuffer().get(elements);
+                    this.skip(elements.length * Integer.BYTES);
+                    return new PrimitiveList.OfInt(elements);
+                }
+                case LONG_LIST: {
+                    final long[] elements = new long[this.readSize()];
+                    this.buffer.asLongBuffer().get(elements);
+                    this.skip(elements.length * Long.BYTES);
+                    return new PrimitiveList.OfLong(elements);
+                }
+                case DOUBLE_LIST: {
+                    final double[] elements = new double[this.readSize()];
+                    this.buffer.asDoubleBuffer().get(elements);
+                    this.skip(elements.length * Double.BYTES);
+                    return new PrimitiveList.OfDouble(elements);
+                }
+                case QUOTE: {
+                    final QuoteStyle quoteStyle = QUOTE_STYLES[this.buffer.get()];
+                    return new QuoteValue<>(this.readValue(), quoteStyle);
+                }
+                default:
+                    throw new IllegalStateException("Unknown type " + type);
+            }
+        }
+
+        private int readSize() {
+            final int size = this.buffer.getInt();
+            if (size < 0 || size > this.buffer.remaining()) {
+                throw new IllegalStateException("Invalid size " + size);
+            }
+            return size;
+        }
+
+        private void skip(final int bytes) {
+            this.buffer.position(this.buffer.position() + bytes);
+        }
+    }
+
+}
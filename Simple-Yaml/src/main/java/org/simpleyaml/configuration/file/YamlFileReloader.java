@@ -0,0 +1,273 @@
+package org.simpleyaml.configuration.file;
+
+import org.simpleyaml.utils.Validate;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reloads a {@link YamlFile} in the background every time its configuration file changes.
+ * <p>
+ * Every reload parses the file into a new {@link YamlFile} and then replaces the current one at once,
+ * so readers using {@link #get()} never block and never see a half-loaded configuration.
+ * A {@link YamlFile} returned by {@link #get()} is never modified by this reloader, so it can be read
+ * while a newer one is being loaded. Modifications done to it are lost when the next one replaces it.
+ * <p>
+ * Changes are detected with a {@link WatchService} on the directory of the file.
+ * Several changes detected while loading are coalesced into a single reload.
+ * If the file cannot be loaded, the current {@link YamlFile} is kept and the error is reported to
+ * the {@link #onError(Consumer) error handler}.
+ *
+ * @see YamlFile#watch()
+ */
+public class YamlFileReloader implements Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(YamlFileReloader.class.getName());
+
+    private final Supplier<YamlFile> factory;
+
+    private final Executor executor;
+
+    private final ExecutorService ownExecutor;
+
+    private final List<Consumer<YamlFile>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile Consumer<Exception> errorHandler = e -> LOGGER.log(Level.WARNING, "Could not reload configuration file", e);
+
+    private volatile YamlFile current;
+
+    // Reloads started, to discard a reload that finishes after a newer one
+    private final AtomicLong reloads = new AtomicLong();
+
+    private long swapped;
+
+    private final AtomicBoolean pending = new AtomicBoolean();
+
+    private WatchService watchService;
+
+    private Thread watcher;
+
+    /**
+     * Creates a reloader of a {@link YamlFile}, loading it in a background thread owned by this reloader.
+     *
+     * @param yamlFile the initial {@link YamlFile}, which must have a configuration file
+     * @param factory  a function providing a new {@link YamlFile} for every reload, not loaded yet,
+     *                 configured as the initial one and with the same configuration file
+     */
+    public YamlFileReloader(final YamlFile yamlFile, final Supplier<YamlFile> factory) {
+        this(yamlFile, factory, null);
+    }
+
+    /**
+     * Creates a reloader of a {@link YamlFile}, loading it with the given executor.
+     *
+     * @param yamlFile the initial {@link YamlFile}, which must have a configuration file
+     * @param factory  a function providing a new {@link YamlFile} for every reload, not loaded yet,
+     *                 configured as the initial one and with the same configuration file
+     * @param executor the executor to load the file, or null to use a background thread owned by this reloader
+     */
+    public YamlFileReloader(final YamlFile yamlFile, final Supplier<YamlFile> factory, final Executor executor) {
+        Validate.notNull(yamlFile, "YamlFile cannot be null!");
+        Validate.notNull(yamlFile.getConfigurationFile(), "This configuration file is null!");
+        Validate.notNull(factory, "Factory cannot be null!");
+
+        this.current = yamlFile;
+        this.factory = factory;
+
+        if (executor == null) {
+            this.ownExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "YamlFileReloader-" + yamlFile.getConfigurationFile().getName());
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.executor = this.ownExecutor;
+        } else {
+            this.ownExecutor = null;
+            this.executor = executor;
+        }
+    }
+
+    /**
+     * Gets the last loaded {@link YamlFile}, without blocking.
+     *
+     * @return the current {@link YamlFile}
+     */
+    public YamlFile get() {
+        return this.current;
+    }
+
+    /**
+     * Adds a listener to be called after every reload, with the new {@link YamlFile} already returned by {@link #get()}.
+     * <p>
+     * Listeners are called from the thread that loaded the file.
+     *
+     * @param listener the listener of the new {@link YamlFile}
+     * @return This object, for chaining
+     */
+    public YamlFileReloader onReload(final Consumer<YamlFile> listener) {
+        Validate.notNull(listener, "Listener cannot be null!");
+        this.listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Sets how to handle the errors of reloads triggered by changes of the file.
+     * <p>
+     * By default errors are logged.
+     *
+     * @param errorHandler the handler of the exception that prevented the file to be reloaded
+     * @return This object, for chaining
+     */
+    public YamlFileReloader onError(final Consumer<Exception> errorHandler) {
+        Validate.notNull(errorHandler, "Error handler cannot be null!");
+        this.errorHandler = errorHandler;
+        return this;
+    }
+
+    /**
+     * Starts watching the configuration file to reload it when it changes.
+     *
+     * @return This object, for chaining
+     * @throws IOException if the directory of the configuration file cannot be watched
+     * @throws IllegalStateException if it is already watching
+     */
+    public synchronized YamlFileReloader start() throws IOException {
+        if (this.watchService != null) {
+            throw new IllegalStateException("Already watching the configuration file");
+        }
+
+        final Path path = this.current.getConfigurationFile().toPath().toAbsolutePath();
+        final Path directory = path.getParent();
+        final Path fileName = path.getFileName();
+
+        final WatchService watchService = directory.getFileSystem().newWatchService();
+        try {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (final IOException | RuntimeException e) {
+            watchService.close();
+            throw e;
+        }
+
+        this.watchService = watchService;
+        this.watcher = new Thread(() -> this.watch(watchService, fileName), "YamlFileReloader-watcher-" + fileName);
+        this.watcher.setDaemon(true);
+        this.watcher.start();
+
+        return this;
+    }
+
+    /**
+     * Loads the configuration file in the background and replaces the current {@link YamlFile} with it.
+     *
+     * @return the new {@link YamlFile}, or the exception that prevented the file to be loaded
+     */
+    public CompletableFuture<YamlFile> reload() {
+        final long reload = this.reloads.incrementAndGet();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return this.load(reload);
+            } catch (final Exception e) {
+                throw new CompletionException(e);
+            }
+        }, this.executor);
+    }
+
+    /**
+     * Stops watching the configuration file.
+     * <p>
+     * The current {@link YamlFile} is still available with {@link #get()}.
+     *
+     * @throws IOException if the watch service cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.ownExecutor != null) {
+            this.ownExecutor.shutdown();
+        }
+        if (this.watchService != null) {
+            this.watchService.close();
+            this.watcher.interrupt();
+        }
+    }
+
+    private void watch(final WatchService watchService, final Path fileName) {
+        try {
+            while (true) {
+                final WatchKey key = watchService.take();
+                boolean changed = false;
+
+                for (final WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context())) {
+                        changed = true;
+                    }
+                }
+
+                if (changed) {
+                    this.scheduleReload();
+                }
+
+                if (!key.reset()) {
+                    return; // directory is no longer accessible
+                }
+            }
+        } catch (final InterruptedException | ClosedWatchServiceException ignored) {
+            // closed
+        }
+    }
+
+    private void scheduleReload() {
+        // changes detected before the scheduled reload starts are loaded by it
+        if (this.pending.compareAndSet(false, true)) {
+            final long reload = this.reloads.incrementAndGet();
+            try {
+                this.executor.execute(() -> {
+                    this.pending.set(false);
+                    try {
+                        this.load(reload);
+                    } catch (final Exception e) {
+                        this.errorHandler.accept(e);
+                    }
+                });
+            } catch (final RuntimeException e) {
+                this.pending.set(false); // executor was shut down
+            }
+        }
+    }
+
+    private YamlFile load(final long reload) throws Exception {
+        final YamlFile yamlFile = this.factory.get();
+        Validate.notNull(yamlFile, "Factory returned a null YamlFile!");
+
+        yamlFile.load();
+
+        synchronized (this) {
+            if (reload < this.swapped) {
+                return yamlFile; // a newer reload has already finished
+            }
+            this.swapped = reload;
+            this.current = yamlFile;
+        }
+
+        for (final Consumer<YamlFile> listener : this.listeners) {
+            listener.accept(yamlFile);
+        }
+
+        return yamlFile;
+    }
+
+}
@@ -0,0 +1,602 @@
+package org.simpleyaml.configuration.file;
+
+import org.simpleyaml.configuration.ConfigurationSection;
+import org.simpleyaml.configuration.LazyMemorySection;
+import org.simpleyaml.configuration.MemorySection;
+import org.simpleyaml.configuration.comments.YamlCommentMapper;
+import org.simpleyaml.configuration.implementation.api.QuoteValue;
+import org.simpleyaml.configuration.implementation.api.YamlImplementationCommentable;
+import org.simpleyaml.utils.Validate;
+
+import java.io.Closeable;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Saves a {@link YamlFile} to its configuration file in the background.
+ * <p>
+ * Every save copies the values, comments and header of the {@link YamlFile} to a new one provided by a factory,
+ * and then writes the copy with an executor. The {@link YamlFile} can be changed again as soon as it is copied,
+ * so rendering and writing the file never blocks the threads changing it.
+ * Unloaded {@link LazyMemorySection lazy sections} are copied without loading them.
+ * <p>
+ * Writes are done in order, one at a time. Several saves requested while a write is in progress
+ * are coalesced into a single write of the newest copy once it finishes.
+ * If {@link YamlConfigurationOptions#skipUnchangedSave(boolean)} is enabled nothing is copied nor written
+ * if the {@link YamlFile} is not {@link YamlFile#isDirty() dirty} and its configuration file has not been modified since it was loaded or saved.
+ * <p>
+ * With an {@link #autosave(AutosavePolicy) autosave policy} the changes done to the {@link YamlFile} are saved
+ * automatically, coalescing bursts of changes into a single save.
+ * When the max pending mutations are reached the copy is taken by the thread doing the last change, right after it.
+ * When the max delay elapses the copy is taken with the executor, and it is discarded and taken again shortly after
+ * if the {@link YamlFile} is changed while it is being copied. Autosaves that could not be copied or written are retried
+ * after the max delay.
+ * Loading or reloading the {@link YamlFile} from its configuration file is not a change to save,
+ * and it discards the changes waiting to be saved automatically.
+ * <p>
+ * Copies are taken holding the lock of the {@link YamlFile}, so threads synchronizing on it never have their changes copied halfway,
+ * but the {@link YamlFile} is not thread-safe: changing it from several threads at once must still be synchronized.
+ * <p>
+ * Saving the {@link YamlFile} synchronously while a background save is pending may be overwritten by the background save.
+ *
+ * @see YamlFile#saveAsync()
+ * @see YamlFile#autosave(AutosavePolicy)
+ */
+public class YamlFileSaver implements Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(YamlFileSaver.class.getName());
+
+    // Delay to copy again a YamlFile changed while it was being copied
+    private static final long RETRY_DELAY = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final YamlFile yamlFile;
+
+    private final Supplier<YamlFile> factory;
+
+    private final ScheduledExecutorService executor;
+
+    private final boolean ownExecutor;
+
+    private volatile Consumer<Exception> errorHandler = e -> LOGGER.log(Level.WARNING, "Could not save configuration file", e);
+
+    // Autosave state, guarded by this
+
+    private AutosavePolicy policy;
+
+    private int pendingMutations;
+
+    private ScheduledFuture<?> scheduledSave;
+
+    // Autosaves scheduled, to discard a scheduled autosave replaced by a newer one
+    private long autosaves;
+
+    private boolean closed;
+
+    // Write queue, guarded by this
+
+    private Snapshot queued;
+
+    private CompletableFuture<Void> queuedFuture;
+
+    private boolean writing;
+
+    /**
+     * Creates a saver of a {@link YamlFile}, writing it in a background thread owned by this saver.
+     * <p>
+     * Every save is written by a {@link YamlFile} with the same implementation as the given one
+     * (either {@link org.simpleyaml.configuration.implementation.SimpleYamlImplementation}
+     * or {@link org.simpleyaml.configuration.implementation.snakeyaml.SnakeYamlImplementation})
+     * and the options used to write it.
+     *
+     * @param yamlFile the {@link YamlFile} to save, which must have a configuration file
+     */
+    public YamlFileSaver(final YamlFile yamlFile) {
+        this(yamlFile, yamlFile::newSaveFile, null);
+    }
+
+    /**
+     * Creates a saver of a {@link YamlFile}, writing it with the given executor.
+     *
+     * @param yamlFile the {@link YamlFile} to save, which must have a configuration file
+     * @param factory  a function providing a new empty {@link YamlFile} for every save, with the implementation and options
+     *                 to write the given one. Its values, comments, header, defaults and configuration file are copied to it.
+     * @param executor the executor to write the file and schedule autosaves, or null to use a background thread owned by this saver
+     */
+    public YamlFileSaver(final YamlFile yamlFile, final Supplier<YamlFile> factory, final ScheduledExecutorService executor) {
+        Validate.notNull(yamlFile, "YamlFile cannot be null!");
+        Validate.notNull(yamlFile.getConfigurationFile(), "This configuration file is null!");
+        Validate.notNull(factory, "Factory cannot be null!");
+
+        this.yamlFile = yamlFile;
+        this.factory = factory;
+
+        if (executor == null) {
+            final ScheduledThreadPoolExecutor ownExecutor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                final Thread thread = new Thread(runnable, "YamlFileSaver-" + yamlFile.getConfigurationFile().getName());
+                thread.setDaemon(true);
+                return thread;
+            });
+            ownExecutor.setRemoveOnCancelPolicy(true);
+            this.executor = ownExecutor;
+            this.ownExecutor = true;
+        } else {
+            this.executor = executor;
+            this.ownExecutor = false;
+        }
+    }
+
+    /**
+     * Gets the {@link YamlFile} saved by this saver.
+     *
+     * @return the saved {@link YamlFile}
+     */
+    public YamlFile getYamlFile() {
+        return this.yamlFile;
+    }
+
+    /**
+     * Sets how to handle the errors of autosaves.
+     * <p>
+     * By default errors are logged.
+     *
+     * @param errorHandler the handler of the exception that prevented the file to be saved
+     * @return This object, for chaining
+     */
+    public YamlFileSaver onError(final Consumer<Exception> errorHandler) {
+        Validate.notNull(errorHandler, "Error handler cannot be null!");
+        this.errorHandler = errorHandler;
+        return this;
+    }
+
+    /**
+     * Copies the {@link YamlFile} on the calling thread and writes the copy in the background.
+     * <p>
+     * The {@link YamlFile} is copied holding its lock.
+     *
+     * @return a future completed when the copy has been written, or exceptionally with the exception that prevented it to be written.
+     * It is already completed if the {@link YamlFile} did not need to be saved.
+     * @throws IllegalStateException if this saver is closed
+     */
+    public CompletableFuture<Void> save() {
+        synchronized (this) {
+            if (this.closed) {
+                throw new IllegalStateException("The saver is closed");
+            }
+        }
+        return this.flush(false, false);
+    }
+
+    /**
+     * Sets when the changes done to the {@link YamlFile} are saved automatically.
+     * <p>
+     * Changes are counted when values, sections, the header or comments are set or removed through the {@link YamlFile} methods.
+     * Loading values from another source counts as a single change, and loading the configuration file is not counted.
+     * Autosave errors are reported to the {@link #onError(Consumer) error handler}.
+     *
+     * @param policy the autosave policy, or null to stop saving changes automatically
+     * @return This object, for chaining
+     * @throws IllegalStateException if this saver is closed
+     */
+    public synchronized YamlFileSaver autosave(final AutosavePolicy policy) {
+        if (this.closed) {
+            throw new IllegalStateException("The saver is closed");
+        }
+
+        this.cancelAutosave();
+        this.policy = policy;
+
+        if (policy == null) {
+            this.pendingMutations = 0;
+        } else if (this.pendingMutations > 0) {
+            this.scheduleAutosave();
+        }
+
+        return this;
+    }
+
+    /**
+     * Gets when the changes done to the {@link YamlFile} are saved automatically.
+     *
+     * @return the autosave policy, or null if changes are not saved automatically
+     */
+    public synchronized AutosavePolicy getAutosavePolicy() {
+        return this.policy;
+    }
+
+    /**
+     * Stops saving changes automatically, saving the pending ones, and stops the background thread if it is owned by this saver.
+     * <p>
+     * Writes already requested are finished.
+     */
+    @Override
+    public void close() {
+        final boolean flush;
+        synchronized (this) {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            flush = this.policy != null && this.pendingMutations > 0;
+            this.cancelAutosave();
+            this.policy = null;
+            this.pendingMutations = 0;
+        }
+
+        if (flush) {
+            this.flush(false, true).whenComplete(this::report);
+        }
+
+        if (this.ownExecutor) {
+            this.executor.shutdown();
+        }
+    }
+
+    /**
+     * Counts a change of the {@link YamlFile}, to save it automatically.
+     * <p>
+     * Called by the thread changing the {@link YamlFile} after the change,
+     * so it is copied right away by that thread if the max pending mutations have been reached.
+     */
+    void modified() {
+        final int mutations;
+        synchronized (this) {
+            if (this.policy == null) {
+                return;
+            }
+            this.pendingMutations++;
+            if (this.pendingMutations < this.policy.getMaxPendingMutations()) {
+                this.scheduleAutosave();
+                return;
+            }
+            this.cancelAutosave();
+            mutations = this.pendingMutations;
+            this.pendingMutations = 0;
+        }
+
+        this.autosave(mutations, false);
+    }
+
+    /**
+     * Discards the changes waiting to be saved automatically, as the {@link YamlFile} has been loaded again from its configuration file.
+     * <p>
+     * A copy waiting to be written by an autosave is discarded too, completing its future as cancelled.
+     */
+    void loaded() {
+        final CompletableFuture<Void> discarded;
+        synchronized (this) {
+            this.cancelAutosave();
+            this.pendingMutations = 0;
+
+            if (this.queued != null && this.queued.autosave) {
+                discarded = this.queuedFuture;
+                this.queued = null;
+                this.queuedFuture = null;
+            } else {
+                discarded = null;
+            }
+        }
+
+        if (discarded != null) {
+            discarded.cancel(false);
+        }
+    }
+
+    private void scheduleAutosave() {
+        if (this.pendingMutations >= this.policy.getMaxPendingMutations()) {
+            this.scheduleAutosave(0);
+        } else if (this.scheduledSave == null) {
+            this.scheduleAutosave(this.policy.getMaxDelay().toNanos());
+        }
+    }
+
+    private void scheduleAutosave(final long delay) {
+        if (this.scheduledSave != null) {
+            this.scheduledSave.cancel(false);
+        }
+
+        final long autosave = ++this.autosaves;
+        try {
+            this.scheduledSave = this.executor.schedule(() -> this.autosave(autosave), delay, TimeUnit.NANOSECONDS);
+        } catch (final RejectedExecutionException e) {
+            // the executor cannot save anymore
+            this.scheduledSave = null;
+            this.policy = null;
+            this.pendingMutations = 0;
+            this.errorHandler.accept(e);
+        }
+    }
+
+    private void cancelAutosave() {
+        if (this.scheduledSave != null) {
+            this.scheduledSave.cancel(false);
+            this.scheduledSave = null;
+        }
+        this.autosaves++;
+    }
+
+    private void autosave(final long autosave) {
+        final int mutations;
+        synchronized (this) {
+            if (autosave != this.autosaves) {
+                return;
+            }
+            this.scheduledSave = null;
+            mutations = this.pendingMutations;
+            this.pendingMutations = 0;
+        }
+
+        this.autosave(mutations, true);
+    }
+
+    /**
+     * Copies the {@link YamlFile} to save the given pending mutations, retrying them if they could not be saved.
+     *
+     * @param mutations  the pending mutations to save
+     * @param inExecutor if this is called by the executor, instead of the thread changing the {@link YamlFile}
+     */
+    private void autosave(final int mutations, final boolean inExecutor) {
+        this.flush(inExecutor, true).whenComplete((result, error) -> {
+            // a cancelled autosave was discarded by a load
+            if (error != null && !(error instanceof CancellationException)) {
+                this.retry(mutations, error);
+            }
+        });
+    }
+
+    /**
+     * Counts again the mutations of an autosave that failed, and schedules another autosave.
+     * <p>
+     * A {@link YamlFile} changed while it was being copied is copied again shortly after,
+     * otherwise the error is reported and the autosave is retried after the max delay.
+     */
+    private void retry(final int mutations, final Throwable error) {
+        final Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        final boolean changed = cause instanceof ConcurrentModificationException;
+
+        synchronized (this) {
+            if (this.policy != null) {
+                this.pendingMutations += mutations;
+                if (this.scheduledSave != null) {
+                    this.scheduledSave.cancel(false);
+                    this.scheduledSave = null;
+                }
+                this.scheduleAutosave(changed ? RETRY_DELAY : this.policy.getMaxDelay().toNanos());
+                if (changed) {
+                    return;
+                }
+            }
+        }
+
+        this.report(null, cause);
+    }
+
+    private void report(final Void result, final Throwable error) {
+        if (error != null) {
+            final Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            this.errorHandler.accept(cause instanceof Exception ? (Exception) cause : new CompletionException(cause));
+        }
+    }
+
+    /**
+     * Copies the {@link YamlFile} and writes the copy.
+     *
+     * @param inExecutor if this is called by the executor, to write the copy right away if nothing else is being written
+     * @param autosave   if this saves changes automatically, to skip it if they were already saved
+     */
+    private CompletableFuture<Void> flush(final boolean inExecutor, final boolean autosave) {
+        final Snapshot snapshot;
+        try {
+            snapshot = this.snapshot(autosave);
+        } catch (final RuntimeException e) {
+            final CompletableFuture<Void> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+
+        if (snapshot == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final CompletableFuture<Void> future;
+        final boolean start;
+        synchronized (this) {
+            if (this.queued == null) {
+                this.queuedFuture = new CompletableFuture<>();
+            }
+            // a copy waiting to be written is replaced by the newer one
+            this.queued = snapshot;
+            future = this.queuedFuture;
+            start = !this.writing;
+            this.writing = true;
+        }
+
+        if (start) {
+            if (inExecutor) {
+                this.write();
+            } else {
+                try {
+                    this.executor.execute(this::write);
+                } catch (final RejectedExecutionException e) {
+                    synchronized (this) {
+                        this.queued = null;
+                        this.queuedFuture = null;
+                        this.writing = false;
+                    }
+                    future.completeExceptionally(e);
+                }
+            }
+        }
+
+        return future;
+    }
+
+    /**
+     * Writes the queued copies until there is none left.
+     */
+    private void write() {
+        while (true) {
+            final Snapshot snapshot;
+            final CompletableFuture<Void> future;
+            synchronized (this) {
+                if (this.queued == null) {
+                    this.writing = false;
+                    return;
+                }
+                snapshot = this.queued;
+                future = this.queuedFuture;
+                this.queued = null;
+                this.queuedFuture = null;
+            }
+
+            try {
+                snapshot.copy.save(snapshot.file);
+                this.yamlFile.savedTo(snapshot.state, snapshot.file);
+                future.complete(null);
+            } catch (final Exception e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Copies the {@link YamlFile} holding its lock.
+     *
+     * @param autosave if this saves changes automatically, which are only counted if they make the {@link YamlFile} dirty
+     * @return the copy, or null if it does not need to be saved
+     * @throws ConcurrentModificationException if the {@link YamlFile} is being loaded or it has been changed while it was being copied
+     */
+    private Snapshot snapshot(final boolean autosave) {
+        synchronized (this.yamlFile) {
+            if (this.yamlFile.isLoading()) {
+                throw new ConcurrentModificationException("The configuration is being loaded");
+            }
+
+            if (autosave ? !this.yamlFile.isDirty() : !this.yamlFile.needsSave()) {
+                return null;
+            }
+
+            // the state before copying, as the copy is what will be saved
+            final YamlFile.SavedState state = new YamlFile.SavedState(this.yamlFile);
+            final File file = this.yamlFile.getConfigurationFile();
+            final YamlFile copy = this.factory.get();
+
+            copy.setConfigurationFile(file);
+            copy.options().header(this.yamlFile.options().header());
+
+            if (this.yamlFile.getDefaults() != null) {
+                copy.setDefaults(this.yamlFile.getDefaults());
+            }
+
+            copySection(this.yamlFile, copy);
+
+            final YamlCommentMapper commentMapper = this.yamlFile.getCommentMapper();
+            if (commentMapper != null && copy.yamlImplementation instanceof YamlImplementationCommentable) {
+                ((YamlImplementationCommentable) copy.yamlImplementation).getOrCreateCommentMapper()
+                        .getKeyTree().copyFrom(commentMapper.getKeyTree());
+            }
+
+            // a change done by a thread not holding the lock may have been copied halfway
+            if (!state.matches(this.yamlFile)) {
+                throw new ConcurrentModificationException("The configuration has been changed while it was being copied");
+            }
+
+            return new Snapshot(copy, file, state, autosave);
+        }
+    }
+
+    private static void copySection(final MemorySection section, final MemorySection target) {
+        for (final Map.Entry<String, Object> entry : section.getChildren().entrySet()) {
+            final String key = entry.getKey();
+            final Object value = entry.getValue();
+
+            if (value instanceof LazyMemorySection && ((LazyMemorySection) value).copyTo(target, key) != null) {
+                continue;
+            }
+
+            if (value instanceof MemorySection) {
+                final MemorySection child = (MemorySection) value;
+                copySection(child, target.createChildSection(key, child.getChildren().size()));
+            } else if (value instanceof ConfigurationSection) {
+                copySection((ConfigurationSection) value, target.createChildSection(key, 0));
+            } else {
+                target.setChild(key, copyValue(value));
+            }
+        }
+    }
+
+    private static void copySection(final ConfigurationSection section, final MemorySection target) {
+        for (final Map.Entry<String, Object> entry : section.getValues(false).entrySet()) {
+            if (entry.getValue() instanceof ConfigurationSection) {
+                copySection((ConfigurationSection) entry.getValue(), target.createChildSection(entry.getKey(), 0));
+            } else {
+                target.setChild(entry.getKey(), copyValue(entry.getValue()));
+            }
+        }
+    }
+
+    private static Object copyValue(final Object value) {
+        if (value instanceof List) {
+            final List<?> list = (List<?>) value;
+            final List<Object> copy = new ArrayList<>(list.size());
+            for (final Object element : list) {
+                copy.add(copyValue(element));
+            }
+            return copy;
+        }
+        if (value instanceof Set) {
+            final Set<Object> copy = new LinkedHashSet<>();
+            for (final Object element : (Set<?>) value) {
+                copy.add(copyValue(element));
+            }
+            return copy;
+        }
+        if (value instanceof Map) {
+            final Map<Object, Object> copy = new LinkedHashMap<>();
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                copy.put(entry.getKey(), copyValue(entry.getValue()));
+            }
+            return copy;
+        }
+        if (value instanceof QuoteValue) {
+            final QuoteValue<?> quoteValue = (QuoteValue<?>) value;
+            return new QuoteValue<>(copyValue(quoteValue.getValue()), quoteValue.getQuoteStyle());
+        }
+        return value;
+    }
+
+    /**
+     * A copy of the {@link YamlFile} to write, with its state when it was copied.
+     */
+    private static final class Snapshot {
+
+        private final YamlFile copy;
+        private final File file;
+        private final YamlFile.SavedState state;
+        private final boolean autosave;
+
+        Snapshot(final YamlFile copy, final File file, final YamlFile.SavedState state, final boolean autosave) {
+            this.copy = copy;
+            this.file = file;
+            this.state = state;
+            this.autosave = autosave;
+        }
+    }
+}
@@ -1,13 +1,14 @@
 package org.simpleyaml.configuration.implementation;
 
 import org.simpleyaml.configuration.ConfigurationSection;
-import org.simpleyaml.configuration.comments.CommentType;
+import org.simpleyaml.configuration.PathFilter;
 import org.simpleyaml.configuration.comments.YamlCommentDumper;
 import org.simpleyaml.configuration.comments.YamlCommentMapper;
 import org.simpleyaml.configuration.comments.YamlCommentParser;
 import org.simpleyaml.configuration.file.YamlConfiguration;
 import org.simpleyaml.configuration.file.YamlConfigurationOptions;
 import org.simpleyaml.configuration.file.YamlFile;
+import org.simpleyaml.configuration.implementation.snakeyaml.SnakeYamlCommentDumper;
 import org.simpleyaml.configuration.implementation.snakeyaml.SnakeYamlConstructor;
 import org.simpleyaml.configuration.implementation.snakeyaml.SnakeYamlImplementation;
 import org.simpleyaml.configuration.implementation.snakeyaml.SnakeYamlRepresenter;
@@ -17,6 +18,7 @@ import org.simpleyaml.utils.SupplierIO;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.nodes.MappingNode;
 import org.yaml.snakeyaml.resolver.Resolver;
 
 import java.io.File;
@@ -55,19 +57,26 @@ public class SimpleYamlImplementation extends SnakeYamlImplementation {
     }
 
     @Override
-    public void setComment(final String path, final String comment, final CommentType type) {
-        if (this.yamlCommentMapper == null) {
-            this.options.useComments(true);
-            this.yamlCommentMapper = new YamlCommentMapper(this.options);
-        }
-        this.yamlCommentMapper.setComment(path, comment, type);
+    public SimpleYamlImplementation newInstance() {
+        return new SimpleYamlImplementation(this.newConstructor(), new SnakeYamlRepresenter(new DumperOptions()), this.resolver);
+    }
+
+    @Override
+    protected YamlCommentMapper newCommentMapper() {
+        return new YamlCommentMapper(this.options);
     }
 
     @Override
     @SuppressWarnings("DuplicateThrows")
     public void load(final SupplierIO.Reader readerSupplier, final ConfigurationSection section) throws IOException, InvalidConfigurationException {
+        this.load(readerSupplier, section, null);
+    }
+
+    @Override
+    @SuppressWarnings("DuplicateThrows")
+    public void load(final SupplierIO.Reader readerSupplier, final ConfigurationSection section, final PathFilter filter) throws IOException, InvalidConfigurationException {
         if (readerSupplier != null) {
-            this.load(readerSupplier.get(), section);
+            this.load(readerSupplier.get(), section, filter);
 
             if (this.options.useComments()) {
                 this.parseComments(readerSupplier.get());
@@ -75,17 +84,41 @@ public class SimpleYamlImplementation extends SnakeYamlImplementation {
         }
     }
 
+    @Override
+    @SuppressWarnings("DuplicateThrows")
+    public void loadValues(final SupplierIO.Reader readerSupplier, final ConfigurationSection section) throws IOException, InvalidConfigurationException {
+        if (readerSupplier != null) {
+            // comments are parsed apart
+            this.load(readerSupplier.get(), section, null);
+        }
+    }
+
     @Override
     @SuppressWarnings("DuplicateThrows")
     public void load(final Reader reader, final ConfigurationSection section) throws IOException, InvalidConfigurationException {
+        this.load(reader, section, null);
+    }
+
+    @Override
+    @SuppressWarnings("DuplicateThrows")
+    public void load(final Reader reader, final ConfigurationSection section, final PathFilter filter) throws IOException, InvalidConfigurationException {
         this.configure(this.options);
 
         if (reader != null && section != null) {
             try {
-                final Map<?, ?> values = this.getYaml().load(reader);
+                if (this.options.lazyLoad()) {
+                    this.trackMapping((MappingNode) this.composer(reader, filter).getSingleNode(), section, null, null);
+                } else {
+                    final Map<?, ?> values = filter != null ? this.loadFiltered(reader, filter) : this.getYaml().load(reader);
+
+                    if (values != null) {
+                        SectionUtils.convertMapsToSections(values, section);
+                    }
+                }
 
-                if (values != null) {
-                    SectionUtils.convertMapsToSections(values, section);
+                if (filter != null) {
+                    // merge keys and aliases are kept as a whole
+                    filter.filter(section);
                 }
             } catch (final YAMLException e) {
                 throw new InvalidConfigurationException(e);
@@ -97,18 +130,38 @@ public class SimpleYamlImplementation extends SnakeYamlImplementation {
         }
     }
 
+    /**
+     * Constructs the values of Yaml contents whose paths are included by a filter, like {@link org.yaml.snakeyaml.Yaml#load(Reader)}.
+     *
+     * @param reader a reader of Yaml contents
+     * @param filter the filter of the paths to load
+     * @return the values of the top level map
+     * @throws ClassCastException if the top level is not a map
+     */
+    private Map<?, ?> loadFiltered(final Reader reader, final PathFilter filter) {
+        this.yamlConstructor.setComposer(this.composer(reader, filter));
+        return (Map<?, ?>) this.yamlConstructor.getSingleData(Object.class);
+    }
+
     @Override
     public void dump(final Writer writer, final ConfigurationSection section) throws IOException {
         this.configure(this.options);
 
         if (this.hasContent(writer, section)) {
             if (this.options.useComments()) {
-                final YamlCommentDumper commentDumper = new YamlCommentDumper(
-                        this.parseComments(),
-                        dumper -> super.dumpYaml(dumper, section),
-                        writer
-                );
-                commentDumper.dump();
+                final SnakeYamlCommentDumper singlePassDumper = this.options.singlePassComments()
+                        ? new SnakeYamlCommentDumper(this.parseComments(), this.representYaml(section), this, writer)
+                        : null;
+                if (singlePassDumper != null && singlePassDumper.isSupported()) {
+                    singlePassDumper.dump();
+                } else {
+                    final YamlCommentDumper commentDumper = new YamlCommentDumper(
+                            this.parseComments(),
+                            dumper -> super.dumpYaml(dumper, section),
+                            writer
+                    );
+                    commentDumper.dump();
+                }
             } else {
                 super.dumpYaml(writer, section);
             }
@@ -0,0 +1,329 @@
+package org.simpleyaml.configuration.implementation;
+
+import org.simpleyaml.configuration.ConfigurationSection;
+import org.simpleyaml.configuration.MemorySection;
+import org.simpleyaml.configuration.PathFilter;
+import org.simpleyaml.configuration.implementation.snakeyaml.SnakeYamlConstructor;
+import org.simpleyaml.configuration.implementation.snakeyaml.SnakeYamlRepresenter;
+import org.simpleyaml.configuration.serialization.ConfigurationSerialization;
+import org.simpleyaml.exceptions.InvalidConfigurationException;
+import org.simpleyaml.utils.SectionUtils;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.*;
+import org.yaml.snakeyaml.nodes.*;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * YAML implementation that loads sections directly from the snakeyaml parser events,
+ * without composing the whole document to nodes or constructing it to nested maps first.
+ * <p>
+ * Mappings are filled into their sections as their events arrive, so the peak memory of a load is close to the final configuration.
+ * Only the values that are not sections, like lists or anchored and tagged nodes, are composed to nodes one at a time
+ * to be constructed with the {@link SnakeYamlConstructor}.
+ * Aliases are constructed again for every reference, so aliased values are loaded as equal copies instead of the same instance.
+ * <p>
+ * Comments are parsed and dumped like in {@link SimpleYamlImplementation}.
+ * <p>
+ * If {@link org.simpleyaml.configuration.file.YamlConfigurationOptions#lazyLoad() lazy load} is enabled
+ * the document is composed to nodes like in {@link SimpleYamlImplementation}, because child sections keep their nodes until they are accessed.
+ */
+public class StreamingYamlImplementation extends SimpleYamlImplementation {
+
+    public StreamingYamlImplementation() {
+        super();
+    }
+
+    public StreamingYamlImplementation(final LoaderOptions loaderOptions, final DumperOptions dumperOptions) {
+        super(loaderOptions, dumperOptions);
+    }
+
+    public StreamingYamlImplementation(final SnakeYamlRepresenter yamlRepresenter) {
+        super(yamlRepresenter);
+    }
+
+    public StreamingYamlImplementation(final SnakeYamlConstructor yamlConstructor,
+                                       final SnakeYamlRepresenter yamlRepresenter) {
+        super(yamlConstructor, yamlRepresenter);
+    }
+
+    public StreamingYamlImplementation(final SnakeYamlConstructor yamlConstructor,
+                                       final SnakeYamlRepresenter yamlRepresenter,
+                                       final Resolver resolver) {
+        super(yamlConstructor, yamlRepresenter, resolver);
+    }
+
+    @Override
+    @SuppressWarnings("DuplicateThrows")
+    public void load(final Reader reader, final ConfigurationSection section, final PathFilter filter) throws IOException, InvalidConfigurationException {
+        if (this.options.lazyLoad()) {
+            super.load(reader, section, filter);
+            return;
+        }
+
+        this.configure(this.options);
+
+        if (reader != null && section != null) {
+            try {
+                new EventLoader(this.parser(reader, filter)).load(section);
+
+                if (filter != null) {
+                    // merge keys and aliases are kept as a whole
+                    filter.filter(section);
+                }
+            } catch (final YAMLException e) {
+                throw new InvalidConfigurationException(e);
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Creates a section for a mapping that is loaded from its events.
+     *
+     * @param section the parent section
+     * @param name    the key of the mapping
+     * @return the new section
+     */
+    protected ConfigurationSection createSection(final ConfigurationSection section, final String name) {
+        if (section instanceof MemorySection && this.isChildKey(name)) {
+            return ((MemorySection) section).createChildSection(name, 0);
+        }
+        return section.createSection(name);
+    }
+
+    private final class EventLoader {
+
+        private final Parser events;
+
+        private final Map<String, Node> anchors = new HashMap<>();
+
+        private int collectionAliases;
+
+        private EventLoader(final Parser events) {
+            this.events = events;
+        }
+
+        private void load(final ConfigurationSection section) throws InvalidConfigurationException {
+            this.expect(this.next(), StreamStartEvent.class);
+
+            if (this.next() instanceof StreamEndEvent) {
+                return;
+            }
+
+            final Event root = this.next();
+
+            if (root instanceof MappingStartEvent && this.isSection((MappingStartEvent) root)) {
+                this.loadMapping(section, 1);
+            } else {
+                final Object values = yamlConstructor.constructStandalone(this.compose(root, 1));
+                if (values instanceof Map) {
+                    SectionUtils.convertMapsToSections((Map<?, ?>) values, section);
+                } else if (values != null) {
+                    throw new InvalidConfigurationException("Top level is not a Map.");
+                }
+            }
+
+            this.expect(this.next(), DocumentEndEvent.class);
+
+            final Event end = this.next();
+            if (!(end instanceof StreamEndEvent)) {
+                throw new YAMLException("expected a single document in the stream but found another document at " + end.getStartMark());
+            }
+        }
+
+        private void loadMapping(final ConfigurationSection section, final int depth) {
+            Event event;
+
+            while (!((event = this.next()) instanceof MappingEndEvent)) {
+                final Node key = this.compose(event, depth + 1);
+
+                if (Tag.MERGE.equals(key.getTag())) {
+                    this.merge(section, key, this.compose(this.next(), depth + 1));
+                    continue;
+                }
+
+                final String name = String.valueOf(yamlConstructor.constructStandalone(key));
+                final Event value = this.next();
+
+                if (value instanceof MappingStartEvent && this.isSection((MappingStartEvent) value)) {
+                    final ConfigurationSection child = createSection(section, name);
+                    this.loadMapping(child, depth + 1);
+
+                    if (child.contains(ConfigurationSerialization.SERIALIZED_TYPE_KEY)) {
+                        set(section, name, this.deserialize(child));
+                    }
+                } else {
+                    final Node node = this.compose(value, depth + 1);
+                    this.setValue(section, name, node instanceof MappingNode, yamlConstructor.constructStandalone(node));
+                }
+            }
+        }
+
+        private void merge(final ConfigurationSection section, final Node key, final Node value) {
+            final List<NodeTuple> tuples = new ArrayList<>(1);
+            tuples.add(new NodeTuple(key, value));
+
+            final MappingNode merge = new MappingNode(Tag.MAP, tuples, DumperOptions.FlowStyle.AUTO);
+            merge.setMerged(true);
+
+            final Map<?, ?> merged = (Map<?, ?>) yamlConstructor.constructStandalone(merge);
+
+            // Keys of the mapping itself take precedence over merged keys
+            final Set<String> explicit = section.getKeys(false);
+
+            for (final Map.Entry<?, ?> entry : merged.entrySet()) {
+                final String name = String.valueOf(entry.getKey());
+                if (!explicit.contains(name)) {
+                    this.setValue(section, name, entry.getValue() instanceof Map, entry.getValue());
+                }
+            }
+        }
+
+        private void setValue(final ConfigurationSection section, final String name, final boolean mapping, final Object value) {
+            if (mapping && value instanceof Map) {
+                SectionUtils.convertMapsToSections((Map<?, ?>) value, createSection(section, name));
+            } else {
+                set(section, name, value);
+            }
+        }
+
+        private Object deserialize(final ConfigurationSection section) {
+            try {
+                return ConfigurationSerialization.deserializeObject(this.toMap(section));
+            } catch (final IllegalArgumentException ex) {
+                throw new YAMLException("Could not deserialize object", ex);
+            }
+        }
+
+        private Map<String, Object> toMap(final ConfigurationSection section) {
+            final Map<String, Object> values = section.getValues(false);
+            final Map<String, Object> map = new LinkedHashMap<>(values.size());
+            for (final Map.Entry<String, Object> entry : values.entrySet()) {
+                final Object value = entry.getValue();
+                map.put(entry.getKey(), value instanceof ConfigurationSection ? this.toMap((ConfigurationSection) value) : value);
+            }
+            return map;
+        }
+
+        private boolean isSection(final MappingStartEvent event) {
+            final String tag = event.getTag();
+            return event.getAnchor() == null && (tag == null || tag.equals("!") || tag.equals(Tag.MAP.getValue()));
+        }
+
+        private Node compose(final Event event, final int depth) {
+            if (depth > loaderOptions.getNestingDepthLimit()) {
+                throw new YAMLException("Nesting Depth exceeded max " + loaderOptions.getNestingDepthLimit());
+            }
+
+            if (event instanceof AliasEvent) {
+                return this.alias((AliasEvent) event);
+            }
+
+            final Node node;
+
+            if (event instanceof ScalarEvent) {
+                final ScalarEvent scalar = (ScalarEvent) event;
+                final boolean resolved = this.isImplicit(scalar.getTag());
+                final Tag tag = resolved
+                        ? resolver.resolve(NodeId.scalar, scalar.getValue(), scalar.getImplicit().canOmitTagInPlainScalar())
+                        : this.tag(scalar.getTag());
+                node = new ScalarNode(tag, resolved, scalar.getValue(), scalar.getStartMark(), scalar.getEndMark(), scalar.getScalarStyle());
+                this.anchor(scalar, node);
+            } else if (event instanceof SequenceStartEvent) {
+                final SequenceStartEvent start = (SequenceStartEvent) event;
+                final boolean resolved = this.isImplicit(start.getTag());
+                final Tag tag = resolved ? resolver.resolve(NodeId.sequence, null, start.getImplicit()) : this.tag(start.getTag());
+                final List<Node> children = new ArrayList<>();
+                final SequenceNode sequence = new SequenceNode(tag, resolved, children, start.getStartMark(), null, start.getFlowStyle());
+                this.anchor(start, sequence);
+
+                Event child;
+                while (!((child = this.next()) instanceof SequenceEndEvent)) {
+                    children.add(this.compose(child, depth + 1));
+                }
+                sequence.setEndMark(child.getEndMark());
+                node = sequence;
+            } else if (event instanceof MappingStartEvent) {
+                final MappingStartEvent start = (MappingStartEvent) event;
+                final boolean resolved = this.isImplicit(start.getTag());
+                final Tag tag = resolved ? resolver.resolve(NodeId.mapping, null, start.getImplicit()) : this.tag(start.getTag());
+                final List<NodeTuple> children = new ArrayList<>();
+                final MappingNode mapping = new MappingNode(tag, resolved, children, start.getStartMark(), null, start.getFlowStyle());
+                this.anchor(start, mapping);
+
+                Event child;
+                while (!((child = this.next()) instanceof MappingEndEvent)) {
+                    final Node key = this.compose(child, depth + 1);
+                    if (Tag.MERGE.equals(key.getTag())) {
+                        mapping.setMerged(true);
+                    }
+                    children.add(new NodeTuple(key, this.compose(this.next(), depth + 1)));
+                }
+                mapping.setEndMark(child.getEndMark());
+                node = mapping;
+            } else {
+                throw new YAMLException("Unexpected event " + event);
+            }
+
+            return node;
+        }
+
+        private Node alias(final AliasEvent event) {
+            final Node node = this.anchors.get(event.getAnchor());
+            if (node == null) {
+                throw new YAMLException("found undefined alias " + event.getAnchor() + " at " + event.getStartMark());
+            }
+            if (node instanceof CollectionNode && ++this.collectionAliases > loaderOptions.getMaxAliasesForCollections()) {
+                throw new YAMLException("Number of aliases for non-scalar nodes exceeds the specified max=" + loaderOptions.getMaxAliasesForCollections());
+            }
+            return node;
+        }
+
+        private void anchor(final NodeEvent event, final Node node) {
+            if (event.getAnchor() != null) {
+                node.setAnchor(event.getAnchor());
+                this.anchors.put(event.getAnchor(), node);
+            }
+        }
+
+        private boolean isImplicit(final String tag) {
+            return tag == null || tag.equals("!");
+        }
+
+        private Tag tag(final String value) {
+            final Tag tag = new Tag(value);
+            if (tag.isCustomGlobal() && !loaderOptions.getTagInspector().isGlobalTagAllowed(tag)) {
+                throw new YAMLException("Global tag is not allowed: " + value);
+            }
+            return tag;
+        }
+
+        private void expect(final Event event, final Class<? extends Event> type) {
+            if (!type.isInstance(event)) {
+                throw new YAMLException("Unexpected event " + event);
+            }
+        }
+
+        private Event next() {
+            final Event event = this.events.getEvent();
+            if (event == null) {
+                throw new YAMLException("Unexpected end of stream");
+            }
+            return event;
+        }
+    }
+
+}
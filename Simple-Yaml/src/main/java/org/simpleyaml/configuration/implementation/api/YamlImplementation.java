@@ -1,6 +1,7 @@
 package org.simpleyaml.configuration.implementation.api;
 
 import org.simpleyaml.configuration.ConfigurationSection;
+import org.simpleyaml.configuration.PathFilter;
 import org.simpleyaml.configuration.file.YamlConfigurationOptions;
 import org.simpleyaml.exceptions.InvalidConfigurationException;
 import org.simpleyaml.utils.SupplierIO;
@@ -32,6 +33,25 @@ public interface YamlImplementation {
         this.load(readerSupplier.get(), section);
     }
 
+    /**
+     * Load Yaml to a configuration section, only with the values whose paths are included by a filter.
+     * <p>
+     * By default the contents are loaded as a whole and the values not included are removed afterwards.
+     * Implementations may skip the values not included while reading the contents instead.
+     * @param readerSupplier a function providing a reader of Yaml contents to load
+     * @param section the configuration to fill with the contents
+     * @param filter the filter of the paths to load, relative to the section, or null to load every value
+     * @throws IOException if cannot read contents.
+     * @throws InvalidConfigurationException if contents is not a valid Yaml configuration
+     */
+    default void load(final SupplierIO.Reader readerSupplier, final ConfigurationSection section, final PathFilter filter) throws IOException, InvalidConfigurationException {
+        this.load(readerSupplier, section);
+
+        if (filter != null && section != null) {
+            filter.filter(section);
+        }
+    }
+
     /**
      * Load Yaml to a configuration section.
      * @param contents a Yaml string with contents to load
@@ -43,6 +43,27 @@ public abstract class YamlImplementationCommentable implements YamlImplementatio
         return this.yamlCommentMapper;
     }
 
+    /**
+     * Get the comment mapper to get or set comments, creating an empty one if there is none.
+     * <p>Comments are enabled when the comment mapper is created.</p>
+     * @return the comment mapper
+     */
+    public YamlCommentMapper getOrCreateCommentMapper() {
+        if (this.yamlCommentMapper == null) {
+            this.options.useComments(true);
+            this.yamlCommentMapper = this.newCommentMapper();
+        }
+        return this.yamlCommentMapper;
+    }
+
+    /**
+     * Create an empty comment mapper of this implementation.
+     * @return a new comment mapper
+     */
+    protected YamlCommentMapper newCommentMapper() {
+        return new YamlCommentMapper(this.options);
+    }
+
     @Override
     public void configure(final YamlConfigurationOptions options) {
         this.options = options;
@@ -0,0 +1,685 @@
+package org.simpleyaml.configuration.implementation.snakeyaml;
+
+import org.simpleyaml.configuration.comments.KeyTree;
+import org.simpleyaml.configuration.comments.YamlCommentDumper;
+import org.simpleyaml.configuration.comments.YamlCommentMapper;
+import org.simpleyaml.utils.StringUtils;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Merges comments with the YAML of a node graph while it is being dumped, in a single pass.
+ * <p>
+ * {@link YamlCommentDumper} reads the dumped YAML again to rebuild the key of every line and then looks up its comments by path.
+ * This dumper walks the node graph beforehand, which gives the keys and list elements in the same order as they are dumped,
+ * so every line written by the emitter is merged with its comments as soon as it is written,
+ * navigating the comment tree along with the node graph.
+ * Lines are only read character by character when the key or the value of a line is within quotes,
+ * to find where the value ends like {@link YamlCommentDumper} does.
+ * <p>
+ * The result is the same as dumping with {@link YamlCommentDumper}, but node graphs
+ * with anchors, complex keys, nested lists or flow collections are not {@link #isSupported() supported}.
+ */
+public class SnakeYamlCommentDumper extends YamlCommentDumper {
+
+    private static final int TAG_WIDTH = 16;
+
+    private static final int ESCAPE_WIDTH = 10;
+
+    private final DumperOptions dumperOptions;
+
+    private final Resolver resolver;
+
+    private final Set<Node> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    private final boolean supported;
+
+    private final boolean navigate;
+
+    private final ArrayDeque<String> region = new ArrayDeque<>();
+
+    private Iterator<Entry> nextEntry;
+
+    private Entry entry;
+
+    private int continuationIndent = -1;
+
+    /**
+     * Creates a dumper of a node graph merged with comments.
+     *
+     * @param yamlCommentMapper the comments to merge
+     * @param node              the node graph to dump, as represented by the implementation
+     * @param implementation    the implementation serializing the node graph
+     * @param writer            the writer of the result
+     */
+    public SnakeYamlCommentDumper(final YamlCommentMapper yamlCommentMapper, final Node node,
+                                  final SnakeYamlImplementation implementation, final Writer writer) {
+        super(yamlCommentMapper, dumper -> serialize(implementation, node, dumper), writer);
+        this.dumperOptions = implementation.getDumperOptions();
+        this.resolver = implementation.getResolver();
+        this.supported = this.isSupportedDocument() && node instanceof MappingNode && !((MappingNode) node).getValue().isEmpty()
+                && this.walk((MappingNode) node, null, false);
+        this.visited.clear();
+        this.navigate = !this.hasSeparatorNames(yamlCommentMapper.getKeyTree().getRoot());
+    }
+
+    /**
+     * Checks if the node graph can be dumped by this dumper.
+     * <p>Otherwise it must be dumped with {@link YamlCommentDumper}.</p>
+     *
+     * @return true if the comments can be merged while the node graph is dumped
+     */
+    public boolean isSupported() {
+        return this.supported;
+    }
+
+    /**
+     * Dump the node graph merged with the comments from the comment mapper.
+     * <p>The result is written to the writer.</p>
+     *
+     * @throws IOException if any problem arise while writing
+     * @throws IllegalStateException if the node graph is not {@link #isSupported() supported}
+     */
+    @Override
+    public void dump() throws IOException {
+        if (!this.supported) {
+            throw new IllegalStateException("Node graph not supported, dump with YamlCommentDumper");
+        }
+
+        this.nextEntry = this.entries.iterator();
+
+        this.bus.source().dump(new LineWriter());
+        this.dumpRegion();
+
+        // Append end of file (footer) comment (null path), if found
+        this.clearSection();
+        this.commentNode = this.getNode(null);
+        this.appendBlockComment();
+
+        this.close();
+    }
+
+    private static void serialize(final SnakeYamlImplementation implementation, final Node node, final Writer writer) throws IOException {
+        try {
+            implementation.getYaml().serialize(node, writer);
+        } catch (final YAMLException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Called with every line written by the emitter, without the line break.
+     * <p>Lines deeper than the line of a scalar are its continuation lines, otherwise the line begins the next key or list element.</p>
+     */
+    private void line(final String line) throws IOException {
+        final int indent = indentation(line);
+
+        if (this.continuationIndent >= 0 && indent > this.continuationIndent) {
+            this.region.add(line);
+            return;
+        }
+
+        this.dumpRegion();
+
+        this.entry = this.nextEntry.hasNext() ? this.nextEntry.next() : null;
+        this.region.add(line);
+
+        if (this.entry == null || isBlockCollection(this.entry.value)) {
+            this.continuationIndent = -1;
+        } else if (this.entry.index >= 0 && this.entry.key != null) {
+            this.continuationIndent = skipListIndicator(line, indent); // first key of a list map
+        } else {
+            this.continuationIndent = indent;
+        }
+    }
+
+    /**
+     * Writes the lines of the current key or list element merged with its comments.
+     */
+    private void dumpRegion() throws IOException {
+        if (this.region.isEmpty()) {
+            return;
+        }
+
+        if (this.entry == null) {
+            this.writer.write(this.region.poll());
+            this.writeRemainingLines();
+        } else if (!this.dumpPlainRegion()) {
+            this.dumpQuotedRegion();
+        }
+
+        this.writer.newLine();
+        this.region.clear();
+    }
+
+    /**
+     * Writes the current region without reading its characters, if its key and value are not within quotes.
+     *
+     * @return false if the key or the value are within quotes
+     */
+    private boolean dumpPlainRegion() throws IOException {
+        final String line = this.region.peek();
+        final int length = line.length();
+        final String name;
+        int position = indentation(line);
+
+        if (this.entry.index >= 0) {
+            position = skipListIndicator(line, position);
+        }
+
+        if (this.entry.key != null) {
+            final String key = this.entry.key;
+            final int end = position + key.length();
+
+            if (end >= length || line.charAt(end) != ':' || !line.startsWith(key, position)
+                    || (end + 1 < length && !isSpace(line.charAt(end + 1)))) {
+                return false;
+            }
+
+            name = key;
+            position = skipTag(line, skipSpaces(line, end + 1));
+        } else {
+            if (!(this.entry.value instanceof ScalarNode)) {
+                return false;
+            }
+
+            final String value = ((ScalarNode) this.entry.value).getValue();
+
+            if (length != position + value.length() || !line.startsWith(value, position)) {
+                return false;
+            }
+
+            name = value;
+        }
+
+        final char valueStart = position < length ? line.charAt(position) : '\0';
+
+        if (valueStart == ReadingQuoteStyle.SINGLE.getChar() || valueStart == ReadingQuoteStyle.DOUBLE.getChar()) {
+            return false;
+        }
+
+        this.region.poll();
+
+        this.clearSection();
+        this.resolve(name);
+        this.appendBlockComment();
+        this.writer.write(line);
+
+        final String sideComment = this.getSideComment();
+
+        if (sideComment != null && !sideComment.isEmpty() && (valueStart == '|' || valueStart == '>')) {
+            final String[] sideCommentParts = StringUtils.splitNewLines(sideComment, 2);
+
+            this.writer.write(sideCommentParts[0]);
+            this.writeRemainingLines();
+
+            // Append side comment below the block scalar literal
+            if (sideCommentParts.length > 1) {
+                this.writer.newLine();
+                this.writer.write(sideCommentParts[1]);
+            }
+        } else {
+            if (sideComment != null && !sideComment.isEmpty()) {
+                this.writer.write(sideComment);
+            }
+            this.writeRemainingLines();
+        }
+
+        return true;
+    }
+
+    /**
+     * Writes the current region like {@link YamlCommentDumper}, reading its characters to find the key and where the value ends.
+     */
+    private void dumpQuotedRegion() throws IOException {
+        this.quoteNotation = ReadingQuoteStyle.NONE;
+        this.isLiteral = false;
+        this.isEscaping = false;
+
+        this.nextLine();
+        this.processLine();
+
+        while (this.nextLine()) {
+            this.writer.newLine();
+            this.writer.write(this.currentLine);
+        }
+    }
+
+    private void writeRemainingLines() throws IOException {
+        String line;
+        while ((line = this.region.poll()) != null) {
+            this.writer.newLine();
+            this.writer.write(line);
+        }
+    }
+
+    @Override
+    protected String readLine() {
+        return this.region.poll();
+    }
+
+    @Override
+    protected KeyTree.Node track() throws IOException {
+        // The node is known from the node graph, only the key is read
+        this.key = this.readKey();
+        return null;
+    }
+
+    @Override
+    public void getCommentNode(final KeyTree.Node readerNode) {
+        this.resolve(this.key);
+    }
+
+    /**
+     * Finds the comments of the current key or list element, with the same priorities as {@link YamlCommentDumper}.
+     *
+     * @param name the key as written in the current line, or the list element value
+     */
+    private void resolve(final String name) {
+        final Entry entry = this.entry;
+
+        entry.name = name;
+        entry.commentNode = this.commentNode(entry);
+        this.commentNode = entry.commentNode;
+
+        if (this.commentNode != null) {
+            final KeyTree.Node parent = this.commentNode.getParent();
+            if (parent != null && parent.isList() && this.commentNode.size() == 1) {
+                this.checkFirstListMapElement(this.commentNode, name); // first key for list maps
+            }
+        }
+
+        if (entry.index >= 0 && (this.commentNode == null ||
+                (name != null && (this.commentNode.getComment() == null || this.commentNode.getSideComment() == null)))) {
+            // list element by name
+            if (this.navigate && entry.parent.isSimple()) {
+                final KeyTree.Node list = entry.parent.commentNode;
+                this.commentNodeFallback = list != null ? list.getPriority(String.valueOf(StringUtils.escape(name))) : null;
+            } else {
+                this.commentNodeFallback = this.getNode(entry.parent.path() + this.options().pathSeparator() + StringUtils.escape(name));
+            }
+        }
+    }
+
+    private KeyTree.Node commentNode(final Entry entry) {
+        if (entry.parent == null) {
+            return this.getNode(entry.name);
+        }
+        if (!this.navigate || !entry.isSimple()) {
+            return this.getNode(entry.path());
+        }
+        final KeyTree.Node parent = entry.parent.commentNode;
+        if (parent == null) {
+            return null;
+        }
+        return entry.index >= 0 ? parent.getElement(entry.index) : parent.getPriority(entry.name);
+    }
+
+    private void checkFirstListMapElement(final KeyTree.Node commentNode, final String name) {
+        // First list map element block and side comment can be either the list[0] or first list[0].element node
+        final KeyTree.Node child = commentNode.getFirst();
+        final Integer elementIndex = child.getElementIndex();
+        if (elementIndex == null) {
+            final String childName = child.getName();
+            if (childName != null && childName.equals(name)) {
+                this.firstListMapElement = child;
+            }
+        } else if (elementIndex == 0) {
+            this.firstListMapElement = child;
+        }
+    }
+
+    private String getSideComment() {
+        String sideComment = null;
+
+        if (this.commentNode != null) {
+            sideComment = this.commentNode.getSideComment();
+        }
+
+        if (sideComment == null && this.firstListMapElement != null) {
+            sideComment = this.firstListMapElement.getSideComment();
+        }
+
+        if (sideComment == null && this.commentNodeFallback != null) {
+            sideComment = this.commentNodeFallback.getSideComment();
+        }
+
+        return sideComment;
+    }
+
+    /**
+     * Checks if a name may be looked up in a different node than its parent, like names with path separators or list indexes.
+     */
+    private boolean isSimpleName(final String name) {
+        if (name == null) {
+            return false;
+        }
+        final char separator = this.options().pathSeparator();
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            if (c == separator || c == '.' || c == StringUtils.ESCAPE_CHAR || c == '[' || c == ']') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if any comment node out of a list has a name with path separators,
+     * which could be found instead of a child when looking up a path.
+     */
+    private boolean hasSeparatorNames(final KeyTree.Node node) {
+        final String separator = String.valueOf(this.options().pathSeparator());
+        for (final KeyTree.Node child : node.children()) {
+            final String name = child.getName();
+            if (!node.isList() && name != null && name.contains(separator)) {
+                return true;
+            }
+            if (child.hasChildren() && this.hasSeparatorNames(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isSupportedDocument() {
+        return !this.dumperOptions.isExplicitStart() && !this.dumperOptions.isExplicitEnd() && !this.dumperOptions.isCanonical()
+                && this.dumperOptions.getVersion() == null && this.dumperOptions.getTags() == null;
+    }
+
+    /**
+     * Adds the entries of the keys of a mapping, checking that they are supported.
+     *
+     * @param mapping the mapping
+     * @param parent  the entry of the mapping
+     * @param listMap if the mapping is a list element, so its first key is written in the line of the list element
+     * @return false if the mapping is not supported
+     */
+    private boolean walk(final MappingNode mapping, final Entry parent, final boolean listMap) {
+        if (!this.visit(mapping) || !Tag.MAP.equals(mapping.getTag()) || isFlow(mapping)) {
+            return false;
+        }
+
+        boolean first = listMap;
+
+        for (final NodeTuple tuple : mapping.getValue()) {
+            final Node keyNode = tuple.getKeyNode();
+            final Node value = tuple.getValueNode();
+
+            if (!(keyNode instanceof ScalarNode) || !this.visit(keyNode) || !this.isSimpleKey((ScalarNode) keyNode)) {
+                return false;
+            }
+
+            final String key = ((ScalarNode) keyNode).getValue();
+            final Entry entry;
+
+            if (first) {
+                // The first key is read with the list element, a block value would be tracked as its parent
+                if (isBlockCollection(value) || (value instanceof ScalarNode && !this.isSingleLine((ScalarNode) value))) {
+                    return false;
+                }
+                entry = parent;
+                entry.key = key;
+                entry.value = value;
+                first = false;
+            } else {
+                entry = new Entry(parent, key, -1, value, this.isSimpleName(key));
+                this.entries.add(entry);
+            }
+
+            if (!this.walkValue(value, entry)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean walkValue(final Node value, final Entry entry) {
+        if (value instanceof ScalarNode) {
+            return this.visit(value) && !this.maySplit((ScalarNode) value, entry);
+        }
+        if (!isBlockCollection(value)) {
+            // empty collection, written as a flow collection in a single line
+            return this.visit(value) && !isFlow(value)
+                    && (value instanceof MappingNode ? Tag.MAP : Tag.SEQ).equals(value.getTag());
+        }
+        if (value instanceof MappingNode) {
+            return this.walk((MappingNode) value, entry, false);
+        }
+        if (!(value instanceof SequenceNode) || !this.visit(value) || !Tag.SEQ.equals(value.getTag()) || isFlow(value)
+                || entry.inListMap()) {
+            return false; // lists within list maps are not tracked by the line like the rest of keys
+        }
+
+        final List<Node> items = ((SequenceNode) value).getValue();
+
+        for (int i = 0; i < items.size(); i++) {
+            final Node item = items.get(i);
+            final Entry element = new Entry(entry, null, i, item, entry.simple);
+            this.entries.add(element);
+
+            if (item instanceof SequenceNode && isBlockCollection(item)) {
+                return false; // nested list in the line of the list element
+            } else if (item instanceof MappingNode && isBlockCollection(item)) {
+                if (!this.walk((MappingNode) item, element, true)) {
+                    return false;
+                }
+            } else if (!this.walkValue(item, element)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean visit(final Node node) {
+        // Nodes found twice are dumped as aliases
+        return node.getAnchor() == null && this.visited.add(node);
+    }
+
+    private boolean isSimpleKey(final ScalarNode key) {
+        final String value = key.getValue();
+        final Tag tag = key.getTag();
+        return value.length() < this.dumperOptions.getMaxSimpleKeyLength() && this.isSingleLine(key)
+                && (Tag.STR.equals(tag) || tag.equals(this.resolver.resolve(NodeId.scalar, value, true)));
+    }
+
+    /**
+     * Checks if the emitter could split a scalar in several lines because it is too wide,
+     * whose continuation lines would be read as keys.
+     */
+    private boolean maySplit(final ScalarNode scalar, final Entry entry) {
+        final DumperOptions.ScalarStyle style = scalar.getScalarStyle();
+        if (!this.dumperOptions.getSplitLines() || style == DumperOptions.ScalarStyle.LITERAL || style == DumperOptions.ScalarStyle.FOLDED) {
+            return false;
+        }
+        final String value = scalar.getValue();
+        if (value.indexOf(' ') < 0) {
+            return false;
+        }
+        // Widest line: indentation, list indicators, escaped key, tag and escaped value
+        int width = entry.column() + TAG_WIDTH;
+        if (entry.key != null) {
+            width += escapedWidth(entry.key) + 2;
+        }
+        width += escapedWidth(value);
+        return width > this.dumperOptions.getWidth();
+    }
+
+    private static int escapedWidth(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < ' ' || c > '~') {
+                return value.length() * ESCAPE_WIDTH;
+            }
+        }
+        return value.length() + 2;
+    }
+
+    private boolean isSingleLine(final ScalarNode scalar) {
+        final DumperOptions.ScalarStyle style = scalar.getScalarStyle();
+        if (style == DumperOptions.ScalarStyle.LITERAL || style == DumperOptions.ScalarStyle.FOLDED) {
+            return false;
+        }
+        final String value = scalar.getValue();
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isFlow(final Node node) {
+        final DumperOptions.FlowStyle flowStyle = node instanceof MappingNode ? ((MappingNode) node).getFlowStyle()
+                : ((SequenceNode) node).getFlowStyle();
+        return flowStyle == DumperOptions.FlowStyle.FLOW;
+    }
+
+    private static boolean isBlockCollection(final Node node) {
+        if (node instanceof MappingNode) {
+            return !((MappingNode) node).getValue().isEmpty();
+        }
+        if (node instanceof SequenceNode) {
+            return !((SequenceNode) node).getValue().isEmpty();
+        }
+        return false;
+    }
+
+    /**
+     * A key or a list element in the order it is dumped.
+     */
+    private final class Entry {
+
+        private final Entry parent;
+        private final int index;
+        private final boolean simple;
+
+        private String key;
+        private Node value;
+
+        private String name;
+        private String path;
+        private KeyTree.Node commentNode;
+
+        private int column = -1;
+
+        Entry(final Entry parent, final String key, final int index, final Node value, final boolean simple) {
+            this.parent = parent;
+            this.key = key;
+            this.index = index;
+            this.value = value;
+            this.simple = simple;
+        }
+
+        boolean isSimple() {
+            return this.simple && (this.index >= 0 || SnakeYamlCommentDumper.this.isSimpleName(this.name));
+        }
+
+        /**
+         * The column of the key or list element, or a greater column.
+         */
+        int column() {
+            if (this.column < 0) {
+                final DumperOptions options = SnakeYamlCommentDumper.this.dumperOptions;
+                if (this.parent == null) {
+                    this.column = 0;
+                } else if (this.index >= 0) {
+                    this.column = this.parent.column() + options.getIndent() + options.getIndicatorIndent() + 2;
+                } else if (this.parent.index >= 0) {
+                    this.column = this.parent.column();
+                } else {
+                    this.column = this.parent.column() + options.getIndent();
+                }
+            }
+            return this.column;
+        }
+
+        /**
+         * Checks if this key or list element is within a list map.
+         */
+        boolean inListMap() {
+            for (Entry entry = this; entry != null; entry = entry.parent) {
+                if (entry.index >= 0 && entry.key != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        String path() {
+            if (this.path == null) {
+                if (this.parent == null) {
+                    this.path = this.name;
+                } else if (this.index >= 0) {
+                    this.path = this.parent.path() + "[" + this.index + "]";
+                } else {
+                    this.path = this.parent.path() + SnakeYamlCommentDumper.this.options().pathSeparator() + StringUtils.escape(this.name);
+                }
+            }
+            return this.path;
+        }
+    }
+
+    /**
+     * Receives the YAML written by the emitter and splits it in lines like {@link org.simpleyaml.utils.DumperBus}.
+     */
+    private final class LineWriter extends Writer {
+
+        private final StringBuilder lineBuffer = new StringBuilder();
+
+        @Override
+        public void write(final char[] str, final int offset, int len) throws IOException {
+            // Line breaks are only written at the end of the string
+            int last = offset + len - 1;
+            if (last >= offset && str[last] == '\n') {
+                last--;
+                len--;
+                if (last >= offset && str[last] == '\r') {
+                    len--;
+                }
+                if (len > 0) {
+                    this.lineBuffer.append(str, offset, len);
+                }
+                this.flush();
+            } else {
+                this.lineBuffer.append(str, offset, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (this.lineBuffer.length() > 0) {
+                SnakeYamlCommentDumper.this.line(this.lineBuffer.toString());
+            }
+            this.lineBuffer.setLength(0);
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.flush();
+        }
+    }
+}
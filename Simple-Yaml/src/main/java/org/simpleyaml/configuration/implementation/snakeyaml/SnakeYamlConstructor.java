@@ -1,12 +1,14 @@
 package org.simpleyaml.configuration.implementation.snakeyaml;
 
 import org.simpleyaml.configuration.serialization.ConfigurationSerialization;
+import org.simpleyaml.utils.PrimitiveList;
 import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.constructor.SafeConstructor;
 import org.yaml.snakeyaml.error.YAMLException;
 import org.yaml.snakeyaml.nodes.*;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -16,9 +18,21 @@ import java.util.Map;
  */
 public class SnakeYamlConstructor extends SafeConstructor {
 
+    private boolean primitiveLists;
+
     public SnakeYamlConstructor(final LoaderOptions loaderOptions) {
         super(loaderOptions);
         this.yamlConstructors.put(Tag.MAP, new ConstructCustomObject());
+        this.yamlConstructors.put(Tag.SEQ, new ConstructPrimitiveSeq());
+    }
+
+    /**
+     * Sets if sequences made only of integers, longs or doubles should be constructed as a {@link PrimitiveList}.
+     *
+     * @param primitiveLists if numeric sequences should be backed by primitive arrays
+     */
+    public void setPrimitiveLists(final boolean primitiveLists) {
+        this.primitiveLists = primitiveLists;
     }
 
     @Override
@@ -30,6 +44,18 @@ public class SnakeYamlConstructor extends SafeConstructor {
         return super.constructObject(node);
     }
 
+    /**
+     * Constructs a node as a whole document, so the constructed objects of the node are not kept afterwards.
+     * <p>
+     * Use it for nodes that are built and constructed one at a time, that otherwise would stay referenced by this constructor.
+     *
+     * @param node the node to construct
+     * @return the constructed object
+     */
+    public Object constructStandalone(final Node node) {
+        return super.constructDocument(node);
+    }
+
     protected boolean hasSerializedTypeKey(final MappingNode node) {
         for (final NodeTuple nodeTuple : node.getValue()) {
             final Node keyNode = nodeTuple.getKeyNode();
@@ -71,4 +97,69 @@ public class SnakeYamlConstructor extends SafeConstructor {
         }
     }
 
+    private final class ConstructPrimitiveSeq extends SafeConstructor.ConstructYamlSeq {
+
+        @Override
+        public Object construct(final Node node) {
+            if (!primitiveLists || node.isTwoStepsConstruction()) {
+                return super.construct(node);
+            }
+
+            final List<Node> nodes = ((SequenceNode) node).getValue();
+            final int size = nodes.size();
+
+            if (size == 0) {
+                return super.construct(node);
+            }
+
+            for (final Node item : nodes) {
+                if (!(item instanceof ScalarNode) || !(Tag.INT.equals(item.getTag()) || Tag.FLOAT.equals(item.getTag()))) {
+                    return super.construct(node);
+                }
+            }
+
+            final Object[] values = new Object[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = constructObject(nodes.get(i));
+            }
+
+            final Class<?> type = values[0].getClass();
+            for (final Object value : values) {
+                if (value.getClass() != type) {
+                    return toList(values);
+                }
+            }
+
+            if (type == Integer.class) {
+                final int[] ints = new int[size];
+                for (int i = 0; i < size; i++) {
+                    ints[i] = (Integer) values[i];
+                }
+                return new PrimitiveList.OfInt(ints);
+            } else if (type == Long.class) {
+                final long[] longs = new long[size];
+                for (int i = 0; i < size; i++) {
+                    longs[i] = (Long) values[i];
+                }
+                return new PrimitiveList.OfLong(longs);
+            } else if (type == Double.class) {
+                final double[] doubles = new double[size];
+                for (int i = 0; i < size; i++) {
+                    doubles[i] = (Double) values[i];
+                }
+                return new PrimitiveList.OfDouble(doubles);
+            }
+
+            return toList(values);
+        }
+
+        private List<Object> toList(final Object[] values) {
+            final List<Object> list = createDefaultList(values.length);
+            for (final Object value : values) {
+                list.add(value);
+            }
+            return list;
+        }
+    }
+
 }
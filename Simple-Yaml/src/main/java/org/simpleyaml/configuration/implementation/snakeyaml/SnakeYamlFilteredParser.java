@@ -0,0 +1,385 @@
+package org.simpleyaml.configuration.implementation.snakeyaml;
+
+import org.simpleyaml.configuration.PathFilter;
+import org.yaml.snakeyaml.comments.CommentType;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.CollectionEndEvent;
+import org.yaml.snakeyaml.events.CollectionStartEvent;
+import org.yaml.snakeyaml.events.CommentEvent;
+import org.yaml.snakeyaml.events.DocumentStartEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.MappingEndEvent;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.parser.Parser;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A snakeyaml parser that skips the events of the mapping entries whose paths are not included by a {@link PathFilter},
+ * so they are neither composed nor constructed.
+ * <p>
+ * Only the entries of mappings with scalar keys are filtered, starting from the root mapping.
+ * Values that are not mappings, like lists, are kept or skipped as a whole,
+ * and so are the values of merge keys and aliases, which may bring values not included by the filter.
+ * Anchored mappings are kept as a whole too, as their aliases must resolve to the whole mapping.
+ * <p>
+ * Skipped nodes with an anchor are kept aside, and if they are referenced by an alias that is not skipped
+ * their events are replayed in place of the alias.
+ * <p>
+ * Comments are kept or skipped with the node they belong to when composed, so they are placed as when every entry is loaded:
+ * block comments belong to the next node and in-line comments to the previous one.
+ * The block comments left at the end of the document are kept.
+ */
+public class SnakeYamlFilteredParser implements Parser {
+
+    private static final String MERGE_KEY = "<<";
+
+    private final Parser parser;
+
+    private final PathFilter filter;
+
+    private final Deque<Event> events = new ArrayDeque<>();
+
+    /**
+     * Paths of the mappings being filtered, the innermost first.
+     */
+    private final Deque<List<String>> mappings = new ArrayDeque<>();
+
+    /**
+     * Depth of the collections within a node that is kept as a whole, or 0 if there is no such node.
+     */
+    private int keptDepth;
+
+    private boolean document;
+
+    /**
+     * Block comments waiting for the next node, which they belong to.
+     */
+    private final List<Event> comments = new ArrayList<>();
+
+    private final List<CommentEvent> valueComments = new ArrayList<>();
+
+    /**
+     * If the last event that is not a comment was kept, so the in-line comments after it are kept too.
+     */
+    private boolean lastKept;
+
+    private final Map<String, List<Event>> skippedAnchors = new HashMap<>();
+
+    /**
+     * Creates a parser filtering the events of another parser.
+     *
+     * @param parser the parser whose events are filtered
+     * @param filter the filter of the paths to keep
+     */
+    public SnakeYamlFilteredParser(final Parser parser, final PathFilter filter) {
+        this.parser = parser;
+        this.filter = filter;
+    }
+
+    @Override
+    public boolean checkEvent(final Event.ID choice) {
+        final Event event = this.peekEvent();
+        return event != null && event.is(choice);
+    }
+
+    @Override
+    public Event peekEvent() {
+        while (this.events.isEmpty()) {
+            if (!this.produce()) {
+                return null;
+            }
+        }
+        return this.events.peek();
+    }
+
+    @Override
+    public Event getEvent() {
+        this.peekEvent();
+        return this.events.poll();
+    }
+
+    private boolean produce() {
+        final Event event = this.parser.getEvent();
+
+        if (event == null) {
+            return false;
+        }
+
+        if (event instanceof CommentEvent) {
+            this.comment((CommentEvent) event);
+        } else if (this.keptDepth > 0) {
+            this.keep(event);
+        } else if (this.mappings.isEmpty()) {
+            if (this.document && event instanceof MappingStartEvent) {
+                // the root mapping
+                this.enterMapping(event, Collections.emptyList());
+            } else {
+                this.document = event instanceof DocumentStartEvent;
+                this.emit(event);
+            }
+        } else if (event instanceof MappingEndEvent) {
+            this.mappings.pop();
+            if (this.mappings.isEmpty()) {
+                // comments left at the end of the document
+                this.emitComments();
+            }
+            this.emit(event);
+        } else {
+            this.filterEntry(event);
+        }
+
+        return true;
+    }
+
+    private void filterEntry(final Event key) {
+        if (!(key instanceof ScalarEvent)) {
+            // complex keys are kept to be filtered once constructed
+            this.keepNode(key);
+            final Event value = this.nextValue();
+            this.keepValueComments();
+            this.keep(value);
+            return;
+        }
+
+        final Event value = this.nextValue();
+
+        final String name = ((ScalarEvent) key).getValue();
+
+        final List<String> path = new ArrayList<>(this.mappings.peek());
+        path.add(name);
+
+        final boolean merge = MERGE_KEY.equals(name) && ((ScalarEvent) key).isPlain();
+
+        if (merge || this.filter.includesAll(path) || this.isReferenced(value) && this.filter.includesBelow(path)) {
+            this.emitEntry(key);
+            this.keep(value);
+        } else if (value instanceof MappingStartEvent && this.filter.includesBelow(path)) {
+            this.emitEntry(key);
+            this.enterMapping(value, path);
+        } else if (this.filter.includes(path)) {
+            this.emitEntry(key);
+            this.keep(value);
+        } else {
+            // the comments between the key and its value belong to them
+            this.skipped(key);
+            this.valueComments.clear();
+            this.skip(value);
+        }
+    }
+
+    /**
+     * Checks if a value is an alias or an anchored mapping, which must be kept as a whole if anything below it is included.
+     *
+     * @param value the first event of the value
+     * @return true if the value cannot be filtered
+     */
+    private boolean isReferenced(final Event value) {
+        return value instanceof AliasEvent || value instanceof MappingStartEvent && ((MappingStartEvent) value).getAnchor() != null;
+    }
+
+    /**
+     * Gets the first event of the value of an entry, keeping aside the comments between the key and its value.
+     *
+     * @return the first event of the value
+     */
+    private Event nextValue() {
+        Event value = this.parser.getEvent();
+        while (value instanceof CommentEvent) {
+            this.valueComments.add((CommentEvent) value);
+            value = this.parser.getEvent();
+        }
+        return value;
+    }
+
+    private void emitEntry(final Event key) {
+        this.emit(key);
+        this.keepValueComments();
+    }
+
+    private void keepValueComments() {
+        for (final CommentEvent comment : this.valueComments) {
+            this.comment(comment);
+        }
+        this.valueComments.clear();
+    }
+
+    private void enterMapping(final Event event, final List<String> path) {
+        if (this.filter.includesAll(path)) {
+            this.keep(event);
+        } else {
+            this.mappings.push(path);
+            this.emit(event);
+        }
+    }
+
+    private void keep(final Event event) {
+        if (event instanceof CommentEvent) {
+            this.comment((CommentEvent) event);
+            return;
+        }
+        if (event instanceof CollectionStartEvent) {
+            this.keptDepth++;
+        } else if (event instanceof CollectionEndEvent) {
+            if (this.keptDepth == 1 && this.mappings.isEmpty()) {
+                // comments left at the end of the document, kept as a whole
+                this.emitComments();
+            }
+            this.keptDepth--;
+        }
+        this.emit(event);
+    }
+
+    /**
+     * Keeps all the events of a node before going on.
+     *
+     * @param first the first event of the node
+     */
+    private void keepNode(final Event first) {
+        this.keep(first);
+        while (this.keptDepth > 0) {
+            this.keep(this.parser.getEvent());
+        }
+    }
+
+    /**
+     * Skips a node, keeping aside the events of the anchored nodes within it.
+     * <p>
+     * The block comments at the end of the node are kept for the next node, because they belong to it.
+     *
+     * @param first the first event of the node
+     */
+    private void skip(final Event first) {
+        final List<Capture> captures = new ArrayList<>();
+
+        int depth = 0;
+        Event event = first;
+
+        while (true) {
+            if (event instanceof CommentEvent) {
+                this.comment((CommentEvent) event);
+            } else {
+                this.skipped(event);
+            }
+
+            if (event instanceof NodeEvent && !(event instanceof AliasEvent) && ((NodeEvent) event).getAnchor() != null) {
+                captures.add(new Capture(((NodeEvent) event).getAnchor(), depth));
+            }
+
+            if (!captures.isEmpty() && !(event instanceof CommentEvent)) {
+                final List<Event> replay = event instanceof AliasEvent ? this.skippedAnchors.get(((AliasEvent) event).getAnchor()) : null;
+                for (final Capture capture : captures) {
+                    if (replay != null) {
+                        capture.events.addAll(replay);
+                    } else {
+                        capture.events.add(event);
+                    }
+                }
+            }
+
+            if (event instanceof CollectionStartEvent) {
+                depth++;
+            } else if (event instanceof CollectionEndEvent) {
+                depth--;
+            }
+
+            for (int i = captures.size() - 1; i >= 0; i--) {
+                final Capture capture = captures.get(i);
+                if (capture.depth == depth) {
+                    this.skippedAnchors.put(capture.anchor, capture.events);
+                    captures.remove(i);
+                }
+            }
+
+            if (depth == 0 && !(event instanceof CommentEvent)) {
+                return;
+            }
+
+            event = this.parser.getEvent();
+        }
+    }
+
+    /**
+     * Keeps or skips a comment with the node it belongs to.
+     *
+     * @param comment the comment
+     */
+    private void comment(final CommentEvent comment) {
+        if (comment.getCommentType() != CommentType.IN_LINE) {
+            this.comments.add(comment);
+        } else if (this.lastKept) {
+            this.events.add(comment);
+        }
+    }
+
+    /**
+     * Skips an event that is not a comment, with the block comments before it if they belong to it.
+     *
+     * @param event the skipped event
+     */
+    private void skipped(final Event event) {
+        this.lastKept = false;
+        if (ownsComments(event)) {
+            this.comments.clear();
+        }
+    }
+
+    /**
+     * Checks if the block comments before an event belong to it.
+     * The comments before a block collection belong to its first node instead.
+     *
+     * @param event the event
+     * @return true if the event is a scalar, an alias or the start of a flow collection
+     */
+    private static boolean ownsComments(final Event event) {
+        return event instanceof ScalarEvent || event instanceof AliasEvent
+                || event instanceof CollectionStartEvent && ((CollectionStartEvent) event).isFlow();
+    }
+
+    private void emitComments() {
+        this.events.addAll(this.comments);
+        this.comments.clear();
+    }
+
+    private void emit(final Event event) {
+        this.lastKept = true;
+        if (ownsComments(event)) {
+            this.emitComments();
+        }
+        if (event instanceof AliasEvent) {
+            final List<Event> replay = this.skippedAnchors.remove(((AliasEvent) event).getAnchor());
+            if (replay != null) {
+                for (final Event replayed : replay) {
+                    this.emit(replayed);
+                }
+                return;
+            }
+        } else if (event instanceof NodeEvent && ((NodeEvent) event).getAnchor() != null) {
+            this.skippedAnchors.remove(((NodeEvent) event).getAnchor());
+        }
+        this.events.add(event);
+    }
+
+    private static final class Capture {
+
+        private final String anchor;
+
+        private final int depth;
+
+        private final List<Event> events = new ArrayList<>();
+
+        private Capture(final String anchor, final int depth) {
+            this.anchor = anchor;
+            this.depth = depth;
+        }
+    }
+
+}
@@ -1,22 +1,32 @@
 package org.simpleyaml.configuration.implementation.snakeyaml;
 
 import org.simpleyaml.configuration.ConfigurationSection;
+import org.simpleyaml.configuration.LazyMemorySection;
+import org.simpleyaml.configuration.MemorySection;
+import org.simpleyaml.configuration.PathFilter;
 import org.simpleyaml.configuration.comments.CommentType;
 import org.simpleyaml.configuration.comments.KeyTree;
+import org.simpleyaml.configuration.comments.YamlCommentMapper;
 import org.simpleyaml.configuration.file.YamlConfigurationOptions;
 import org.simpleyaml.configuration.implementation.api.YamlImplementationCommentable;
 import org.simpleyaml.exceptions.InvalidConfigurationException;
+import org.simpleyaml.utils.SupplierIO;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.composer.Composer;
 import org.yaml.snakeyaml.error.YAMLException;
 import org.yaml.snakeyaml.nodes.*;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.parser.ParserImpl;
+import org.yaml.snakeyaml.reader.StreamReader;
 import org.yaml.snakeyaml.resolver.Resolver;
 
 import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -84,9 +94,94 @@ public class SnakeYamlImplementation extends YamlImplementationCommentable {
         return this.resolver;
     }
 
+    /**
+     * Creates a new implementation of the same kind, to load or save another configuration apart from this one.
+     * <p>
+     * It loads like this one: it has a copy of the loader options, the same resolver, and a new constructor
+     * with the copied options, or this constructor if it is a subclass of {@link SnakeYamlConstructor}, as it cannot be created again.
+     * Values are represented with the default dumper options.
+     *
+     * @return a new implementation loading like this one
+     */
+    public SnakeYamlImplementation newInstance() {
+        return new SnakeYamlImplementation(this.newConstructor(), new SnakeYamlRepresenter(new DumperOptions()), this.resolver);
+    }
+
+    /**
+     * Creates a constructor for a {@link #newInstance() new instance} of this implementation.
+     *
+     * @return a new constructor with a copy of the loader options, or this constructor if it is a subclass
+     */
+    protected SnakeYamlConstructor newConstructor() {
+        if (this.yamlConstructor.getClass() != SnakeYamlConstructor.class) {
+            return this.yamlConstructor;
+        }
+
+        final LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setAllowDuplicateKeys(this.loaderOptions.isAllowDuplicateKeys());
+        loaderOptions.setWarnOnDuplicateKeys(this.loaderOptions.isWarnOnDuplicateKeys());
+        loaderOptions.setWrappedToRootException(this.loaderOptions.isWrappedToRootException());
+        loaderOptions.setMaxAliasesForCollections(this.loaderOptions.getMaxAliasesForCollections());
+        loaderOptions.setAllowRecursiveKeys(this.loaderOptions.getAllowRecursiveKeys());
+        loaderOptions.setProcessComments(this.loaderOptions.isProcessComments());
+        loaderOptions.setEnumCaseSensitive(this.loaderOptions.isEnumCaseSensitive());
+        loaderOptions.setNestingDepthLimit(this.loaderOptions.getNestingDepthLimit());
+        loaderOptions.setCodePointLimit(this.loaderOptions.getCodePointLimit());
+        loaderOptions.setMergeOnCompose(this.loaderOptions.isMergeOnCompose());
+        loaderOptions.setTagInspector(this.loaderOptions.getTagInspector());
+
+        return new SnakeYamlConstructor(loaderOptions);
+    }
+
     @Override
     @SuppressWarnings("DuplicateThrows")
     public void load(final Reader reader, final ConfigurationSection section) throws IOException, InvalidConfigurationException {
+        this.load(reader, section, null);
+    }
+
+    @Override
+    @SuppressWarnings("DuplicateThrows")
+    public void load(final SupplierIO.Reader readerSupplier, final ConfigurationSection section, final PathFilter filter) throws IOException, InvalidConfigurationException {
+        if (readerSupplier != null) {
+            this.load(readerSupplier.get(), section, filter);
+        }
+    }
+
+    /**
+     * Load Yaml to a configuration section, only with the values whose paths are included by a filter.
+     * <p>
+     * The entries not included are skipped while parsing, see {@link SnakeYamlFilteredParser}.
+     *
+     * @param reader  a reader of Yaml contents to load
+     * @param section the configuration to fill with the contents
+     * @param filter  the filter of the paths to load, relative to the section, or null to load every value
+     * @throws IOException                   if cannot read contents.
+     * @throws InvalidConfigurationException if contents is not a valid Yaml configuration
+     */
+    @SuppressWarnings("DuplicateThrows")
+    public void load(final Reader reader, final ConfigurationSection section, final PathFilter filter) throws IOException, InvalidConfigurationException {
+        this.load(reader, section, filter, this.options.useComments());
+    }
+
+    /**
+     * Load the values of Yaml contents to a configuration section, without their comments.
+     * <p>
+     * The comments of this implementation are kept as they are, regardless of {@link YamlConfigurationOptions#useComments()}.
+     *
+     * @param readerSupplier a function providing the reader of Yaml contents to load (new instance)
+     * @param section        the configuration to fill with the values
+     * @throws IOException                   if cannot read contents.
+     * @throws InvalidConfigurationException if contents is not a valid Yaml configuration
+     */
+    @SuppressWarnings("DuplicateThrows")
+    public void loadValues(final SupplierIO.Reader readerSupplier, final ConfigurationSection section) throws IOException, InvalidConfigurationException {
+        if (readerSupplier != null) {
+            this.load(readerSupplier.get(), section, null, false);
+        }
+    }
+
+    @SuppressWarnings("DuplicateThrows")
+    private void load(final Reader reader, final ConfigurationSection section, final PathFilter filter, final boolean useComments) throws IOException, InvalidConfigurationException {
         this.configure(this.options);
 
         if (reader != null && section != null) {
@@ -94,19 +189,24 @@ public class SnakeYamlImplementation extends YamlImplementationCommentable {
                 SnakeYamlCommentMapper yamlCommentMapper = null;
                 KeyTree.Node node = null;
 
-                if (this.options.useComments()) {
+                if (useComments) {
                     this.yamlCommentMapper = yamlCommentMapper = new SnakeYamlCommentMapper(this.options);
 
                     node = yamlCommentMapper.getKeyTree().getRoot();
                 }
 
-                final MappingNode root = (MappingNode) this.yaml.compose(reader);
+                final MappingNode root = (MappingNode) this.composer(reader, filter).getSingleNode();
 
                 this.trackMapping(root, section, node, yamlCommentMapper);
 
                 if (this.yamlCommentMapper != null) {
                     ((SnakeYamlCommentMapper) this.yamlCommentMapper).trackFooter(root);
                 }
+
+                if (filter != null) {
+                    // merge keys and aliases are kept as a whole
+                    filter.filter(section);
+                }
             } catch (final YAMLException e) {
                 throw new InvalidConfigurationException(e);
             } catch (final ClassCastException e) {
@@ -136,13 +236,17 @@ public class SnakeYamlImplementation extends YamlImplementationCommentable {
                     }
                 }
 
-                final MappingNode mappingNode = this.sectionToMapping(section, node, yamlCommentMapper);
+                if (this.options.streamingDump() && SnakeYamlStreamSerializer.isSupported(this.dumperOptions)) {
+                    new SnakeYamlStreamSerializer(this, yamlCommentMapper, writer).serialize(section, node);
+                } else {
+                    final MappingNode mappingNode = this.sectionToMapping(section, node, yamlCommentMapper);
 
-                if (yamlCommentMapper != null) {
-                    yamlCommentMapper.setFooter(mappingNode);
-                }
+                    if (yamlCommentMapper != null) {
+                        yamlCommentMapper.setFooter(mappingNode);
+                    }
 
-                this.yaml.serialize(mappingNode, writer);
+                    this.yaml.serialize(mappingNode, writer);
+                }
             } catch (final YAMLException e) {
                 throw new IOException(e);
             } finally {
@@ -151,9 +255,52 @@ public class SnakeYamlImplementation extends YamlImplementationCommentable {
         }
     }
 
+    /**
+     * Creates a parser of Yaml contents.
+     *
+     * @param reader a reader of Yaml contents
+     * @param filter the filter of the paths to parse, or null to parse every value
+     * @return a parser of the contents, skipping the events of the paths not included by the filter
+     */
+    protected Parser parser(final Reader reader, final PathFilter filter) {
+        final Parser parser = new ParserImpl(new StreamReader(reader), this.loaderOptions);
+        return filter != null ? new SnakeYamlFilteredParser(parser, filter) : parser;
+    }
+
+    /**
+     * Creates a composer of the nodes of Yaml contents.
+     *
+     * @param reader a reader of Yaml contents
+     * @param filter the filter of the paths to compose, or null to compose every value
+     * @return a composer of the contents
+     * @see #parser(Reader, PathFilter)
+     */
+    protected Composer composer(final Reader reader, final PathFilter filter) {
+        return new Composer(this.parser(reader, filter), this.resolver, this.loaderOptions);
+    }
+
+    /**
+     * Represents a section as the node graph that would be dumped by {@link #dumpYaml(Writer, ConfigurationSection)}.
+     *
+     * @param section the section to represent
+     * @return the node graph of the section
+     * @throws IOException if the section cannot be represented
+     */
+    protected Node representYaml(final ConfigurationSection section) throws IOException {
+        try {
+            return this.yaml.represent(section);
+        } catch (YAMLException e) {
+            throw new IOException(e);
+        }
+    }
+
     protected void dumpYaml(final Writer writer, final ConfigurationSection section) throws IOException {
         try {
-            this.yaml.dump(section, writer);
+            if (this.options.streamingDump() && SnakeYamlStreamSerializer.isSupported(this.dumperOptions)) {
+                new SnakeYamlStreamSerializer(this, null, writer).serialize(section, null);
+            } else {
+                this.yaml.dump(section, writer);
+            }
         } catch (YAMLException e) {
             throw new IOException(e);
         }
@@ -199,18 +346,34 @@ public class SnakeYamlImplementation extends YamlImplementationCommentable {
         final boolean useComments = options.useComments();
         this.loaderOptions.setProcessComments(useComments);
         this.dumperOptions.setProcessComments(useComments);
+
+        this.yamlConstructor.setPrimitiveLists(options.primitiveLists());
     }
 
     @Override
     public void setComment(final String path, final String comment, final CommentType type) {
-        if (this.yamlCommentMapper == null) {
-            this.options.useComments(true);
-            this.yamlCommentMapper = new SnakeYamlCommentMapper(this.options);
-        }
-        this.yamlCommentMapper.setComment(path, comment, type);
+        this.getOrCreateCommentMapper().setComment(path, comment, type);
+    }
+
+    @Override
+    protected YamlCommentMapper newCommentMapper() {
+        return new SnakeYamlCommentMapper(this.options);
     }
 
     protected void trackMapping(final MappingNode node, final ConfigurationSection section, final KeyTree.Node parent, final SnakeYamlCommentMapper yamlCommentMapper) {
+        this.trackMapping(node, section, parent, yamlCommentMapper, false);
+    }
+
+    /**
+     * Tracks the values and comments of a mapping node.
+     *
+     * @param node              the mapping node
+     * @param section           the section to fill with the values, or null to track only the comments
+     * @param parent            the comments node of the mapping
+     * @param yamlCommentMapper the comment mapper, or null to not track comments
+     * @param deepComments      if the comments of child mappings should be tracked without a section, like for a lazy section
+     */
+    private void trackMapping(final MappingNode node, final ConfigurationSection section, final KeyTree.Node parent, final SnakeYamlCommentMapper yamlCommentMapper, final boolean deepComments) {
         if (node != null) {
             this.yamlConstructor.flattenMapping(node);
 
@@ -231,16 +394,24 @@ public class SnakeYamlImplementation extends YamlImplementationCommentable {
 
                     if (value instanceof SequenceNode) {
                         this.trackSequence((SequenceNode) value, childNode, yamlCommentMapper);
-                    } else if (isSerializable) {
-                        this.trackMapping((MappingNode) value, null, childNode, yamlCommentMapper);
+                    } else if (isSerializable || deepComments && value instanceof MappingNode) {
+                        this.trackMapping((MappingNode) value, null, childNode, yamlCommentMapper, deepComments);
                     }
                 }
 
                 if (section != null) {
                     if (value instanceof MappingNode && !isSerializable) {
-                        this.trackMapping((MappingNode) value, section.createSection(name), childNode, yamlCommentMapper);
+                        final MappingNode mapping = (MappingNode) value;
+                        if (this.options.lazyLoad() && section instanceof MemorySection && this.isChildKey(name)) {
+                            if (useComments) {
+                                this.trackMapping(mapping, null, childNode, yamlCommentMapper, true);
+                            }
+                            LazyMemorySection.create((MemorySection) section, name, mapping, this::loadLazySection);
+                        } else {
+                            this.trackMapping(mapping, this.createSection(section, name, mapping), childNode, yamlCommentMapper);
+                        }
                     } else {
-                        section.set(name, this.yamlConstructor.construct(value));
+                        this.set(section, name, this.yamlConstructor.construct(value));
                     }
                 }
             }
@@ -251,6 +422,76 @@ public class SnakeYamlImplementation extends YamlImplementationCommentable {
         }
     }
 
+    /**
+     * Loads the values of a lazy section from its mapping node, the first time the section is accessed.
+     *
+     * @param section the lazy section
+     * @param source  the mapping node of the section
+     * @see YamlConfigurationOptions#lazyLoad(boolean)
+     */
+    protected void loadLazySection(final LazyMemorySection section, final Object source) {
+        this.trackMapping((MappingNode) source, section, null, null);
+    }
+
+    /**
+     * Creates the section of a mapping node.
+     * <p>
+     * Sections at keys that are not paths are created directly with their expected size.
+     *
+     * @param section the parent section
+     * @param name    the key of the mapping node
+     * @param node    the mapping node
+     * @return the new section
+     */
+    protected ConfigurationSection createSection(final ConfigurationSection section, final String name, final MappingNode node) {
+        if (section instanceof MemorySection && this.isChildKey(name)) {
+            return ((MemorySection) section).createChildSection(name, node.getValue().size());
+        }
+        return section.createSection(name);
+    }
+
+    /**
+     * Sets a loaded value of a section.
+     * <p>
+     * Values at keys that are not paths are set directly, unless they need the behaviour of
+     * {@link ConfigurationSection#set(String, Object)}: removing null values, and for the root section
+     * applying the {@link YamlConfigurationOptions#quoteStyleDefaults() quote style defaults} and tracking lists.
+     *
+     * @param section the section
+     * @param name    the key of the value
+     * @param value   the constructed value
+     */
+    protected void set(final ConfigurationSection section, final String name, final Object value) {
+        final boolean root = section.getParent() == null;
+        if (section instanceof MemorySection && value != null && this.isChildKey(name)
+                && !(root && (value instanceof Collection || !this.options.quoteStyleDefaults().getQuoteStyles().isEmpty()))) {
+            ((MemorySection) section).setChild(name, value);
+        } else {
+            section.set(name, value);
+        }
+    }
+
+    /**
+     * Checks if a key refers to a direct child when used as a path,
+     * so it does not need to be parsed to be set.
+     *
+     * @param name the key
+     * @return true if the key is not empty and it has no path separator, escape character or list index
+     */
+    protected boolean isChildKey(final String name) {
+        if (name == null || name.isEmpty()) {
+            return false;
+        }
+        final char separator = this.options.pathSeparator();
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            if (c == separator || c == '\\' || c == '[') {
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected void trackSequence(final SequenceNode node, final KeyTree.Node parent, final SnakeYamlCommentMapper yamlCommentMapper) {
         int i = 0;
 
@@ -278,7 +519,12 @@ public class SnakeYamlImplementation extends YamlImplementationCommentable {
             Node key = this.yamlRepresenter.represent(entry.getKey());
             Node value;
 
-            if (entry.getValue() instanceof ConfigurationSection) {
+            final Object source = entry.getValue() instanceof LazyMemorySection ? ((LazyMemorySection) entry.getValue()).getSource() : null;
+
+            if (source instanceof Node) {
+                // not loaded yet, dump as parsed
+                value = (Node) source;
+            } else if (entry.getValue() instanceof ConfigurationSection) {
                 final ConfigurationSection childSection = (ConfigurationSection) entry.getValue();
                 final KeyTree.Node childNode = useComments ? node.getPriority(childSection.getName()) : null;
                 value = sectionToMapping(childSection, childNode, yamlCommentMapper);
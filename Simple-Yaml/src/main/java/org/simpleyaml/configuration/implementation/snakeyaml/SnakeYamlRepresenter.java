@@ -1,6 +1,7 @@
 package org.simpleyaml.configuration.implementation.snakeyaml;
 
 import org.simpleyaml.configuration.ConfigurationSection;
+import org.simpleyaml.configuration.LazyMemorySection;
 import org.simpleyaml.configuration.implementation.api.QuoteValue;
 import org.simpleyaml.configuration.serialization.ConfigurationSerializable;
 import org.simpleyaml.configuration.serialization.ConfigurationSerialization;
@@ -39,6 +40,12 @@ public class SnakeYamlRepresenter extends Representer {
 
         @Override
         public Node representData(final Object data) {
+            if (data instanceof LazyMemorySection) {
+                final Object source = ((LazyMemorySection) data).getSource();
+                if (source instanceof Node) {
+                    return (Node) source; // not loaded yet, represent as parsed
+                }
+            }
             return super.representData(((ConfigurationSection) data).getValues(false));
         }
 
@@ -0,0 +1,286 @@
+package org.simpleyaml.configuration.implementation.snakeyaml;
+
+import org.simpleyaml.configuration.Configuration;
+import org.simpleyaml.configuration.ConfigurationSection;
+import org.simpleyaml.configuration.LazyMemorySection;
+import org.simpleyaml.configuration.MemorySection;
+import org.simpleyaml.configuration.comments.KeyTree;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.comments.CommentLine;
+import org.yaml.snakeyaml.emitter.Emitter;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.CommentEvent;
+import org.yaml.snakeyaml.events.DocumentEndEvent;
+import org.yaml.snakeyaml.events.DocumentStartEvent;
+import org.yaml.snakeyaml.events.ImplicitTuple;
+import org.yaml.snakeyaml.events.MappingEndEvent;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.events.SequenceEndEvent;
+import org.yaml.snakeyaml.events.SequenceStartEvent;
+import org.yaml.snakeyaml.events.StreamEndEvent;
+import org.yaml.snakeyaml.events.StreamStartEvent;
+import org.yaml.snakeyaml.nodes.AnchorNode;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Serializes a configuration section while its values are walked, emitting the events of every value to a SnakeYAML {@link Emitter}.
+ * <p>
+ * {@link SnakeYamlImplementation#sectionToMapping} builds the node graph of every section and value before anything is written.
+ * This serializer walks the sections directly and only represents one value at a time,
+ * so the YAML is written to the writer as it is emitted and only the nodes of the current value are kept in memory.
+ * <p>
+ * The events are the same as serializing the node graph built by {@link SnakeYamlImplementation#sectionToMapping}
+ * with the same comments, so the result is the same.
+ * Aliases are not dereferenced, see {@link #isSupported(DumperOptions)}.
+ */
+public class SnakeYamlStreamSerializer {
+
+    private final SnakeYamlImplementation implementation;
+
+    private final SnakeYamlCommentMapper yamlCommentMapper;
+
+    private final DumperOptions dumperOptions;
+
+    private final Resolver resolver;
+
+    private final Emitter emitter;
+
+    private final Map<Node, String> anchors = new IdentityHashMap<>();
+
+    private final Set<Node> serializedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Creates a serializer of sections.
+     *
+     * @param implementation    the implementation representing the values
+     * @param yamlCommentMapper the comments to serialize, or null to serialize without comments
+     * @param writer            the writer of the result
+     */
+    public SnakeYamlStreamSerializer(final SnakeYamlImplementation implementation, final SnakeYamlCommentMapper yamlCommentMapper, final Writer writer) {
+        this.implementation = implementation;
+        this.yamlCommentMapper = yamlCommentMapper;
+        this.dumperOptions = implementation.getDumperOptions();
+        this.resolver = implementation.getResolver();
+        this.emitter = new Emitter(writer, this.dumperOptions);
+    }
+
+    /**
+     * Checks if sections can be serialized while they are walked with some dumper options.
+     * <p>Dereferencing aliases needs the whole node graph, to find recursive values.</p>
+     *
+     * @param dumperOptions the dumper options
+     * @return true if sections can be serialized by this serializer
+     */
+    public static boolean isSupported(final DumperOptions dumperOptions) {
+        return !dumperOptions.isDereferenceAliases();
+    }
+
+    /**
+     * Serializes a section as a YAML document.
+     *
+     * @param section the section to serialize
+     * @param node    the comments node of the section, or null to serialize without comments
+     * @throws IOException if any problem arise while writing
+     */
+    public void serialize(final ConfigurationSection section, final KeyTree.Node node) throws IOException {
+        this.emitter.emit(new StreamStartEvent(null, null));
+        this.emitter.emit(new DocumentStartEvent(null, null, this.dumperOptions.isExplicitStart(),
+                this.dumperOptions.getVersion(), this.dumperOptions.getTags()));
+
+        List<CommentLine> footer = null;
+
+        if (this.yamlCommentMapper != null) {
+            final MappingNode root = new MappingNode(Tag.MAP, Collections.emptyList(), this.dumperOptions.getDefaultFlowStyle());
+            this.yamlCommentMapper.setFooter(root);
+            footer = root.getEndComments();
+        }
+
+        this.serializeSection(section, node, footer);
+
+        this.emitter.emit(new DocumentEndEvent(null, null, this.dumperOptions.isExplicitEnd()));
+        this.emitter.emit(new StreamEndEvent(null, null));
+    }
+
+    private void serializeSection(final ConfigurationSection section, final KeyTree.Node node, final List<CommentLine> endComments) throws IOException {
+        this.emitter.emit(new MappingStartEvent(null, Tag.MAP.getValue(), Tag.MAP.equals(this.resolver.resolve(NodeId.mapping, null, true)),
+                null, null, this.dumperOptions.getDefaultFlowStyle()));
+
+        final boolean useComments = this.yamlCommentMapper != null && node != null;
+
+        for (final Map.Entry<String, Object> entry : this.values(section).entrySet()) {
+            final Node key = this.implementation.getRepresenter().represent(entry.getKey());
+            final Object source = entry.getValue() instanceof LazyMemorySection ? ((LazyMemorySection) entry.getValue()).getSource() : null;
+
+            ConfigurationSection childSection = null;
+            KeyTree.Node childSectionNode = null;
+            Node value = null;
+
+            if (source instanceof Node) {
+                // not loaded yet, dump as parsed
+                value = (Node) source;
+            } else if (entry.getValue() instanceof ConfigurationSection) {
+                childSection = (ConfigurationSection) entry.getValue();
+                childSectionNode = useComments ? node.getPriority(childSection.getName()) : null;
+            } else {
+                value = this.implementation.getRepresenter().represent(entry.getValue());
+            }
+
+            if (useComments) {
+                final KeyTree.Node childNode = node.getPriority(this.implementation.getName(key, true));
+
+                if (childSection != null) {
+                    // comments of a section are set to its key
+                    this.yamlCommentMapper.setComments(childNode, key, null);
+
+                    if (childNode != null) {
+                        childSectionNode = childNode;
+                    }
+                } else {
+                    this.yamlCommentMapper.setComments(childNode, key, value);
+
+                    if (value instanceof SequenceNode) {
+                        this.implementation.setCommentsSequence((SequenceNode) value, childNode, this.yamlCommentMapper);
+                    } else if (value instanceof MappingNode) {
+                        this.implementation.setCommentsMapping((MappingNode) value, childNode, this.yamlCommentMapper);
+                    }
+                }
+            }
+
+            this.anchorNode(key);
+            this.serializeNode(key);
+
+            if (childSection != null) {
+                this.serializeSection(childSection, childSectionNode, null);
+            } else {
+                this.anchorNode(value);
+                this.serializeNode(value);
+            }
+
+            this.release();
+        }
+
+        this.emitter.emit(new MappingEndEvent(null, null));
+        this.serializeComments(endComments);
+    }
+
+    /**
+     * Gets the values of a section in order, without copying the children of a memory section if defaults are not copied.
+     */
+    private Map<String, Object> values(final ConfigurationSection section) {
+        final Configuration root = section.getRoot();
+        if (section instanceof MemorySection && (root == null || !root.options().copyDefaults() || section.getDefaultSection() == null)) {
+            return ((MemorySection) section).getChildren();
+        }
+        return section.getValues(false);
+    }
+
+    /**
+     * Forgets the nodes of the last value, except the anchored ones that may be referenced by the next values.
+     */
+    private void release() {
+        this.anchors.values().removeIf(anchor -> anchor == null);
+        this.serializedNodes.retainAll(this.anchors.keySet());
+    }
+
+    // Same as org.yaml.snakeyaml.serializer.Serializer, for every value instead of for the whole document
+
+    private void anchorNode(Node node) {
+        if (node.getNodeId() == NodeId.anchor) {
+            node = ((AnchorNode) node).getRealNode();
+        }
+        if (this.anchors.containsKey(node)) {
+            if (this.anchors.get(node) == null) {
+                this.anchors.put(node, this.dumperOptions.getAnchorGenerator().nextAnchor(node));
+            }
+        } else {
+            this.anchors.put(node, node.getAnchor() != null ? this.dumperOptions.getAnchorGenerator().nextAnchor(node) : null);
+            if (node.getNodeId() == NodeId.sequence) {
+                for (final Node item : ((SequenceNode) node).getValue()) {
+                    this.anchorNode(item);
+                }
+            } else if (node.getNodeId() == NodeId.mapping) {
+                for (final NodeTuple tuple : ((MappingNode) node).getValue()) {
+                    this.anchorNode(tuple.getKeyNode());
+                    this.anchorNode(tuple.getValueNode());
+                }
+            }
+        }
+    }
+
+    private void serializeNode(Node node) throws IOException {
+        if (node.getNodeId() == NodeId.anchor) {
+            node = ((AnchorNode) node).getRealNode();
+        }
+
+        final String anchor = this.anchors.get(node);
+
+        if (this.serializedNodes.contains(node)) {
+            this.emitter.emit(new AliasEvent(anchor, null, null));
+            return;
+        }
+
+        this.serializedNodes.add(node);
+
+        final Tag tag = node.getTag();
+
+        if (node.getNodeId() == NodeId.scalar) {
+            final ScalarNode scalar = (ScalarNode) node;
+            this.serializeComments(node.getBlockComments());
+            final Tag detectedTag = this.resolver.resolve(NodeId.scalar, scalar.getValue(), true);
+            final Tag defaultTag = this.resolver.resolve(NodeId.scalar, scalar.getValue(), false);
+            this.emitter.emit(new ScalarEvent(anchor, tag.getValue(), new ImplicitTuple(tag.equals(detectedTag), tag.equals(defaultTag)),
+                    scalar.getValue(), null, null, scalar.getScalarStyle()));
+            this.serializeComments(node.getInLineComments());
+            this.serializeComments(node.getEndComments());
+        } else if (node.getNodeId() == NodeId.sequence) {
+            final SequenceNode sequence = (SequenceNode) node;
+            this.serializeComments(node.getBlockComments());
+            this.emitter.emit(new SequenceStartEvent(anchor, tag.getValue(), tag.equals(this.resolver.resolve(NodeId.sequence, null, true)),
+                    null, null, sequence.getFlowStyle()));
+            for (final Node item : sequence.getValue()) {
+                this.serializeNode(item);
+            }
+            this.emitter.emit(new SequenceEndEvent(null, null));
+            this.serializeComments(node.getInLineComments());
+            this.serializeComments(node.getEndComments());
+        } else {
+            final MappingNode mapping = (MappingNode) node;
+            this.serializeComments(node.getBlockComments());
+            if (tag != Tag.COMMENT) {
+                this.emitter.emit(new MappingStartEvent(anchor, tag.getValue(), tag.equals(this.resolver.resolve(NodeId.mapping, null, true)),
+                        null, null, mapping.getFlowStyle()));
+                for (final NodeTuple tuple : mapping.getValue()) {
+                    this.serializeNode(tuple.getKeyNode());
+                    this.serializeNode(tuple.getValueNode());
+                }
+                this.emitter.emit(new MappingEndEvent(null, null));
+                this.serializeComments(node.getInLineComments());
+                this.serializeComments(node.getEndComments());
+            }
+        }
+    }
+
+    private void serializeComments(final List<CommentLine> comments) throws IOException {
+        if (comments != null) {
+            for (final CommentLine line : comments) {
+                this.emitter.emit(new CommentEvent(line.getCommentType(), line.getValue(), line.getStartMark(), line.getEndMark()));
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package org.simpleyaml.benchmarks;
+
+import org.simpleyaml.configuration.file.ConcurrentYamlConfiguration;
+import org.simpleyaml.configuration.file.YamlConfiguration;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the throughput of many threads reading and writing the same configuration, from 1 to 64 threads.
+ * <p/>
+ * Compares a {@link YamlConfiguration} guarded by a global lock with a {@link ConcurrentYamlConfiguration}.
+ * Every thread reads random deep paths and writes one of them every {@link #WRITE_RATIO} operations.
+ * <p/>
+ * Results are only indicative, run it a few times on an idle machine.
+ */
+public final class ConcurrencyBenchmark {
+
+    private static final int[] THREADS = { 1, 2, 4, 8, 16, 32, 64 };
+    private static final int SECTIONS = 64;
+    private static final int KEYS = 64;
+    private static final int WRITE_RATIO = 20;
+    private static final long WARMUP_MILLIS = 500;
+    private static final long MEASURE_MILLIS = 2000;
+
+    private static final String[] PATHS = new String[SECTIONS * KEYS];
+
+    public static void main(final String[] args) throws InterruptedException {
+        for (int s = 0; s < SECTIONS; s++) {
+            for (int k = 0; k < KEYS; k++) {
+                PATHS[s * KEYS + k] = "section" + s + ".sub.key" + k;
+            }
+        }
+
+        final YamlConfiguration locked = fill(new YamlConfiguration());
+        final YamlConfiguration concurrent = fill(new ConcurrentYamlConfiguration());
+
+        for (final int threads : THREADS) {
+            final double lockedOps = measure(threads, path -> {
+                synchronized (locked) {
+                    return locked.getInt(path);
+                }
+            }, (path, value) -> {
+                synchronized (locked) {
+                    locked.set(path, value);
+                }
+            });
+
+            final double concurrentOps = measure(threads, concurrent::getInt, concurrent::set);
+
+            System.out.printf("%2d threads   locked %10.0f ops/ms   concurrent %10.0f ops/ms%n", threads, lockedOps, concurrentOps);
+        }
+    }
+
+    private static YamlConfiguration fill(final YamlConfiguration config) {
+        for (int i = 0; i < PATHS.length; i++) {
+            config.set(PATHS[i], i);
+        }
+        return config;
+    }
+
+    private static double measure(final int threads, final Reader reader, final Writer writer) throws InterruptedException {
+        run(threads, reader, writer, WARMUP_MILLIS);
+        return (double) run(threads, reader, writer, MEASURE_MILLIS) / MEASURE_MILLIS;
+    }
+
+    private static long run(final int threads, final Reader reader, final Writer writer, final long millis) throws InterruptedException {
+        final LongAdder operations = new LongAdder();
+        final CountDownLatch start = new CountDownLatch(1);
+        final Thread[] workers = new Thread[threads];
+        final long[] end = new long[1];
+
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                final ThreadLocalRandom random = ThreadLocalRandom.current();
+                long count = 0;
+                long sink = 0;
+
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    return;
+                }
+
+                while (System.nanoTime() < end[0]) {
+                    for (int i = 0; i < WRITE_RATIO; i++) {
+                        sink += reader.read(PATHS[random.nextInt(PATHS.length)]);
+                    }
+                    writer.write(PATHS[random.nextInt(PATHS.length)], (int) sink);
+                    count += WRITE_RATIO + 1;
+                }
+
+                operations.add(count);
+            });
+            workers[t].start();
+        }
+
+        end[0] = System.nanoTime() + millis * 1_000_000;
+        start.countDown();
+
+        for (final Thread worker : workers) {
+            worker.join();
+        }
+
+        return operations.sum();
+    }
+
+    @FunctionalInterface
+    private interface Reader {
+        int read(String path);
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(String path, Object value);
+    }
+
+}
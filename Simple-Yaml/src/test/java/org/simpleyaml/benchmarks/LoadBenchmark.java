@@ -0,0 +1,97 @@
+package org.simpleyaml.benchmarks;
+
+import org.simpleyaml.configuration.file.YamlFile;
+import org.simpleyaml.utils.SupplierIO;
+
+import java.io.File;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Measures loading a large file with comments, counting how many times it is opened and how many chars are decoded.
+ * <p/>
+ * Compares the default load, which reads the file for the header, the values and the comments,
+ * with {@link org.simpleyaml.configuration.file.YamlConfigurationOptions#bufferedLoad(boolean) bufferedLoad}.
+ * Results are only indicative, run it a few times on an idle machine.
+ */
+public final class LoadBenchmark {
+
+    private static final int SECTIONS = 2000;
+    private static final int KEYS = 20;
+    private static final int ITERATIONS = 10;
+
+    public static void main(final String[] args) throws IOException {
+        final File file = File.createTempFile("load-benchmark", ".yml");
+        file.deleteOnExit();
+
+        try (final Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            writer.write("# Header\n\n");
+            for (int s = 0; s < SECTIONS; s++) {
+                writer.write("# Section " + s + "\nsection" + s + ":\n");
+                for (int k = 0; k < KEYS; k++) {
+                    writer.write("  key" + k + ": value " + k + " # side comment\n");
+                }
+            }
+        }
+
+        System.out.printf("File of %d bytes%n", file.length());
+
+        for (final boolean buffered : new boolean[] { false, true, false, true }) {
+            final Counter counter = new Counter(file);
+            final long start = System.nanoTime();
+
+            for (int i = 0; i < ITERATIONS; i++) {
+                final YamlFile yamlFile = new YamlFile();
+                yamlFile.options().useComments(true).bufferedLoad(buffered);
+                yamlFile.load(counter);
+            }
+
+            final double millis = (System.nanoTime() - start) / 1e6 / ITERATIONS;
+
+            System.out.printf("buffered %-5s %6.1f ms/load   %d opens/load   %d chars decoded/load%n",
+                    buffered, millis, counter.opens / ITERATIONS, counter.chars / ITERATIONS);
+        }
+    }
+
+    private static final class Counter implements SupplierIO.Reader {
+
+        private final File file;
+
+        private long opens;
+
+        private long chars;
+
+        private Counter(final File file) {
+            this.file = file;
+        }
+
+        @Override
+        public java.io.Reader get() throws IOException {
+            this.opens++;
+            return new FilterReader(new InputStreamReader(Files.newInputStream(this.file.toPath()), StandardCharsets.UTF_8)) {
+                @Override
+                public int read() throws IOException {
+                    final int c = super.read();
+                    if (c != -1) {
+                        Counter.this.chars++;
+                    }
+                    return c;
+                }
+
+                @Override
+                public int read(final char[] buffer, final int offset, final int length) throws IOException {
+                    final int read = super.read(buffer, offset, length);
+                    if (read > 0) {
+                        Counter.this.chars += read;
+                    }
+                    return read;
+                }
+            };
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package org.simpleyaml.benchmarks;
+
+import org.simpleyaml.configuration.file.YamlConfiguration;
+import org.simpleyaml.configuration.implementation.SimpleYamlImplementation;
+import org.simpleyaml.configuration.implementation.StreamingYamlImplementation;
+import org.simpleyaml.configuration.implementation.api.YamlImplementation;
+import org.simpleyaml.configuration.implementation.snakeyaml.SnakeYamlImplementation;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.function.Supplier;
+
+/**
+ * Measures the peak heap used while loading a large file, compared with the heap retained by the loaded configuration.
+ * <p/>
+ * Compares {@link SnakeYamlImplementation}, which composes the whole document to nodes,
+ * {@link SimpleYamlImplementation}, which constructs it to nested maps, and {@link StreamingYamlImplementation},
+ * which fills the sections from the parser events.
+ * <p/>
+ * The file size in MB can be given as the first argument, 200 by default. Run it with enough heap, like <code>-Xmx8g</code>.
+ * Results are only indicative, as the peak is the sum of the peak usage of every heap pool.
+ */
+public final class LoadMemoryBenchmark {
+
+    private static final int KEYS = 50;
+
+    public static void main(final String[] args) throws Exception {
+        final long size = (args.length > 0 ? Long.parseLong(args[0]) : 200) * 1024 * 1024;
+
+        final File file = File.createTempFile("load-memory-benchmark", ".yml");
+        file.deleteOnExit();
+
+        try (final Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            long written = 0;
+            for (int s = 0; written < size; s++) {
+                final StringBuilder section = new StringBuilder("section").append(s).append(":\n");
+                for (int k = 0; k < KEYS; k++) {
+                    section.append("  key").append(k).append(":\n")
+                            .append("    number: ").append(s * KEYS + k).append('\n')
+                            .append("    text: value ").append(k).append('\n')
+                            .append("    list: [1, 2, 3]\n");
+                }
+                writer.write(section.toString());
+                written += section.length();
+            }
+        }
+
+        System.out.printf("File of %d MB%n", file.length() / 1024 / 1024);
+
+        measure("snakeyaml", () -> new SnakeYamlImplementation(loaderOptions(), new DumperOptions()), file);
+        measure("simple", () -> new SimpleYamlImplementation(loaderOptions(), new DumperOptions()), file);
+        measure("streaming", () -> new StreamingYamlImplementation(loaderOptions(), new DumperOptions()), file);
+    }
+
+    private static void measure(final String name, final Supplier<YamlImplementation> implementation, final File file) throws Exception {
+        final long before = usedMemory();
+        resetPeakUsage();
+
+        final long start = System.nanoTime();
+
+        final YamlConfiguration config = new YamlConfiguration(implementation.get());
+        config.load(() -> Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8));
+
+        final double seconds = (System.nanoTime() - start) / 1e9;
+        final long peak = peakUsage() - before;
+        final long retained = usedMemory() - before;
+
+        System.out.printf("%-10s %6.1f s   peak %6d MB   retained %6d MB   peak/retained %.2f (%d keys)%n",
+                name, seconds, peak / 1024 / 1024, retained / 1024 / 1024, (double) peak / retained, config.getKeys(false).size());
+    }
+
+    private static LoaderOptions loaderOptions() {
+        final LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setCodePointLimit(Integer.MAX_VALUE);
+        return loaderOptions;
+    }
+
+    private static void resetPeakUsage() {
+        for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long peakUsage() {
+        long peak = 0;
+        for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    private static long usedMemory() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
@@ -0,0 +1,90 @@
+package org.simpleyaml.benchmarks;
+
+import org.simpleyaml.configuration.file.YamlConfiguration;
+import org.simpleyaml.utils.StringUtils;
+
+/**
+ * Measures path traversal on deep paths without list indexes.
+ * <p/>
+ * Compares the list index regular expression with the bracket scanner used by sections and comment trees,
+ * and the full lookup of deep paths through a configuration, with and without {@code indexPaths}.
+ * <p/>
+ * Results are only indicative, run it a few times on an idle machine.
+ */
+public final class PathBenchmark {
+
+    private static final int DEPTH = 8;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 10;
+    private static final int OPERATIONS = 1_000_000;
+
+    private static long sink;
+
+    public static void main(final String[] args) {
+        final String[] nodes = new String[DEPTH];
+        final StringBuilder path = new StringBuilder();
+
+        for (int i = 0; i < DEPTH; i++) {
+            nodes[i] = "node" + i;
+            if (i > 0) {
+                path.append('.');
+            }
+            path.append(nodes[i]);
+        }
+
+        final YamlConfiguration config = new YamlConfiguration();
+        final String deepPath = path.toString();
+        config.set(deepPath, 1);
+
+        final YamlConfiguration indexed = new YamlConfiguration();
+        indexed.options().indexPaths(true);
+        indexed.set(deepPath, 1);
+
+        measure("regex", () -> {
+            for (final String node : nodes) {
+                if (StringUtils.LIST_INDEX.matcher(node).matches()) {
+                    sink++;
+                }
+            }
+        });
+
+        measure("scanner", () -> {
+            for (final String node : nodes) {
+                if (StringUtils.listIndexStart(node) >= 0) {
+                    sink++;
+                }
+            }
+        });
+
+        measure("get", () -> sink += config.getInt(deepPath));
+
+        measure("indexed", () -> sink += indexed.getInt(deepPath));
+
+        System.out.println("(" + sink + ")");
+    }
+
+    private static void measure(final String name, final Runnable operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            run(operation);
+        }
+
+        long best = Long.MAX_VALUE;
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            best = Math.min(best, run(operation));
+        }
+
+        System.out.printf("%-8s %8.2f ns/op (depth %d)%n", name, (double) best / OPERATIONS, DEPTH);
+    }
+
+    private static long run(final Runnable operation) {
+        final long start = System.nanoTime();
+
+        for (int i = 0; i < OPERATIONS; i++) {
+            operation.run();
+        }
+
+        return System.nanoTime() - start;
+    }
+
+}
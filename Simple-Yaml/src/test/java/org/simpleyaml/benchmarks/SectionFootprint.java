@@ -0,0 +1,54 @@
+package org.simpleyaml.benchmarks;
+
+import org.simpleyaml.configuration.ConfigurationSection;
+import org.simpleyaml.configuration.file.YamlConfiguration;
+
+/**
+ * Measures the heap used by configurations with many sections, in bytes per key.
+ * <p/>
+ * Every configuration has a number of sections with the same amount of keys, from small sections to a single large one.
+ * Results are only indicative, as they are taken from the used heap after a garbage collection.
+ */
+public final class SectionFootprint {
+
+    private static final int TOTAL_KEYS = 200_000;
+
+    private static final int[] KEYS_PER_SECTION = { 1, 2, 4, 8, 16, 64, TOTAL_KEYS };
+
+    public static void main(final String[] args) {
+        // Reuse the same values so only the structure is measured
+        final Integer value = 1;
+        final String[] keys = new String[TOTAL_KEYS];
+        for (int i = 0; i < TOTAL_KEYS; i++) {
+            keys[i] = "key" + i;
+        }
+
+        for (final int keysPerSection : KEYS_PER_SECTION) {
+            final int sections = TOTAL_KEYS / keysPerSection;
+
+            final long before = usedMemory();
+
+            final YamlConfiguration config = new YamlConfiguration();
+            for (int s = 0; s < sections; s++) {
+                final ConfigurationSection section = config.createSection(keys[s]);
+                for (int k = 0; k < keysPerSection; k++) {
+                    section.set(keys[k], value);
+                }
+            }
+
+            final long used = usedMemory() - before;
+
+            System.out.printf("%6d keys/section %8.1f bytes/key (%d sections)%n",
+                    keysPerSection, (double) used / (sections * keysPerSection), config.size());
+        }
+    }
+
+    private static long usedMemory() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
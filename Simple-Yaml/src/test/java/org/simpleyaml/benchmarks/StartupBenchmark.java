@@ -0,0 +1,79 @@
+package org.simpleyaml.benchmarks;
+
+import org.simpleyaml.configuration.file.YamlFile;
+import org.simpleyaml.exceptions.InvalidConfigurationException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Measures the startup load of a large file, parsing the YAML or reading the values from the
+ * {@link org.simpleyaml.configuration.file.YamlConfigurationOptions#compiledCache(boolean) compiled cache}.
+ * <p/>
+ * The cold load parses the YAML and writes the cache, the cached load reads it while the file does not change.
+ * Results are only indicative, run it a few times on an idle machine.
+ */
+public final class StartupBenchmark {
+
+    private static final int SECTIONS = 4000;
+    private static final int KEYS = 20;
+    private static final int ITERATIONS = 10;
+
+    public static void main(final String[] args) throws IOException, InvalidConfigurationException {
+        final File file = File.createTempFile("startup-benchmark", ".yml");
+        final File cacheFile = new File(file.getPath() + ".cache");
+        file.deleteOnExit();
+        cacheFile.deleteOnExit();
+
+        try (final Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            for (int s = 0; s < SECTIONS; s++) {
+                writer.write("section" + s + ":\n");
+                for (int k = 0; k < KEYS; k++) {
+                    switch (k % 4) {
+                        case 0:
+                            writer.write("  key" + k + ": value " + k + "\n");
+                            break;
+                        case 1:
+                            writer.write("  key" + k + ": " + (s * KEYS + k) + "\n");
+                            break;
+                        case 2:
+                            writer.write("  key" + k + ": " + (s + k / 100.0) + "\n");
+                            break;
+                        default:
+                            writer.write("  key" + k + ": [" + s + ", " + k + ", true]\n");
+                    }
+                }
+            }
+        }
+
+        System.out.printf("File of %d bytes%n", file.length());
+
+        for (int round = 0; round < 2; round++) {
+            long cold = 0;
+            long cached = 0;
+
+            for (int i = 0; i < ITERATIONS; i++) {
+                Files.deleteIfExists(cacheFile.toPath());
+                cold += load(file);
+                cached += load(file);
+            }
+
+            System.out.printf("cold parse  %6.1f ms/load%n", cold / 1e6 / ITERATIONS);
+            System.out.printf("cache hit   %6.1f ms/load   cache of %d bytes%n", cached / 1e6 / ITERATIONS, cacheFile.length());
+        }
+    }
+
+    private static long load(final File file) throws IOException, InvalidConfigurationException {
+        final long start = System.nanoTime();
+
+        final YamlFile yamlFile = new YamlFile(file);
+        yamlFile.options().compiledCache(true);
+        yamlFile.load();
+
+        return System.nanoTime() - start;
+    }
+
+}
@@ -0,0 +1,157 @@
+package org.simpleyaml.configuration;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Throws;
+import org.simpleyaml.configuration.file.YamlConfiguration;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+class ConfigKeyTest {
+
+    private static final ConfigKey<Integer> PORT = ConfigKey.ofInt("server.port", 8080);
+
+    private static final ConfigKey<List<String>> HOSTS = ConfigKey.ofStringList("server.hosts");
+
+    private static final ConfigKey<Duration> TIMEOUT = ConfigKey.of("server.timeout", value -> Duration.ofSeconds(((Number) value).longValue()), Duration.ZERO);
+
+    @Test
+    void get() throws IOException {
+        final YamlConfiguration configuration = new YamlConfiguration();
+
+        MatcherAssert.assertThat(
+            "Wrong default value!",
+            PORT.get(configuration),
+            new IsEqual<>(8080)
+        );
+        MatcherAssert.assertThat(
+            "Wrong default converted value!",
+            TIMEOUT.get(configuration),
+            new IsEqual<>(Duration.ZERO)
+        );
+
+        configuration.loadFromString("server:\n  port: 25565\n  timeout: 30\n  hosts:\n    - a\n    - b\n");
+
+        MatcherAssert.assertThat(
+            "Value was not resolved after load!",
+            PORT.get(configuration),
+            new IsEqual<>(25565)
+        );
+        MatcherAssert.assertThat(
+            "Wrong converted value!",
+            TIMEOUT.get(configuration),
+            new IsEqual<>(Duration.ofSeconds(30))
+        );
+        MatcherAssert.assertThat(
+            "Wrong list value!",
+            HOSTS.get(configuration),
+            new IsEqual<>(Arrays.asList("a", "b"))
+        );
+        MatcherAssert.assertThat(
+            "Relative value is wrong!",
+            ConfigKey.ofInt("port").get(configuration.getConfigurationSection("server")),
+            new IsEqual<>(25565)
+        );
+
+        configuration.set("server.port", 1234);
+
+        MatcherAssert.assertThat(
+            "Value was not resolved after set!",
+            PORT.get(configuration),
+            new IsEqual<>(1234)
+        );
+
+        configuration.getConfigurationSection("server").set("port", 4321);
+
+        MatcherAssert.assertThat(
+            "Value was not resolved after set in a child section!",
+            PORT.get(configuration),
+            new IsEqual<>(4321)
+        );
+
+        configuration.set("server.hosts[0]", "c");
+
+        MatcherAssert.assertThat(
+            "Value was not resolved after set in a list!",
+            HOSTS.get(configuration),
+            new IsEqual<>(Arrays.asList("c", "b"))
+        );
+    }
+
+    @Test
+    void cache() {
+        final YamlConfiguration configuration = new YamlConfiguration();
+        configuration.set("server.hosts", Arrays.asList("a", "b"));
+
+        final List<String> hosts = HOSTS.get(configuration);
+
+        MatcherAssert.assertThat(
+            "Value was resolved again without changes!",
+            HOSTS.get(configuration),
+            new IsSame<>(hosts)
+        );
+        MatcherAssert.assertThat(
+            "Cached value can be modified!",
+            () -> hosts.add("c"),
+            new Throws<>(UnsupportedOperationException.class)
+        );
+
+        final YamlConfiguration other = new YamlConfiguration();
+        other.set("server.hosts", Arrays.asList("c"));
+
+        MatcherAssert.assertThat(
+            "Value of another configuration is wrong!",
+            HOSTS.get(other),
+            new IsEqual<>(Arrays.asList("c"))
+        );
+        MatcherAssert.assertThat(
+            "Value was not resolved again with another configuration!",
+            HOSTS.get(configuration),
+            new IsEqual<>(Arrays.asList("a", "b"))
+        );
+    }
+
+    @Test
+    void defaults() {
+        final ConfigKey<Integer> port = ConfigKey.ofInt("server.port");
+        final YamlConfiguration configuration = new YamlConfiguration();
+
+        MatcherAssert.assertThat(
+            "Wrong value without defaults!",
+            port.get(configuration),
+            new IsEqual<>(0)
+        );
+
+        configuration.addDefault("server.port", 80);
+
+        MatcherAssert.assertThat(
+            "Value was not resolved after adding a default!",
+            port.get(configuration),
+            new IsEqual<>(80)
+        );
+
+        configuration.getDefaults().set("server.port", 443);
+
+        MatcherAssert.assertThat(
+            "Value was not resolved after changing the defaults!",
+            port.get(configuration),
+            new IsEqual<>(443)
+        );
+
+        final MemoryConfiguration defaults = new MemoryConfiguration();
+        defaults.set("server.port", 8443);
+        configuration.setDefaults(defaults);
+
+        MatcherAssert.assertThat(
+            "Value was not resolved after replacing the defaults!",
+            port.get(configuration),
+            new IsEqual<>(8443)
+        );
+    }
+
+}
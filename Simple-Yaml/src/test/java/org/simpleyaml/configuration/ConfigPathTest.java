@@ -0,0 +1,134 @@
+package org.simpleyaml.configuration;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+import org.simpleyaml.configuration.file.YamlConfiguration;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+class ConfigPathTest {
+
+    @Test
+    void nodes() {
+        final ConfigPath path = ConfigPath.of("a.b[1].c[-2]");
+
+        MatcherAssert.assertThat("Wrong size!", path.size(), new IsEqual<>(3));
+        MatcherAssert.assertThat("Wrong node!", path.node(1), new IsEqual<>("b[1]"));
+        MatcherAssert.assertThat("Wrong key!", path.key(0), new IsEqual<>("a"));
+        MatcherAssert.assertThat("Wrong key!", path.key(1), new IsEqual<>("b"));
+        MatcherAssert.assertThat("Wrong key!", path.key(2), new IsEqual<>("c"));
+        MatcherAssert.assertThat("Node is not indexed!", path.isIndexed(0), new IsEqual<>(false));
+        MatcherAssert.assertThat("Node is indexed!", path.isIndexed(1), new IsEqual<>(true));
+        MatcherAssert.assertThat("Wrong index!", path.index(1), new IsEqual<>(1));
+        MatcherAssert.assertThat("Wrong negative index!", path.index(2), new IsEqual<>(-2));
+
+        final ConfigPath escaped = ConfigPath.of("a\\.b.c");
+
+        MatcherAssert.assertThat("Escaped separator was split!", escaped.size(), new IsEqual<>(2));
+        MatcherAssert.assertThat("Wrong escaped node!", escaped.node(0), new IsEqual<>("a\\.b"));
+
+        final ConfigPath custom = ConfigPath.of("a/b.c", '/');
+
+        MatcherAssert.assertThat("Wrong custom separator size!", custom.size(), new IsEqual<>(2));
+        MatcherAssert.assertThat("Wrong custom separator node!", custom.node(1), new IsEqual<>("b.c"));
+
+        MatcherAssert.assertThat("Empty path has no nodes!", ConfigPath.of("").isEmpty(), new IsEqual<>(true));
+        MatcherAssert.assertThat("Paths are not equal!", ConfigPath.of("a.b"), new IsEqual<>(ConfigPath.of("a.b")));
+    }
+
+    @Test
+    void getAndSet() throws IOException {
+        final YamlConfiguration configuration = new YamlConfiguration();
+        configuration.loadFromString("test:\n  number: 5\n  list:\n    - a\n    - b\n  section:\n    key: value\n");
+
+        MatcherAssert.assertThat(
+                "Wrong value!",
+                configuration.getInt(ConfigPath.of("test.number")),
+                new IsEqual<>(5)
+        );
+        MatcherAssert.assertThat(
+                "Wrong list value!",
+                configuration.getString(ConfigPath.of("test.list[-1]")),
+                new IsEqual<>("b")
+        );
+        MatcherAssert.assertThat(
+                "Wrong list!",
+                configuration.getStringList(ConfigPath.of("test.list")),
+                new IsEqual<>(Arrays.asList("a", "b"))
+        );
+        MatcherAssert.assertThat(
+                "Wrong section!",
+                configuration.getConfigurationSection(ConfigPath.of("test.section")).getString("key"),
+                new IsEqual<>("value")
+        );
+        MatcherAssert.assertThat(
+                "Wrong default!",
+                configuration.getString(ConfigPath.of("test.missing"), "default"),
+                new IsEqual<>("default")
+        );
+
+        configuration.set(ConfigPath.of("test.new.value"), 10);
+        configuration.set(ConfigPath.of("test.list[0]"), "c");
+
+        MatcherAssert.assertThat(
+                "Wrong value!",
+                configuration.getInt("test.new.value"),
+                new IsEqual<>(10)
+        );
+        MatcherAssert.assertThat(
+                "Wrong list!",
+                configuration.getStringList("test.list"),
+                new IsEqual<>(Arrays.asList("c", "b"))
+        );
+        MatcherAssert.assertThat(
+                "Section path is not relative!",
+                configuration.getConfigurationSection("test").getInt(ConfigPath.of("new.value")),
+                new IsEqual<>(10)
+        );
+    }
+
+    @Test
+    void pathSeparator() throws IOException {
+        final YamlConfiguration configuration = new YamlConfiguration();
+        configuration.loadFromString("a:\n  b: 1\n");
+
+        final ConfigurationOptions options = configuration.options();
+        final ConfigPath compiled = options.compilePath("a.b");
+
+        MatcherAssert.assertThat(
+                "Path is not cached!",
+                options.compilePath("a.b"),
+                new IsSame<>(compiled)
+        );
+
+        options.pathSeparator('/');
+
+        MatcherAssert.assertThat(
+                "Wrong separator!",
+                options.compilePath("a.b").separator(),
+                new IsEqual<>('/')
+        );
+        MatcherAssert.assertThat(
+                "Wrong value with the new separator!",
+                configuration.getInt("a/b"),
+                new IsEqual<>(1)
+        );
+        MatcherAssert.assertThat(
+                "Compiled path with the old separator is not recompiled!",
+                configuration.get(compiled),
+                new IsEqual<>(configuration.get("a.b"))
+        );
+
+        options.pathSeparator('.');
+
+        MatcherAssert.assertThat(
+                "Wrong value with the default separator!",
+                configuration.getInt(compiled),
+                new IsEqual<>(1)
+        );
+    }
+
+}
@@ -0,0 +1,124 @@
+package org.simpleyaml.configuration;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Throws;
+import org.simpleyaml.configuration.file.YamlConfiguration;
+import org.simpleyaml.configuration.implementation.api.QuoteStyle;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class ImmutableConfigurationTest {
+
+    @Test
+    void snapshot() throws IOException {
+        final YamlConfiguration configuration = new YamlConfiguration();
+        configuration.loadFromString("a:\n  b: 1\n  list:\n    - x\n    - y\nc: text\n");
+        configuration.set("quoted", "value", QuoteStyle.DOUBLE);
+        configuration.addDefault("d.e", 2);
+
+        final ImmutableConfiguration snapshot = configuration.snapshot();
+
+        configuration.set("a.b", 3);
+        configuration.set("c", null);
+
+        MatcherAssert.assertThat(
+            "Wrong snapshot keys!",
+            new ArrayList<>(snapshot.getKeys(true)),
+            new IsEqual<>(Arrays.asList("d", "d.e", "a", "a.b", "a.list", "c", "quoted"))
+        );
+        MatcherAssert.assertThat(
+            "Snapshot has changed!",
+            snapshot.getInt("a.b"),
+            new IsEqual<>(1)
+        );
+        MatcherAssert.assertThat(
+            "Snapshot has changed!",
+            snapshot.getString("c"),
+            new IsEqual<>("text")
+        );
+        MatcherAssert.assertThat(
+            "Wrong snapshot list!",
+            snapshot.getStringList("a.list"),
+            new IsEqual<>(Arrays.asList("x", "y"))
+        );
+        MatcherAssert.assertThat(
+            "Quoted value is not unwrapped!",
+            snapshot.get("quoted"),
+            new IsEqual<>("value")
+        );
+        MatcherAssert.assertThat(
+            "Wrong snapshot default!",
+            snapshot.getInt("d.e"),
+            new IsEqual<>(2)
+        );
+        MatcherAssert.assertThat(
+            "Wrong section of the snapshot!",
+            snapshot.getConfigurationSection("a").getRoot(),
+            new IsSame<>(snapshot)
+        );
+        MatcherAssert.assertThat(
+            "Snapshot of a snapshot is not the same!",
+            snapshot.snapshot(),
+            new IsSame<>(snapshot)
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void immutable() throws IOException {
+        final YamlConfiguration configuration = new YamlConfiguration();
+        configuration.loadFromString("a:\n  b: 1\n  list:\n    - x\n    - y\n");
+
+        final ImmutableConfiguration snapshot = configuration.snapshot();
+
+        MatcherAssert.assertThat(
+            "Snapshot can be modified!",
+            () -> {
+                snapshot.set("a.b", 2);
+                return null;
+            },
+            new Throws<>(UnsupportedOperationException.class)
+        );
+        MatcherAssert.assertThat(
+            "Snapshot can be modified at a new path!",
+            () -> {
+                snapshot.set("new.path", 2);
+                return null;
+            },
+            new Throws<>(UnsupportedOperationException.class)
+        );
+        MatcherAssert.assertThat(
+            "Snapshot section can be modified!",
+            () -> {
+                snapshot.getConfigurationSection("a").set("b", null);
+                return null;
+            },
+            new Throws<>(UnsupportedOperationException.class)
+        );
+        MatcherAssert.assertThat(
+            "Snapshot list can be modified!",
+            () -> ((List<Object>) snapshot.getList("a.list")).add("z"),
+            new Throws<>(UnsupportedOperationException.class)
+        );
+        MatcherAssert.assertThat(
+            "Snapshot options can be modified!",
+            () -> snapshot.options().pathSeparator('/'),
+            new Throws<>(UnsupportedOperationException.class)
+        );
+        MatcherAssert.assertThat(
+            "Snapshot defaults can be modified!",
+            () -> {
+                snapshot.addDefault("c", 3);
+                return null;
+            },
+            new Throws<>(UnsupportedOperationException.class)
+        );
+    }
+
+}
@@ -0,0 +1,64 @@
+package org.simpleyaml.configuration;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.simpleyaml.configuration.file.YamlConfiguration;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+class PathFilterTest {
+
+    @Test
+    void matches() {
+        final PathFilter filter = PathFilter.include("server", "services.*.port", "**.name").andExclude("server.password");
+
+        MatcherAssert.assertThat("Included path!", filter.matches("server"), new IsEqual<>(true));
+        MatcherAssert.assertThat("Path below an included path!", filter.matches("server.host"), new IsEqual<>(true));
+        MatcherAssert.assertThat("Excluded path!", filter.matches("server.password"), new IsEqual<>(false));
+        MatcherAssert.assertThat("Wildcard key!", filter.matches("services.web.port"), new IsEqual<>(true));
+        MatcherAssert.assertThat("Wildcard key with other path!", filter.matches("services.web.host"), new IsEqual<>(false));
+        MatcherAssert.assertThat("Any keys!", filter.matches("a.b.c.name"), new IsEqual<>(true));
+        MatcherAssert.assertThat("Parent of an included path!", filter.matches("services"), new IsEqual<>(false));
+
+        MatcherAssert.assertThat(
+                "Parent of an included path must be filtered!",
+                filter.includesBelow(Collections.singletonList("services")),
+                new IsEqual<>(true)
+        );
+        MatcherAssert.assertThat(
+                "Path with an excluded path below is not included as a whole!",
+                filter.includesAll(Collections.singletonList("server")),
+                new IsEqual<>(false)
+        );
+        MatcherAssert.assertThat(
+                "Key with separator!",
+                PathFilter.include("a\\.b").includes(Arrays.asList("a.b", "c")),
+                new IsEqual<>(true)
+        );
+        MatcherAssert.assertThat(
+                "Custom separator!",
+                PathFilter.include("a/b").separator('/').matches("a/b/c"),
+                new IsEqual<>(true)
+        );
+        MatcherAssert.assertThat("Everything is included!", PathFilter.ALL.matches("a.b"), new IsEqual<>(true));
+        MatcherAssert.assertThat("Single character wildcard!", PathFilter.exclude("a?").matches("ab"), new IsEqual<>(false));
+    }
+
+    @Test
+    void filter() throws IOException {
+        final YamlConfiguration configuration = new YamlConfiguration();
+        configuration.loadFromString("server:\n  host: localhost\n  password: secret\nservices:\n  web:\n    port: 80\n    host: web\nname: test\n");
+
+        PathFilter.include("server", "services.*.port").andExclude("**.password").filter(configuration);
+
+        MatcherAssert.assertThat(
+                "Wrong filtered values!",
+                configuration.saveToString(),
+                new IsEqual<>("server:\n  host: localhost\nservices:\n  web:\n    port: 80\n")
+        );
+    }
+
+}
@@ -0,0 +1,114 @@
+package org.simpleyaml.configuration;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class SectionMapTest {
+
+    @Test
+    void insertionOrder() {
+        final SectionMap map = new SectionMap();
+        map.put("c", 1);
+        map.put("a", 2);
+        map.put("b", 3);
+        map.put("a", 4);
+
+        MatcherAssert.assertThat(
+                "Wrong insertion order!",
+                new ArrayList<>(map.keySet()),
+                new IsEqual<>(Arrays.asList("c", "a", "b"))
+        );
+        MatcherAssert.assertThat(
+                "Wrong values!",
+                new ArrayList<>(map.values()),
+                new IsEqual<>(Arrays.asList(1, 4, 3))
+        );
+
+        map.remove("c");
+        map.put("c", 5);
+
+        MatcherAssert.assertThat(
+                "Wrong insertion order after removal!",
+                new ArrayList<>(map.keySet()),
+                new IsEqual<>(Arrays.asList("a", "b", "c"))
+        );
+    }
+
+    @Test
+    void largeSections() {
+        final SectionMap map = new SectionMap();
+        final Map<String, Object> expected = new LinkedHashMap<>();
+
+        for (int i = 0; i < 1000; i++) {
+            map.put("key" + i, i);
+            expected.put("key" + i, i);
+        }
+        for (int i = 0; i < 1000; i += 3) {
+            map.remove("key" + i);
+            expected.remove("key" + i);
+        }
+        for (int i = 0; i < 1000; i += 5) {
+            map.put("key" + i, -i);
+            expected.put("key" + i, -i);
+        }
+
+        MatcherAssert.assertThat(
+                "Wrong size!",
+                map.size(),
+                new IsEqual<>(expected.size())
+        );
+        MatcherAssert.assertThat(
+                "Wrong value!",
+                map.get("key10"),
+                new IsEqual<>(-10)
+        );
+        MatcherAssert.assertThat(
+                "Removed key is present!",
+                map.get("key3"),
+                new IsNull<>()
+        );
+        MatcherAssert.assertThat(
+                "Wrong insertion order!",
+                new ArrayList<>(map.entrySet()),
+                new IsEqual<>(new ArrayList<>(expected.entrySet()))
+        );
+    }
+
+    @Test
+    void iteratorRemove() {
+        for (final int size : new int[] { SectionMap.HASH_THRESHOLD, SectionMap.HASH_THRESHOLD * 4 }) {
+            final SectionMap map = new SectionMap();
+            final List<String> expected = new ArrayList<>();
+
+            for (int i = 0; i < size; i++) {
+                map.put("key" + i, i);
+                if (i % 2 == 1) {
+                    expected.add("key" + i);
+                }
+            }
+
+            final Iterator<Map.Entry<String, Object>> it = map.entrySet().iterator();
+            while (it.hasNext()) {
+                if ((Integer) it.next().getValue() % 2 == 0) {
+                    it.remove();
+                }
+            }
+
+            MatcherAssert.assertThat(
+                    "Wrong keys after removing with the iterator!",
+                    new ArrayList<>(map.keySet()),
+                    new IsEqual<>(expected)
+            );
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package org.simpleyaml.configuration.file;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+class ConcurrentYamlConfigurationTest {
+
+    private static final int THREADS = 8;
+
+    private static final int KEYS = 2000;
+
+    @Test
+    void concurrentWrites() throws InterruptedException {
+        final ConcurrentYamlConfiguration configuration = new ConcurrentYamlConfiguration();
+        final ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            final int thread = t;
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < KEYS; i++) {
+                        // every thread creates the same missing sections at the same time
+                        configuration.set("section" + (i % 10) + ".sub" + (i % 7) + ".key" + thread + "-" + i, i);
+                    }
+                } catch (final Throwable e) {
+                    errors.add(e);
+                }
+            }));
+        }
+        threads.add(new Thread(() -> {
+            try {
+                start.await();
+                for (int i = 0; i < 100; i++) {
+                    configuration.getKeys(true);
+                    configuration.getValues(true);
+                }
+            } catch (final Throwable e) {
+                errors.add(e);
+            }
+        }));
+
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        MatcherAssert.assertThat(
+            "Concurrent access failed!",
+            errors.peek(),
+            new IsNull<>()
+        );
+
+        final Set<String> keys = configuration.getKeys(true);
+        final List<String> lost = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            for (int i = 0; i < KEYS; i++) {
+                final String path = "section" + (i % 10) + ".sub" + (i % 7) + ".key" + t + "-" + i;
+                if (!keys.contains(path) || configuration.getInt(path) != i) {
+                    lost.add(path);
+                }
+            }
+        }
+
+        MatcherAssert.assertThat(
+            "Lost concurrent writes!",
+            lost,
+            new IsEqual<>(Collections.emptyList())
+        );
+        MatcherAssert.assertThat(
+            "Wrong number of keys!",
+            keys.size(),
+            new IsEqual<>(10 + 10 * 7 + THREADS * KEYS)
+        );
+    }
+
+    @Test
+    void insertionOrder() throws IOException {
+        final ConcurrentYamlConfiguration configuration = new ConcurrentYamlConfiguration();
+        configuration.loadFromString("c: 1\na:\n  y: 2\n  x: 3\nb: 4\n");
+
+        configuration.set("a.y", 5);
+        configuration.set("c", null);
+        configuration.set("c", 6);
+
+        MatcherAssert.assertThat(
+            "Wrong insertion order!",
+            new ArrayList<>(configuration.getKeys(true)),
+            new IsEqual<>(Arrays.asList("a", "a.y", "a.x", "b", "c"))
+        );
+        MatcherAssert.assertThat(
+            "Wrong dump!",
+            configuration.saveToString(),
+            new IsEqual<>("a:\n  y: 5\n  x: 3\nb: 4\nc: 6\n")
+        );
+    }
+
+}
@@ -3,19 +3,30 @@ package org.simpleyaml.configuration.file;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsInstanceOf;
+import org.hamcrest.core.IsNot;
 import org.hamcrest.core.IsNull;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.HasValues;
 import org.llorllale.cactoos.matchers.IsBlank;
 import org.simpleyaml.configuration.MemoryConfiguration;
+import org.simpleyaml.configuration.PathFilter;
+import org.simpleyaml.configuration.implementation.SimpleYamlImplementation;
+import org.simpleyaml.configuration.implementation.StreamingYamlImplementation;
 import org.simpleyaml.configuration.implementation.api.QuoteStyle;
+import org.simpleyaml.configuration.implementation.api.YamlImplementation;
+import org.simpleyaml.configuration.implementation.snakeyaml.SnakeYamlImplementation;
+import org.simpleyaml.utils.PrimitiveList;
 import org.simpleyaml.utils.SectionUtils;
 import org.simpleyaml.utils.TestResources;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.StringReader;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -162,6 +173,89 @@ class YamlConfigurationTest {
         );
     }
 
+    @Test
+    void loadFiltered() throws Exception {
+        final String contents = "defaults: &defaults\n  timeout: 30\n" +
+            "server:\n  host: localhost\n  password: secret\n" +
+            "services:\n  web:\n    <<: *defaults\n    port: 80\n  db:\n    port: 5432\n    user: root\n";
+
+        final PathFilter filter = PathFilter.include("server", "services.*.port", "services.*.timeout").andExclude("**.password");
+
+        for (final YamlImplementation implementation : Arrays.asList(new SnakeYamlImplementation(), new SimpleYamlImplementation(), new StreamingYamlImplementation())) {
+            final YamlConfiguration configuration = new YamlConfiguration(implementation);
+            configuration.load(() -> new StringReader(contents), filter);
+
+            MatcherAssert.assertThat(
+                "Wrong filtered values!",
+                configuration.saveToString(),
+                new IsEqual<>("server:\n  host: localhost\nservices:\n  web:\n    timeout: 30\n    port: 80\n  db:\n    port: 5432\n")
+            );
+        }
+    }
+
+    @Test
+    void loadFilteredAnchor() throws Exception {
+        final String contents = "defaults: &d\n  timeout: 5\n  retries: 3\napp:\n  db: *d\n";
+
+        final PathFilter filter = PathFilter.include("app", "defaults.timeout");
+
+        for (final YamlImplementation implementation : Arrays.asList(new SnakeYamlImplementation(), new SimpleYamlImplementation(), new StreamingYamlImplementation())) {
+            final YamlConfiguration configuration = new YamlConfiguration(implementation);
+            configuration.load(() -> new StringReader(contents), filter);
+
+            MatcherAssert.assertThat(
+                "Aliases must resolve to the whole anchored mapping!",
+                configuration.saveToString(),
+                new IsEqual<>("defaults:\n  timeout: 5\napp:\n  db:\n    timeout: 5\n    retries: 3\n")
+            );
+        }
+    }
+
+    @Test
+    void loadFilteredComments() throws Exception {
+        final String contents = "# a\na: 1 # side a\n# b\nb: 2 # side b\n# c\nc: 3\n# footer\n";
+
+        for (final YamlImplementation implementation : Arrays.asList(new SnakeYamlImplementation(), new SimpleYamlImplementation())) {
+            final YamlFile yamlFile = new YamlFile(implementation);
+            yamlFile.options().useComments(true);
+            yamlFile.load(() -> new StringReader(contents), PathFilter.include("a", "c"));
+
+            MatcherAssert.assertThat(
+                "Comments of skipped entries must be skipped!",
+                yamlFile.saveToString(),
+                new IsEqual<>("# a\na: 1 # side a\n# c\nc: 3\n# footer\n")
+            );
+        }
+    }
+
+    @Test
+    void loadPath() throws Exception {
+        final String contents = TestResources.testWithHeader().replace("\n", "\r\n");
+        final File file = TestResources.tempFile(contents);
+
+        final YamlConfiguration configuration = new YamlConfiguration();
+        configuration.load(file.toPath());
+
+        MatcherAssert.assertThat(
+            "Couldn't load the file path!",
+            configuration.getString("test.string"),
+            new IsEqual<>("Hello world")
+        );
+        MatcherAssert.assertThat(
+            "Couldn't load the file path!",
+            configuration.getStringList("test.list"),
+            new HasValues<>(
+                "Each", "word", "will", "be", "in",
+                "a", "separated", "entry"
+            )
+        );
+        MatcherAssert.assertThat(
+            "Line endings must not change the loaded values!",
+            configuration.saveToString(),
+            new IsEqual<>(TestResources.testWithHeader())
+        );
+    }
+
     @Test
     void buildHeader() throws IOException {
         final YamlConfiguration configuration = resourceLoadYamlConfiguration("test.yml");
@@ -236,6 +330,181 @@ class YamlConfigurationTest {
         );
     }
 
+    @Test
+    void indexPaths() throws IOException {
+        final YamlConfiguration configuration = resourceLoadYamlConfiguration("test.yml");
+        configuration.options().indexPaths(true);
+
+        MatcherAssert.assertThat(
+            "Wrong indexed value!",
+            configuration.getInt("test.number"),
+            new IsEqual<>(5)
+        );
+
+        configuration.set("test.number", 10);
+
+        MatcherAssert.assertThat(
+            "Indexed value is not updated!",
+            configuration.getInt("test.number"),
+            new IsEqual<>(10)
+        );
+
+        configuration.getConfigurationSection("test").set("number", 15);
+
+        MatcherAssert.assertThat(
+            "Indexed value is not updated from a child section!",
+            configuration.getInt("test.number"),
+            new IsEqual<>(15)
+        );
+
+        configuration.set("test.list[0]", "First");
+
+        MatcherAssert.assertThat(
+            "Indexed list is not updated!",
+            configuration.getString("test.list[0]"),
+            new IsEqual<>("First")
+        );
+        MatcherAssert.assertThat(
+            "Indexed list is not updated!",
+            configuration.getStringList("test.list").get(0),
+            new IsEqual<>("First")
+        );
+
+        final YamlConfiguration defaults = new YamlConfiguration();
+        defaults.set("test.number", 20);
+        configuration.setDefaults(defaults);
+
+        configuration.set("test", null);
+
+        MatcherAssert.assertThat(
+            "Removed section is still indexed!",
+            configuration.getString("test.string"),
+            new IsNull<>()
+        );
+        MatcherAssert.assertThat(
+            "Default value is not used!",
+            configuration.getInt("test.number"),
+            new IsEqual<>(20)
+        );
+    }
+
+    @Test
+    void deepKeysAndValues() throws IOException {
+        final YamlConfiguration configuration = new YamlConfiguration();
+        configuration.loadFromString("a:\n  b:\n    c: 1\n    d: 2\n  e: 3\nf: 4\n");
+
+        MatcherAssert.assertThat(
+            "Wrong deep keys!",
+            new ArrayList<>(configuration.getKeys(true)),
+            new IsEqual<>(Arrays.asList("a", "a.b", "a.b.c", "a.b.d", "a.e", "f"))
+        );
+        MatcherAssert.assertThat(
+            "Wrong deep keys of a child section!",
+            new ArrayList<>(configuration.getConfigurationSection("a").getKeys(true)),
+            new IsEqual<>(Arrays.asList("b", "b.c", "b.d", "e"))
+        );
+        MatcherAssert.assertThat(
+            "Wrong deep values of a child section!",
+            configuration.getConfigurationSection("a.b").getValues(true),
+            new IsEqual<>(new LinkedHashMap<String, Object>() {{ put("c", 1); put("d", 2); }})
+        );
+
+        configuration.options().pathSeparator('/');
+
+        MatcherAssert.assertThat(
+            "Wrong deep keys with a custom separator!",
+            new ArrayList<>(configuration.getValues(true).keySet()),
+            new IsEqual<>(Arrays.asList("a", "a/b", "a/b/c", "a/b/d", "a/e", "f"))
+        );
+
+        configuration.options().pathSeparator('.');
+    }
+
+    @Test
+    void primitiveLists() throws IOException {
+        final String content = "ints:\n  - 1\n  - 2\n  - 3\nlongs:\n  - 10000000000\n  - 20000000000\n" +
+            "doubles:\n  - 1.5\n  - 2.5\nmixed:\n  - 1\n  - '2'\n  - a\n";
+
+        final YamlConfiguration configuration = new YamlConfiguration();
+        configuration.options().primitiveLists(true);
+        configuration.loadFromString(content);
+
+        MatcherAssert.assertThat(
+            "Integer list is not backed by an int array!",
+            configuration.getList("ints"),
+            new IsInstanceOf(PrimitiveList.OfInt.class)
+        );
+        MatcherAssert.assertThat(
+            "Long list is not backed by a long array!",
+            configuration.getList("longs"),
+            new IsInstanceOf(PrimitiveList.OfLong.class)
+        );
+        MatcherAssert.assertThat(
+            "Double list is not backed by a double array!",
+            configuration.getList("doubles"),
+            new IsInstanceOf(PrimitiveList.OfDouble.class)
+        );
+        MatcherAssert.assertThat(
+            "Couldn't get the int array!",
+            configuration.getIntArray("ints"),
+            new IsEqual<>(new int[] { 1, 2, 3 })
+        );
+        MatcherAssert.assertThat(
+            "Couldn't get the long array!",
+            configuration.getLongArray("longs"),
+            new IsEqual<>(new long[] { 10000000000L, 20000000000L })
+        );
+        MatcherAssert.assertThat(
+            "Couldn't get the double array!",
+            configuration.getDoubleArray("doubles"),
+            new IsEqual<>(new double[] { 1.5, 2.5 })
+        );
+        MatcherAssert.assertThat(
+            "Couldn't convert a mixed list to an int array!",
+            configuration.getIntArray("mixed"),
+            new IsEqual<>(new int[] { 1, 2 })
+        );
+        MatcherAssert.assertThat(
+            "Missing list is not an empty array!",
+            configuration.getIntArray("missing"),
+            new IsEqual<>(new int[0])
+        );
+        MatcherAssert.assertThat(
+            "Couldn't save primitive lists!",
+            configuration.saveToString(),
+            new IsEqual<>(content)
+        );
+
+        // the array grown by an addition is larger than the list after a removal
+        final PrimitiveList.OfLong longs = (PrimitiveList.OfLong) configuration.getList("longs");
+        longs.add(30000000000L);
+        longs.remove(2);
+
+        MatcherAssert.assertThat("Wrong primitive element!", longs.getLong(1), new IsEqual<>(20000000000L));
+
+        IndexOutOfBoundsException error = null;
+        try {
+            longs.getLong(2);
+        } catch (final IndexOutOfBoundsException e) {
+            error = e;
+        }
+
+        MatcherAssert.assertThat("Removed primitive element was read!", error, new IsNot<>(new IsNull<>()));
+
+        configuration.set("ints[0]", "a");
+
+        MatcherAssert.assertThat(
+            "Couldn't store a non-numeric element!",
+            configuration.getList("ints"),
+            new IsEqual<>(Arrays.asList("a", 2, 3))
+        );
+        MatcherAssert.assertThat(
+            "Wrong int array after storing a non-numeric element!",
+            configuration.getIntArray("ints"),
+            new IsEqual<>(new int[] { 2, 3 })
+        );
+    }
+
     @Test
     void convertMapsToSections() {
         final Map<String, Object> map = new HashMap<>();
@@ -262,6 +531,34 @@ class YamlConfigurationTest {
         );
     }
 
+    @Test
+    void loadKeys() throws IOException {
+        final YamlConfiguration configuration = new YamlConfiguration();
+        configuration.set("old", 1);
+        configuration.loadFromString("a:\n  b: 1\n  c.d: 2\n  e: ~\nf.g: 3\nlist:\n  - x\nold:\n  h: 4\n");
+
+        MatcherAssert.assertThat(
+            "Wrong loaded keys!",
+            new ArrayList<>(configuration.getKeys(true)),
+            new IsEqual<>(Arrays.asList("old", "old.h", "a", "a.b", "a.c", "a.c.d", "f", "f.g", "list"))
+        );
+        MatcherAssert.assertThat(
+            "Wrong value at a key with the path separator!",
+            configuration.getInt("a.c.d"),
+            new IsEqual<>(2)
+        );
+        MatcherAssert.assertThat(
+            "Wrong replaced value!",
+            configuration.getInt("old.h"),
+            new IsEqual<>(4)
+        );
+        MatcherAssert.assertThat(
+            "Wrong dump!",
+            configuration.saveToString(),
+            new IsEqual<>("old:\n  h: 4\na:\n  b: 1\n  c:\n    d: 2\nf:\n  g: 3\nlist:\n  - x\n")
+        );
+    }
+
     @Test
     void setQuoteStyle() throws IOException {
         final YamlConfiguration configuration = new YamlConfiguration();
@@ -0,0 +1,156 @@
+package org.simpleyaml.configuration.file;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
+import org.hamcrest.core.IsNot;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+import org.simpleyaml.configuration.implementation.api.QuoteStyle;
+import org.simpleyaml.configuration.implementation.snakeyaml.SnakeYamlImplementation;
+import org.simpleyaml.exceptions.InvalidConfigurationException;
+import org.simpleyaml.utils.TestResources;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+class YamlFileReloaderTest {
+
+    @Test
+    void reload() throws Exception {
+        final File file = TestResources.tempFile("a: 1\n");
+        final YamlFile yamlFile = new YamlFile(file);
+        yamlFile.load();
+
+        // not watching, so only the manual reload replaces the YamlFile
+        try (final YamlFileReloader reloader = new YamlFileReloader(yamlFile, () -> new YamlFile(file))) {
+            final AtomicReference<YamlFile> reloaded = new AtomicReference<>();
+            reloader.onReload(reloaded::set);
+
+            write(file, "a: 2\nb: text\n");
+
+            final YamlFile newYamlFile = reloader.reload().get(30, TimeUnit.SECONDS);
+
+            MatcherAssert.assertThat(
+                "Initial YamlFile has changed!",
+                yamlFile.getInt("a"),
+                new IsEqual<>(1)
+            );
+            MatcherAssert.assertThat(
+                "YamlFile was not replaced!",
+                reloader.get(),
+                new IsSame<>(newYamlFile)
+            );
+            MatcherAssert.assertThat(
+                "Listener was not called!",
+                reloaded.get(),
+                new IsSame<>(newYamlFile)
+            );
+            MatcherAssert.assertThat(
+                "Wrong reloaded value!",
+                newYamlFile.getString("b"),
+                new IsEqual<>("text")
+            );
+        }
+    }
+
+    @Test
+    void reloadOnChange() throws Exception {
+        final File file = TestResources.tempFile("a: 1\n");
+        final LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setAllowDuplicateKeys(false);
+        final YamlFile yamlFile = new YamlFile(new SnakeYamlImplementation(loaderOptions, new DumperOptions()));
+        yamlFile.setConfigurationFile(file);
+        yamlFile.load();
+        yamlFile.options().indexPaths(true);
+        yamlFile.options().quoteStyleDefaults().setQuoteStyle(String.class, QuoteStyle.DOUBLE);
+
+        try (final YamlFileReloader reloader = yamlFile.watch()) {
+            final CountDownLatch changed = new CountDownLatch(1);
+            reloader.onReload(newYamlFile -> {
+                if (newYamlFile.getInt("a") == 2) {
+                    changed.countDown();
+                }
+            });
+
+            write(file, "a: 2\n");
+
+            MatcherAssert.assertThat(
+                "File change was not detected!",
+                changed.await(30, TimeUnit.SECONDS),
+                new IsEqual<>(true)
+            );
+            MatcherAssert.assertThat(
+                "YamlFile was not replaced!",
+                reloader.get(),
+                new IsNot<>(new IsSame<>(yamlFile))
+            );
+            MatcherAssert.assertThat(
+                "Options were not copied!",
+                reloader.get().options().indexPaths(),
+                new IsEqual<>(true)
+            );
+            MatcherAssert.assertThat(
+                "Quote styles were not copied!",
+                reloader.get().options().quoteStyleDefaults().getQuoteStyle(String.class),
+                new IsEqual<>(QuoteStyle.DOUBLE)
+            );
+            MatcherAssert.assertThat(
+                "Implementation was not kept!",
+                reloader.get().getImplementation().getClass(),
+                new IsEqual<>(SnakeYamlImplementation.class)
+            );
+            MatcherAssert.assertThat(
+                "Loader options were not copied!",
+                ((SnakeYamlImplementation) reloader.get().getImplementation()).getLoaderOptions().isAllowDuplicateKeys(),
+                new IsEqual<>(false)
+            );
+        }
+    }
+
+    @Test
+    void reloadError() throws Exception {
+        final File file = TestResources.tempFile("a: 1\n");
+        final YamlFile yamlFile = new YamlFile(file);
+        yamlFile.load();
+
+        try (final YamlFileReloader reloader = new YamlFileReloader(yamlFile, () -> new YamlFile(file))) {
+            write(file, "a: [1\n");
+
+            final CompletableFuture<YamlFile> reload = reloader.reload();
+
+            Throwable error = null;
+            try {
+                reload.get(30, TimeUnit.SECONDS);
+            } catch (final ExecutionException e) {
+                error = e.getCause();
+            }
+
+            MatcherAssert.assertThat(
+                "Invalid file was loaded!",
+                error,
+                new IsInstanceOf(InvalidConfigurationException.class)
+            );
+            MatcherAssert.assertThat(
+                "YamlFile was replaced after an error!",
+                reloader.get(),
+                new IsSame<>(yamlFile)
+            );
+        }
+    }
+
+    private static void write(final File file, final String contents) throws IOException {
+        try (final FileWriter writer = new FileWriter(file)) {
+            writer.write(contents);
+        }
+    }
+
+}
@@ -0,0 +1,219 @@
+package org.simpleyaml.configuration.file;
+
+import org.llorllale.cactoos.matchers.IsTrue;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.simpleyaml.utils.TestResources;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class YamlFileSaverTest {
+
+    @Test
+    void saveAsync() throws Exception {
+        final File file = TestResources.tempFile();
+        final YamlFile yamlFile = new YamlFile(TestResources.getResourceURI("test-comments.yml"));
+        yamlFile.options().lazyLoad(true);
+        yamlFile.loadWithComments();
+        yamlFile.setConfigurationFile(file);
+
+        yamlFile.set("test.number", 10);
+        yamlFile.setComment("test.number", "Saved in the background");
+
+        final String expected = yamlFile.saveToString();
+
+        try {
+            final CompletableFuture<Void> save = yamlFile.saveAsync();
+
+            // changes done after the copy are not saved
+            yamlFile.set("test.number", 20);
+            yamlFile.setComment("test.number", "Not saved yet");
+
+            save.get(30, TimeUnit.SECONDS);
+
+            MatcherAssert.assertThat(
+                "File has not being correctly saved!",
+                TestResources.fileToStringUnix(new YamlFile(file)),
+                new IsEqual<>(expected)
+            );
+            MatcherAssert.assertThat("Changes after the copy are not dirty", yamlFile.isDirty(), new IsTrue());
+
+            yamlFile.saveAsync().get(30, TimeUnit.SECONDS);
+
+            MatcherAssert.assertThat("Saved file is dirty", yamlFile.isDirty(), new IsNot<>(new IsTrue()));
+            MatcherAssert.assertThat(
+                "File has not being correctly saved!",
+                TestResources.fileToStringUnix(new YamlFile(file)),
+                new IsEqual<>(yamlFile.saveToString())
+            );
+        } finally {
+            yamlFile.setSaver(null);
+        }
+    }
+
+    @Test
+    void autosave() throws Exception {
+        final File file = TestResources.tempFile("a: 1\n");
+        final YamlFile yamlFile = new YamlFile(file);
+        yamlFile.load();
+
+        final ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(1);
+        final AtomicInteger saves = new AtomicInteger();
+
+        try {
+            final YamlFileSaver saver = new YamlFileSaver(yamlFile, () -> {
+                saves.incrementAndGet();
+                return yamlFile.newSaveFile();
+            }, executor);
+            yamlFile.setSaver(saver);
+            yamlFile.autosave(new AutosavePolicy(Duration.ofHours(1), 3));
+
+            // a burst of changes reaching the max pending mutations is saved at once
+            yamlFile.set("b", 2);
+            yamlFile.set("c", 3);
+            yamlFile.set("d", 4);
+
+            waitUntilSaved(yamlFile);
+
+            MatcherAssert.assertThat(
+                "Burst of changes has not been coalesced!",
+                saves.get(),
+                new IsEqual<>(1)
+            );
+            MatcherAssert.assertThat(
+                "File has not being correctly saved!",
+                TestResources.fileToStringUnix(new YamlFile(file)),
+                new IsEqual<>("a: 1\nb: 2\nc: 3\nd: 4\n")
+            );
+
+            // a change below the max pending mutations waits for the delay, or for the saver to be closed
+            yamlFile.set("e", 5);
+
+            MatcherAssert.assertThat("Change has been saved before the delay", yamlFile.isDirty(), new IsTrue());
+
+            saver.close();
+            executor.shutdown();
+            MatcherAssert.assertThat(executor.awaitTermination(30, TimeUnit.SECONDS), new IsTrue());
+
+            MatcherAssert.assertThat("Pending change has not been saved when closing", yamlFile.isDirty(), new IsNot<>(new IsTrue()));
+            MatcherAssert.assertThat(
+                "File has not being correctly saved!",
+                TestResources.fileToStringUnix(new YamlFile(file)),
+                new IsEqual<>("a: 1\nb: 2\nc: 3\nd: 4\ne: 5\n")
+            );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void autosaveRetry() throws Exception {
+        final File file = TestResources.tempFile("a: 1\n");
+        final YamlFile yamlFile = new YamlFile(file);
+        yamlFile.load();
+
+        final ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(1);
+        final AtomicInteger saves = new AtomicInteger();
+        final List<Exception> errors = new CopyOnWriteArrayList<>();
+
+        try {
+            final YamlFileSaver saver = new YamlFileSaver(yamlFile, () -> {
+                if (saves.incrementAndGet() == 1) {
+                    throw new IllegalStateException("First copy fails");
+                }
+                return yamlFile.newSaveFile();
+            }, executor).onError(errors::add);
+            yamlFile.setSaver(saver);
+            yamlFile.autosave(new AutosavePolicy(Duration.ofMillis(50), 1));
+
+            // the copy taken by the changing thread fails, and it is retried after the delay
+            yamlFile.set("b", 2);
+
+            waitUntilSaved(yamlFile);
+
+            MatcherAssert.assertThat("Failed copy has not been retried!", saves.get(), new IsEqual<>(2));
+            MatcherAssert.assertThat("Error has not been reported!", errors.size(), new IsEqual<>(1));
+            MatcherAssert.assertThat(
+                "File has not being correctly saved!",
+                TestResources.fileToStringUnix(new YamlFile(file)),
+                new IsEqual<>("a: 1\nb: 2\n")
+            );
+        } finally {
+            yamlFile.setSaver(null);
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void autosaveLoad() throws Exception {
+        final StringBuilder contents = new StringBuilder();
+        for (int i = 0; i < 55; i++) {
+            contents.append("key").append(i).append(": ").append(i).append('\n');
+        }
+        final File file = TestResources.tempFile(contents.toString());
+        final YamlFile yamlFile = new YamlFile(file);
+
+        final ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(1);
+        final AtomicInteger saves = new AtomicInteger();
+
+        try {
+            final YamlFileSaver saver = new YamlFileSaver(yamlFile, () -> {
+                saves.incrementAndGet();
+                return yamlFile.newSaveFile();
+            }, executor);
+            yamlFile.setSaver(saver);
+            yamlFile.autosave(new AutosavePolicy(Duration.ofHours(1), 10));
+
+            // loading the configuration file is not a change to save
+            yamlFile.load();
+
+            MatcherAssert.assertThat("Loaded file has been saved!", saves.get(), new IsEqual<>(0));
+            MatcherAssert.assertThat("Loaded file is dirty", yamlFile.isDirty(), new IsNot<>(new IsTrue()));
+            MatcherAssert.assertThat(yamlFile.getKeys(false).size(), new IsEqual<>(55));
+
+            // nor reloading it, which discards the pending changes
+            yamlFile.set("key0", -1);
+            Files.write(file.toPath(), contents.toString().replace("key1: 1\n", "key1: -1\n").getBytes(StandardCharsets.UTF_8));
+            yamlFile.reload();
+
+            MatcherAssert.assertThat("Reloaded file has been saved!", saves.get(), new IsEqual<>(0));
+            MatcherAssert.assertThat("Reloaded file is dirty", yamlFile.isDirty(), new IsNot<>(new IsTrue()));
+            MatcherAssert.assertThat(yamlFile.getInt("key0"), new IsEqual<>(0));
+            MatcherAssert.assertThat(yamlFile.getInt("key1"), new IsEqual<>(-1));
+
+            saver.close();
+            executor.shutdown();
+            MatcherAssert.assertThat(executor.awaitTermination(30, TimeUnit.SECONDS), new IsTrue());
+
+            MatcherAssert.assertThat("Discarded changes have been saved when closing", saves.get(), new IsEqual<>(0));
+            MatcherAssert.assertThat(
+                "File has been changed!",
+                TestResources.fileToStringUnix(new YamlFile(file)),
+                new IsEqual<>(contents.toString().replace("key1: 1\n", "key1: -1\n"))
+            );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void waitUntilSaved(final YamlFile yamlFile) throws InterruptedException {
+        final long timeout = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (yamlFile.isDirty() && System.nanoTime() < timeout) {
+            Thread.sleep(10);
+        }
+        MatcherAssert.assertThat("Changes have not been saved", yamlFile.isDirty(), new IsNot<>(new IsTrue()));
+    }
+
+}
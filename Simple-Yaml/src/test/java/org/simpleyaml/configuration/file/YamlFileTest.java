@@ -7,24 +7,40 @@ import org.hamcrest.core.IsNull;
 import org.hamcrest.core.IsSame;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.IsTrue;
+import org.simpleyaml.configuration.ConfigurationChanges;
+import org.simpleyaml.configuration.ConfigurationSection;
+import org.simpleyaml.configuration.LazyMemorySection;
 import org.simpleyaml.configuration.comments.CommentType;
 import org.simpleyaml.configuration.comments.KeyTree;
 import org.simpleyaml.configuration.comments.format.YamlCommentFormat;
 import org.simpleyaml.configuration.comments.format.YamlCommentFormatter;
 import org.simpleyaml.configuration.comments.format.YamlCommentFormatterConfiguration;
 import org.simpleyaml.configuration.comments.format.YamlHeaderFormatter;
+import org.simpleyaml.configuration.implementation.SimpleYamlImplementation;
 import org.simpleyaml.configuration.implementation.api.QuoteStyle;
 import org.simpleyaml.configuration.serialization.ConfigurationSerialization;
+import org.simpleyaml.exceptions.InvalidConfigurationException;
 import org.simpleyaml.examples.Person;
 import org.simpleyaml.utils.StringUtils;
 import org.simpleyaml.utils.TestResources;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
 
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 class YamlFileTest {
 
@@ -112,6 +128,108 @@ class YamlFileTest {
         );
     }
 
+    @Test
+    void bufferedLoadWithComments() throws Exception {
+        final YamlFile yamlFile = new YamlFile();
+        yamlFile.options().useComments(true).bufferedLoad(true);
+
+        final int[] opens = {0};
+        yamlFile.load(() -> {
+            opens[0]++;
+            return new InputStreamReader(TestResources.getResourceInputStream("test-comments.yml"), StandardCharsets.UTF_8);
+        });
+
+        MatcherAssert.assertThat(
+            "Couldn't load the file with comments!",
+            yamlFile.saveToString(),
+            new IsEqual<>(TestResources.testComments())
+        );
+        MatcherAssert.assertThat(
+            "The file was read more than once!",
+            opens[0],
+            new IsEqual<>(1)
+        );
+    }
+
+    @Test
+    void lazyLoad() throws Exception {
+        final YamlFile yamlFile = new YamlFile(TestResources.getResourceURI("test.yml"));
+        yamlFile.options().lazyLoad(true);
+        yamlFile.load();
+
+        final long modifications = yamlFile.getModificationCount();
+
+        MatcherAssert.assertThat(
+            "Section was loaded before being accessed",
+            ((LazyMemorySection) yamlFile.getChild("test")).isLoaded(),
+            new IsEqual<>(false)
+        );
+        MatcherAssert.assertThat(
+            "Couldn't save the sections not loaded!",
+            yamlFile.saveToString(),
+            new IsEqual<>(TestResources.testContent())
+        );
+        MatcherAssert.assertThat(
+            "Section was loaded when saved",
+            ((LazyMemorySection) yamlFile.getChild("test")).isLoaded(),
+            new IsEqual<>(false)
+        );
+
+        MatcherAssert.assertThat(yamlFile.getInt("test.number"), new IsEqual<>(5));
+        MatcherAssert.assertThat(
+            "Section was not loaded when accessed",
+            ((LazyMemorySection) yamlFile.getChild("test")).isLoaded(),
+            new IsTrue()
+        );
+        MatcherAssert.assertThat(
+            "Other section was loaded",
+            ((LazyMemorySection) yamlFile.getChild("math")).isLoaded(),
+            new IsEqual<>(false)
+        );
+        MatcherAssert.assertThat(
+            "Loading a section is not a modification",
+            yamlFile.getModificationCount(),
+            new IsEqual<>(modifications)
+        );
+        MatcherAssert.assertThat(
+            "Couldn't save the sections loaded!",
+            yamlFile.saveToString(),
+            new IsEqual<>(TestResources.testContent())
+        );
+    }
+
+    @Test
+    void lazyLoadError() throws Exception {
+        final YamlFile yamlFile = new YamlFile();
+        yamlFile.options().lazyLoad(true);
+        yamlFile.loadFromString("a:\n  c: 1\n  b: !!int abc\n");
+
+        for (int i = 0; i < 2; i++) {
+            Throwable error = null;
+            try {
+                yamlFile.get("a.c");
+            } catch (final UncheckedIOException e) {
+                error = e.getCause();
+            }
+
+            MatcherAssert.assertThat(
+                "Invalid section was loaded!",
+                error instanceof InvalidConfigurationException,
+                new IsTrue()
+            );
+            MatcherAssert.assertThat(
+                "Section is loaded after an error",
+                ((LazyMemorySection) yamlFile.getChild("a")).isLoaded(),
+                new IsEqual<>(false)
+            );
+            MatcherAssert.assertThat(
+                "Section not loaded has not been saved!",
+                yamlFile.saveToString(),
+                new IsEqual<>("a:\n  c: 1\n  b: !!int 'abc'\n")
+            );
+        }
+    }
+
     @Test
     @SuppressWarnings("deprecation")
     void loadConfigurationWithComments() throws Exception {
@@ -194,6 +312,197 @@ class YamlFileTest {
         );
     }
 
+    @Test
+    void saveIfDirty() throws Exception {
+        final File temp = TestResources.tempFile(TestResources.testContent());
+        final YamlFile yamlFile = new YamlFile(temp);
+        yamlFile.options().skipUnchangedSave(true);
+
+        MatcherAssert.assertThat("Not loaded file is not dirty", yamlFile.isDirty(), new IsTrue());
+
+        yamlFile.loadWithComments();
+
+        MatcherAssert.assertThat("Loaded file is dirty", yamlFile.isDirty(), new IsNot<>(new IsTrue()));
+
+        // not saved if it is not dirty, the file is changed keeping its size and modification time to check it
+        final long modified = 1_000_000_000_000L;
+        Files.write(temp.toPath(), "test: 1234".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(temp.setLastModified(modified), new IsTrue());
+        yamlFile.load();
+        Files.write(temp.toPath(), "test: 5678".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(temp.setLastModified(modified), new IsTrue());
+        yamlFile.save();
+
+        MatcherAssert.assertThat(
+            "File without changes has been saved!",
+            TestResources.fileToStringUnix(new YamlFile(temp)),
+            new IsEqual<>("test: 5678")
+        );
+
+        yamlFile.set("test.number", 5);
+
+        MatcherAssert.assertThat("Changed file is not dirty", yamlFile.isDirty(), new IsTrue());
+
+        yamlFile.save();
+
+        MatcherAssert.assertThat("Saved file is dirty", yamlFile.isDirty(), new IsNot<>(new IsTrue()));
+        MatcherAssert.assertThat(
+            "File has not being correctly saved!",
+            TestResources.fileToStringUnix(new YamlFile(temp)),
+            new IsEqual<>(yamlFile.saveToString())
+        );
+
+        yamlFile.setComment("test.number", "Number");
+
+        MatcherAssert.assertThat("File with new comment is not dirty", yamlFile.isDirty(), new IsTrue());
+
+        yamlFile.save();
+        yamlFile.setHeader("Header");
+
+        MatcherAssert.assertThat("File with new header is not dirty", yamlFile.isDirty(), new IsTrue());
+
+        yamlFile.save();
+        yamlFile.options().indent(4);
+
+        MatcherAssert.assertThat("File with new options is not dirty", yamlFile.isDirty(), new IsTrue());
+
+        yamlFile.save();
+
+        MatcherAssert.assertThat("Saved file is dirty", yamlFile.isDirty(), new IsNot<>(new IsTrue()));
+
+        // saved again if the file is deleted
+        yamlFile.deleteFile();
+        yamlFile.save();
+
+        MatcherAssert.assertThat("Deleted file has not been saved", yamlFile.exists(), new IsTrue());
+    }
+
+    @Test
+    void saveUntrackedChanges() throws Exception {
+        final File temp = TestResources.tempFile("list:\n- x\n");
+        final YamlFile yamlFile = new YamlFile(temp);
+        yamlFile.load();
+
+        // changes to lists are not tracked, so the file is written even if it is not dirty
+        @SuppressWarnings("unchecked")
+        final List<Object> list = (List<Object>) yamlFile.getList("list");
+        list.add("y");
+
+        MatcherAssert.assertThat("Untracked change made the file dirty", yamlFile.isDirty(), new IsNot<>(new IsTrue()));
+
+        yamlFile.save();
+
+        MatcherAssert.assertThat(
+            "Untracked change has not been saved!",
+            TestResources.fileToStringUnix(new YamlFile(temp)),
+            new IsEqual<>("list:\n  - x\n  - y\n")
+        );
+    }
+
+    @Test
+    void saveAtomically() throws Exception {
+        final File temp = TestResources.tempFile();
+        final File directory = temp.getParentFile();
+        final int files = Objects.requireNonNull(directory.list()).length;
+
+        final YamlFile yamlFile = new YamlFile(TestResources.getResourceURI("test-comments.yml"));
+        yamlFile.loadWithComments();
+        yamlFile.options()
+            .atomicSave(true)
+            .syncOnSave(true)
+            .saveBufferSize(64);
+
+        yamlFile.save(temp);
+
+        MatcherAssert.assertThat(
+            "File has not being correctly saved!",
+            TestResources.fileToStringUnix(new YamlFile(temp)),
+            new IsEqual<>(yamlFile.saveToString())
+        );
+
+        final YamlFile failing = new YamlFile(temp) {
+            @Override
+            public void dump(final Writer writer) throws IOException {
+                writer.write("partial: ");
+                throw new IOException("Dump error");
+            }
+        };
+        failing.options().atomicSave(true);
+
+        boolean thrown = false;
+        try {
+            failing.save();
+        } catch (final IOException e) {
+            thrown = "Dump error".equals(e.getMessage());
+        }
+
+        MatcherAssert.assertThat("Dump error was not reported", thrown, new IsTrue());
+        MatcherAssert.assertThat(
+            "File was overwritten by a failed save!",
+            TestResources.fileToStringUnix(new YamlFile(temp)),
+            new IsEqual<>(yamlFile.saveToString())
+        );
+        MatcherAssert.assertThat(
+            "Temporary files were not deleted!",
+            Objects.requireNonNull(directory.list()).length,
+            new IsEqual<>(files)
+        );
+    }
+
+    @Test
+    void saveAtomicallyThroughLink() throws Exception {
+        final File temp = TestResources.tempFile("a: 1\n");
+        final Path link = temp.toPath().resolveSibling("link-" + temp.getName());
+        try {
+            Files.createSymbolicLink(link, temp.toPath().getFileName());
+        } catch (final UnsupportedOperationException | IOException e) {
+            return; // symbolic links not supported
+        }
+
+        try {
+            final YamlFile yamlFile = new YamlFile(link.toFile());
+            yamlFile.load();
+            yamlFile.set("b", 2);
+            yamlFile.options().atomicSave(true);
+            yamlFile.save();
+
+            MatcherAssert.assertThat("Link was replaced!", Files.isSymbolicLink(link), new IsTrue());
+            MatcherAssert.assertThat(
+                "Linked file has not being correctly saved!",
+                TestResources.fileToStringUnix(new YamlFile(temp)),
+                new IsEqual<>("a: 1\nb: 2\n")
+            );
+        } finally {
+            Files.deleteIfExists(link);
+        }
+    }
+
+    @Test
+    void saveAtomicallyNewFile() throws Exception {
+        final File plain = TestResources.tempFile();
+        final File atomic = TestResources.tempFile();
+        if (Files.getFileAttributeView(atomic.toPath(), PosixFileAttributeView.class) == null) {
+            return; // permissions not supported
+        }
+        //noinspection ResultOfMethodCallIgnored
+        plain.delete();
+        //noinspection ResultOfMethodCallIgnored
+        atomic.delete();
+
+        final YamlFile yamlFile = new YamlFile();
+        yamlFile.set("a", 1);
+        yamlFile.save(plain);
+        yamlFile.options().atomicSave(true);
+        yamlFile.save(atomic);
+
+        MatcherAssert.assertThat(
+            "New file saved atomically has not the default permissions!",
+            Files.getPosixFilePermissions(atomic.toPath()),
+            new IsEqual<>(Files.getPosixFilePermissions(plain.toPath()))
+        );
+        MatcherAssert.assertThat(TestResources.fileToStringUnix(new YamlFile(atomic)), new IsEqual<>("a: 1\n"));
+    }
+
     @Test
     void saveWithComments() throws Exception {
         final File temp = TestResources.tempFile();
@@ -368,6 +677,75 @@ class YamlFileTest {
                 new IsEqual<>(content));
     }
 
+    @Test
+    void saveToStringWithSinglePassComments() throws Exception {
+        for (final String resource : Arrays.asList("test.yml", "test-comments.yml", "test-comments2.yml", "test-comments3.yml",
+                "test-comments4.yml", "test-comments-format.yml", "test-quote-style.yml", "test-encoding.yml")) {
+            final YamlFile yamlFile = new YamlFile(TestResources.getResourceURI(resource));
+            yamlFile.loadWithComments();
+
+            final String content = yamlFile.saveToString();
+
+            yamlFile.options().singlePassComments(true);
+
+            MatcherAssert.assertThat(
+                    "Single pass comments are different in " + resource,
+                    yamlFile.saveToString(),
+                    new IsEqual<>(content));
+        }
+
+        final YamlFile yamlFile = new YamlFile();
+        yamlFile.set("server.host", "localhost");
+        yamlFile.set("server.tags", Arrays.asList("a", "it's", "multi\nline"));
+        yamlFile.set("'quoted'.key", "'value'");
+        yamlFile.setComment("server", "Server");
+        yamlFile.setComment("server.host", "Host", CommentType.SIDE);
+        yamlFile.setComment("server.tags.a", "First tag");
+        yamlFile.setComment("server.tags[2]", "Literal\nSide", CommentType.SIDE);
+        yamlFile.setComment("'quoted'.key", "Quoted", CommentType.SIDE);
+        yamlFile.setFooter("Footer");
+
+        final String content = yamlFile.saveToString();
+
+        yamlFile.options().singlePassComments(true);
+
+        MatcherAssert.assertThat(yamlFile.saveToString(), new IsEqual<>(content));
+    }
+
+    @Test
+    void saveToStringWithStreamingDump() throws Exception {
+        for (final String resource : Arrays.asList("test.yml", "test-comments.yml", "test-comments2.yml", "test-comments3.yml",
+                "test-comments-format.yml", "test-quote-style.yml", "test-encoding.yml")) {
+            for (final boolean lazyLoad : new boolean[] { false, true }) {
+                final YamlFile yamlFile = new YamlFile(TestResources.getResourceURI(resource));
+                yamlFile.options().lazyLoad(lazyLoad);
+                yamlFile.loadWithComments();
+
+                final String content = yamlFile.saveToString();
+
+                yamlFile.options().streamingDump(true);
+
+                MatcherAssert.assertThat(
+                        "Streaming dump is different in " + resource,
+                        yamlFile.saveToString(),
+                        new IsEqual<>(content));
+            }
+        }
+
+        final YamlFile yamlFile = new YamlFile();
+        yamlFile.set("server.host", "localhost");
+        yamlFile.set("server.tags", Arrays.asList("a", "b"));
+        yamlFile.createSection("empty");
+        yamlFile.setComment("server.host", "Host", CommentType.SIDE);
+        yamlFile.setFooter("Footer");
+
+        final String content = yamlFile.saveToString();
+
+        yamlFile.options().streamingDump(true);
+
+        MatcherAssert.assertThat(yamlFile.saveToString(), new IsEqual<>(content));
+    }
+
     @Test
     void getComment() throws Exception {
         final YamlFile yamlFile = new YamlFile(TestResources.getResourceURI("test-comments.yml"));
@@ -1593,4 +1971,146 @@ class YamlFileTest {
         );
     }
 
+    @Test
+    void reload() throws Exception {
+        final Path path = Files.write(Files.createTempFile("reload", ".yml"),
+                "# Server\nserver:\n  host: localhost\n  port: 80\n  tags: [a, b]\ndb:\n  url: jdbc\nold: 1\n".getBytes(StandardCharsets.UTF_8));
+
+        final YamlFile yamlFile = new YamlFile(path.toFile());
+        yamlFile.loadWithComments();
+
+        final ConfigurationSection server = yamlFile.getConfigurationSection("server");
+        final ConfigurationSection db = yamlFile.getConfigurationSection("db");
+        final Object tags = server.get("tags");
+
+        Files.write(path, "# Server reloaded\nserver:\n  host: example.com\n  port: 80\n  tags: [a, b]\n  ssl: true\ndb:\n  url: jdbc\nnew: 2\n".getBytes(StandardCharsets.UTF_8));
+
+        final ConfigurationChanges changes = yamlFile.reload();
+
+        MatcherAssert.assertThat(changes.getChanged(), new IsEqual<>(Collections.singleton("server.host")));
+        MatcherAssert.assertThat(changes.getAdded(), new IsEqual<>(new LinkedHashSet<>(Arrays.asList("server.ssl", "new"))));
+        MatcherAssert.assertThat(changes.getRemoved(), new IsEqual<>(Collections.singleton("old")));
+
+        MatcherAssert.assertThat("Section was replaced", yamlFile.getConfigurationSection("server"), new IsSame<>(server));
+        MatcherAssert.assertThat("Unchanged section was replaced", yamlFile.getConfigurationSection("db"), new IsSame<>(db));
+        MatcherAssert.assertThat("Unchanged value was replaced", server.get("tags"), new IsSame<>(tags));
+        MatcherAssert.assertThat(server.getString("host"), new IsEqual<>("example.com"));
+        MatcherAssert.assertThat("Comments were not reloaded", yamlFile.getComment("server"), new IsEqual<>("Server reloaded"));
+        MatcherAssert.assertThat(
+                "Wrong reloaded contents!",
+                yamlFile.saveToString(),
+                new IsEqual<>("# Server reloaded\nserver:\n  host: example.com\n  port: 80\n  tags:\n    - a\n    - b\n  ssl: true\ndb:\n  url: jdbc\nnew: 2\n")
+        );
+
+        MatcherAssert.assertThat("Reload without changes has changes", yamlFile.reload().isEmpty(), new IsTrue());
+        MatcherAssert.assertThat("Reload changed the options", yamlFile.options().useComments(), new IsTrue());
+
+        Files.write(path, "db:\n  url: jdbc\nnew: 2\nserver:\n  host: example.com\n  port: 80\n  tags: [a, b]\n  ssl: true\n".getBytes(StandardCharsets.UTF_8));
+
+        MatcherAssert.assertThat("Reordering is not a change", yamlFile.reload().isEmpty(), new IsTrue());
+        MatcherAssert.assertThat(yamlFile.getKeys(false), new IsEqual<>(new LinkedHashSet<>(Arrays.asList("db", "new", "server"))));
+        MatcherAssert.assertThat("Reordered section was replaced", yamlFile.getConfigurationSection("server"), new IsSame<>(server));
+        MatcherAssert.assertThat(yamlFile.getString("server.host"), new IsEqual<>("example.com"));
+    }
+
+    @Test
+    void compiledCache() throws Exception {
+        final Path directory = Files.createTempDirectory("compiled-cache");
+        final Path path = Files.write(directory.resolve("test.yml"), ("# Header\n\n" + TestResources.testContent()).getBytes(StandardCharsets.UTF_8));
+        final Path cachePath = YamlFileCache.cacheFile(path);
+
+        final YamlFile parsed = new YamlFile(path.toFile());
+        parsed.options().compiledCache(true);
+        parsed.load();
+
+        MatcherAssert.assertThat("Cache was not written", Files.isRegularFile(cachePath), new IsTrue());
+
+        final YamlFile cached = new YamlFile(path.toFile());
+        cached.options().compiledCache(true);
+
+        MatcherAssert.assertThat("Cache was not read", new YamlFileCache(path).read(cached), new IsTrue());
+        MatcherAssert.assertThat("Wrong cached keys!", cached.getKeys(true), new IsEqual<>(parsed.getKeys(true)));
+        MatcherAssert.assertThat("Wrong cached date!", cached.get("timestamp.canonicalDate"), new IsEqual<>(parsed.get("timestamp.canonicalDate")));
+        MatcherAssert.assertThat("Wrong cached header!", cached.options().header(), new IsEqual<>(parsed.options().header()));
+        MatcherAssert.assertThat("Wrong cached contents!", cached.saveToString(), new IsEqual<>(parsed.saveToString()));
+
+        Files.write(path, "changed: true\n".getBytes(StandardCharsets.UTF_8), java.nio.file.StandardOpenOption.APPEND);
+
+        MatcherAssert.assertThat("Cache was read after the file changed", new YamlFileCache(path).read(new YamlFile(path.toFile())), new IsEqual<>(false));
+
+        final YamlFile changed = new YamlFile(path.toFile());
+        changed.options().compiledCache(true);
+        changed.load();
+
+        MatcherAssert.assertThat(changed.getBoolean("changed"), new IsTrue());
+        MatcherAssert.assertThat("Cache was not replaced", new YamlFileCache(path).read(new YamlFile(path.toFile())), new IsTrue());
+
+        Files.write(cachePath, new byte[] { 1, 2, 3 });
+
+        final YamlFile corrupted = new YamlFile(path.toFile());
+        corrupted.options().compiledCache(true);
+        corrupted.load();
+
+        MatcherAssert.assertThat("Corrupted cache was not ignored", corrupted.saveToString(), new IsEqual<>(changed.saveToString()));
+
+        // a cache loaded with other loader options is not read with stricter ones
+        Files.write(path, "a: 1\na: 2\n".getBytes(StandardCharsets.UTF_8));
+
+        final YamlFile lenient = new YamlFile(path.toFile());
+        lenient.options().compiledCache(true);
+        lenient.load();
+
+        final LoaderOptions strictOptions = new LoaderOptions();
+        strictOptions.setAllowDuplicateKeys(false);
+        final YamlFile strict = new YamlFile(new SimpleYamlImplementation(strictOptions, new DumperOptions()));
+        strict.setConfigurationFile(path.toFile());
+        strict.options().compiledCache(true);
+
+        MatcherAssert.assertThat("Cache was read with other loader options", new YamlFileCache(path).read(strict), new IsEqual<>(false));
+
+        Exception error = null;
+        try {
+            strict.load();
+        } catch (final InvalidConfigurationException e) {
+            error = e;
+        }
+
+        MatcherAssert.assertThat("Duplicate keys were loaded from the cache", error, new IsNot<>(new IsNull<>()));
+    }
+
+    @Test
+    void loadAll() throws Exception {
+        final Path directory = Files.createTempDirectory("conf.d");
+        final Path base = Files.write(directory.resolve("10-base.yml"), "server:\n  host: localhost\n  port: 80\nname: base\n".getBytes(StandardCharsets.UTF_8));
+        final Path override = Files.write(directory.resolve("20-override.yaml"), "server:\n  port: 8080\nlist: [1, 2]\n".getBytes(StandardCharsets.UTF_8));
+        final Path invalid = Files.write(directory.resolve("15-invalid.yml"), "server: [\n".getBytes(StandardCharsets.UTF_8));
+        Files.write(directory.resolve("readme.txt"), "ignored".getBytes(StandardCharsets.UTF_8));
+
+        final YamlFileBatch batch = YamlFile.loadAll(Arrays.asList(override, invalid, base), ForkJoinPool.commonPool());
+
+        MatcherAssert.assertThat(
+                "Files must keep the order of the paths",
+                batch.getFiles().stream().map(YamlFile::getConfigurationFile).collect(Collectors.toList()),
+                new IsEqual<>(Arrays.asList(override.toFile(), base.toFile()))
+        );
+
+        MatcherAssert.assertThat(
+                "Invalid file error was not collected",
+                batch.getErrors().keySet(),
+                new IsEqual<>(Collections.singleton(invalid))
+        );
+
+        final YamlFileBatch directoryBatch = YamlFile.loadDirectory(directory, ForkJoinPool.commonPool());
+
+        MatcherAssert.assertThat(directoryBatch.getFiles().size(), new IsEqual<>(2));
+        MatcherAssert.assertThat(directoryBatch.hasErrors(), new IsTrue());
+
+        final YamlConfiguration merged = directoryBatch.merge();
+
+        MatcherAssert.assertThat(merged.getString("server.host"), new IsEqual<>("localhost"));
+        MatcherAssert.assertThat(merged.getInt("server.port"), new IsEqual<>(8080));
+        MatcherAssert.assertThat(merged.getString("name"), new IsEqual<>("base"));
+        MatcherAssert.assertThat(merged.getIntegerList("list"), new IsEqual<>(Arrays.asList(1, 2)));
+    }
+
 }
@@ -5,10 +5,12 @@ import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsInstanceOf;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.Throws;
 import org.simpleyaml.configuration.file.YamlConfigurationOptions;
 import org.simpleyaml.configuration.file.YamlFile;
 import org.simpleyaml.configuration.implementation.api.YamlImplementation;
 import org.simpleyaml.configuration.implementation.snakeyaml.SnakeYamlImplementation;
+import org.simpleyaml.exceptions.InvalidConfigurationException;
 import org.simpleyaml.utils.TestResources;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.Yaml;
@@ -21,6 +23,7 @@ import java.io.FileInputStream;
 import java.io.InputStreamReader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.Arrays;
 import java.util.Iterator;
 
 public class YamlImplementationTest {
@@ -145,6 +148,61 @@ public class YamlImplementationTest {
         );
     }
 
+    @Test
+    void streamingImplementation() throws Exception {
+        final YamlFile yamlFile = new YamlFile(TestResources.getResourceURI("test-comments.yml"));
+        yamlFile.loadWithComments();
+
+        final YamlFile streamingFile = new YamlFile(new StreamingYamlImplementation());
+        streamingFile.setConfigurationFile(TestResources.getResourceURI("test-comments.yml"));
+        streamingFile.loadWithComments();
+
+        MatcherAssert.assertThat(
+                "Wrong streaming implementation load!",
+                streamingFile.getValues(true).toString(),
+                new IsEqual<>(yamlFile.getValues(true).toString())
+        );
+
+        MatcherAssert.assertThat(
+                "Wrong streaming implementation output!",
+                streamingFile.saveToString(),
+                new IsEqual<>(TestResources.testComments())
+        );
+
+        final String anchors = "base: &base\n" +
+                "  x: 1\n" +
+                "  y: 2\n" +
+                "other:\n" +
+                "  <<: *base\n" +
+                "  x: 3\n" +
+                "list: &list [a, b]\n" +
+                "copy: *list\n";
+
+        streamingFile.loadFromString(anchors);
+
+        MatcherAssert.assertThat(streamingFile.getInt("other.x"), new IsEqual<>(3));
+        MatcherAssert.assertThat(streamingFile.getInt("other.y"), new IsEqual<>(2));
+        MatcherAssert.assertThat(streamingFile.getStringList("copy"), new IsEqual<>(Arrays.asList("a", "b")));
+
+        MatcherAssert.assertThat(
+                "Top level must be a map",
+                () -> {
+                    streamingFile.loadFromString("scalar");
+                    return streamingFile;
+                },
+                new Throws<>(InvalidConfigurationException.class)
+        );
+
+        MatcherAssert.assertThat(
+                "Only a single document can be loaded",
+                () -> {
+                    streamingFile.loadFromString("a: 1\n---\nb: 2\n");
+                    return streamingFile;
+                },
+                new Throws<>(InvalidConfigurationException.class)
+        );
+    }
+
     /**
      <code>snakeyaml</code> can now process comments since version 1.29
      <p/>This test shows how to use that with Simple-YAML, using {@link SnakeYamlImplementation}.
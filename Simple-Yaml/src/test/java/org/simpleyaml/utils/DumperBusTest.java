@@ -0,0 +1,111 @@
+package org.simpleyaml.utils;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+class DumperBusTest {
+
+    private static final DumperBus.Dumper SOURCE = writer -> {
+        writer.write("key: value\n");
+        writer.write("list:");
+        writer.write("\r\n");
+        writer.write("- 1\n");
+        writer.write("end");
+    };
+
+    @Test
+    void dumpInCurrentThread() throws IOException {
+        final Thread caller = Thread.currentThread();
+        final boolean[] sameThread = { false };
+
+        final DumperBus bus = new DumperBus(writer -> {
+            sameThread[0] = Thread.currentThread() == caller;
+            SOURCE.dump(writer);
+        });
+        bus.dump();
+
+        MatcherAssert.assertThat("Source was not dumped in the current thread", sameThread[0], new IsTrue());
+        MatcherAssert.assertThat(lines(bus), new IsEqual<>(Arrays.asList("key: value", "list:", "- 1", "end")));
+        MatcherAssert.assertThat("Lines after the end", bus.await() == null, new IsTrue());
+    }
+
+    @Test
+    void dumpWithExecutor() throws IOException {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final DumperBus bus = new DumperBus(SOURCE, executor, 1);
+            bus.dump();
+
+            MatcherAssert.assertThat(lines(bus), new IsEqual<>(Arrays.asList("key: value", "list:", "- 1", "end")));
+
+            final DumperBus failing = new DumperBus(writer -> {
+                writer.write("key: value\n");
+                throw new IOException("Dump error");
+            }, executor, 1);
+            failing.dump();
+
+            MatcherAssert.assertThat(failing.await(), new IsEqual<>("key: value"));
+
+            boolean thrown = false;
+            try {
+                failing.await();
+            } catch (final IOException e) {
+                thrown = "Dump error".equals(e.getMessage());
+            }
+            MatcherAssert.assertThat("Dump error was not reported", thrown, new IsTrue());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void dumpToConsumer() throws IOException {
+        final List<String> consumed = new ArrayList<>();
+        final List<Integer> written = new ArrayList<>();
+        final int[] writes = { 0 };
+
+        final DumperBus bus = new DumperBus(writer -> {
+            for (final String line : Arrays.asList("key: value\n", "list:\n", "- 1\n")) {
+                writer.write(line);
+                writes[0]++;
+            }
+        });
+        bus.dump(line -> {
+            consumed.add(line);
+            written.add(writes[0]);
+        });
+
+        MatcherAssert.assertThat(consumed, new IsEqual<>(Arrays.asList("key: value", "list:", "- 1")));
+        MatcherAssert.assertThat("Lines were not consumed while dumping", written, new IsEqual<>(Arrays.asList(0, 1, 2)));
+        MatcherAssert.assertThat("Consumed lines were enqueued", bus.await() == null, new IsTrue());
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final List<String> lines = new ArrayList<>();
+            new DumperBus(SOURCE, executor, 1).dump(lines::add);
+
+            MatcherAssert.assertThat(lines, new IsEqual<>(Arrays.asList("key: value", "list:", "- 1", "end")));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static List<String> lines(final DumperBus bus) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = bus.await()) != null) {
+            lines.add(line);
+        }
+        return lines;
+    }
+
+}
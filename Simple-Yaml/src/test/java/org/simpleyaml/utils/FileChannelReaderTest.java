@@ -0,0 +1,59 @@
+package org.simpleyaml.utils;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public class FileChannelReaderTest {
+
+    @Test
+    void read() throws Exception {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            builder.append("key").append(i).append(": caf\u00e9 \ud83d\ude00\r\n");
+        }
+        final String contents = builder.toString();
+
+        final File file = TestResources.tempFile();
+        Files.write(file.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+
+        for (final long mappedThreshold : new long[] { 0, Long.MAX_VALUE }) {
+            MatcherAssert.assertThat(
+                    "Wrong contents read with buffer",
+                    readAll(FileChannelReader.open(file.toPath(), StandardCharsets.UTF_8, mappedThreshold), 1000),
+                    new IsEqual<>(contents)
+            );
+            MatcherAssert.assertThat(
+                    "Wrong contents read by chars",
+                    readAll(FileChannelReader.open(file.toPath(), StandardCharsets.UTF_8, mappedThreshold), 1),
+                    new IsEqual<>(contents)
+            );
+        }
+
+        final File empty = TestResources.tempFile("");
+
+        MatcherAssert.assertThat(
+                FileChannelReader.open(empty.toPath(), StandardCharsets.UTF_8).read(),
+                new IsEqual<>(-1)
+        );
+    }
+
+    private static String readAll(final Reader reader, final int bufferSize) throws IOException {
+        final StringBuilder builder = new StringBuilder();
+        try (final Reader input = reader) {
+            final char[] buffer = new char[bufferSize];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                builder.append(buffer, 0, read);
+            }
+        }
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,58 @@
+package org.simpleyaml.utils;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public class FileChannelWriterTest {
+
+    @Test
+    void write() throws Exception {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            builder.append("key").append(i).append(": caf\u00e9 \ud83d\ude00\r\n");
+        }
+        final String contents = builder.toString();
+
+        final File file = TestResources.tempFile();
+
+        try (final Writer writer = FileChannelWriter.open(file.toPath(), StandardCharsets.UTF_8)) {
+            writer.write(contents);
+        }
+
+        MatcherAssert.assertThat(
+                "Wrong contents written with buffer",
+                new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8),
+                new IsEqual<>(contents)
+        );
+
+        // Surrogate pairs split between writes and buffer overflows
+        try (final Writer writer = FileChannelWriter.open(file.toPath(), StandardCharsets.UTF_8, FileChannelWriter.MIN_BUFFER_SIZE, true)) {
+            for (int i = 0; i < contents.length(); i++) {
+                writer.write(contents.charAt(i));
+            }
+        }
+
+        MatcherAssert.assertThat(
+                "Wrong contents written by chars",
+                new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8),
+                new IsEqual<>(contents)
+        );
+
+        try (final Writer writer = FileChannelWriter.open(file.toPath(), StandardCharsets.UTF_8)) {
+            writer.write("\ud83d");
+        }
+
+        MatcherAssert.assertThat(
+                "Malformed input was not replaced",
+                new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8),
+                new IsEqual<>("?")
+        );
+    }
+
+}
@@ -455,4 +455,55 @@ public class StringUtilsTest {
                 new IsEqual<>(4)
         );
     }
+
+    @Test
+    void listIndex() {
+        MatcherAssert.assertThat(
+                "The list index start is not correct!",
+                StringUtils.listIndexStart("list[10]"),
+                new IsEqual<>(4)
+        );
+
+        MatcherAssert.assertThat(
+                "The list index is not correct!",
+                StringUtils.parseListIndex("list[10]", 4),
+                new IsEqual<>(10)
+        );
+
+        MatcherAssert.assertThat(
+                "The list index is not correct!",
+                StringUtils.parseListIndex("[-1]", StringUtils.listIndexStart("[-1]")),
+                new IsEqual<>(-1)
+        );
+
+        MatcherAssert.assertThat(
+                "The list index is not correct!",
+                StringUtils.parseListIndex("a[b][2]", StringUtils.listIndexStart("a[b][2]")),
+                new IsEqual<>(2)
+        );
+
+        MatcherAssert.assertThat(
+                "A node without list index has a list index!",
+                StringUtils.listIndexStart("list"),
+                new IsEqual<>(-1)
+        );
+
+        MatcherAssert.assertThat(
+                "A node without digits has a list index!",
+                StringUtils.listIndexStart("list[]"),
+                new IsEqual<>(-1)
+        );
+
+        MatcherAssert.assertThat(
+                "A node without digits has a list index!",
+                StringUtils.listIndexStart("list[-]"),
+                new IsEqual<>(-1)
+        );
+
+        MatcherAssert.assertThat(
+                "A node with an invalid index has a list index!",
+                StringUtils.listIndexStart("list[a1]"),
+                new IsEqual<>(-1)
+        );
+    }
 }